@@ -0,0 +1,268 @@
+package com.nhnacademy.workentry.adapter.member.cache;
+
+import com.nhnacademy.workentry.adapter.member.client.MemberServiceClient;
+import com.nhnacademy.workentry.adapter.member.dto.MemberIdChangesResponse;
+import com.nhnacademy.workentry.adapter.member.dto.MemberNoResponse;
+import com.nhnacademy.workentry.common.exception.MemberCallException;
+import com.nhnacademy.workentry.common.exception.MemberDataFormatException;
+import com.nhnacademy.workentry.common.exception.MemberNotFoundException;
+import feign.FeignException;
+import feign.codec.DecodeException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 회원 서비스의 회원 번호 목록을 메모리에 보관하는 캐시입니다.
+ * <p>
+ * 조회는 보관 중인 목록을 바로 반환하며, 목록이 {@code member.roster.ttl}(기본 10분)보다 오래되었으면
+ * 오래된 목록을 그대로 반환하면서 백그라운드에서 한 번만 다시 조회합니다(stale-while-revalidate).
+ * 회원 서비스가 느리거나 내려가 있어도 마지막으로 받은 목록으로 계속 동작하며, 목록이 한 번도 적재되지 않은 경우에만 호출자가 기다립니다.
+ * </p>
+ * <p>
+ * 회원 서비스가 변경분 조회({@code /api/v1/members/ids/changes})를 지원하면 추가·삭제된 회원만 받아 목록에 반영하고,
+ * {@code member.roster.full-refresh-interval}(기본 6시간)마다 전체 목록으로 다시 맞춥니다.
+ * 변경분 조회가 404 / 405 / 501로 응답하면 이후에는 전체 조회만 사용합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class MemberRosterCache {
+
+    private static final String METRIC = "member.roster";
+
+    // 변경분 조회 기준 시각을 회원 서비스가 주지 않을 때, 시계 차이를 덮기 위해 겹쳐 조회하는 구간
+    private static final Duration DELTA_OVERLAP = Duration.ofMinutes(1);
+
+    private final MemberServiceClient memberServiceClient;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final Duration fullRefreshInterval;
+    private final Executor refresher;
+    private final Clock clock;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    // 가장 최근에 적재한 회원 목록 (적재 전이면 null)
+    private volatile Roster roster;
+
+    private volatile boolean deltaSupported = true;
+
+    public MemberRosterCache(MemberServiceClient memberServiceClient,
+                             MeterRegistry meterRegistry,
+                             @Value("${member.roster.ttl:PT10M}") Duration ttl,
+                             @Value("${member.roster.full-refresh-interval:PT6H}") Duration fullRefreshInterval) {
+        this(memberServiceClient, meterRegistry, ttl, fullRefreshInterval,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "member-roster-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }),
+                Clock.systemUTC());
+    }
+
+    MemberRosterCache(MemberServiceClient memberServiceClient,
+                      MeterRegistry meterRegistry,
+                      Duration ttl,
+                      Duration fullRefreshInterval,
+                      Executor refresher,
+                      Clock clock) {
+        this.memberServiceClient = memberServiceClient;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        this.fullRefreshInterval = fullRefreshInterval;
+        this.refresher = refresher;
+        this.clock = clock;
+
+        Gauge.builder(METRIC + ".age", this, MemberRosterCache::ageSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder(METRIC + ".size", this, cache -> {
+                    Roster current = cache.roster;
+                    return current == null ? Double.NaN : current.memberIds().size();
+                })
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 기동이 완료되면 백그라운드에서 회원 목록을 미리 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshAsync();
+    }
+
+    /**
+     * 회원 번호 목록을 오름차순으로 반환합니다.
+     * <p>
+     * 목록이 오래되었으면 백그라운드 갱신을 예약하고 기존 목록을 바로 반환합니다.
+     * </p>
+     *
+     * @return 변경 불가능한 회원 번호 목록
+     * @throws MemberNotFoundException    목록이 없고 회원 서비스가 404로 응답한 경우
+     * @throws MemberDataFormatException  목록이 없고 회원 서비스 응답을 해석하지 못한 경우
+     * @throws MemberCallException        목록이 없고 회원 서비스 호출에 실패한 경우
+     */
+    public List<Long> getMemberIds() {
+        Roster current = roster;
+        if (current == null) {
+            return loadInitial().memberIds();
+        }
+        if (Duration.between(current.fetchedAt(), clock.instant()).compareTo(ttl) > 0) {
+            refreshAsync();
+        }
+        return current.memberIds();
+    }
+
+    /**
+     * 회원 목록을 지금 다시 조회합니다. 이미 갱신 중이면 아무것도 하지 않습니다.
+     * 실패하면 기존 목록을 유지합니다.
+     */
+    public void refresh() {
+        if (refreshing.compareAndSet(false, true)) {
+            refreshQuietly();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refresher instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 목록이 한 번도 적재되지 않은 경우 호출 스레드에서 전체 목록을 조회합니다.
+     * 회원 서비스 오류는 기존 회원 예외로 변환합니다.
+     */
+    private synchronized Roster loadInitial() {
+        Roster current = roster;
+        if (current != null) {
+            return current;
+        }
+        try {
+            return fetchAndStore();
+        } catch (FeignException.NotFound e) {
+            throw new MemberNotFoundException("FeignClient: 멤버 정보를 찾을 수 없습니다.", e);
+        } catch (DecodeException e) {
+            throw new MemberDataFormatException("FeignClient: 멤버 응답 파싱 실패 (JSON 형식 오류)", e);
+        } catch (FeignException e) {
+            throw new MemberCallException("FeignClient: 멤버 호출 실패 (기타 오류)", e);
+        }
+    }
+
+    private void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.execute(this::refreshQuietly);
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            fetchAndStore();
+        } catch (RuntimeException e) {
+            log.warn("[회원 목록 캐시] 갱신 실패, 기존 목록을 유지합니다: age={}s, error={}", (long) ageSeconds(), e.getMessage());
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * 변경분 또는 전체 목록을 조회하여 캐시를 교체합니다.
+     */
+    private synchronized Roster fetchAndStore() {
+        Instant startedAt = clock.instant();
+        Roster current = roster;
+        boolean delta = current != null && deltaSupported
+                && Duration.between(current.fullFetchedAt(), startedAt).compareTo(fullRefreshInterval) < 0;
+        String mode = delta ? "delta" : "full";
+
+        long started = System.nanoTime();
+        try {
+            Roster next = delta ? fetchDelta(current, startedAt) : fetchFull(startedAt);
+            roster = next;
+            recordRefresh(mode, "success", started);
+            log.info("[회원 목록 캐시] 갱신 완료: mode={}, 회원 수={}", mode, next.memberIds().size());
+            return next;
+        } catch (RuntimeException e) {
+            recordRefresh(mode, "failure", started);
+            throw e;
+        }
+    }
+
+    private Roster fetchFull(Instant startedAt) {
+        SortedSet<Long> memberIds = new TreeSet<>();
+        for (MemberNoResponse member : memberServiceClient.getAllMemberIds()) {
+            if (member.getMbNo() != null) {
+                memberIds.add(member.getMbNo());
+            }
+        }
+        return new Roster(List.copyOf(memberIds), startedAt, startedAt, startedAt.minus(DELTA_OVERLAP));
+    }
+
+    private Roster fetchDelta(Roster current, Instant startedAt) {
+        MemberIdChangesResponse changes;
+        try {
+            changes = memberServiceClient.getMemberIdChanges(current.cursor().toString());
+        } catch (FeignException.NotFound | FeignException.MethodNotAllowed | FeignException.NotImplemented e) {
+            deltaSupported = false;
+            log.info("[회원 목록 캐시] 회원 서비스가 변경분 조회를 지원하지 않아 전체 조회로 전환합니다: status={}", e.status());
+            return fetchFull(startedAt);
+        }
+
+        SortedSet<Long> memberIds = new TreeSet<>(current.memberIds());
+        if (changes.getRemoved() != null) {
+            changes.getRemoved().forEach(memberIds::remove);
+        }
+        if (changes.getAdded() != null) {
+            changes.getAdded().stream().filter(Objects::nonNull).forEach(memberIds::add);
+        }
+        Instant cursor = changes.getAsOf() != null ? changes.getAsOf() : startedAt.minus(DELTA_OVERLAP);
+        return new Roster(List.copyOf(memberIds), startedAt, current.fullFetchedAt(), cursor);
+    }
+
+    private void recordRefresh(String mode, String result, long startedNanos) {
+        meterRegistry.timer(METRIC + ".refresh", "mode", mode, "result", result)
+                .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private double ageSeconds() {
+        Roster current = roster;
+        return current == null ? Double.NaN : Duration.between(current.fetchedAt(), clock.instant()).toMillis() / 1000.0;
+    }
+
+    /**
+     * 적재된 회원 목록 스냅샷입니다.
+     *
+     * @param memberIds     오름차순 회원 번호
+     * @param fetchedAt     마지막으로 갱신한 시각
+     * @param fullFetchedAt 마지막으로 전체 목록을 받은 시각
+     * @param cursor        다음 변경분 조회의 기준 시각
+     */
+    private record Roster(List<Long> memberIds, Instant fetchedAt, Instant fullFetchedAt, Instant cursor) {
+    }
+}
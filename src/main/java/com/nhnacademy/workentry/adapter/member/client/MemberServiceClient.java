@@ -1,8 +1,10 @@
 package com.nhnacademy.workentry.adapter.member.client;
 
+import com.nhnacademy.workentry.adapter.member.dto.MemberIdChangesResponse;
 import com.nhnacademy.workentry.adapter.member.dto.MemberNoResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 
@@ -11,4 +13,13 @@ public interface MemberServiceClient {
     
     @GetMapping("/api/v1/members/ids")
     List<MemberNoResponse> getAllMemberIds();
-}
\ No newline at end of file
+
+    /**
+     * {@code since} 이후 추가·삭제된 회원 번호를 조회합니다.
+     * 회원 서비스가 지원하지 않으면 404 / 405 / 501 응답을 받습니다.
+     *
+     * @param since ISO-8601 형식의 기준 시각
+     */
+    @GetMapping("/api/v1/members/ids/changes")
+    MemberIdChangesResponse getMemberIdChanges(@RequestParam("since") String since);
+}
@@ -0,0 +1,26 @@
+package com.nhnacademy.workentry.adapter.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 기준 시각 이후 회원 목록의 변경분 응답입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberIdChangesResponse {
+
+    // 추가된 회원 번호
+    List<Long> added;
+
+    // 삭제(탈퇴)된 회원 번호
+    List<Long> removed;
+
+    // 변경분 기준 시각 (다음 조회의 since 로 사용, 없으면 조회 시작 시각 기준)
+    Instant asOf;
+}
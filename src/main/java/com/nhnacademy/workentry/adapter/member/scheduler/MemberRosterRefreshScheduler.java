@@ -0,0 +1,25 @@
+package com.nhnacademy.workentry.adapter.member.scheduler;
+
+import com.nhnacademy.workentry.adapter.member.cache.MemberRosterCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 목록 캐시를 주기적으로 갱신하여, 출결 봇이 실행될 때 이미 최신에 가까운 목록을 쓰도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberRosterRefreshScheduler {
+
+    private final MemberRosterCache memberRosterCache;
+
+    /**
+     * 이전 갱신이 끝난 뒤 {@code member.roster.refresh-interval}(기본 10분)마다 회원 목록을 갱신합니다.
+     * 실패해도 기존 목록은 유지됩니다.
+     */
+    @Scheduled(fixedDelayString = "${member.roster.refresh-interval:PT10M}")
+    public void refreshRoster() {
+        memberRosterCache.refresh();
+    }
+}
@@ -0,0 +1,30 @@
+package com.nhnacademy.workentry.attendance.archive;
+
+import com.nhnacademy.workentry.attendance.dto.AttendanceDto;
+import com.nhnacademy.workentry.attendance.dto.AttendanceSummaryDto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 파일에 저장되는 출결 기록 한 행입니다. {@code attendances} 테이블의 컬럼을 그대로 담습니다.
+ *
+ * @param statusCode 출결 상태 코드 (상태 설명은 읽을 때 {@code AttendanceStatusRegistry}에서 매핑)
+ */
+public record ArchivedAttendance(
+        long id,
+        long mbNo,
+        LocalDate workDate,
+        LocalDateTime inTime,
+        LocalDateTime outTime,
+        Integer workMinutes,
+        long statusCode) {
+
+    public AttendanceDto toDto(String statusDescription) {
+        return new AttendanceDto(id, mbNo, workDate, inTime, outTime, statusDescription);
+    }
+
+    public AttendanceSummaryDto toSummary() {
+        return AttendanceSummaryDto.of(workDate, workMinutes, inTime, outTime, statusCode);
+    }
+}
@@ -0,0 +1,45 @@
+package com.nhnacademy.workentry.attendance.archive;
+
+import com.nhnacademy.workentry.attendance.partition.AttendancePartitionPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 운영 테이블의 출결 기록을 보관 파일로 옮기는 기준입니다.
+ * <p>
+ * 이번 달을 포함해 최근 {@code attendance.archive.horizon-months}(기본 24)개월의 기록은 운영 테이블에 두고,
+ * 그보다 오래된 행은 보관 파일로 옮깁니다. 파티션 정리로 떼어 낸 보관 테이블은 이 기준과 관계없이 모두 옮깁니다.
+ * 파티션 보존 개월 수보다 짧으면 아직 운영 파티션에 남아야 할 행을 지우게 되므로, 그보다 작게 설정하면 시작하지 않습니다.
+ * </p>
+ */
+@Component
+public class AttendanceArchivePolicy {
+
+    private final int horizonMonths;
+
+    public AttendanceArchivePolicy(@Value("${attendance.archive.horizon-months:24}") int horizonMonths,
+                                   AttendancePartitionPolicy attendancePartitionPolicy) {
+        if (horizonMonths < attendancePartitionPolicy.retentionMonths()) {
+            throw new IllegalStateException("attendance.archive.horizon-months(" + horizonMonths
+                    + ")는 attendance.partition.retention-months(" + attendancePartitionPolicy.retentionMonths() + ") 이상이어야 합니다.");
+        }
+        this.horizonMonths = horizonMonths;
+    }
+
+    /**
+     * 운영 테이블에 남겨 두는 가장 오래된 월을 반환합니다. 이보다 오래된 행은 보관 대상입니다.
+     */
+    public YearMonth oldestRetainedMonth(LocalDate today) {
+        return YearMonth.from(today).minusMonths(horizonMonths - 1L);
+    }
+
+    /**
+     * 운영 테이블에 남아 있을 수 있는 첫 근무 일자를 반환합니다.
+     */
+    public LocalDate hotStart(LocalDate today) {
+        return oldestRetainedMonth(today).atDay(1);
+    }
+}
@@ -0,0 +1,104 @@
+package com.nhnacademy.workentry.attendance.archive;
+
+import com.nhnacademy.workentry.attendance.dto.AttendanceDto;
+import com.nhnacademy.workentry.attendance.dto.AttendanceSummaryDto;
+import com.nhnacademy.workentry.attendance.entity.AttendanceStatus;
+import com.nhnacademy.workentry.attendance.partition.AttendancePartitionPolicy;
+import com.nhnacademy.workentry.attendance.registry.AttendanceStatusRegistry;
+import com.nhnacademy.workentry.common.exception.ArchivedPeriodException;
+import com.nhnacademy.workentry.common.time.TodayProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 보관 파일에 있는 회원 출결 기록을 조회 DTO로 읽어 오는 컴포넌트입니다.
+ * <p>
+ * 운영 테이블의 첫 근무 일자({@link #horizon()})보다 앞선 기간을 조회할 때 사용하며,
+ * 기간에 걸친 월의 보관 파일만, 각 파일에서도 회원이 속한 행 그룹만 읽습니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceArchiveReader {
+
+    private final AttendanceArchiveStore attendanceArchiveStore;
+    private final AttendancePartitionPolicy attendancePartitionPolicy;
+    private final AttendanceStatusRegistry attendanceStatusRegistry;
+    private final TodayProvider todayProvider;
+
+    /**
+     * 파티션 보존 기간의 첫 근무 일자를 반환합니다. 이보다 앞선 기록은 보관 파일에 있을 수 있습니다.
+     */
+    public LocalDate horizon() {
+        return attendancePartitionPolicy.hotStart(todayProvider.getToday());
+    }
+
+    /**
+     * 조회 시작 일자가 보관 기준일보다 앞서 보관 파일을 함께 읽어야 하는지 확인합니다.
+     */
+    public boolean isArchived(LocalDate start) {
+        return start.isBefore(horizon());
+    }
+
+    /**
+     * 운영 테이블만 읽는 조회(커서 조회, 내보내기)의 시작 일자가 보관 기준일 이후인지 확인합니다.
+     *
+     * @throws ArchivedPeriodException 시작 일자가 보관 기준일보다 앞선 경우
+     */
+    public void requireNotArchived(LocalDate start) {
+        LocalDate horizon = horizon();
+        if (start.isBefore(horizon)) {
+            throw new ArchivedPeriodException(start, horizon);
+        }
+    }
+
+    /**
+     * 회원의 보관된 출결 기록 전체를 근무 일자 순으로 조회합니다.
+     */
+    public List<AttendanceDto> findAllAttendances(Long mbNo) {
+        return find(mbNo, LocalDate.MIN, LocalDate.MAX).stream()
+                .map(row -> row.toDto(statusDescription(row.statusCode())))
+                .toList();
+    }
+
+    /**
+     * 회원의 기간 내 보관된 출결 기록을 근무 일자 순으로 조회합니다.
+     */
+    public List<AttendanceDto> findAttendances(Long mbNo, LocalDate start, LocalDate end) {
+        return find(mbNo, start, end).stream()
+                .map(row -> row.toDto(statusDescription(row.statusCode())))
+                .toList();
+    }
+
+    /**
+     * 회원의 기간 내 보관된 근무 요약을 근무 일자 순으로 조회합니다.
+     */
+    public List<AttendanceSummaryDto> findSummaries(Long mbNo, LocalDate start, LocalDate end) {
+        return find(mbNo, start, end).stream()
+                .map(ArchivedAttendance::toSummary)
+                .toList();
+    }
+
+    private List<ArchivedAttendance> find(Long mbNo, LocalDate start, LocalDate end) {
+        YearMonth first = YearMonth.from(start);
+        YearMonth last = YearMonth.from(end);
+
+        return attendanceArchiveStore.months().stream()
+                .filter(month -> !month.isBefore(first) && !month.isAfter(last))
+                .flatMap(month -> attendanceArchiveStore.read(month, mbNo).stream())
+                .filter(row -> !row.workDate().isBefore(start) && !row.workDate().isAfter(end))
+                .sorted(Comparator.comparing(ArchivedAttendance::workDate))
+                .toList();
+    }
+
+    private String statusDescription(long statusCode) {
+        return attendanceStatusRegistry.findByCode(statusCode)
+                .map(AttendanceStatus::getDescription)
+                .orElse(null);
+    }
+}
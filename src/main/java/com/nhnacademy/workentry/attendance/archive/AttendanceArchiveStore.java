@@ -0,0 +1,272 @@
+package com.nhnacademy.workentry.attendance.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 보관된 출결 기록을 로컬 디스크에 월 단위 파일로 저장하는 저장소입니다.
+ * <p>
+ * 파일은 {@code attendance.archive.directory}(기본 {@code data/attendance-archive}) 아래
+ * {@code month=yyyy-MM/attendances.col.gz} 경로에 {@link AttendanceColumnarFormat} 형식으로 기록합니다.
+ * 쓰기는 임시 파일에 기록하고 디스크에 반영한 뒤 이름을 바꾸므로, 읽는 쪽은 완성된 파일만 봅니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AttendanceArchiveStore {
+
+    private static final String MONTH_DIRECTORY_PREFIX = "month=";
+    private static final String FILE_NAME = "attendances.col.gz";
+
+    private final Path directory;
+
+    public AttendanceArchiveStore(@Value("${attendance.archive.directory:data/attendance-archive}") Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 보관 파일이 있는 월을 오름차순으로 반환합니다.
+     */
+    public List<YearMonth> months() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> children = Files.list(directory)) {
+            return children
+                    .map(child -> monthOf(child.getFileName().toString()))
+                    .flatMap(Optional::stream)
+                    .filter(month -> Files.isRegularFile(path(month)))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("출결 보관 디렉터리를 읽지 못했습니다: " + directory, e);
+        }
+    }
+
+    /**
+     * 해당 월의 보관 기록을 읽습니다. 파일이 없으면 빈 목록을 반환합니다.
+     * 회원 번호를 지정하면 파일 끝의 색인으로 그 회원이 속한 행 그룹만 읽습니다.
+     *
+     * @param mbNo 회원 번호 (null이면 전체 회원)
+     */
+    public List<ArchivedAttendance> read(YearMonth month, Long mbNo) {
+        Path file = path(month);
+        if (!Files.isRegularFile(file)) {
+            return List.of();
+        }
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            return AttendanceColumnarFormat.read(channel, mbNo);
+        } catch (IOException e) {
+            throw new UncheckedIOException("출결 보관 파일을 읽지 못했습니다: " + file, e);
+        }
+    }
+
+    /**
+     * 해당 월의 보관 파일에 기록을 합쳐 다시 씁니다. 순서가 섞인 적은 양의 기록을 넣을 때 사용합니다.
+     *
+     * @return 파일에 저장된 전체 행 수
+     * @see #openMerge(YearMonth)
+     */
+    public int merge(YearMonth month, List<ArchivedAttendance> rows) {
+        List<ArchivedAttendance> sorted = new ArrayList<>(rows);
+        sorted.sort(AttendanceColumnarFormat.ROW_ORDER);
+        try (MonthMerge merge = openMerge(month)) {
+            for (int i = 0; i < sorted.size(); i++) {
+                // 같은 키가 여러 번 들어오면 마지막 기록을 사용
+                if (i + 1 < sorted.size() && AttendanceColumnarFormat.ROW_ORDER.compare(sorted.get(i), sorted.get(i + 1)) == 0) {
+                    continue;
+                }
+                merge.add(sorted.get(i));
+            }
+            return merge.commit();
+        }
+    }
+
+    /**
+     * 해당 월의 보관 파일에 기록을 합쳐 쓰는 작업을 시작합니다.
+     * <p>
+     * 기록은 {@code (mb_no, work_date)} 순으로 {@link MonthMerge#add}에 넣고, 끝나면 {@link MonthMerge#commit()}을 호출합니다.
+     * 기존 파일과 새 기록을 같은 순서로 읽으며 합치므로 메모리에는 행 그룹 하나 정도만 둡니다.
+     * 같은 {@code (mb_no, work_date)}가 이미 있으면 새 기록으로 바꾸므로, 같은 기록을 여러 번 넣어도 결과가 같습니다.
+     * 커밋하지 않고 닫으면 기존 파일은 그대로 남습니다.
+     * </p>
+     */
+    public MonthMerge openMerge(YearMonth month) {
+        Path file = path(month);
+        try {
+            Files.createDirectories(file.getParent());
+            return new MonthMerge(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("출결 보관 파일을 쓰지 못했습니다: " + file, e);
+        }
+    }
+
+    /**
+     * 한 달치 보관 파일의 합치기 작업입니다. 임시 파일에 기록한 뒤 커밋할 때 이름을 바꿉니다.
+     */
+    public static class MonthMerge implements Closeable {
+
+        private final Path file;
+        private final Path temp;
+        private final FileChannel output;
+        private final AttendanceColumnarFormat.Writer writer;
+        private final SeekableByteChannel existingChannel;
+        private final AttendanceColumnarFormat.Reader existing;
+        private List<ArchivedAttendance> existingGroup = List.of();
+        private int existingIndex;
+        private int added;
+        private boolean committed;
+
+        MonthMerge(Path file) throws IOException {
+            this.file = file;
+            this.temp = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+            this.output = FileChannel.open(temp, StandardOpenOption.WRITE);
+            SeekableByteChannel channel = null;
+            try {
+                this.writer = new AttendanceColumnarFormat.Writer(output);
+                if (Files.isRegularFile(file)) {
+                    channel = Files.newByteChannel(file);
+                    this.existing = AttendanceColumnarFormat.Reader.open(channel);
+                } else {
+                    this.existing = null;
+                }
+                this.existingChannel = channel;
+            } catch (IOException e) {
+                if (channel != null) {
+                    channel.close();
+                }
+                output.close();
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+        }
+
+        /**
+         * 기록을 추가합니다. 기존 파일에서 이 기록보다 앞선 행을 먼저 옮기고, 같은 키의 기존 행은 버립니다.
+         *
+         * @throws IllegalArgumentException 기록이 {@code (mb_no, work_date)} 순이 아닌 경우
+         */
+        public void add(ArchivedAttendance row) {
+            try {
+                ArchivedAttendance head;
+                while ((head = peekExisting()) != null && AttendanceColumnarFormat.ROW_ORDER.compare(head, row) <= 0) {
+                    existingIndex++;
+                    if (AttendanceColumnarFormat.ROW_ORDER.compare(head, row) < 0) {
+                        writer.add(head);
+                    }
+                }
+                writer.add(row);
+                added++;
+            } catch (IOException e) {
+                throw new UncheckedIOException("출결 보관 파일을 쓰지 못했습니다: " + file, e);
+            }
+        }
+
+        /**
+         * 지금까지 추가한 기록 수를 반환합니다.
+         */
+        public int addedCount() {
+            return added;
+        }
+
+        /**
+         * 남은 기존 행을 옮기고 파일을 디스크에 기록한 뒤 원래 이름으로 바꿉니다.
+         * 바꾼 파일의 헤더에 기록된 행 수를 확인하므로, 이 메서드가 정상 반환하면 원본을 지워도 됩니다.
+         *
+         * @return 파일에 저장된 전체 행 수
+         */
+        public int commit() {
+            try {
+                ArchivedAttendance head;
+                while ((head = peekExisting()) != null) {
+                    existingIndex++;
+                    writer.add(head);
+                }
+                writer.finish();
+                output.force(true);
+                output.close();
+                if (existingChannel != null) {
+                    existingChannel.close();
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                committed = true;
+            } catch (IOException e) {
+                throw new UncheckedIOException("출결 보관 파일을 쓰지 못했습니다: " + file, e);
+            }
+
+            int stored;
+            try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+                stored = AttendanceColumnarFormat.Reader.open(channel).rowCount();
+            } catch (IOException e) {
+                throw new UncheckedIOException("출결 보관 파일을 읽지 못했습니다: " + file, e);
+            }
+            if (stored != writer.rowCount()) {
+                throw new IllegalStateException("출결 보관 파일 검증 실패: " + file + ", 기대=" + writer.rowCount() + ", 실제=" + stored);
+            }
+            log.debug("출결 보관 파일 기록: {} ({}건)", file, stored);
+            return stored;
+        }
+
+        @Override
+        public void close() {
+            try {
+                output.close();
+                if (existingChannel != null) {
+                    existingChannel.close();
+                }
+                if (!committed) {
+                    Files.deleteIfExists(temp);
+                }
+            } catch (IOException e) {
+                log.warn("출결 보관 임시 파일 정리 실패: {}, error={}", temp, e.getMessage());
+            }
+        }
+
+        private ArchivedAttendance peekExisting() throws IOException {
+            if (existing == null) {
+                return null;
+            }
+            while (existingIndex >= existingGroup.size()) {
+                List<ArchivedAttendance> group = existing.nextGroup();
+                if (group == null) {
+                    return null;
+                }
+                existingGroup = group;
+                existingIndex = 0;
+            }
+            return existingGroup.get(existingIndex);
+        }
+    }
+
+    Path path(YearMonth month) {
+        return directory.resolve(MONTH_DIRECTORY_PREFIX + month).resolve(FILE_NAME);
+    }
+
+    private static Optional<YearMonth> monthOf(String directoryName) {
+        if (!directoryName.startsWith(MONTH_DIRECTORY_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(directoryName.substring(MONTH_DIRECTORY_PREFIX.length())));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
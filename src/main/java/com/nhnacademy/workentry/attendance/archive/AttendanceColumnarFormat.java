@@ -0,0 +1,364 @@
+package com.nhnacademy.workentry.attendance.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관 출결 기록의 열 지향(columnar) 파일 형식입니다.
+ * <p>
+ * 행을 {@code (mb_no, work_date)} 순으로 정렬한 뒤 회원 번호 범위별 행 그룹(row group)으로 나누고,
+ * 그룹마다 컬럼별로 값을 이어 써서 따로 GZIP으로 압축합니다.
+ * 같은 컬럼의 값이 붙어 있어(회원 번호는 연속, 날짜는 한 달 범위, 상태 코드는 몇 가지) 행 단위 저장보다 압축률이 높습니다.
+ * 그룹별 회원 번호 범위와 파일 내 위치는 파일 끝의 색인에 기록하므로,
+ * 한 회원을 조회할 때는 헤더와 색인, 그 회원이 속한 그룹 하나만 읽어 압축을 풉니다.
+ * 색인을 끝에 두기 때문에 {@link Writer}는 전체 행을 모으지 않고 그룹 단위로 바로 기록합니다.
+ * </p>
+ * <pre>
+ * int magic, int version, int rowCount, int groupCount, long indexOffset
+ * groupCount × GZIP(
+ *   long[rows]  id
+ *   long[rows]  mb_no
+ *   int[rows]   work_date (epoch day)
+ *   bitmap + long[] in_time (UTC 기준 epoch second, null이 아닌 행만)
+ *   bitmap + long[] out_time
+ *   bitmap + int[]  work_minutes
+ *   long[rows]  status
+ * )
+ * groupCount × (long firstMbNo, long lastMbNo, int rowCount, long offset, int length)
+ * </pre>
+ * null 여부 비트맵은 {@code (rows + 7) / 8} 바이트입니다.
+ * 한 회원의 행은 한 그룹에만 들어가도록 그룹 경계를 회원 경계에 맞춥니다.
+ */
+public final class AttendanceColumnarFormat {
+
+    private static final int MAGIC = 0x41544344; // "ATCD"
+    private static final int VERSION = 3;
+
+    /**
+     * 행 그룹 하나의 목표 행 수 (한 달 기준 약 150명)
+     */
+    static final int ROWS_PER_GROUP = 4096;
+
+    /**
+     * 파일에 기록하는 행 순서이자 같은 기록을 판단하는 키
+     */
+    static final Comparator<ArchivedAttendance> ROW_ORDER =
+            Comparator.comparingLong(ArchivedAttendance::mbNo).thenComparing(ArchivedAttendance::workDate);
+
+    private static final int HEADER_SIZE = 4 * Integer.BYTES + Long.BYTES;
+    private static final int GROUP_ENTRY_SIZE = 3 * Long.BYTES + 2 * Integer.BYTES;
+
+    private AttendanceColumnarFormat() {
+    }
+
+    /**
+     * 파일을 읽습니다. 회원 번호가 주어지면 그 회원이 속한 행 그룹만 읽어 해당 회원의 행을 반환합니다.
+     *
+     * @param mbNo 회원 번호 (null이면 전체 행)
+     */
+    public static List<ArchivedAttendance> read(SeekableByteChannel channel, Long mbNo) throws IOException {
+        Reader reader = Reader.open(channel);
+        List<ArchivedAttendance> rows = new ArrayList<>();
+        for (RowGroup group : reader.groups) {
+            if (mbNo != null && (mbNo < group.firstMbNo() || mbNo > group.lastMbNo())) {
+                continue;
+            }
+            reader.readGroup(group, mbNo, rows);
+        }
+        return rows;
+    }
+
+    /**
+     * 정렬된 행을 받아 행 그룹이 찰 때마다 압축해 채널에 기록합니다.
+     * <p>
+     * 메모리에는 기록 중인 그룹 하나만 둡니다. 행은 {@code (mb_no, work_date)} 순으로, 같은 키 없이 넣어야 합니다.
+     * 채널은 호출자가 열고 닫으며, {@link #finish()}를 호출해야 색인과 헤더가 기록되어 읽을 수 있는 파일이 됩니다.
+     * </p>
+     */
+    public static final class Writer {
+
+        private final SeekableByteChannel channel;
+        private final List<RowGroup> groups = new ArrayList<>();
+        private final List<ArchivedAttendance> pending = new ArrayList<>();
+        private ArchivedAttendance last;
+        private int rowCount;
+
+        public Writer(SeekableByteChannel channel) throws IOException {
+            this.channel = channel;
+            channel.position(HEADER_SIZE);
+        }
+
+        /**
+         * 행을 추가합니다. 목표 행 수를 채운 뒤 회원이 바뀌면 모인 그룹을 기록합니다.
+         *
+         * @throws IllegalArgumentException 행이 직전 행보다 앞서거나 같은 키인 경우
+         */
+        public void add(ArchivedAttendance row) throws IOException {
+            if (last != null && ROW_ORDER.compare(last, row) >= 0) {
+                throw new IllegalArgumentException("출결 보관 행이 (mb_no, work_date) 순이 아닙니다: " + last + " -> " + row);
+            }
+            if (pending.size() >= ROWS_PER_GROUP && row.mbNo() != last.mbNo()) {
+                flushGroup();
+            }
+            pending.add(row);
+            last = row;
+            rowCount++;
+        }
+
+        public int rowCount() {
+            return rowCount;
+        }
+
+        /**
+         * 남은 그룹과 색인을 기록하고, 파일 앞의 헤더를 채웁니다.
+         */
+        public void finish() throws IOException {
+            flushGroup();
+
+            long indexOffset = channel.position();
+            ByteBuffer index = ByteBuffer.allocate(groups.size() * GROUP_ENTRY_SIZE);
+            for (RowGroup group : groups) {
+                index.putLong(group.firstMbNo())
+                        .putLong(group.lastMbNo())
+                        .putInt(group.rows())
+                        .putLong(group.offset())
+                        .putInt(group.length());
+            }
+            writeFully(channel, index.flip());
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(rowCount)
+                    .putInt(groups.size())
+                    .putLong(indexOffset);
+            channel.position(0);
+            writeFully(channel, header.flip());
+        }
+
+        private void flushGroup() throws IOException {
+            if (pending.isEmpty()) {
+                return;
+            }
+            byte[] block = compress(pending);
+            groups.add(new RowGroup(pending.getFirst().mbNo(), pending.getLast().mbNo(), pending.size(), channel.position(), block.length));
+            writeFully(channel, ByteBuffer.wrap(block));
+            pending.clear();
+        }
+    }
+
+    /**
+     * 헤더와 색인을 읽어 두고 행 그룹을 하나씩 읽는 판독기입니다. 메모리에는 한 번에 한 그룹만 풀어 둡니다.
+     */
+    public static final class Reader {
+
+        private final SeekableByteChannel channel;
+        private final int rowCount;
+        private final List<RowGroup> groups;
+        private int nextGroup;
+
+        private Reader(SeekableByteChannel channel, int rowCount, List<RowGroup> groups) {
+            this.channel = channel;
+            this.rowCount = rowCount;
+            this.groups = groups;
+        }
+
+        public static Reader open(SeekableByteChannel channel) throws IOException {
+            channel.position(0);
+            ByteBuffer header = readFully(channel, HEADER_SIZE);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("출결 보관 파일 형식이 아닙니다.");
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 출결 보관 파일 버전입니다: " + version);
+            }
+            int rowCount = header.getInt();
+            int groupCount = header.getInt();
+            long indexOffset = header.getLong();
+
+            channel.position(indexOffset);
+            ByteBuffer index = readFully(channel, groupCount * GROUP_ENTRY_SIZE);
+            List<RowGroup> groups = new ArrayList<>(groupCount);
+            for (int i = 0; i < groupCount; i++) {
+                groups.add(new RowGroup(index.getLong(), index.getLong(), index.getInt(), index.getLong(), index.getInt()));
+            }
+            return new Reader(channel, rowCount, groups);
+        }
+
+        /**
+         * 헤더에 기록된 전체 행 수를 반환합니다.
+         */
+        public int rowCount() {
+            return rowCount;
+        }
+
+        /**
+         * 다음 행 그룹의 행을 정렬 순서대로 반환합니다. 더 읽을 그룹이 없으면 null을 반환합니다.
+         */
+        public List<ArchivedAttendance> nextGroup() throws IOException {
+            if (nextGroup >= groups.size()) {
+                return null;
+            }
+            List<ArchivedAttendance> rows = new ArrayList<>();
+            readGroup(groups.get(nextGroup++), null, rows);
+            return rows;
+        }
+
+        private void readGroup(RowGroup group, Long mbNo, List<ArchivedAttendance> rows) throws IOException {
+            channel.position(group.offset());
+            byte[] block = readFully(channel, group.length()).array();
+            try (DataInputStream data = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(block), 64 * 1024))) {
+                readColumns(data, group.rows(), mbNo, rows);
+            }
+        }
+    }
+
+    private static byte[] compress(List<ArchivedAttendance> rows) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        GZIPOutputStream gzip = new GZIPOutputStream(buffer, 64 * 1024);
+        DataOutputStream data = new DataOutputStream(gzip);
+
+        for (ArchivedAttendance row : rows) {
+            data.writeLong(row.id());
+        }
+        for (ArchivedAttendance row : rows) {
+            data.writeLong(row.mbNo());
+        }
+        for (ArchivedAttendance row : rows) {
+            data.writeInt((int) row.workDate().toEpochDay());
+        }
+
+        writePresence(data, rows, row -> row.inTime() != null);
+        for (ArchivedAttendance row : rows) {
+            if (row.inTime() != null) {
+                data.writeLong(row.inTime().toEpochSecond(ZoneOffset.UTC));
+            }
+        }
+        writePresence(data, rows, row -> row.outTime() != null);
+        for (ArchivedAttendance row : rows) {
+            if (row.outTime() != null) {
+                data.writeLong(row.outTime().toEpochSecond(ZoneOffset.UTC));
+            }
+        }
+        writePresence(data, rows, row -> row.workMinutes() != null);
+        for (ArchivedAttendance row : rows) {
+            if (row.workMinutes() != null) {
+                data.writeInt(row.workMinutes());
+            }
+        }
+
+        for (ArchivedAttendance row : rows) {
+            data.writeLong(row.statusCode());
+        }
+
+        data.flush();
+        gzip.finish();
+        return buffer.toByteArray();
+    }
+
+    private static void readColumns(DataInputStream data, int size, Long mbNo, List<ArchivedAttendance> rows) throws IOException {
+        long[] ids = readLongs(data, size);
+        long[] mbNos = readLongs(data, size);
+        int[] workDates = new int[size];
+        for (int i = 0; i < size; i++) {
+            workDates[i] = data.readInt();
+        }
+
+        BitSet inPresent = readPresence(data, size);
+        long[] inTimes = new long[size];
+        for (int i = inPresent.nextSetBit(0); i >= 0; i = inPresent.nextSetBit(i + 1)) {
+            inTimes[i] = data.readLong();
+        }
+        BitSet outPresent = readPresence(data, size);
+        long[] outTimes = new long[size];
+        for (int i = outPresent.nextSetBit(0); i >= 0; i = outPresent.nextSetBit(i + 1)) {
+            outTimes[i] = data.readLong();
+        }
+        BitSet minutesPresent = readPresence(data, size);
+        int[] workMinutes = new int[size];
+        for (int i = minutesPresent.nextSetBit(0); i >= 0; i = minutesPresent.nextSetBit(i + 1)) {
+            workMinutes[i] = data.readInt();
+        }
+
+        long[] statuses = readLongs(data, size);
+
+        for (int i = 0; i < size; i++) {
+            if (mbNo != null && mbNos[i] != mbNo) {
+                continue;
+            }
+            rows.add(new ArchivedAttendance(
+                    ids[i],
+                    mbNos[i],
+                    LocalDate.ofEpochDay(workDates[i]),
+                    inPresent.get(i) ? LocalDateTime.ofEpochSecond(inTimes[i], 0, ZoneOffset.UTC) : null,
+                    outPresent.get(i) ? LocalDateTime.ofEpochSecond(outTimes[i], 0, ZoneOffset.UTC) : null,
+                    minutesPresent.get(i) ? workMinutes[i] : null,
+                    statuses[i]
+            ));
+        }
+    }
+
+    private static void writePresence(DataOutputStream data, List<ArchivedAttendance> rows,
+                                      Predicate<ArchivedAttendance> present) throws IOException {
+        byte[] bitmap = new byte[(rows.size() + 7) / 8];
+        for (int i = 0; i < rows.size(); i++) {
+            if (present.test(rows.get(i))) {
+                bitmap[i >> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        data.write(bitmap);
+    }
+
+    private static BitSet readPresence(DataInputStream data, int size) throws IOException {
+        byte[] bitmap = new byte[(size + 7) / 8];
+        data.readFully(bitmap);
+        return BitSet.valueOf(bitmap);
+    }
+
+    private static long[] readLongs(DataInputStream data, int size) throws IOException {
+        long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = data.readLong();
+        }
+        return values;
+    }
+
+    private static void writeFully(SeekableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static ByteBuffer readFully(SeekableByteChannel channel, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("출결 보관 파일이 손상되었습니다.");
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * 헤더에 기록하는 행 그룹의 회원 번호 범위와 파일 내 위치입니다.
+     */
+    private record RowGroup(long firstMbNo, long lastMbNo, int rows, long offset, int length) {
+    }
+}
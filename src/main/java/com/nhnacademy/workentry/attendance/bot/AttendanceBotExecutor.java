@@ -0,0 +1,178 @@
+package com.nhnacademy.workentry.attendance.bot;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 출결 시뮬레이터 봇의 회원 단위 작업을 조각(slice)으로 나눠 실행하는 실행기입니다.
+ * <p>
+ * 실행 방식은 {@code attendance.bot.executor.mode}로 정하며, 동시에 실행되는 조각 수는
+ * {@code attendance.bot.executor.max-concurrency}로 지정하거나(0이면 자동) Hikari 커넥션 풀 크기에서
+ * {@code attendance.bot.executor.reserved-connections}개를 뺀 값으로 맞춥니다.
+ * 조각 하나는 한 번에 커넥션 하나만 사용하므로, 봇이 실행되는 동안에도 API 요청에 쓸 커넥션이 남습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AttendanceBotExecutor {
+
+    private final BotExecutionMode mode;
+    private final int concurrency;
+    private final int sliceSize;
+    private final ExecutorService executor;
+
+    public AttendanceBotExecutor(@Value("${attendance.bot.executor.mode:VIRTUAL_THREADS}") BotExecutionMode mode,
+                                 @Value("${attendance.bot.executor.max-concurrency:0}") int maxConcurrency,
+                                 @Value("${attendance.bot.executor.reserved-connections:2}") int reservedConnections,
+                                 @Value("${attendance.bot.executor.slice-size:1000}") int sliceSize,
+                                 DataSource dataSource) {
+        this(mode, maxConcurrency > 0 ? maxConcurrency : poolBoundConcurrency(dataSource, reservedConnections), sliceSize);
+    }
+
+    AttendanceBotExecutor(BotExecutionMode mode, int concurrency, int sliceSize) {
+        this.mode = mode;
+        this.concurrency = mode == BotExecutionMode.SEQUENTIAL ? 1 : Math.max(1, concurrency);
+        this.sliceSize = Math.max(1, sliceSize);
+        this.executor = switch (mode) {
+            case SEQUENTIAL -> null;
+            case VIRTUAL_THREADS -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("attendance-bot-", 0).factory());
+            case BOUNDED_POOL -> newBoundedPool(this.concurrency);
+        };
+        log.info("[출결 봇] 실행 방식={}, 동시성={}, 조각 크기={}", mode, this.concurrency, this.sliceSize);
+    }
+
+    public BotExecutionMode mode() {
+        return mode;
+    }
+
+    public int concurrency() {
+        return concurrency;
+    }
+
+    /**
+     * 항목을 조각으로 나눠 {@code task}를 실행하고, 조각별 결과를 입력 순서대로 반환합니다.
+     * <p>
+     * 한 조각에서 예외가 나도 다른 조각은 계속 처리되며, 해당 조각의 결과에 예외가 담깁니다.
+     * </p>
+     *
+     * @param items 처리할 항목
+     * @param task  조각 하나를 처리하는 작업
+     * @return 조각별 결과
+     */
+    public <T, R> List<SliceOutcome<T, R>> run(List<T> items, Function<List<T>, R> task) {
+        return run(items, sliceSize, task);
+    }
+
+    /**
+     * 조각 크기를 직접 지정하여 {@code task}를 실행합니다. 날짜 단위로 나누는 백필처럼 설정된 조각 크기가 맞지 않을 때 사용합니다.
+     *
+     * @param items     처리할 항목
+     * @param sliceSize 조각 하나에 담을 항목 수
+     * @param task      조각 하나를 처리하는 작업
+     * @return 조각별 결과
+     */
+    public <T, R> List<SliceOutcome<T, R>> run(List<T> items, int sliceSize, Function<List<T>, R> task) {
+        List<List<T>> slices = partition(items, Math.max(1, sliceSize));
+        if (executor == null || slices.size() <= 1) {
+            return slices.stream().map(slice -> runSlice(slice, task)).toList();
+        }
+
+        Semaphore permits = new Semaphore(concurrency);
+        List<Future<SliceOutcome<T, R>>> futures = new ArrayList<>(slices.size());
+        for (List<T> slice : slices) {
+            futures.add(executor.submit(() -> {
+                permits.acquire();
+                try {
+                    return runSlice(slice, task);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        List<SliceOutcome<T, R>> outcomes = new ArrayList<>(slices.size());
+        for (int i = 0; i < futures.size(); i++) {
+            outcomes.add(await(futures.get(i), slices.get(i)));
+        }
+        return outcomes;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int sliceSize) {
+        List<List<T>> slices = new ArrayList<>((items.size() + sliceSize - 1) / sliceSize);
+        for (int from = 0; from < items.size(); from += sliceSize) {
+            slices.add(items.subList(from, Math.min(items.size(), from + sliceSize)));
+        }
+        return slices;
+    }
+
+    private static <T, R> SliceOutcome<T, R> runSlice(List<T> slice, Function<List<T>, R> task) {
+        try {
+            return new SliceOutcome<>(slice, task.apply(slice), null);
+        } catch (RuntimeException e) {
+            return new SliceOutcome<>(slice, null, e);
+        }
+    }
+
+    private static <T, R> SliceOutcome<T, R> await(Future<SliceOutcome<T, R>> future, List<T> slice) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("출결 봇 실행이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            return new SliceOutcome<>(slice, null, new IllegalStateException(String.valueOf(e.getCause().getMessage()), e.getCause()));
+        }
+    }
+
+    private static ExecutorService newBoundedPool(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "attendance-bot-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Hikari 커넥션 풀 크기에서 예약 커넥션 수를 뺀 동시성을 계산합니다. 풀 크기를 알 수 없으면 CPU 코어 수를 사용합니다.
+     */
+    private static int poolBoundConcurrency(DataSource dataSource, int reservedConnections) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                int poolSize = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+                return Math.max(1, poolSize - reservedConnections);
+            }
+        } catch (SQLException e) {
+            log.warn("[출결 봇] 커넥션 풀 크기를 확인하지 못했습니다: {}", e.getMessage());
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 조각 하나의 처리 결과입니다. 작업이 예외로 끝났으면 {@code error}가 채워집니다.
+     */
+    public record SliceOutcome<T, R>(List<T> slice, R result, RuntimeException error) {
+    }
+}
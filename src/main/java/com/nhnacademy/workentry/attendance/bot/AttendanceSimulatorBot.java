@@ -1,14 +1,14 @@
 package com.nhnacademy.workentry.attendance.bot;
 
-import com.nhnacademy.workentry.adapter.member.client.MemberServiceClient;
-import com.nhnacademy.workentry.adapter.member.dto.MemberNoResponse;
+import com.nhnacademy.workentry.adapter.member.cache.MemberRosterCache;
 import com.nhnacademy.workentry.attendance.constant.AttendanceStatusConstants;
+import com.nhnacademy.workentry.attendance.dto.AttendanceBulkResult;
 import com.nhnacademy.workentry.attendance.dto.AttendanceRequest;
+import com.nhnacademy.workentry.attendance.dto.BotRunReport;
+import com.nhnacademy.workentry.attendance.service.AttendanceRollupService;
 import com.nhnacademy.workentry.attendance.service.AttendanceService;
 import com.nhnacademy.workentry.common.exception.*;
 import com.nhnacademy.workentry.common.time.TodayProvider;
-import feign.FeignException;
-import feign.codec.DecodeException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
@@ -18,102 +18,319 @@ import org.springframework.stereotype.Component;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AttendanceSimulatorBot {
-    private final MemberServiceClient memberServiceClient;
+    // 실행 보고서에 사유를 남길 최대 실패 회원 수 (전체 건수는 별도로 집계)
+    private static final int MAX_REPORTED_FAILURES = 100;
+
+    private static final String CHECK_IN_JOB = "check-in";
+    private static final String CHECK_OUT_JOB = "check-out";
+    private static final String BACKFILL_JOB = "backfill";
+
+    // 백필 퇴근 시간 (AttendanceServiceImpl의 퇴근 처리와 같은 구간)
+    private static final LocalTime REGULAR_CHECK_OUT_START = LocalTime.of(18, 0);
+    private static final int REGULAR_CHECK_OUT_WINDOW_MINUTES = 31;
+    private static final LocalTime EARLY_LEAVE_CHECK_OUT_START = LocalTime.of(14, 0);
+    private static final int EARLY_LEAVE_CHECK_OUT_WINDOW_MINUTES = 91;
+
+    private final MemberRosterCache memberRosterCache;
     private final AttendanceService attendanceService;
     private final TodayProvider todayProvider;
-
-    private final Random random = new Random();
+    private final AttendanceRollupService attendanceRollupService;
+    private final AttendanceBotExecutor attendanceBotExecutor;
+    private final BotRunLedger botRunLedger;
 
     /**
      * 매일 오전 9시에 실행되어 출근 출결 데이터를 생성합니다.
      *
      * 평일에는 일반적인 출근 상태를 기반으로 데이터를 생성하며,
      * 주말(토요일, 일요일)에는 낮은 확률로 출근 상태를 결정합니다.
-     * 각 멤버에 대해 출결 요청을 생성하고 AttendanceService에 전달합니다.
+     * 회원 목록을 조각으로 나눠 {@link AttendanceBotExecutor}에서 동시에 처리하며, 조각마다 출결 요청을 만든 뒤
+     * 청크 단위로 일괄 저장합니다. 회원 단위 실패는 다른 회원의 처리를 막지 않고 실행 보고서에 모읍니다.
+     * 출결 집계는 모든 조각을 저장한 뒤 한 번만 갱신합니다.
+     * 끝난 조각은 {@link BotRunLedger}에 기록되므로, 같은 날 다시 실행하면 남은 회원만 처리합니다.
+     * 회원 목록은 {@link MemberRosterCache}에서 읽으므로 회원 서비스 응답을 기다리지 않습니다.
+     *
+     * @return 실행 보고서
      */
     @Scheduled(cron = "0 0 9 * * *", zone = "Asia/Seoul")
-    public void createCheckInAttendanceData() {
+    public BotRunReport createCheckInAttendanceData() {
         log.info("오전 스케줄 실행: {}", LocalDateTime.now());
-        List<MemberNoResponse> memberIds;
-        try{
-            memberIds = memberServiceClient.getAllMemberIds();
-        } catch (FeignException.NotFound e) {
-            throw new MemberNotFoundException("FeignClient: 멤버 정보를 찾을 수 없습니다.", e);
-        } catch (DecodeException e) {
-            throw new MemberDataFormatException("FeignClient: 멤버 응답 파싱 실패 (JSON 형식 오류)", e);
-        } catch (FeignException e) {
-            throw new MemberCallException("FeignClient: 멤버 호출 실패 (기타 오류)", e);
-        }
+        long startedAt = System.nanoTime();
+        List<Long> memberIds = memberRosterCache.getMemberIds();
 
         LocalDate today = todayProvider.getToday();
+        int dayCode = getDateDayCode(today.toString());
+        boolean weekend = dayCode == 1 || dayCode == 7;
 
-        log.info("오늘 날짜 확인 : {}", LocalDateTime.now());
+        BotRunLedger.Checkpoint checkpoint = botRunLedger.checkpoint(CHECK_IN_JOB, today, memberIds);
+        List<AttendanceBotExecutor.SliceOutcome<Long, CheckInSlice>> outcomes =
+                attendanceBotExecutor.run(checkpoint.remaining(), slice -> checkInSlice(slice, today, weekend));
 
-        for (MemberNoResponse mbNo : memberIds) {
-            String status;
-            int dayCode = getDateDayCode(today.toString());
-            if(dayCode == 1 || dayCode == 7){
-                status = decideWeekendAttendanceStatus();
-                if(status == null){
-                    log.info("주말 비출근 처리 : memberNo = {}", mbNo.getMbNo());
-                    continue; // 기록 생성 생략
-                }
+        int stored = 0;
+        int submitted = 0;
+        int skipped = 0;
+        int failed = 0;
+        List<AttendanceBulkResult.Failure> failures = new ArrayList<>();
+        for (AttendanceBotExecutor.SliceOutcome<Long, CheckInSlice> outcome : outcomes) {
+            List<AttendanceBulkResult.Failure> sliceFailures;
+            if (outcome.error() != null) {
+                log.error("❌ 출근 데이터 조각 처리 실패: size={}, error={}", outcome.slice().size(), outcome.error().getMessage());
+                String reason = String.valueOf(outcome.error().getMessage());
+                sliceFailures = outcome.slice().stream().map(mbNo -> new AttendanceBulkResult.Failure(mbNo, reason)).toList();
             } else {
-                status = decideAttendanceStatus();
+                stored += outcome.result().stored();
+                submitted += outcome.result().submitted();
+                skipped += outcome.result().skipped();
+                sliceFailures = outcome.result().failures();
             }
-
-            try {
-                // 새로운 출근 레코드 생성
-                log.debug("check-in 생성 시도: memberNo={}, status={}, checkInTime={}", mbNo.getMbNo(), status, generateCheckInTimeForStatus(status));
-
-                attendanceService.createAttendance(
-                        new AttendanceRequest(mbNo.getMbNo(), today, generateCheckInTimeForStatus(status), null, null, status)
-                );
-            } catch (Exception e) {
-                log.error("❌ 출근 데이터 생성 실패: memberNo={}, status={}, error={}",
-                        mbNo.getMbNo(), status, e.getMessage(), e);
+            failed += sliceFailures.size();
+            for (AttendanceBulkResult.Failure failure : sliceFailures) {
+                log.error("❌ 출근 데이터 생성 실패: memberNo={}, error={}", failure.getMbNo(), failure.getReason());
+                if (failures.size() < MAX_REPORTED_FAILURES) {
+                    failures.add(failure);
+                }
             }
         }
+
+        // 저장 건수는 이미 있던 기록도 포함하므로, 저장을 시도했으면 갱신
+        // 이전 실행이 집계 갱신 전에 중단되었을 수 있으므로 이어서 처리한 경우에도 갱신
+        if (submitted > 0 || checkpoint.resumedCount() > 0) {
+            attendanceRollupService.refreshDate(today);
+        }
+
+        BotRunReport report = new BotRunReport(CHECK_IN_JOB, attendanceBotExecutor.mode(), attendanceBotExecutor.concurrency(),
+                memberIds.size(), stored, skipped, checkpoint.resumedCount(), failed, List.copyOf(failures), elapsedMillis(startedAt));
+        log.info("출근 데이터 생성 완료: date={}, 대상={}, 저장={}, 비출근={}, 이전 실행 완료={}, 실패={}, 방식={}, 동시성={}, 소요={}ms",
+                today, report.getTargetCount(), stored, skipped, checkpoint.resumedCount(), failed,
+                report.getMode(), report.getConcurrency(), report.getElapsedMillis());
+        return report;
     }
 
     /**
      * 매일 오후 6시에 체크아웃 데이터를 생성합니다.
      *
      * <p>
-     * 오늘 날짜에 체크인 기록이 존재하는 멤버들만 대상으로 체크아웃을 수행합니다.<br>
+     * 오늘 날짜에 체크인 기록이 존재하고 아직 퇴근하지 않은 멤버들만 대상으로, 상태별 일괄 체크아웃을 수행합니다.<br>
      * 주말에는 출결 레코드 자체가 생성되지 않으므로 체크아웃도 생략됩니다.
+     * 상태별 UPDATE 문 몇 개로 끝나므로 조각으로 나누지 않고 스케줄러 스레드에서 실행합니다.
      * </p>
+     *
+     * @return 실행 보고서
      */
     @Scheduled(cron = "0 0 18 * * *", zone = "Asia/Seoul")
-    public void createCheckOutAttendanceData() {
+    public BotRunReport createCheckOutAttendanceData() {
         log.info("오후 스케줄 실행: {}", LocalDateTime.now());
+        long startedAt = System.nanoTime();
         LocalDate today = todayProvider.getToday();
-        List<MemberNoResponse> checkedInMembers = attendanceService.getCheckedInMembers(today);
 
-        if(checkedInMembers.isEmpty()){
+        // 상태별 UPDATE 문으로 일괄 퇴근 처리 (회원 수와 무관하게 왕복 횟수 일정)
+        int checkedOut = attendanceService.checkOutAll(today);
+
+        BotRunReport report = new BotRunReport(CHECK_OUT_JOB, BotExecutionMode.SEQUENTIAL, 1,
+                checkedOut, checkedOut, 0, 0, 0, List.of(), elapsedMillis(startedAt));
+        if(checkedOut == 0){
             log.info("오늘({}) 체크인한 멤버 없음 - 주말 또는 공휴일", today);
-            return;
+            return report;
         }
 
-        for (MemberNoResponse mbNo : checkedInMembers) {
-            try{
-                attendanceService.checkOut(mbNo.getMbNo(), today);
-            }catch (AttendanceNotFoundException e){
-                log.warn("체크인 기록 없음: memberNo={}, date={}", mbNo.getMbNo(), today);
+        log.info("퇴근 데이터 생성 완료: date={}, 퇴근 처리={}", today, checkedOut);
+        return report;
+    }
+
+    /**
+     * 기간과 회원 번호 구간을 지정하여 과거 출결 데이터를 한 번에 생성합니다.
+     * <p>
+     * 조회 API 성능 측정용 대량 데이터를 만들기 위한 기능으로, 출근 봇과 같은 상태 분포(평일·주말)를 사용합니다.
+     * 회원·근무 일자마다 {@code seed}에서 파생한 난수를 쓰므로 같은 인자로 실행하면 항상 같은 데이터가 만들어지고,
+     * 기간이나 회원 구간을 바꿔도 겹치는 회원·일자의 값은 달라지지 않습니다.
+     * 근무 일자 하나를 조각 하나로 삼아 {@link AttendanceBotExecutor}에서 동시에 처리하며, 이미 있는 기록은 건너뛰는 일괄 저장을 사용합니다.
+     * 오늘 이전 일자는 퇴근 시간과 근무 시간까지 채우고, 출결 집계는 모든 일자를 저장한 뒤 기간 전체를 한 번 재계산합니다.
+     * 끝난 일자는 {@link BotRunLedger}에 기록되므로, 중간에 멈춘 백필을 다시 실행하면 남은 일자만 처리합니다.
+     * </p>
+     *
+     * @param start    시작 일자
+     * @param end      종료 일자 (포함)
+     * @param fromMbNo 시작 회원 번호
+     * @param toMbNo   종료 회원 번호 (포함)
+     * @param seed     난수 시드
+     * @return 실행 보고서
+     * @throws IllegalArgumentException 기간이나 회원 구간이 잘못된 경우
+     */
+    public BotRunReport backfill(LocalDate start, LocalDate end, long fromMbNo, long toMbNo, long seed) {
+        if (start == null || end == null || start.isAfter(end)) {
+            throw new IllegalArgumentException("백필 기간이 올바르지 않습니다. start=" + start + ", end=" + end);
+        }
+        if (fromMbNo < 1 || fromMbNo > toMbNo) {
+            throw new IllegalArgumentException("백필 회원 구간이 올바르지 않습니다. fromMbNo=" + fromMbNo + ", toMbNo=" + toMbNo);
+        }
+        long days = ChronoUnit.DAYS.between(start, end) + 1;
+        long members = toMbNo - fromMbNo + 1;
+        if (days * members > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("백필 대상이 너무 많습니다. 일수=" + days + ", 회원 수=" + members);
+        }
+
+        log.info("[출결 백필] 시작: {} ~ {}, 회원={}~{}, seed={}", start, end, fromMbNo, toMbNo, seed);
+        long startedAt = System.nanoTime();
+        LocalDate today = todayProvider.getToday();
+        List<LocalDate> dates = start.datesUntil(end.plusDays(1)).toList();
+
+        List<AttendanceBotExecutor.SliceOutcome<LocalDate, CheckInSlice>> outcomes = attendanceBotExecutor.run(dates, 1,
+                slice -> backfillDate(slice.getFirst(), fromMbNo, toMbNo, seed, today));
+
+        int stored = 0;
+        int submitted = 0;
+        int skipped = 0;
+        int resumed = 0;
+        int failed = 0;
+        List<AttendanceBulkResult.Failure> failures = new ArrayList<>();
+        for (AttendanceBotExecutor.SliceOutcome<LocalDate, CheckInSlice> outcome : outcomes) {
+            if (outcome.error() != null) {
+                log.error("❌ 백필 일자 처리 실패: date={}, error={}", outcome.slice().getFirst(), outcome.error().getMessage());
+                failed += (int) members;
+                if (failures.size() < MAX_REPORTED_FAILURES) {
+                    failures.add(new AttendanceBulkResult.Failure(fromMbNo,
+                            outcome.slice().getFirst() + ": " + outcome.error().getMessage()));
+                }
+                continue;
+            }
+            stored += outcome.result().stored();
+            submitted += outcome.result().submitted();
+            skipped += outcome.result().skipped();
+            resumed += outcome.result().resumed();
+            failed += outcome.result().failures().size();
+            for (AttendanceBulkResult.Failure failure : outcome.result().failures()) {
+                if (failures.size() < MAX_REPORTED_FAILURES) {
+                    failures.add(failure);
+                }
+            }
+        }
+
+        if (submitted > 0 || resumed > 0) {
+            attendanceRollupService.rebuild(start, end);
+        }
+
+        BotRunReport report = new BotRunReport(BACKFILL_JOB, attendanceBotExecutor.mode(), attendanceBotExecutor.concurrency(),
+                (int) (days * members), stored, skipped, resumed, failed, List.copyOf(failures), elapsedMillis(startedAt));
+        log.info("[출결 백필] 완료: {} ~ {}, 대상={}, 저장={}, 비출근={}, 이전 실행 완료={}, 실패={}, 동시성={}, 소요={}ms",
+                start, end, report.getTargetCount(), stored, skipped, resumed, failed,
+                report.getConcurrency(), report.getElapsedMillis());
+        return report;
+    }
+
+    /**
+     * 근무 일자 하나의 백필 요청을 만들고 저장합니다. 실패한 회원이 없으면 일자 전체를 원장에 완료로 기록합니다.
+     */
+    private CheckInSlice backfillDate(LocalDate workDate, long fromMbNo, long toMbNo, long seed, LocalDate today) {
+        List<Long> memberIds = LongStream.rangeClosed(fromMbNo, toMbNo).boxed().toList();
+        BotRunLedger.Checkpoint checkpoint = botRunLedger.checkpoint(BACKFILL_JOB, workDate, memberIds);
+        if (checkpoint.remaining().isEmpty()) {
+            return new CheckInSlice(0, 0, 0, checkpoint.resumedCount(), List.of());
+        }
+
+        DayOfWeek dayOfWeek = workDate.getDayOfWeek();
+        boolean weekend = dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+        boolean closed = workDate.isBefore(today);
+
+        List<AttendanceRequest> requests = new ArrayList<>(checkpoint.remaining().size());
+        int skipped = 0;
+        for (Long mbNo : checkpoint.remaining()) {
+            AttendanceRequest request = backfillRequest(mbNo, workDate, weekend, closed, seed);
+            if (request == null) {
+                skipped++;
+            } else {
+                requests.add(request);
             }
         }
+
+        AttendanceBulkResult result = requests.isEmpty() ? AttendanceBulkResult.empty() : attendanceService.insertAttendances(requests);
+        if (result.getFailures().isEmpty()) {
+            botRunLedger.complete(BACKFILL_JOB, workDate, checkpoint.remaining(), result.getStoredCount());
+        }
+        log.debug("[출결 백필] 일자 처리: date={}, 저장={}, 비출근={}, 실패={}",
+                workDate, result.getStoredCount(), skipped, result.getFailures().size());
+        return new CheckInSlice(result.getStoredCount(), requests.size(), skipped, checkpoint.resumedCount(), result.getFailures());
+    }
+
+    /**
+     * 회원·근무 일자 하나의 백필 요청을 만듭니다. 주말 비출근이면 null을 반환합니다.
+     * <p>
+     * 난수는 {@code seed}, 근무 일자, 회원 번호로만 정해지므로 실행 순서나 동시성과 무관하게 같은 결과가 나옵니다.
+     * </p>
+     */
+    @Nullable
+    AttendanceRequest backfillRequest(long mbNo, LocalDate workDate, boolean weekend, boolean closed, long seed) {
+        SplittableRandom random = new SplittableRandom(
+                seed ^ (workDate.toEpochDay() * 0x9E3779B97F4A7C15L) ^ (mbNo * 0xC2B2AE3D27D4EB4FL));
+        int randValue = random.nextInt(100);
+        String status = weekend ? decideWeekendAttendanceStatus(randValue) : decideAttendanceStatus(randValue);
+        if (status == null) {
+            return null;
+        }
+
+        LocalDateTime checkIn = generateCheckInTimeForStatus(status, workDate, random);
+        LocalDateTime checkOut = closed && checkIn != null ? generateCheckOutTimeForStatus(status, workDate, random) : null;
+        Integer workMinutes = checkOut != null ? (int) Duration.between(checkIn, checkOut).toMinutes() : null;
+        return new AttendanceRequest(mbNo, workDate, checkIn, checkOut, workMinutes, status);
+    }
+
+    /**
+     * 회원 조각 하나의 출근 요청을 만들고 저장합니다. 한 회원에서 예외가 나도 나머지 회원은 계속 처리합니다.
+     * 실패한 회원이 없으면 조각을 원장에 완료로 기록하고, 있으면 다음 실행에서 조각 전체를 다시 처리합니다.
+     */
+    private CheckInSlice checkInSlice(List<Long> memberIds, LocalDate today, boolean weekend) {
+        List<AttendanceRequest> requests = new ArrayList<>(memberIds.size());
+        List<AttendanceBulkResult.Failure> failures = new ArrayList<>();
+        int skipped = 0;
+
+        for (Long mbNo : memberIds) {
+            try {
+                String status = weekend ? decideWeekendAttendanceStatus() : decideAttendanceStatus();
+                if (status == null) {
+                    log.debug("주말 비출근 처리 : memberNo = {}", mbNo);
+                    skipped++;
+                    continue; // 기록 생성 생략
+                }
+
+                LocalDateTime checkInTime = generateCheckInTimeForStatus(status, today, ThreadLocalRandom.current());
+                log.debug("check-in 생성 대상: memberNo={}, status={}, checkInTime={}", mbNo, status, checkInTime);
+
+                requests.add(new AttendanceRequest(mbNo, today, checkInTime, null, null, status));
+            } catch (RuntimeException e) {
+                failures.add(new AttendanceBulkResult.Failure(mbNo, e.getMessage()));
+            }
+        }
+
+        // 청크 단위 다중 행 INSERT로 일괄 생성 (이미 있는 기록은 건너뜀, 집계 갱신은 모든 조각이 끝난 뒤 한 번)
+        int stored = 0;
+        if (!requests.isEmpty()) {
+            AttendanceBulkResult result = attendanceService.insertAttendances(requests);
+            failures.addAll(result.getFailures());
+            stored = result.getStoredCount();
+        }
+
+        if (failures.isEmpty()) {
+            botRunLedger.complete(CHECK_IN_JOB, today, memberIds, stored);
+        }
+        return new CheckInSlice(stored, requests.size(), skipped, 0, failures);
     }
 
     /**
@@ -136,8 +353,16 @@ public class AttendanceSimulatorBot {
      * @return 랜덤으로 선택된 출결 상태 상수 문자열
      */
     private String decideAttendanceStatus() {
-        int randValue = (int) (Math.random() * 100); // 0~99
+        return decideAttendanceStatus(ThreadLocalRandom.current().nextInt(100)); // 0~99
+    }
 
+    /**
+     * 0~99 사이의 값을 평일 출결 상태 분포에 대응시킵니다.
+     *
+     * @param randValue 0~99 사이의 난수
+     * @return 출결 상태 상수 문자열
+     */
+    static String decideAttendanceStatus(int randValue) {
         if (randValue < 60) {
             return AttendanceStatusConstants.STATUS_PRESENT;        // 0 ~ 59
         } else if (randValue < 70) {
@@ -167,8 +392,17 @@ public class AttendanceSimulatorBot {
      * @return 출근 상태 상수(출근 시) 또는 null(비출근 시)
      */
     protected String decideWeekendAttendanceStatus(){
-        int randValue = (int) (Math.random() * 100); // 0~99
+        return decideWeekendAttendanceStatus(ThreadLocalRandom.current().nextInt(100)); // 0~99
+    }
 
+    /**
+     * 0~99 사이의 값을 주말 출근 분포에 대응시킵니다.
+     *
+     * @param randValue 0~99 사이의 난수
+     * @return 출근 상태 상수(출근 시) 또는 null(비출근 시)
+     */
+    @Nullable
+    static String decideWeekendAttendanceStatus(int randValue) {
         if (randValue < 20) {
             return AttendanceStatusConstants.STATUS_PRESENT; // 0 ~ 19
         } else {
@@ -180,11 +414,12 @@ public class AttendanceSimulatorBot {
      * 주어진 출결 상태에 따라 적절한 체크인 시간을 생성합니다.
      *
      * @param status 출결 상태 (예: 출근, 지각, 결근 등)
+     * @param today  근무 일자
+     * @param random 시간 생성에 사용할 난수 생성기
      * @return 해당 상태에 맞는 체크인 시간, 없으면 null
      */
     @Nullable
-    private LocalDateTime generateCheckInTimeForStatus(@NotNull String status) {
-        LocalDate today = todayProvider.getToday();
+    private LocalDateTime generateCheckInTimeForStatus(@NotNull String status, LocalDate today, RandomGenerator random) {
         LocalTime baseTime;
 
         switch (status) {
@@ -215,6 +450,30 @@ public class AttendanceSimulatorBot {
         return LocalDateTime.of(today, baseTime);
     }
 
+    /**
+     * 백필할 때 출결 상태에 따른 퇴근 시간을 생성합니다.
+     *
+     * @param status   출결 상태
+     * @param workDate 근무 일자
+     * @param random   시간 생성에 사용할 난수 생성기
+     * @return 해당 상태에 맞는 퇴근 시간, 없으면 null
+     */
+    @Nullable
+    private LocalDateTime generateCheckOutTimeForStatus(@NotNull String status, LocalDate workDate, RandomGenerator random) {
+        LocalTime baseTime = switch (status) {
+            // 정상 퇴근: 18:00 ~ 18:30
+            case AttendanceStatusConstants.STATUS_PRESENT,
+                 AttendanceStatusConstants.STATUS_LATE,
+                 AttendanceStatusConstants.STATUS_OUTING ->
+                    REGULAR_CHECK_OUT_START.plusMinutes(random.nextInt(REGULAR_CHECK_OUT_WINDOW_MINUTES));
+            // 반차 조퇴: 14:00 ~ 15:30
+            case AttendanceStatusConstants.STATUS_EARLY_LEAVE ->
+                    EARLY_LEAVE_CHECK_OUT_START.plusMinutes(random.nextInt(EARLY_LEAVE_CHECK_OUT_WINDOW_MINUTES));
+            default -> null;
+        };
+        return baseTime == null ? null : LocalDateTime.of(workDate, baseTime);
+    }
+
     /**
      * 입력된 날짜의 요일 코드를 반환합니다.
      *
@@ -240,4 +499,13 @@ public class AttendanceSimulatorBot {
 
     }
 
-}
\ No newline at end of file
+    private long elapsedMillis(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    /**
+     * 조각 하나의 처리 결과입니다. {@code stored}는 이미 있던 기록도 포함하므로, 집계 갱신 여부는 {@code submitted}로 판단합니다.
+     */
+    private record CheckInSlice(int stored, int submitted, int skipped, int resumed, List<AttendanceBulkResult.Failure> failures) {
+    }
+}
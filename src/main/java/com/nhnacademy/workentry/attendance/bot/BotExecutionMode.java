@@ -0,0 +1,22 @@
+package com.nhnacademy.workentry.attendance.bot;
+
+/**
+ * 출결 시뮬레이터 봇이 회원 조각(slice)을 처리하는 방식입니다.
+ */
+public enum BotExecutionMode {
+
+    /**
+     * 스케줄러 스레드에서 조각을 하나씩 처리합니다.
+     */
+    SEQUENTIAL,
+
+    /**
+     * 조각마다 가상 스레드를 만들고, 동시에 실행되는 조각 수는 동시성 한도로 제한합니다.
+     */
+    VIRTUAL_THREADS,
+
+    /**
+     * 동시성 한도 크기의 고정 스레드 풀에서 조각을 처리합니다.
+     */
+    BOUNDED_POOL
+}
@@ -0,0 +1,136 @@
+package com.nhnacademy.workentry.attendance.bot;
+
+import com.nhnacademy.workentry.attendance.entity.AttendanceBotRunChunk;
+import com.nhnacademy.workentry.attendance.repository.AttendanceBotRunChunkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 출결 시뮬레이터 봇 실행의 진행 상황을 회원 조각 단위로 기록하는 원장입니다.
+ * <p>
+ * 조각의 모든 회원이 저장되면 회원 번호 구간과 회원 수, 회원 번호 체크섬을 기록하고, 같은 작업·근무 일자로 다시 실행하면
+ * 기록된 구간에 속한 회원을 제외한 나머지만 처리하도록 체크포인트를 돌려줍니다.
+ * 구간만으로는 그 사이 구간 안에 새로 들어온 회원을 알 수 없으므로, 지금 회원 목록에서 같은 구간의 회원 수와 체크섬이
+ * 기록과 같은 조각만 완료로 봅니다. 다르면 구간 전체를 다시 처리합니다.
+ * 조각 저장과 원장 기록 사이에 중단되더라도 저장은 이미 있는 기록을 건너뛰므로, 해당 조각을 다시 처리해도 중복되지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BotRunLedger {
+
+    private final AttendanceBotRunChunkRepository attendanceBotRunChunkRepository;
+
+    /**
+     * 이전 실행에서 끝난 조각을 제외하고 이번에 처리할 회원을 계산합니다.
+     *
+     * @param job       봇 작업 이름
+     * @param workDate  근무 일자
+     * @param memberIds 오름차순 회원 번호
+     * @return 남은 회원과 이전 실행에서 완료된 회원 수
+     */
+    public Checkpoint checkpoint(String job, LocalDate workDate, List<Long> memberIds) {
+        List<AttendanceBotRunChunk> completed = attendanceBotRunChunkRepository.findByJobAndWorkDate(job, workDate);
+        if (completed.isEmpty()) {
+            return new Checkpoint(memberIds, 0);
+        }
+
+        // 지금 회원 목록의 같은 구간이 기록과 일치하는 조각만 건너뜀
+        TreeMap<Long, Long> ranges = new TreeMap<>();
+        int stale = 0;
+        for (AttendanceBotRunChunk chunk : completed) {
+            List<Long> members = memberIds.subList(
+                    lowerBound(memberIds, chunk.getFirstMbNo()), lowerBound(memberIds, chunk.getLastMbNo() + 1));
+            if (members.size() == chunk.getMemberCount() && Long.valueOf(checksum(members)).equals(chunk.getMemberChecksum())) {
+                ranges.put(chunk.getFirstMbNo(), chunk.getLastMbNo());
+            } else {
+                stale++;
+            }
+        }
+
+        List<Long> remaining = new ArrayList<>();
+        for (Long mbNo : memberIds) {
+            Map.Entry<Long, Long> range = ranges.floorEntry(mbNo);
+            if (range == null || range.getValue() < mbNo) {
+                remaining.add(mbNo);
+            }
+        }
+        int resumed = memberIds.size() - remaining.size();
+        log.info("[출결 봇] 이전 실행 이어서 처리: job={}, date={}, 완료 조각={}, 회원 변경 조각={}, 완료 회원={}, 남은 회원={}",
+                job, workDate, completed.size() - stale, stale, resumed, remaining.size());
+        return new Checkpoint(remaining, resumed);
+    }
+
+    /**
+     * 조각 하나의 처리가 끝났음을 기록합니다.
+     *
+     * @param job        봇 작업 이름
+     * @param workDate   근무 일자
+     * @param memberIds  조각의 오름차순 회원 번호
+     * @param storedCount 저장된 출결 기록 수 (이미 있던 기록 포함)
+     */
+    public void complete(String job, LocalDate workDate, List<Long> memberIds, int storedCount) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        try {
+            attendanceBotRunChunkRepository.save(new AttendanceBotRunChunk(
+                    job,
+                    workDate,
+                    memberIds.getFirst(),
+                    memberIds.getLast(),
+                    memberIds.size(),
+                    checksum(memberIds),
+                    storedCount,
+                    LocalDateTime.now()
+            ));
+        } catch (DataAccessException e) {
+            // 기록하지 못한 조각은 다음 실행에서 다시 처리되며, 저장은 중복되지 않음
+            log.warn("[출결 봇] 실행 원장 기록 실패: job={}, date={}, 회원 구간={}~{}, error={}",
+                    job, workDate, memberIds.getFirst(), memberIds.getLast(), e.getMessage());
+        }
+    }
+
+    /**
+     * 오름차순 회원 번호의 체크섬을 계산합니다. 회원이 하나라도 바뀌면 다른 값이 나옵니다.
+     */
+    static long checksum(List<Long> memberIds) {
+        long checksum = memberIds.size();
+        for (Long mbNo : memberIds) {
+            checksum = checksum * 31 + mix(mbNo);
+        }
+        return checksum;
+    }
+
+    // SplitMix64의 마무리 단계로 인접한 회원 번호를 고르게 퍼뜨림
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private static int lowerBound(List<Long> memberIds, long mbNo) {
+        int index = Collections.binarySearch(memberIds, mbNo);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * 이번 실행의 체크포인트입니다.
+     *
+     * @param remaining     처리할 회원 번호
+     * @param resumedCount  이전 실행에서 이미 끝난 회원 수
+     */
+    public record Checkpoint(List<Long> remaining, int resumedCount) {
+    }
+}
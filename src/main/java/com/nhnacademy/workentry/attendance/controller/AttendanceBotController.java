@@ -1,10 +1,23 @@
 package com.nhnacademy.workentry.attendance.controller;
 
 import com.nhnacademy.workentry.attendance.bot.AttendanceSimulatorBot;
+import com.nhnacademy.workentry.attendance.dto.AttendanceImportResult;
+import com.nhnacademy.workentry.attendance.dto.BotRunReport;
+import com.nhnacademy.workentry.attendance.service.AttendanceReportImportService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 
 /**
  * 로컬 개발 환경에서만 활성화되는 출결 시뮬레이터 컨트롤러입니다.
@@ -18,16 +31,41 @@ import org.springframework.web.bind.annotation.RestController;
 class AttendanceBotController {
 
     private final AttendanceSimulatorBot simulatorBot;
+    private final AttendanceReportImportService attendanceReportImportService;
 
     @PostMapping("/simulate/check-in")
-    private String simulateCheckIn() {
-        simulatorBot.createCheckInAttendanceData();
-        return "Check-in simulation complete.";
+    private BotRunReport simulateCheckIn() {
+        return simulatorBot.createCheckInAttendanceData();
     }
 
     @PostMapping("/simulate/check-out")
-    private String simulateCheckOut() {
-        simulatorBot.createCheckOutAttendanceData();
-        return "Check-out simulation complete.";
+    private BotRunReport simulateCheckOut() {
+        return simulatorBot.createCheckOutAttendanceData();
+    }
+
+    /**
+     * 기간과 회원 번호 구간의 출결 데이터를 시드 기반으로 생성합니다. 조회 API 성능 측정용 대량 데이터를 만들 때 사용합니다.
+     * 예: {@code POST /simulate/backfill?start=2023-01-01&end=2025-12-31&fromMbNo=1&toMbNo=10000&seed=42}
+     */
+    @PostMapping("/simulate/backfill")
+    private BotRunReport simulateBackfill(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+                                          @RequestParam long fromMbNo,
+                                          @RequestParam long toMbNo,
+                                          @RequestParam(defaultValue = "42") long seed) {
+        try {
+            return simulatorBot.backfill(start, end, fromMbNo, toMbNo, seed);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * 서버 로컬 디렉터리의 고용24 PDF 출력물을 병렬로 적재합니다.
+     * 파일명은 회원 번호로 시작해야 합니다 (예: {@code 95_kyeongyeong.pdf}).
+     */
+    @PostMapping("/import/report-directory")
+    private Map<String, AttendanceImportResult> importReportDirectory(@RequestParam String path) throws IOException {
+        return attendanceReportImportService.importDirectory(Path.of(path));
     }
 }
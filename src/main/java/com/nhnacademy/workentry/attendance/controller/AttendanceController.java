@@ -1,7 +1,16 @@
 package com.nhnacademy.workentry.attendance.controller;
 
 import com.nhnacademy.workentry.attendance.dto.AttendanceDto;
+import com.nhnacademy.workentry.attendance.dto.AttendanceImportResult;
 import com.nhnacademy.workentry.attendance.dto.AttendanceSummaryDto;
+import com.nhnacademy.workentry.attendance.dto.CursorSliceResponse;
+import com.nhnacademy.workentry.attendance.dto.DailyAttendanceSummaryDto;
+import com.nhnacademy.workentry.attendance.dto.MonthlyAttendanceSummaryDto;
+import com.nhnacademy.workentry.attendance.export.AttendanceExportFormat;
+import com.nhnacademy.workentry.attendance.service.AttendanceExportService;
+import com.nhnacademy.workentry.attendance.service.AttendanceImportService;
+import com.nhnacademy.workentry.attendance.service.AttendanceReportImportService;
+import com.nhnacademy.workentry.attendance.service.AttendanceRollupService;
 import com.nhnacademy.workentry.attendance.service.AttendanceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,11 +18,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 /**
@@ -28,7 +47,16 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 @RequiredArgsConstructor
 public class AttendanceController {
 
+    /**
+     * 한 번의 요청으로 재계산할 수 있는 최대 개월 수 (운영 테이블 보존 기간과 같음)
+     */
+    private static final int MAX_REBUILD_MONTHS = 13;
+
     private final AttendanceService attendanceService;
+    private final AttendanceExportService attendanceExportService;
+    private final AttendanceImportService attendanceImportService;
+    private final AttendanceReportImportService attendanceReportImportService;
+    private final AttendanceRollupService attendanceRollupService;
 
     /**
      * 특정 회원의 기간별 출결 내역을 페이지네이션 방식으로 조회합니다.
@@ -50,8 +78,137 @@ public class AttendanceController {
         return attendanceService.getAttendanceByNoAndDateRange(mbNo, start, end, pageable);
     }
 
+    /**
+     * 특정 회원의 기간별 출결 내역을 커서 기반으로 조회합니다.
+     * <p>
+     * COUNT 쿼리 없이 {@code (work_date, id)} 키셋으로 조회하므로 페이지 깊이와 관계없이 응답 시간이 일정합니다.
+     * 응답의 {@code nextCursor}를 다음 요청의 {@code cursor}로 전달합니다.
+     * 운영 테이블만 읽으므로 보관 기준일 이전 기간은 400으로 응답하며, 그 기간은 페이지 조회를 사용합니다.
+     * </p>
+     *
+     * @param mbNo 회원 고유 번호
+     * @param start 조회 시작 일자 (ISO-8601 형식)
+     * @param end 조회 종료 일자 (ISO-8601 형식)
+     * @param cursor 다음 페이지 커서 (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 커서 기반 출결 목록
+     */
+    @GetMapping("/{mbNo}/cursor")
+    public CursorSliceResponse<AttendanceDto> getAttendanceSliceByNo(
+            @PathVariable Long mbNo,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+
+        log.info("🔍 회원 {}의 출결 커서 조회 요청: {} ~ {}", mbNo, start, end);
+        return attendanceService.getAttendanceSliceByNoAndDateRange(mbNo, start, end, cursor, size);
+    }
+
+    /**
+     * 지정된 기간의 출결 기록을 CSV 또는 NDJSON으로 스트리밍 내보냅니다.
+     * <p>
+     * DB 커서에서 읽은 행을 응답 스트림에 바로 기록하므로, 기간이 길어도 페이지를 나누어 조회할 필요가 없습니다.
+     * CSV는 {@code cleaned.csv}와 같은 레이아웃을 사용합니다.
+     * 운영 테이블만 읽으므로 보관 기준일 이전 기간을 요청하면 400으로 응답합니다.
+     * </p>
+     *
+     * @param mbNo 회원 고유 번호 (생략 시 전체 회원)
+     * @param start 조회 시작 일자 (ISO-8601 형식)
+     * @param end 조회 종료 일자 (ISO-8601 형식)
+     * @param format 내보내기 형식 (csv, ndjson)
+     * @return 스트리밍 응답 본문
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAttendances(
+            @RequestParam(required = false) Long mbNo,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(defaultValue = "csv") String format) {
+
+        AttendanceExportFormat exportFormat;
+        try {
+            exportFormat = AttendanceExportFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(BAD_REQUEST, e.getMessage());
+        }
+        // 스트리밍이 시작되면 400으로 응답할 수 없으므로 기간을 먼저 확인
+        attendanceExportService.validatePeriod(start);
+
+        String fileName = String.format("attendances_%s_%s.%s", start, end, exportFormat.getExtension());
+        log.info("📤 출결 내보내기 요청: mbNo={}, {} ~ {}, format={}", mbNo, start, end, exportFormat);
+
+        StreamingResponseBody body = outputStream ->
+                attendanceExportService.export(mbNo, start, end, exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
+    /**
+     * {@code cleaned.csv} 형식의 과거 출결 파일을 적재합니다.
+     * <p>
+     * {@code (mb_no, work_date)}가 이미 존재하면 파일의 값으로 갱신하므로 같은 파일을 다시 올려도 안전합니다.
+     * 잘못된 줄은 건너뛰고 응답의 {@code errors}에 줄 번호와 사유를 담습니다.
+     * </p>
+     *
+     * @param file 업로드된 CSV 파일 (UTF-8)
+     * @return 적재 결과
+     * @throws IOException 업로드 파일을 읽지 못한 경우
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public AttendanceImportResult importAttendances(@RequestParam("file") MultipartFile file) throws IOException {
+        log.info("📥 출결 CSV 적재 요청: file={}, size={}", file.getOriginalFilename(), file.getSize());
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return attendanceImportService.importCsv(inputStream);
+        }
+    }
+
+    /**
+     * 고용24 훈련 이력 PDF 출력물을 적재합니다.
+     * <p>
+     * 페이지 단위로 텍스트를 추출하여 출결 행을 읽으며, 헤더와 페이지 꼬리말은 무시합니다.
+     * </p>
+     *
+     * @param mbNo 출력물 대상 회원 번호
+     * @param file 업로드된 PDF 파일
+     * @return 적재 결과
+     * @throws IOException 업로드 파일을 읽지 못한 경우
+     */
+    @PostMapping(value = "/import/report", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public AttendanceImportResult importAttendanceReport(
+            @RequestParam Long mbNo,
+            @RequestParam("file") MultipartFile file) throws IOException {
+        log.info("📥 출결 PDF 적재 요청: mbNo={}, file={}, size={}", mbNo, file.getOriginalFilename(), file.getSize());
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return attendanceReportImportService.importReport(mbNo, inputStream);
+        }
+    }
+
+    /**
+     * 전체 출결 요약 데이터를 커서 기반으로 조회합니다.
+     *
+     * @param cursor 다음 페이지 커서 (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 커서 기반 출결 목록
+     */
+    @GetMapping("/summary/recent/cursor")
+    public CursorSliceResponse<AttendanceDto> getRecentAttendanceSummarySlice(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        log.info("📊 최근 출결 요약 커서 조회 요청");
+        return attendanceService.getRecentAttendanceSummarySlice(cursor, size);
+    }
+
     /**
      * 전체 출결 요약 데이터를 페이지 단위로 조회합니다.
+     * <p>
+     * 출결 기록 단위의 목록이므로 원본 출결에서 읽습니다. 일별 통계는 {@code /summary/daily}를 사용합니다.
+     * </p>
      *
      * @param pageable 페이지 및 사이즈 정보를 담은 Pageable 객체
      * @return 페이지 형태의 출결 DTO 목록
@@ -65,6 +222,9 @@ public class AttendanceController {
     /**
      * 특정 회원의 최근 30일 근무 통계를 조회합니다.
      * 데이터가 존재하지 않을 경우 404 응답을 반환합니다.
+     * <p>
+     * 날짜별 출퇴근 시각을 포함하므로 원본 출결에서 읽습니다. 월별 통계는 {@code /{mbNo}/summary/monthly}를 사용합니다.
+     * </p>
      *
      * @param mbNo 회원 고유 번호
      * @param pageable 페이지 정보
@@ -85,4 +245,73 @@ public class AttendanceController {
 
         return result;
     }
+
+    /**
+     * 특정 회원의 월별 근무 통계를 조회합니다.
+     * <p>
+     * 회원·월·상태별 집계 테이블에서 읽으므로, 조회 기간의 월 수에 비례하는 행만 읽습니다.
+     * 기간을 생략하면 이번 달을 포함한 최근 12개월을 조회합니다.
+     * </p>
+     *
+     * @param mbNo 회원 고유 번호
+     * @param from 시작 월 (yyyy-MM)
+     * @param to 종료 월 (yyyy-MM)
+     * @return 월별 근무 통계 목록
+     */
+    @GetMapping("/{mbNo}/summary/monthly")
+    public List<MonthlyAttendanceSummaryDto> getMonthlySummaryByMember(
+            @PathVariable Long mbNo,
+            @RequestParam(required = false) YearMonth from,
+            @RequestParam(required = false) YearMonth to) {
+
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(11);
+
+        log.info("📊 회원 {} 월별 근무 통계 요청: {} ~ {}", mbNo, start, end);
+        return attendanceRollupService.getMonthlySummary(mbNo, start, end);
+    }
+
+    /**
+     * 전사 일별 출결 통계를 조회합니다.
+     *
+     * @param start 조회 시작 일자 (ISO-8601 형식)
+     * @param end 조회 종료 일자 (ISO-8601 형식)
+     * @return 일별 출결 통계 목록
+     */
+    @GetMapping("/summary/daily")
+    public List<DailyAttendanceSummaryDto> getDailySummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+
+        log.info("📊 전사 일별 출결 통계 요청: {} ~ {}", start, end);
+        return attendanceRollupService.getDailySummary(start, end);
+    }
+
+    /**
+     * 지정된 기간의 출결 집계를 원본 출결 기록에서 다시 계산합니다.
+     * <p>
+     * 기간은 최대 {@value #MAX_REBUILD_MONTHS}개월까지 허용하며, 보관 파일로 옮겨진 달은 재계산하지 않습니다.
+     * </p>
+     *
+     * @param start 재계산 시작 일자 (ISO-8601 형식)
+     * @param end 재계산 종료 일자 (ISO-8601 형식)
+     * @return 처리 결과
+     * @throws ResponseStatusException 시작 일자가 종료 일자보다 늦거나 기간이 너무 길면 400 응답 예외 발생
+     */
+    @PostMapping("/summary/rebuild")
+    public ResponseEntity<Void> rebuildSummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+
+        if (start.isAfter(end)) {
+            throw new ResponseStatusException(BAD_REQUEST, "시작 일자가 종료 일자보다 늦습니다.");
+        }
+        if (YearMonth.from(start).plusMonths(MAX_REBUILD_MONTHS).isBefore(YearMonth.from(end).plusMonths(1))) {
+            throw new ResponseStatusException(BAD_REQUEST, "집계 재계산 기간은 최대 " + MAX_REBUILD_MONTHS + "개월입니다.");
+        }
+
+        log.info("🔁 출결 집계 재계산 요청: {} ~ {}", start, end);
+        attendanceRollupService.rebuild(start, end);
+        return ResponseEntity.noContent().build();
+    }
 }
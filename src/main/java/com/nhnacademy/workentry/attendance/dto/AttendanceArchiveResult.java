@@ -0,0 +1,40 @@
+package com.nhnacademy.workentry.attendance.dto;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 출결 기록 보관(콜드 스토리지 이동) 결과를 담는 DTO입니다.
+ * <p>
+ * 월별로 보관 파일에 옮긴 행 수와, 실패한 월별 사유를 제공합니다.
+ * </p>
+ */
+@Value
+public class AttendanceArchiveResult {
+
+    List<Archived> archived;
+
+    List<Failure> failures;
+
+    /**
+     * 보관된 월 정보입니다.
+     */
+    @Value
+    public static class Archived {
+        String month;
+        // 보관 테이블 또는 운영 테이블에서 옮긴 행 수
+        int movedCount;
+        // 합친 뒤 보관 파일에 저장된 전체 행 수
+        int storedCount;
+    }
+
+    /**
+     * 월 단위 실패 정보입니다.
+     */
+    @Value
+    public static class Failure {
+        String month;
+        String reason;
+    }
+}
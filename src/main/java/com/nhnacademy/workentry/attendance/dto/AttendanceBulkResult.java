@@ -0,0 +1,40 @@
+package com.nhnacademy.workentry.attendance.dto;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 출결 일괄 생성 결과를 담는 DTO입니다.
+ * <p>
+ * 청크 단위로 저장된 건수와 함께, 저장에 실패한 회원별 사유를 제공합니다.
+ * </p>
+ */
+@Value
+public class AttendanceBulkResult {
+
+    int requestedCount;
+
+    // 저장된 출결 기록 수 (이미 있는 기록을 건너뛰는 저장에서는 건너뛴 기록도 포함하므로 새로 만든 수가 아님)
+    int storedCount;
+
+    List<Failure> failures;
+
+    /**
+     * 처리 대상이 없는 빈 결과를 반환합니다.
+     *
+     * @return 요청·저장 건수가 0인 결과
+     */
+    public static AttendanceBulkResult empty() {
+        return new AttendanceBulkResult(0, 0, List.of());
+    }
+
+    /**
+     * 회원 단위 실패 정보입니다.
+     */
+    @Value
+    public static class Failure {
+        Long mbNo;
+        String reason;
+    }
+}
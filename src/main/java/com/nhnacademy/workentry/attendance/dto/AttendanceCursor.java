@@ -0,0 +1,70 @@
+package com.nhnacademy.workentry.attendance.dto;
+
+import com.nhnacademy.workentry.common.exception.InvalidCursorException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 출결 목록의 키셋(seek) 페이지네이션 커서입니다.
+ * <p>
+ * 정렬 키인 {@code (work_date, id)}를 담으며, 클라이언트에는 Base64URL로 인코딩된
+ * 불투명 문자열로만 노출됩니다. 다음 페이지는 이 위치 "이후"의 행부터 조회되므로,
+ * OFFSET 없이 페이지 깊이와 무관하게 일정한 비용으로 조회됩니다.
+ * </p>
+ */
+@Value
+public class AttendanceCursor {
+
+    private static final String SEPARATOR = "|";
+
+    LocalDate workDate;
+
+    Long id;
+
+    /**
+     * 출결 DTO의 정렬 키로 커서를 생성합니다.
+     *
+     * @param attendance 페이지의 마지막 출결 정보
+     * @return 다음 페이지 조회용 커서
+     */
+    public static AttendanceCursor from(AttendanceDto attendance) {
+        return new AttendanceCursor(attendance.getWorkDate(), attendance.getId());
+    }
+
+    /**
+     * 커서를 불투명 문자열로 인코딩합니다.
+     *
+     * @return Base64URL 인코딩된 커서 문자열
+     */
+    public String encode() {
+        String raw = workDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 인코딩된 커서 문자열을 해석합니다.
+     *
+     * @param cursor 커서 문자열 (null 또는 빈 문자열이면 첫 페이지)
+     * @return 해석된 커서, 첫 페이지인 경우 null
+     * @throws InvalidCursorException 커서 형식이 올바르지 않은 경우
+     */
+    public static AttendanceCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            return new AttendanceCursor(
+                    LocalDate.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(cursor, e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.nhnacademy.workentry.attendance.dto;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 출결 기록 내보내기(export)용 행 DTO입니다.
+ * <p>
+ * JDBC 커서에서 읽은 한 행을 그대로 담으며, 엔티티나 상태 설명을 로딩하지 않고
+ * 상태 코드만 포함합니다.
+ * </p>
+ */
+@Value
+public class AttendanceExportRow {
+
+    Long mbNo;
+
+    LocalDate workDate;
+
+    LocalDateTime inTime;
+
+    LocalDateTime outTime;
+
+    Integer workMinutes;
+
+    Long statusCode;
+}
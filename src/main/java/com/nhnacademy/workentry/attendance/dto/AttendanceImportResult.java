@@ -0,0 +1,35 @@
+package com.nhnacademy.workentry.attendance.dto;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 출결 CSV 적재 결과를 담는 DTO입니다.
+ * <p>
+ * 실패한 줄이 있어도 적재는 끝까지 진행되며, 실패 사유는 줄 번호와 함께 최대 일정 건수까지만 보관합니다.
+ * 전체 실패 건수는 {@code failedCount}로 확인합니다.
+ * </p>
+ */
+@Value
+public class AttendanceImportResult {
+
+    long totalLines;
+
+    long importedCount;
+
+    long failedCount;
+
+    long elapsedMillis;
+
+    List<LineError> errors;
+
+    /**
+     * 줄 단위 실패 정보입니다.
+     */
+    @Value
+    public static class LineError {
+        long lineNumber;
+        String reason;
+    }
+}
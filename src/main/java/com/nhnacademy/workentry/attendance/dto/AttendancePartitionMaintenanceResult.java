@@ -0,0 +1,49 @@
+package com.nhnacademy.workentry.attendance.dto;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 출결 월 파티션 정리 결과를 담는 DTO입니다.
+ * <p>
+ * 새로 만든 파티션과 보관 테이블로 옮긴 파티션, 실패한 파티션별 사유를 제공합니다.
+ * </p>
+ */
+@Value
+public class AttendancePartitionMaintenanceResult {
+
+    boolean partitioned;
+
+    List<String> createdPartitions;
+
+    List<Archived> archivedPartitions;
+
+    List<Failure> failures;
+
+    /**
+     * {@code attendances} 테이블이 파티션되지 않아 아무 작업도 하지 않은 결과를 반환합니다.
+     */
+    public static AttendancePartitionMaintenanceResult notPartitioned() {
+        return new AttendancePartitionMaintenanceResult(false, List.of(), List.of(), List.of());
+    }
+
+    /**
+     * 보관된 파티션 정보입니다.
+     */
+    @Value
+    public static class Archived {
+        String partition;
+        String archiveTable;
+        long rowCount;
+    }
+
+    /**
+     * 파티션 단위 실패 정보입니다.
+     */
+    @Value
+    public static class Failure {
+        String partition;
+        String reason;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
@@ -35,5 +36,20 @@ public class AttendanceSummaryDto {
 
      @JsonProperty("code")
      Long code;
+
+     /**
+      * 출결 한 건의 컬럼 값으로 근무 요약을 만듭니다. 근무 시간은 분 단위를 시간 단위로 내림합니다.
+      */
+     public static AttendanceSummaryDto of(LocalDate workDate, Integer workMinutes, LocalDateTime inTime, LocalDateTime outTime, Long statusCode) {
+          return new AttendanceSummaryDto(
+                  workDate.getYear(),
+                  workDate.getMonthValue(),
+                  workDate.getDayOfMonth(),
+                  workMinutes != null ? workMinutes / 60 : 0,
+                  inTime,
+                  outTime,
+                  statusCode != null ? statusCode : 0L
+          );
+     }
 }
 
@@ -0,0 +1,42 @@
+package com.nhnacademy.workentry.attendance.dto;
+
+import com.nhnacademy.workentry.attendance.bot.BotExecutionMode;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 출결 시뮬레이터 봇 한 번 실행의 결과 보고서입니다.
+ * <p>
+ * 회원 단위 실패는 건수를 모두 집계하고, 사유는 앞에서부터 일부만 담습니다.
+ * </p>
+ */
+@Value
+public class BotRunReport {
+
+    // 실행한 작업 (check-in, check-out)
+    String job;
+
+    BotExecutionMode mode;
+
+    // 동시에 처리한 최대 조각 수
+    int concurrency;
+
+    // 처리 대상 회원 수
+    int targetCount;
+
+    // 저장·갱신된 출결 기록 수 (출근·백필은 이미 있던 기록도 포함)
+    int processedCount;
+
+    // 주말 비출근 등으로 기록을 만들지 않은 회원 수
+    int skippedCount;
+
+    // 같은 날 이전 실행에서 이미 처리되어 건너뛴 회원 수
+    int resumedCount;
+
+    int failedCount;
+
+    List<AttendanceBulkResult.Failure> failures;
+
+    long elapsedMillis;
+}
@@ -0,0 +1,47 @@
+package com.nhnacademy.workentry.attendance.dto;
+
+import lombok.Value;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 조회 응답 DTO입니다.
+ * <p>
+ * 전체 건수(COUNT)를 계산하지 않으며, 다음 페이지 존재 여부와
+ * 다음 페이지를 조회할 때 전달할 불투명 커서만 제공합니다.
+ * </p>
+ *
+ * @param <T> 목록 요소 타입
+ */
+@Value
+public class CursorSliceResponse<T> {
+
+    List<T> content;
+
+    int size;
+
+    boolean hasNext;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지이면 null)
+     */
+    String nextCursor;
+
+    /**
+     * {@link Slice}와 마지막 요소로부터 커서를 만드는 함수로 응답을 생성합니다.
+     *
+     * @param slice 조회된 슬라이스
+     * @param cursorOf 요소를 커서 문자열로 변환하는 함수
+     * @return 커서 기반 응답
+     */
+    public static <T> CursorSliceResponse<T> of(Slice<T> slice, Function<T, String> cursorOf) {
+        List<T> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? cursorOf.apply(content.getLast())
+                : null;
+
+        return new CursorSliceResponse<>(content, content.size(), slice.hasNext(), nextCursor);
+    }
+}
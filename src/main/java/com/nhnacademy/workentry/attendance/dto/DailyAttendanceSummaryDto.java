@@ -0,0 +1,26 @@
+package com.nhnacademy.workentry.attendance.dto;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 전사 일별 출결 통계 DTO입니다.
+ * <p>
+ * 일별 집계 테이블의 상태별 행을 일자 단위로 합쳐 만듭니다.
+ * </p>
+ */
+@Value
+public class DailyAttendanceSummaryDto {
+
+    LocalDate workDate;
+
+    // 출결 기록이 있는 인원 (상태 무관)
+    int memberCount;
+
+    long workMinutes;
+
+    // 상태 설명별 인원
+    Map<String, Integer> statusCounts;
+}
@@ -0,0 +1,37 @@
+package com.nhnacademy.workentry.attendance.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * 회원의 월간 근무 통계 DTO입니다.
+ * <p>
+ * 월간 집계 테이블의 상태별 행을 월 단위로 합쳐 만듭니다.
+ * </p>
+ */
+@Value
+public class MonthlyAttendanceSummaryDto {
+
+    @JsonProperty("year")
+    int year;
+
+    @JsonProperty("monthValue")
+    int monthValue;
+
+    // 출결 기록이 있는 일수 (상태 무관)
+    int recordedDays;
+
+    long workMinutes;
+
+    @JsonProperty("hoursWorked")
+    long hoursWorked;
+
+    int lateCount;
+
+    int absentCount;
+
+    // 상태 설명별 일수
+    Map<String, Integer> statusCounts;
+}
@@ -11,10 +11,33 @@ import java.time.LocalDateTime;
 
 /**
  * 출결 기록 정보를 담는 엔티티입니다.
+ * <p>
+ * 인덱스는 저장소의 조회 형태마다 하나씩 대응합니다.
+ * <ul>
+ *     <li>{@code (mb_no, work_date)} 유니크 키: 회원별 조회, 회원·일자 단건 조회, 회원별 기간 조회</li>
+ *     <li>{@code (work_date)}: 전체 회원 기간 조회와 {@code (work_date, id)} 순서의 키셋 페이지네이션 (InnoDB 보조 인덱스는 PK를 포함)</li>
+ *     <li>{@code (work_date, in_time, mb_no)}: 일자별 출근 회원 조회와 일괄 퇴근 처리 (커버링)</li>
+ *     <li>{@code (work_date, status, mb_no, work_minutes)}: 일별·월별 집계 재계산 (커버링)</li>
+ * </ul>
+ * 인덱스를 바꾸면 {@code AttendanceQueryPlanTest}로 실행 계획을 확인합니다.
+ * </p>
+ * <p>
+ * 운영 DB의 테이블은 {@code work_date} 기준 월 단위 RANGE 파티션으로 나뉩니다({@code db/attendances-partitioning.sql}).
+ * 파티션 테이블의 유니크 키는 파티션 키를 포함해야 하므로 DB의 기본 키는 {@code (id, work_date)}이고,
+ * 외래 키를 둘 수 없으므로 출결 상태 연관관계는 제약 조건 없이 매핑합니다.
+ * </p>
  */
 @Getter
 @Entity
-@Table(name = "attendances")
+@Table(
+        name = "attendances",
+        uniqueConstraints = @UniqueConstraint(name = "uk_attendances_mb_no_work_date", columnNames = {"mb_no", "work_date"}),
+        indexes = {
+                @Index(name = "idx_attendances_work_date", columnList = "work_date"),
+                @Index(name = "idx_attendances_work_date_in_time", columnList = "work_date, in_time, mb_no"),
+                @Index(name = "idx_attendances_work_date_status", columnList = "work_date, status, mb_no, work_minutes")
+        }
+)
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -28,7 +51,7 @@ public class Attendance {
     @Column(name = "mb_no", nullable = false)
     private Long mbNo;
 
-    @Column(name = "work_date")
+    @Column(name = "work_date", nullable = false)
     private LocalDate workDate;
 
     @Column(name = "in_time")
@@ -41,9 +64,18 @@ public class Attendance {
     private Integer workMinutes;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "status", nullable = false)
+    @JoinColumn(name = "status", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private AttendanceStatus status;
 
+    /**
+     * 출결 상태 코드 (status 컬럼의 읽기 전용 매핑)
+     * <p>
+     * 지연 로딩되는 {@link #status} 연관관계를 초기화하지 않고 상태 코드를 읽기 위해 사용합니다.
+     * </p>
+     */
+    @Column(name = "status", insertable = false, updatable = false)
+    private Long statusCode;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -63,6 +95,7 @@ public class Attendance {
         this.outTime = outTime;
         this.workMinutes = workMinutes;
         this.status = status;
+        this.statusCode = status.getCode();
     }
 
     public static Attendance newAttendance(Long mbNo, LocalDate workDate, LocalDateTime inTime, LocalDateTime outTime, Integer workMinutes, AttendanceStatus status) {
@@ -83,6 +116,7 @@ public class Attendance {
         this.outTime = outTime;
         this.workMinutes = workMinutes;
         this.status = status;
+        this.statusCode = status.getCode();
         this.updatedAt = LocalDateTime.now();
     }
 }
@@ -0,0 +1,60 @@
+package com.nhnacademy.workentry.attendance.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 출결 시뮬레이터 봇 실행 원장(ledger)의 완료된 회원 조각 엔티티입니다.
+ * <p>
+ * 작업({@code check-in} 등)과 근무 일자별로, 저장을 마친 회원 번호 구간 {@code [first_mb_no, last_mb_no]}와
+ * 그 구간에 있던 회원 수·회원 번호 체크섬을 기록합니다.
+ * 같은 날 봇을 다시 실행하면 지금 회원 목록의 같은 구간이 기록과 일치하는 조각만 건너뛰므로,
+ * 그 사이 구간 안에 새로 들어온 회원은 다시 처리됩니다.
+ * </p>
+ */
+@Getter
+@Entity
+@Table(name = "attendance_bot_run_chunks")
+@IdClass(AttendanceBotRunChunkId.class)
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceBotRunChunk {
+
+    @Id
+    @Column(name = "job", length = 20)
+    private String job;
+
+    @Id
+    @Column(name = "work_date")
+    private LocalDate workDate;
+
+    @Id
+    @Column(name = "first_mb_no")
+    private Long firstMbNo;
+
+    @Column(name = "last_mb_no", nullable = false)
+    private Long lastMbNo;
+
+    @Column(name = "member_count", nullable = false)
+    private Integer memberCount;
+
+    // 조각 회원 번호의 체크섬 (BotRunLedger#checksum), 없으면 일치하지 않는 것으로 봄
+    @Column(name = "member_checksum")
+    private Long memberChecksum;
+
+    // 저장된 출결 기록 수 (이미 있던 기록도 포함하므로 새로 만든 수가 아님)
+    @Column(name = "saved_count", nullable = false)
+    private Integer savedCount;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
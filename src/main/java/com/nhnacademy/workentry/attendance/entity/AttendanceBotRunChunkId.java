@@ -0,0 +1,23 @@
+package com.nhnacademy.workentry.attendance.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * {@link AttendanceBotRunChunk}의 복합 키입니다.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AttendanceBotRunChunkId implements Serializable {
+
+    private String job;
+
+    private LocalDate workDate;
+
+    private Long firstMbNo;
+}
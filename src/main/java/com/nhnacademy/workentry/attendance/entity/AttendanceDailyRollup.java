@@ -0,0 +1,42 @@
+package com.nhnacademy.workentry.attendance.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 전사 일자·출결 상태별 출결 집계 엔티티입니다.
+ * <p>
+ * {@code attendances}를 {@code (work_date, status)}로 묶어 인원수와 근무 시간(분)을 미리 합산해 둔 테이블입니다.
+ * 행은 JDBC로 재계산되며 애플리케이션에서 직접 수정하지 않습니다.
+ * </p>
+ */
+@Getter
+@Entity
+@Table(name = "attendance_daily_rollups")
+@IdClass(AttendanceDailyRollupId.class)
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceDailyRollup {
+
+    @Id
+    @Column(name = "work_date")
+    private LocalDate workDate;
+
+    @Id
+    @Column(name = "status")
+    private Long status;
+
+    @Column(name = "member_count", nullable = false)
+    private Integer memberCount;
+
+    @Column(name = "work_minutes", nullable = false)
+    private Long workMinutes;
+}
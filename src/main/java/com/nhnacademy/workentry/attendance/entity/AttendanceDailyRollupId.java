@@ -0,0 +1,21 @@
+package com.nhnacademy.workentry.attendance.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * {@link AttendanceDailyRollup}의 복합 키입니다.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AttendanceDailyRollupId implements Serializable {
+
+    private LocalDate workDate;
+
+    private Long status;
+}
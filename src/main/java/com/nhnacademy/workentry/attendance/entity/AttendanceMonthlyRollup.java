@@ -0,0 +1,50 @@
+package com.nhnacademy.workentry.attendance.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 회원·월·출결 상태별 출결 집계 엔티티입니다.
+ * <p>
+ * {@code attendances}를 {@code (mb_no, 월, status)}로 묶어 일수와 근무 시간(분)을 미리 합산해 둔 테이블로,
+ * 월별 근무 통계 조회 시 원본 출결 행 대신 월 수만큼의 행만 읽습니다.
+ * 행은 JDBC로 재계산되며 애플리케이션에서 직접 수정하지 않습니다.
+ * </p>
+ */
+@Getter
+@Entity
+@Table(name = "attendance_monthly_rollups")
+@IdClass(AttendanceMonthlyRollupId.class)
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceMonthlyRollup {
+
+    @Id
+    @Column(name = "mb_no")
+    private Long mbNo;
+
+    /**
+     * 집계 월 (해당 월의 1일)
+     */
+    @Id
+    @Column(name = "month_start")
+    private LocalDate month;
+
+    @Id
+    @Column(name = "status")
+    private Long status;
+
+    @Column(name = "day_count", nullable = false)
+    private Integer dayCount;
+
+    @Column(name = "work_minutes", nullable = false)
+    private Long workMinutes;
+}
@@ -0,0 +1,23 @@
+package com.nhnacademy.workentry.attendance.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * {@link AttendanceMonthlyRollup}의 복합 키입니다.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AttendanceMonthlyRollupId implements Serializable {
+
+    private Long mbNo;
+
+    private LocalDate month;
+
+    private Long status;
+}
@@ -0,0 +1,124 @@
+package com.nhnacademy.workentry.attendance.export;
+
+import com.nhnacademy.workentry.attendance.dto.AttendanceExportRow;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 출결 기록 내보내기 형식입니다.
+ * <p>
+ * CSV는 {@code cleaned.csv}와 동일한 레이아웃
+ * ({@code 사원번호,근무일자,입실시간,퇴실시간,근무시간,출결상태})을 사용하며,
+ * 값이 없는 시간은 {@code NULL}, 근무시간이 없으면 {@code 0}으로 기록합니다.
+ * NDJSON은 같은 컬럼을 한 줄에 하나의 JSON 객체로 기록합니다.
+ * </p>
+ */
+public enum AttendanceExportFormat {
+
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)) {
+        @Override
+        public void writeHeader(Writer writer) throws IOException {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        public void writeRow(Writer writer, AttendanceExportRow row) throws IOException {
+            writer.write(String.valueOf(row.getMbNo()));
+            writer.write(',');
+            writer.write(row.getWorkDate().toString());
+            writer.write(',');
+            writer.write(formatTime(row.getInTime()));
+            writer.write(',');
+            writer.write(formatTime(row.getOutTime()));
+            writer.write(',');
+            writer.write(String.valueOf(row.getWorkMinutes() != null ? row.getWorkMinutes() : 0));
+            writer.write(',');
+            writer.write(String.valueOf(row.getStatusCode()));
+            writer.write('\n');
+        }
+    },
+
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON) {
+        @Override
+        public void writeHeader(Writer writer) {
+            // NDJSON은 헤더 없이 행만 기록
+        }
+
+        @Override
+        public void writeRow(Writer writer, AttendanceExportRow row) throws IOException {
+            writer.write("{\"mbNo\":");
+            writer.write(String.valueOf(row.getMbNo()));
+            writer.write(",\"workDate\":\"");
+            writer.write(row.getWorkDate().toString());
+            writer.write("\",\"inTime\":");
+            writer.write(quoteTime(row.getInTime()));
+            writer.write(",\"outTime\":");
+            writer.write(quoteTime(row.getOutTime()));
+            writer.write(",\"workMinutes\":");
+            writer.write(String.valueOf(row.getWorkMinutes() != null ? row.getWorkMinutes() : 0));
+            writer.write(",\"status\":");
+            writer.write(String.valueOf(row.getStatusCode()));
+            writer.write("}\n");
+        }
+    };
+
+    public static final String CSV_HEADER = "사원번호,근무일자,입실시간,퇴실시간,근무시간,출결상태";
+    public static final String NULL_VALUE = "NULL";
+    public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    AttendanceExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * 형식에 맞는 머리글을 기록합니다.
+     */
+    public abstract void writeHeader(Writer writer) throws IOException;
+
+    /**
+     * 한 행을 기록합니다.
+     */
+    public abstract void writeRow(Writer writer, AttendanceExportRow row) throws IOException;
+
+    /**
+     * 요청 파라미터 값(대소문자 무시)으로 형식을 찾습니다.
+     *
+     * @param value csv 또는 ndjson
+     * @return 내보내기 형식
+     * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+     */
+    public static AttendanceExportFormat from(String value) {
+        for (AttendanceExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+    }
+
+    private static String formatTime(LocalDateTime time) {
+        return time != null ? TIME_FORMATTER.format(time) : NULL_VALUE;
+    }
+
+    private static String quoteTime(LocalDateTime time) {
+        return time != null ? "\"" + TIME_FORMATTER.format(time) + "\"" : "null";
+    }
+}
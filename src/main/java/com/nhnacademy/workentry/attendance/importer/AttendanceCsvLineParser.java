@@ -0,0 +1,100 @@
+package com.nhnacademy.workentry.attendance.importer;
+
+import com.nhnacademy.workentry.attendance.entity.Attendance;
+import com.nhnacademy.workentry.attendance.entity.AttendanceStatus;
+import com.nhnacademy.workentry.attendance.export.AttendanceExportFormat;
+import com.nhnacademy.workentry.attendance.registry.AttendanceStatusRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * {@code cleaned.csv} 형식의 출결 CSV 한 줄을 {@link Attendance}로 변환하는 파서입니다.
+ * <p>
+ * 컬럼 순서는 {@code 사원번호,근무일자,입실시간,퇴실시간,근무시간,출결상태}이며,
+ * 시각이 없으면 {@code NULL}, 출결상태는 상태 코드로 기록되어 있어야 합니다.
+ * 상태 코드는 {@link AttendanceStatusRegistry}에서 I/O 없이 조회하므로 여러 스레드에서 동시에 호출해도 안전합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceCsvLineParser {
+
+    private static final int COLUMN_COUNT = 6;
+    private static final char DELIMITER = ',';
+    private static final char BOM = '\uFEFF';
+
+    private final AttendanceStatusRegistry attendanceStatusRegistry;
+
+    /**
+     * 헤더 줄이 예상한 CSV 레이아웃인지 확인합니다.
+     *
+     * @param header 첫 줄 (BOM 포함 가능)
+     * @return 헤더가 일치하면 true
+     */
+    public boolean isHeader(String header) {
+        if (header == null) {
+            return false;
+        }
+        String trimmed = !header.isEmpty() && header.charAt(0) == BOM ? header.substring(1) : header;
+        return AttendanceExportFormat.CSV_HEADER.equals(trimmed.strip());
+    }
+
+    /**
+     * CSV 한 줄을 출결 엔티티로 변환합니다.
+     *
+     * @param line CSV 데이터 줄
+     * @return 저장 전 출결 엔티티
+     * @throws IllegalArgumentException 컬럼 수, 숫자·날짜 형식, 상태 코드가 올바르지 않은 경우
+     */
+    public Attendance parse(String line) {
+        String[] columns = split(line);
+
+        try {
+            long mbNo = Long.parseLong(columns[0]);
+            LocalDate workDate = LocalDate.parse(columns[1]);
+            LocalDateTime inTime = parseTime(columns[2]);
+            LocalDateTime outTime = parseTime(columns[3]);
+            int workMinutes = Integer.parseInt(columns[4]);
+            long statusCode = Long.parseLong(columns[5]);
+
+            AttendanceStatus status = attendanceStatusRegistry.findByCode(statusCode)
+                    .orElseThrow(() -> new IllegalArgumentException("알 수 없는 출결 상태 코드: " + statusCode));
+
+            return Attendance.newAttendance(mbNo, workDate, inTime, outTime, workMinutes, status);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("형식 오류: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 구분자 위치를 직접 찾아 정확히 6개 컬럼으로 나눕니다. 정규식 분할보다 할당이 적습니다.
+     */
+    private static String[] split(String line) {
+        String[] columns = new String[COLUMN_COUNT];
+        int from = 0;
+        for (int i = 0; i < COLUMN_COUNT - 1; i++) {
+            int to = line.indexOf(DELIMITER, from);
+            if (to < 0) {
+                throw new IllegalArgumentException("컬럼 수 부족: " + (i + 1) + "개");
+            }
+            columns[i] = line.substring(from, to).strip();
+            from = to + 1;
+        }
+        if (line.indexOf(DELIMITER, from) >= 0) {
+            throw new IllegalArgumentException("컬럼 수 초과");
+        }
+        columns[COLUMN_COUNT - 1] = line.substring(from).strip();
+        return columns;
+    }
+
+    private static LocalDateTime parseTime(String value) {
+        if (value.isEmpty() || AttendanceExportFormat.NULL_VALUE.equals(value)) {
+            return null;
+        }
+        return LocalDateTime.parse(value, AttendanceExportFormat.TIME_FORMATTER);
+    }
+}
@@ -0,0 +1,51 @@
+package com.nhnacademy.workentry.attendance.importer;
+
+import com.nhnacademy.workentry.attendance.dto.AttendanceImportResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 출결 적재 중 발생한 줄 단위 실패를 모으는 수집기입니다.
+ * <p>
+ * 여러 파싱 스레드와 쓰기 스레드가 동시에 기록할 수 있습니다.
+ * 전체 실패 건수는 모두 세되, 응답 크기를 제한하기 위해 사유는 지정한 건수까지만 보관합니다.
+ * </p>
+ */
+public final class ImportErrorCollector {
+
+    private final int maxReported;
+    private final AtomicLong count = new AtomicLong();
+    private final List<AttendanceImportResult.LineError> reported = new ArrayList<>();
+
+    public ImportErrorCollector(int maxReported) {
+        this.maxReported = maxReported;
+    }
+
+    public void add(long lineNumber, String reason) {
+        if (count.incrementAndGet() <= maxReported) {
+            synchronized (reported) {
+                reported.add(new AttendanceImportResult.LineError(lineNumber, reason));
+            }
+        }
+    }
+
+    public long count() {
+        return count.get();
+    }
+
+    /**
+     * 보관된 실패 사유를 줄 번호 순으로 반환합니다.
+     *
+     * @return 변경 불가능한 실패 목록
+     */
+    public List<AttendanceImportResult.LineError> snapshot() {
+        synchronized (reported) {
+            return reported.stream()
+                    .sorted(Comparator.comparingLong(AttendanceImportResult.LineError::getLineNumber))
+                    .toList();
+        }
+    }
+}
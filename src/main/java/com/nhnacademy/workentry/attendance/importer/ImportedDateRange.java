@@ -0,0 +1,37 @@
+package com.nhnacademy.workentry.attendance.importer;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 적재 중 저장한 출결 기록의 근무 일자 범위를 추적합니다.
+ * <p>
+ * 적재가 끝난 뒤 이 범위만큼 출결 집계를 다시 계산하는 데 사용합니다. 여러 스레드에서 동시에 갱신할 수 있습니다.
+ * </p>
+ */
+public final class ImportedDateRange {
+
+    private LocalDate start;
+    private LocalDate end;
+
+    public synchronized void include(LocalDate workDate) {
+        if (start == null || workDate.isBefore(start)) {
+            start = workDate;
+        }
+        if (end == null || workDate.isAfter(end)) {
+            end = workDate;
+        }
+    }
+
+    public synchronized Optional<LocalDate> start() {
+        return Optional.ofNullable(start);
+    }
+
+    public synchronized Optional<LocalDate> end() {
+        return Optional.ofNullable(end);
+    }
+
+    public synchronized boolean isEmpty() {
+        return start == null;
+    }
+}
@@ -0,0 +1,99 @@
+package com.nhnacademy.workentry.attendance.importer;
+
+import com.nhnacademy.workentry.attendance.constant.AttendanceStatusConstants;
+import com.nhnacademy.workentry.attendance.entity.Attendance;
+import com.nhnacademy.workentry.attendance.entity.AttendanceStatus;
+import com.nhnacademy.workentry.attendance.registry.AttendanceStatusRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 고용24(work24) 훈련 이력 출력물에서 추출한 텍스트 한 줄을 {@link Attendance}로 변환하는 파서입니다.
+ * <p>
+ * 데이터 줄은 {@code 일자 입실시간 퇴실시간 수업시간 실수업시간 출결상태} 순서이며
+ * (예: {@code 2024-09-02 09:05 17:51 08:00 480 분 출석}), 출력물의 글꼴에 따라 날짜·시각 구분자가
+ * 다른 문자로 추출될 수 있으므로 숫자가 아닌 임의의 한 글자를 구분자로 허용합니다.
+ * 입실·퇴실 기록이 없으면 시각 자리에 {@code :}만 남고, 퇴실하지 않은 날은 퇴실시간이 {@code 00:00}으로 표시됩니다.
+ * </p>
+ * <p>
+ * 헤더, 페이지 머리말·꼬리말처럼 데이터 형식이 아닌 줄은 무시합니다.
+ * 근무 시간은 출력물의 실수업시간이 아니라 {@code cleaned.csv}와 같이 입실~퇴실 사이의 분으로 계산합니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class Work24ReportLineParser {
+
+    private static final Pattern ROW_PATTERN = Pattern.compile(
+            "^(\\d{4})\\D(\\d{2})\\D(\\d{2})" +
+            "\\s+(?:(\\d{2})\\D(\\d{2})|[^\\d\\s]+)" +
+            "\\s+(?:(\\d{2})\\D(\\d{2})|[^\\d\\s]+)" +
+            "\\s+\\d{2}\\D\\d{2}\\s+\\d+\\s*분\\s+(\\S+)$");
+
+    // 출력물의 상태 표기가 출결 상태 테이블에 없을 때 대신 조회할 사내 표기
+    private static final Map<String, String> STATUS_ALIASES = Map.of(
+            "출석", AttendanceStatusConstants.STATUS_PRESENT,
+            "결석", AttendanceStatusConstants.STATUS_ABSENT,
+            "휴가", AttendanceStatusConstants.STATUS_VACATION
+    );
+
+    private final AttendanceStatusRegistry attendanceStatusRegistry;
+
+    /**
+     * 텍스트 한 줄을 출결 엔티티로 변환합니다.
+     *
+     * @param mbNo 출력물 대상 회원 번호
+     * @param line 추출된 텍스트 한 줄
+     * @return 데이터 줄이면 저장 전 출결 엔티티, 헤더·꼬리말 등이면 빈 값
+     * @throws IllegalArgumentException 데이터 줄이지만 날짜·시각이나 출결 상태를 해석할 수 없는 경우
+     */
+    public Optional<Attendance> parse(long mbNo, String line) {
+        Matcher matcher = ROW_PATTERN.matcher(line.strip());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+
+        try {
+            LocalDate workDate = LocalDate.of(
+                    Integer.parseInt(matcher.group(1)),
+                    Integer.parseInt(matcher.group(2)),
+                    Integer.parseInt(matcher.group(3)));
+            LocalDateTime inTime = toTime(workDate, matcher.group(4), matcher.group(5));
+            LocalDateTime outTime = toTime(workDate, matcher.group(6), matcher.group(7));
+            if (outTime != null && outTime.toLocalTime().equals(LocalTime.MIDNIGHT)) {
+                outTime = null;
+            }
+            int workMinutes = inTime != null && outTime != null
+                    ? (int) Duration.between(inTime, outTime).toMinutes()
+                    : 0;
+
+            return Optional.of(Attendance.newAttendance(mbNo, workDate, inTime, outTime, workMinutes, resolveStatus(matcher.group(8))));
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("날짜·시각 형식 오류: " + e.getMessage(), e);
+        }
+    }
+
+    private AttendanceStatus resolveStatus(String description) {
+        return attendanceStatusRegistry.findByDescription(description)
+                .or(() -> Optional.ofNullable(STATUS_ALIASES.get(description))
+                        .flatMap(attendanceStatusRegistry::findByDescription))
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 출결 상태: " + description));
+    }
+
+    private static LocalDateTime toTime(LocalDate workDate, String hour, String minute) {
+        if (hour == null) {
+            return null;
+        }
+        return workDate.atTime(Integer.parseInt(hour), Integer.parseInt(minute));
+    }
+}
@@ -0,0 +1,109 @@
+package com.nhnacademy.workentry.attendance.partition;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * {@code attendances} 테이블의 월 단위 파티션 보존 정책입니다.
+ * <p>
+ * 이번 달을 포함해 최근 {@code attendance.partition.retention-months}(기본 24)개월을 운영 테이블에 두고,
+ * 앞으로 {@code attendance.partition.months-ahead}(기본 3)개월의 파티션을 미리 만들어 둡니다.
+ * 월 파티션 이름은 {@code pyyyyMM}, 보관된 파티션을 옮겨 담는 테이블 이름은 {@code attendances_archive_yyyyMM}입니다.
+ * </p>
+ */
+@Component
+public class AttendancePartitionPolicy {
+
+    // 아직 월 파티션이 없는 미래 일자의 기록을 받는 마지막 파티션 (VALUES LESS THAN MAXVALUE)
+    public static final String FUTURE_PARTITION = "p_future";
+
+    private static final String MONTH_PARTITION_PREFIX = "p";
+    private static final String ARCHIVE_TABLE_PREFIX = "attendances_archive_";
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final int retentionMonths;
+    private final int monthsAhead;
+
+    public AttendancePartitionPolicy(@Value("${attendance.partition.retention-months:24}") int retentionMonths,
+                                     @Value("${attendance.partition.months-ahead:3}") int monthsAhead) {
+        this.retentionMonths = Math.max(1, retentionMonths);
+        this.monthsAhead = Math.max(0, monthsAhead);
+    }
+
+    /**
+     * 운영 테이블에 남겨 두는 개월 수(이번 달 포함)를 반환합니다.
+     */
+    public int retentionMonths() {
+        return retentionMonths;
+    }
+
+    /**
+     * 운영 테이블에 남겨 두는 가장 오래된 월을 반환합니다.
+     */
+    public YearMonth oldestRetainedMonth(LocalDate today) {
+        return YearMonth.from(today).minusMonths(retentionMonths - 1L);
+    }
+
+    /**
+     * 미리 만들어 둘 마지막 월을 반환합니다.
+     */
+    public YearMonth lastPreparedMonth(LocalDate today) {
+        return YearMonth.from(today).plusMonths(monthsAhead);
+    }
+
+    /**
+     * 운영 테이블에서 조회할 수 있는 첫 근무 일자를 반환합니다.
+     */
+    public LocalDate hotStart(LocalDate today) {
+        return oldestRetainedMonth(today).atDay(1);
+    }
+
+    /**
+     * 미리 만든 파티션의 마지막 근무 일자를 반환합니다.
+     */
+    public LocalDate hotEnd(LocalDate today) {
+        return lastPreparedMonth(today).atEndOfMonth();
+    }
+
+    public static String partitionName(YearMonth month) {
+        return MONTH_PARTITION_PREFIX + month.format(MONTH_FORMAT);
+    }
+
+    public static String archiveTableName(YearMonth month) {
+        return ARCHIVE_TABLE_PREFIX + month.format(MONTH_FORMAT);
+    }
+
+    /**
+     * 보관 테이블 이름에서 월을 읽습니다. 보관 테이블이 아니면 빈 값을 반환합니다.
+     */
+    public static Optional<YearMonth> archiveMonthOf(String tableName) {
+        if (tableName == null || !tableName.startsWith(ARCHIVE_TABLE_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(tableName.substring(ARCHIVE_TABLE_PREFIX.length()), MONTH_FORMAT));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 월 파티션 이름에서 월을 읽습니다. {@value #FUTURE_PARTITION}처럼 월 파티션이 아니면 빈 값을 반환합니다.
+     */
+    public static Optional<YearMonth> monthOf(String partitionName) {
+        if (partitionName == null || !partitionName.startsWith(MONTH_PARTITION_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partitionName.substring(MONTH_PARTITION_PREFIX.length()), MONTH_FORMAT));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
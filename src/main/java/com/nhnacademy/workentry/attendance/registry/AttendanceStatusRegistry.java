@@ -0,0 +1,115 @@
+package com.nhnacademy.workentry.attendance.registry;
+
+import com.nhnacademy.workentry.attendance.entity.AttendanceStatus;
+import com.nhnacademy.workentry.attendance.repository.AttendanceStatusRepository;
+import com.nhnacademy.workentry.common.exception.AttendanceStatusNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 출결 상태(attendance_status)를 메모리에 보관하는 조회 전용 레지스트리입니다.
+ * <p>
+ * 출결 상태는 8건 남짓의 거의 변하지 않는 코드 테이블이므로, 애플리케이션 기동 시 한 번 적재한 뒤
+ * 코드와 설명 양쪽을 키로 하는 불변 맵에서 I/O 없이 조회합니다.
+ * 상태 데이터가 변경된 경우 {@link #refresh()}를 호출하여 스냅샷 전체를 교체합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceStatusRegistry {
+
+    private final AttendanceStatusRepository attendanceStatusRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 애플리케이션 기동이 완료되면 출결 상태를 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    /**
+     * DB에서 출결 상태를 다시 읽어 스냅샷을 원자적으로 교체합니다.
+     * <p>
+     * 교체 중에도 기존 스냅샷으로 조회가 계속되며, 조회 측은 락을 잡지 않습니다.
+     * </p>
+     */
+    public synchronized void refresh() {
+        List<AttendanceStatus> statuses = attendanceStatusRepository.findAll();
+
+        snapshot = new Snapshot(
+                statuses.stream().collect(Collectors.toUnmodifiableMap(AttendanceStatus::getCode, Function.identity())),
+                statuses.stream().collect(Collectors.toUnmodifiableMap(AttendanceStatus::getDescription, Function.identity()))
+        );
+        log.info("[AttendanceStatusRegistry] 출결 상태 {}건 적재 완료", statuses.size());
+    }
+
+    /**
+     * 상태 설명으로 출결 상태를 조회합니다.
+     *
+     * @param description 상태 설명 (예: 출근, 지각)
+     * @return 출결 상태
+     * @throws AttendanceStatusNotFoundException 해당 설명의 상태가 없을 경우
+     */
+    public AttendanceStatus getByDescription(String description) {
+        return findByDescription(description)
+                .orElseThrow(() -> new AttendanceStatusNotFoundException(description));
+    }
+
+    /**
+     * 상태 코드로 출결 상태를 조회합니다.
+     *
+     * @param code 상태 코드
+     * @return 출결 상태
+     * @throws AttendanceStatusNotFoundException 해당 코드의 상태가 없을 경우
+     */
+    public AttendanceStatus getByCode(Long code) {
+        return findByCode(code)
+                .orElseThrow(() -> new AttendanceStatusNotFoundException(code));
+    }
+
+    public Optional<AttendanceStatus> findByDescription(String description) {
+        return description == null ? Optional.empty() : Optional.ofNullable(current().byDescription().get(description));
+    }
+
+    public Optional<AttendanceStatus> findByCode(Long code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(current().byCode().get(code));
+    }
+
+    /**
+     * 적재된 모든 출결 상태를 반환합니다.
+     *
+     * @return 변경 불가능한 출결 상태 컬렉션
+     */
+    public Collection<AttendanceStatus> getAll() {
+        return current().byCode().values();
+    }
+
+    /**
+     * 현재 스냅샷을 반환합니다. 기동 이벤트 이전에 호출되면 즉시 적재합니다.
+     */
+    private Snapshot current() {
+        Snapshot loaded = snapshot;
+        if (loaded == null) {
+            refresh();
+            loaded = snapshot;
+        }
+        return loaded;
+    }
+
+    private record Snapshot(Map<Long, AttendanceStatus> byCode, Map<String, AttendanceStatus> byDescription) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.nhnacademy.workentry.attendance.repository;
+
+import com.nhnacademy.workentry.attendance.archive.ArchivedAttendance;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 보관 대상 출결 기록을 운영 DB에서 읽고 지우는 JDBC 기반 인터페이스입니다.
+ * <p>
+ * 파티션 정리로 만들어진 {@code attendances_archive_yyyyMM} 테이블과,
+ * 파티션되지 않은 환경에서 {@code attendances}에 남아 있는 오래된 행을 함께 다룹니다.
+ * </p>
+ */
+public interface AttendanceArchiveRepository {
+
+    /**
+     * 현재 스키마에 남아 있는 보관 테이블의 월을 오름차순으로 조회합니다.
+     */
+    List<YearMonth> findArchiveTableMonths();
+
+    /**
+     * 보관 테이블에 들어 있는 행의 근무 월을 오름차순으로 조회합니다.
+     * <p>
+     * 가장 오래된 파티션은 그 이전의 모든 행을 담으므로, 보관 테이블 하나에 여러 달의 행이 있을 수 있습니다.
+     * </p>
+     *
+     * @param table 보관 테이블의 월
+     */
+    List<YearMonth> findArchiveTableWorkMonths(YearMonth table);
+
+    /**
+     * 보관 테이블에서 근무 일자가 기간 내인 행을 {@code (mb_no, work_date)} 순으로 한 행씩 전달합니다.
+     * 결과 전체를 메모리에 올리지 않도록 스트리밍 커서로 읽습니다.
+     *
+     * @param table 보관 테이블의 월
+     */
+    void streamArchiveTableRows(YearMonth table, LocalDate start, LocalDate end, Consumer<ArchivedAttendance> consumer);
+
+    /**
+     * 해당 월 보관 테이블을 삭제합니다.
+     */
+    void dropArchiveTable(YearMonth table);
+
+    /**
+     * 운영 테이블에서 가장 오래된 근무 일자를 조회합니다.
+     */
+    Optional<LocalDate> findOldestWorkDate();
+
+    /**
+     * 운영 테이블에서 기간 내 행을 {@code (mb_no, work_date)} 순으로 한 행씩 전달합니다.
+     * 결과 전체를 메모리에 올리지 않도록 스트리밍 커서로 읽습니다.
+     */
+    void streamRows(LocalDate start, LocalDate end, Consumer<ArchivedAttendance> consumer);
+
+    /**
+     * 운영 테이블에서 기간 내 행 중 지정한 ID의 행만 삭제합니다.
+     * <p>
+     * 읽은 뒤에 새로 들어온 행은 보관 파일에 없으므로 지우지 않도록 ID를 함께 지정합니다.
+     * </p>
+     *
+     * @return 삭제된 행 수
+     */
+    int deleteRows(LocalDate start, LocalDate end, long[] ids);
+}
@@ -0,0 +1,17 @@
+package com.nhnacademy.workentry.attendance.repository;
+
+import com.nhnacademy.workentry.attendance.entity.AttendanceBotRunChunk;
+import com.nhnacademy.workentry.attendance.entity.AttendanceBotRunChunkId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 출결 봇 실행 원장을 조회·기록하는 JPA Repository입니다.
+ */
+public interface AttendanceBotRunChunkRepository extends JpaRepository<AttendanceBotRunChunk, AttendanceBotRunChunkId> {
+
+    // 작업·근무 일자별 완료된 회원 조각 조회
+    List<AttendanceBotRunChunk> findByJobAndWorkDate(String job, LocalDate workDate);
+}
@@ -0,0 +1,17 @@
+package com.nhnacademy.workentry.attendance.repository;
+
+import com.nhnacademy.workentry.attendance.entity.AttendanceDailyRollup;
+import com.nhnacademy.workentry.attendance.entity.AttendanceDailyRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 전사 일별 출결 집계를 조회하는 JPA Repository입니다.
+ */
+public interface AttendanceDailyRollupRepository extends JpaRepository<AttendanceDailyRollup, AttendanceDailyRollupId> {
+
+    // 기간 내 일별·상태별 집계 조회
+    List<AttendanceDailyRollup> findByWorkDateBetweenOrderByWorkDateAsc(LocalDate start, LocalDate end);
+}
@@ -0,0 +1,18 @@
+package com.nhnacademy.workentry.attendance.repository;
+
+import com.nhnacademy.workentry.attendance.entity.AttendanceMonthlyRollup;
+import com.nhnacademy.workentry.attendance.entity.AttendanceMonthlyRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 회원별 월간 출결 집계를 조회·재계산하는 JPA Repository입니다.
+ */
+public interface AttendanceMonthlyRollupRepository
+        extends JpaRepository<AttendanceMonthlyRollup, AttendanceMonthlyRollupId>, CustomAttendanceRollupRepository {
+
+    // 회원의 기간 내 월별·상태별 집계 조회 (month는 각 월의 1일)
+    List<AttendanceMonthlyRollup> findByMbNoAndMonthBetweenOrderByMonthAsc(Long mbNo, LocalDate from, LocalDate to);
+}
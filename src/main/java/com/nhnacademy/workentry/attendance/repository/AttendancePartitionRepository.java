@@ -0,0 +1,42 @@
+package com.nhnacademy.workentry.attendance.repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * {@code attendances} 테이블의 월 파티션을 조회·추가·보관하는 JDBC 기반 인터페이스입니다.
+ * <p>
+ * 파티션 DDL은 MySQL 8.0 문법을 사용하며, 호출 측 트랜잭션과 무관하게 문장마다 바로 반영됩니다.
+ * </p>
+ */
+public interface AttendancePartitionRepository {
+
+    /**
+     * 현재 스키마의 {@code attendances} 파티션 이름을 파티션 순서대로 조회합니다.
+     *
+     * @return 파티션 이름 목록 (파티션되지 않은 테이블이면 빈 목록)
+     */
+    List<String> findPartitionNames();
+
+    /**
+     * 해당 월의 파티션을 추가합니다.
+     * <p>
+     * {@code p_future} 파티션이 있으면 그 파티션을 나누어(REORGANIZE) 만들고, 없으면 마지막에 덧붙입니다.
+     * </p>
+     *
+     * @param month      추가할 월
+     * @param hasFuture  {@code p_future} 파티션 존재 여부
+     */
+    void addMonthlyPartition(YearMonth month, boolean hasFuture);
+
+    /**
+     * 해당 월의 파티션을 {@code attendances_archive_yyyyMM} 테이블로 교환(EXCHANGE)한 뒤 운영 테이블에서 삭제합니다.
+     * <p>
+     * 교환은 데이터 파일만 바꿔 끼우므로 행 수와 무관하게 빠르고, 보관 테이블은 파티션되지 않은 같은 구조의 테이블입니다.
+     * </p>
+     *
+     * @param month 보관할 월
+     * @return 보관 테이블로 옮겨진 행 수
+     */
+    long archiveMonthlyPartition(YearMonth month);
+}
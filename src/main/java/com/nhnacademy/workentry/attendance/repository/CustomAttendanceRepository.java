@@ -1,18 +1,39 @@
 package com.nhnacademy.workentry.attendance.repository;
 
 import com.nhnacademy.workentry.adapter.member.dto.MemberNoResponse;
+import com.nhnacademy.workentry.attendance.dto.AttendanceCursor;
 import com.nhnacademy.workentry.attendance.dto.AttendanceDto;
+import com.nhnacademy.workentry.attendance.dto.AttendanceExportRow;
+import com.nhnacademy.workentry.attendance.dto.AttendanceSummaryDto;
+import com.nhnacademy.workentry.attendance.entity.Attendance;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * QueryDSL 기반 커스텀 쿼리 인터페이스입니다.
+ * <p>
+ * 모든 조회·수정은 {@code work_date} 조건을 포함해야 MySQL이 월 파티션을 걸러낼 수 있습니다.
+ * </p>
  */
 public interface CustomAttendanceRepository {
 
+    /**
+     * 특정 회원의 지정된 기간 내 전체 출결 기록을 조회합니다.
+     * <p>
+     * {@code attendances}는 근무 일자로 월 파티션을 나누므로, 기간을 함께 받아 해당 월의 파티션만 읽습니다.
+     * </p>
+     *
+     * @return 출결 DTO 목록
+     */
+    List<AttendanceDto> getAttendancesByNo(Long mbNo, LocalDate start, LocalDate end);
+
     /**
      * 특정 회원의 지정된 기간 내 출결 기록을 페이지 단위로 조회합니다.
      *
@@ -20,6 +41,33 @@ public interface CustomAttendanceRepository {
      */
     Page<AttendanceDto> getAttendanceByNoAndDateRange(Long mbNo, LocalDate start, LocalDate end, Pageable pageable);
 
+    /**
+     * 지정된 기간의 전체 회원 출결 기록을 페이지 단위로 조회합니다.
+     *
+     * @return 페이지 형태의 출결 DTO 목록
+     */
+    Page<AttendanceDto> getAttendancesByDateRange(LocalDate start, LocalDate end, Pageable pageable);
+
+    /**
+     * 특정 회원의 지정된 기간 내 근무 요약을 페이지 단위로 조회합니다.
+     *
+     * @return 페이지 형태의 근무 요약 DTO 목록
+     */
+    Page<AttendanceSummaryDto> getAttendanceSummaryByNoAndDateRange(Long mbNo, LocalDate start, LocalDate end, Pageable pageable);
+
+    /**
+     * 지정된 기간의 출결 기록을 {@code (work_date, id)} 역순 키셋 페이지네이션으로 조회합니다.
+     * <p>
+     * OFFSET과 COUNT 쿼리 없이 커서 위치 이후의 행만 읽으므로, 페이지 깊이와 무관하게 비용이 일정합니다.
+     * </p>
+     *
+     * @param mbNo   회원 번호 (null이면 전체 회원)
+     * @param cursor 이전 페이지의 마지막 위치 (null이면 첫 페이지)
+     * @param size   페이지 크기
+     * @return 다음 페이지 존재 여부를 포함한 슬라이스
+     */
+    Slice<AttendanceDto> getAttendanceSliceByDateRange(Long mbNo, LocalDate start, LocalDate end, AttendanceCursor cursor, int size);
+
     /**
      * 해당 날짜에 체크인한 기록이 있는 사용자들을 조회합니다.
      *
@@ -27,4 +75,62 @@ public interface CustomAttendanceRepository {
      */
     List<MemberNoResponse> getCheckedInMembers(LocalDate date);
 
+    /**
+     * 지정된 기간의 출결 기록을 전진 전용(forward-only) JDBC 커서로 한 행씩 읽어 전달합니다.
+     * <p>
+     * 결과를 리스트로 모으지 않으므로, 행 수와 관계없이 메모리 사용량이 일정합니다.
+     * </p>
+     *
+     * @param mbNo     회원 번호 (null이면 전체 회원)
+     * @param consumer 행마다 호출되는 소비자
+     */
+    void streamAttendances(Long mbNo, LocalDate start, LocalDate end, Consumer<AttendanceExportRow> consumer);
+
+    /**
+     * 출결 기록을 다중 행(multi-row) INSERT 한 번으로 저장합니다.
+     * <p>
+     * IDENTITY 전략의 엔티티 저장과 달리 JDBC 배치가 가능하므로,
+     * 호출 측에서 적절한 크기의 청크로 나누어 전달해야 합니다.
+     * </p>
+     *
+     * @return 저장된 행 수
+     */
+    int bulkInsert(List<Attendance> attendances);
+
+    /**
+     * 출결 기록을 다중 행 INSERT 한 번으로 저장하되, {@code (mb_no, work_date)}가 이미 존재하면 갱신합니다.
+     * <p>
+     * 과거 데이터 적재처럼 같은 파일을 다시 넣어도 결과가 같아야 하는 경로에서 사용합니다.
+     * 반환값은 MySQL 규약에 따라 삽입 1, 갱신 2, 변경 없음 0으로 합산된 영향 행 수입니다.
+     * </p>
+     *
+     * @return 영향 행 수
+     */
+    int bulkUpsert(List<Attendance> attendances);
+
+    /**
+     * 출결 기록을 다중 행 INSERT 한 번으로 저장하되, {@code (mb_no, work_date)}가 이미 존재하는 행은 그대로 둡니다.
+     * <p>
+     * 출결 봇 재실행처럼 중간에 멈춘 작업을 다시 돌려도 먼저 저장된 기록을 덮어쓰지 않아야 하는 경로에서 사용합니다.
+     * </p>
+     * <p>
+     * 반환값은 새로 삽입된 행 수가 아닙니다. MySQL Connector/J는 기본으로 {@code CLIENT_FOUND_ROWS}를 켜므로
+     * 이미 있던 행도 1로 세어, 삽입되었거나 이미 존재한 행 수가 됩니다. 호출자는 이 값으로 "새 기록 없음"을 판단하면 안 됩니다.
+     * </p>
+     *
+     * @return 삽입되었거나 이미 존재한 행 수
+     */
+    int bulkInsertIfAbsent(List<Attendance> attendances);
+
+    /**
+     * 해당 날짜에 체크인했고 아직 퇴근하지 않은 출결 기록 중, 지정한 상태의 기록을 UPDATE 한 번으로 퇴근 처리합니다.
+     * <p>
+     * 퇴근 시각은 {@code windowStart}부터 {@code windowMinutes}분 범위에서 행마다 임의로 정해지며,
+     * 근무 시간(분)과 수정 시각도 같은 문장에서 함께 갱신됩니다.
+     * </p>
+     *
+     * @return 퇴근 처리된 행 수
+     */
+    int bulkCheckOut(LocalDate workDate, Collection<Long> statusCodes, LocalTime windowStart, int windowMinutes);
+
 }
@@ -0,0 +1,53 @@
+package com.nhnacademy.workentry.attendance.repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 출결 집계 테이블을 갱신하는 JDBC 기반 인터페이스입니다.
+ * <p>
+ * {@code refresh*} 메서드는 대상 키 범위의 집계 행을 지운 뒤 {@code INSERT ... SELECT ... GROUP BY}로 다시 채우므로,
+ * 원본 행이 삽입·수정·업서트 중 어떤 방식으로 바뀌었든 결과가 원본과 일치합니다. 재계산과 일괄 처리에서만 사용합니다.
+ * 한 건의 출결 변경은 {@link #addDelta}로 해당 키의 집계 행에만 증감분을 더합니다.
+ * 모든 메서드는 호출 측 트랜잭션에 참여합니다.
+ * </p>
+ */
+public interface CustomAttendanceRollupRepository {
+
+    /**
+     * 기간 내 전사 일별 집계를 재계산합니다.
+     *
+     * @return 새로 기록된 집계 행 수
+     */
+    int refreshDaily(LocalDate start, LocalDate end);
+
+    /**
+     * 해당 월의 전체 회원 월간 집계를 재계산합니다.
+     *
+     * @return 새로 기록된 집계 행 수
+     */
+    int refreshMonthly(YearMonth month);
+
+
+    /**
+     * 지정한 날짜에 출결 기록이 있는 회원들의 해당 월 집계를 재계산합니다.
+     * <p>
+     * 일괄 체크인·체크아웃처럼 하루치 기록이 한꺼번에 바뀐 뒤 사용합니다.
+     * </p>
+     *
+     * @return 새로 기록된 집계 행 수
+     */
+    int refreshMonthlyForMembersOn(LocalDate workDate);
+
+    /**
+     * 출결 한 건의 변경분을 {@code (work_date, status)} 일별 집계와 {@code (mb_no, month, status)} 월간 집계에 더합니다.
+     * <p>
+     * 행이 없으면 증감분으로 새로 만들고({@code INSERT ... ON DUPLICATE KEY UPDATE}), 건수가 0 이하가 되면 행을 지웁니다.
+     * 두 키의 행만 잠그므로 비용이 회원 수와 무관합니다.
+     * </p>
+     *
+     * @param countDelta   인원수(일별)·일수(월간) 증감분
+     * @param minutesDelta 근무 시간(분) 증감분
+     */
+    void addDelta(Long mbNo, LocalDate workDate, Long status, int countDelta, long minutesDelta);
+}
@@ -0,0 +1,145 @@
+package com.nhnacademy.workentry.attendance.repository.impl;
+
+import com.nhnacademy.workentry.attendance.archive.ArchivedAttendance;
+import com.nhnacademy.workentry.attendance.partition.AttendancePartitionPolicy;
+import com.nhnacademy.workentry.attendance.repository.AttendanceArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * {@link AttendanceArchiveRepository}의 JdbcTemplate 기반 구현체입니다.
+ *
+ * <p>행은 스트리밍 fetch size로 한 행씩 읽어 한 달치 행을 메모리에 올리지 않습니다.
+ * 삭제는 {@value #DELETE_CHUNK_SIZE}건씩 나누어 문장마다 바로 반영하므로, 운영 테이블에 긴 잠금을 잡지 않습니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceArchiveRepositoryImpl implements AttendanceArchiveRepository {
+
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    // MySQL 드라이버는 fetchSize가 Integer.MIN_VALUE일 때만 결과를 서버에서 한 행씩 스트리밍합니다.
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private static final String FIND_ARCHIVE_TABLES_SQL = """
+            SELECT TABLE_NAME
+              FROM information_schema.TABLES
+             WHERE TABLE_SCHEMA = DATABASE()
+               AND TABLE_NAME LIKE 'attendances\\_archive\\_%'
+            """;
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, mb_no, work_date, in_time, out_time, work_minutes, status FROM ";
+
+    private static final String FIND_WORK_MONTHS_SQL =
+            "SELECT DISTINCT YEAR(work_date) * 100 + MONTH(work_date) AS work_month FROM %s ORDER BY work_month";
+
+    private static final String DROP_ARCHIVE_TABLE_SQL = "DROP TABLE IF EXISTS %s";
+
+    private static final String FIND_OLDEST_WORK_DATE_SQL = "SELECT MIN(work_date) FROM attendances";
+
+    private static final String FIND_ROWS_CONDITION = " WHERE work_date BETWEEN ? AND ? ORDER BY mb_no, work_date";
+
+    private static final String DELETE_ROWS_SQL =
+            "DELETE FROM attendances WHERE work_date BETWEEN ? AND ? AND id IN (%s)";
+
+    private static final RowMapper<ArchivedAttendance> ROW_MAPPER = (rs, rowNum) -> new ArchivedAttendance(
+            rs.getLong("id"),
+            rs.getLong("mb_no"),
+            rs.getDate("work_date").toLocalDate(),
+            toLocalDateTime(rs.getTimestamp("in_time")),
+            toLocalDateTime(rs.getTimestamp("out_time")),
+            rs.getObject("work_minutes", Integer.class),
+            rs.getLong("status")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<YearMonth> findArchiveTableMonths() {
+        return jdbcTemplate.queryForList(FIND_ARCHIVE_TABLES_SQL, String.class).stream()
+                .map(AttendancePartitionPolicy::archiveMonthOf)
+                .flatMap(Optional::stream)
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    public List<YearMonth> findArchiveTableWorkMonths(YearMonth table) {
+        return jdbcTemplate.queryForList(FIND_WORK_MONTHS_SQL.formatted(AttendancePartitionPolicy.archiveTableName(table)), Integer.class)
+                .stream()
+                .map(workMonth -> YearMonth.of(workMonth / 100, workMonth % 100))
+                .toList();
+    }
+
+    @Override
+    public void streamArchiveTableRows(YearMonth table, LocalDate start, LocalDate end, Consumer<ArchivedAttendance> consumer) {
+        stream(SELECT_COLUMNS + AttendancePartitionPolicy.archiveTableName(table) + FIND_ROWS_CONDITION, start, end, consumer);
+    }
+
+    @Override
+    public void dropArchiveTable(YearMonth table) {
+        jdbcTemplate.execute(DROP_ARCHIVE_TABLE_SQL.formatted(AttendancePartitionPolicy.archiveTableName(table)));
+    }
+
+    @Override
+    public Optional<LocalDate> findOldestWorkDate() {
+        Date oldest = jdbcTemplate.queryForObject(FIND_OLDEST_WORK_DATE_SQL, Date.class);
+        return Optional.ofNullable(oldest).map(Date::toLocalDate);
+    }
+
+    @Override
+    public void streamRows(LocalDate start, LocalDate end, Consumer<ArchivedAttendance> consumer) {
+        stream(SELECT_COLUMNS + "attendances" + FIND_ROWS_CONDITION, start, end, consumer);
+    }
+
+    @Override
+    public int deleteRows(LocalDate start, LocalDate end, long[] ids) {
+        int deleted = 0;
+
+        for (int from = 0; from < ids.length; from += DELETE_CHUNK_SIZE) {
+            int to = Math.min(from + DELETE_CHUNK_SIZE, ids.length);
+            String sql = DELETE_ROWS_SQL.formatted(String.join(", ", Collections.nCopies(to - from, "?")));
+
+            Object[] args = new Object[to - from + 2];
+            args[0] = start;
+            args[1] = end;
+            for (int i = from; i < to; i++) {
+                args[i - from + 2] = ids[i];
+            }
+            deleted += jdbcTemplate.update(sql, args);
+        }
+        return deleted;
+    }
+
+    private void stream(String sql, LocalDate start, LocalDate end, Consumer<ArchivedAttendance> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAMING_FETCH_SIZE);
+            ps.setObject(1, start, Types.DATE);
+            ps.setObject(2, end, Types.DATE);
+            return ps;
+        }, rs -> {
+            consumer.accept(ROW_MAPPER.mapRow(rs, 0));
+        });
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
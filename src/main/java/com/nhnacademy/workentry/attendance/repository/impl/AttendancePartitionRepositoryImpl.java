@@ -0,0 +1,109 @@
+package com.nhnacademy.workentry.attendance.repository.impl;
+
+import com.nhnacademy.workentry.attendance.partition.AttendancePartitionPolicy;
+import com.nhnacademy.workentry.attendance.repository.AttendancePartitionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * {@link AttendancePartitionRepository}의 JdbcTemplate 기반 구현체입니다.
+ *
+ * <p>파티션 이름과 보관 테이블 이름은 {@link AttendancePartitionPolicy}가 월에서 만들어 내므로,
+ * DDL 문자열에 외부 입력이 들어가지 않습니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class AttendancePartitionRepositoryImpl implements AttendancePartitionRepository {
+
+    private static final String FIND_PARTITIONS_SQL = """
+            SELECT PARTITION_NAME
+              FROM information_schema.PARTITIONS
+             WHERE TABLE_SCHEMA = DATABASE()
+               AND TABLE_NAME = 'attendances'
+               AND PARTITION_NAME IS NOT NULL
+             ORDER BY PARTITION_ORDINAL_POSITION
+            """;
+
+    private static final String REORGANIZE_FUTURE_SQL = """
+            ALTER TABLE attendances REORGANIZE PARTITION %2$s INTO (
+                PARTITION %1$s VALUES LESS THAN ('%3$s'),
+                PARTITION %2$s VALUES LESS THAN (MAXVALUE)
+            )
+            """;
+
+    private static final String ADD_PARTITION_SQL =
+            "ALTER TABLE attendances ADD PARTITION (PARTITION %s VALUES LESS THAN ('%s'))";
+
+    private static final String CREATE_ARCHIVE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS %s LIKE attendances";
+
+    // CREATE TABLE ... LIKE는 파티션 정의까지 복사하므로, 교환 대상이 되도록 파티션을 제거
+    private static final String REMOVE_ARCHIVE_PARTITIONING_SQL = "ALTER TABLE %s REMOVE PARTITIONING";
+
+    private static final String FIND_ARCHIVE_PARTITIONED_SQL = """
+            SELECT COUNT(*)
+              FROM information_schema.PARTITIONS
+             WHERE TABLE_SCHEMA = DATABASE()
+               AND TABLE_NAME = ?
+               AND PARTITION_NAME IS NOT NULL
+            """;
+
+    private static final String COUNT_ARCHIVE_SQL = "SELECT COUNT(*) FROM %s";
+    private static final String COUNT_PARTITION_SQL = "SELECT COUNT(*) FROM attendances PARTITION (%s)";
+
+    // 교환 후 파티션에는 보관 테이블의 (빈) 데이터가 들어오므로 바로 삭제할 수 있음
+    private static final String EXCHANGE_PARTITION_SQL = "ALTER TABLE attendances EXCHANGE PARTITION %s WITH TABLE %s";
+    private static final String DROP_PARTITION_SQL = "ALTER TABLE attendances DROP PARTITION %s";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, String.class);
+    }
+
+    @Override
+    public void addMonthlyPartition(YearMonth month, boolean hasFuture) {
+        String partition = AttendancePartitionPolicy.partitionName(month);
+        String lessThan = month.plusMonths(1).atDay(1).toString();
+
+        if (hasFuture) {
+            jdbcTemplate.execute(REORGANIZE_FUTURE_SQL.formatted(partition, AttendancePartitionPolicy.FUTURE_PARTITION, lessThan));
+        } else {
+            jdbcTemplate.execute(ADD_PARTITION_SQL.formatted(partition, lessThan));
+        }
+    }
+
+    @Override
+    public long archiveMonthlyPartition(YearMonth month) {
+        String partition = AttendancePartitionPolicy.partitionName(month);
+        String archiveTable = AttendancePartitionPolicy.archiveTableName(month);
+
+        jdbcTemplate.execute(CREATE_ARCHIVE_TABLE_SQL.formatted(archiveTable));
+        Long partitioned = jdbcTemplate.queryForObject(FIND_ARCHIVE_PARTITIONED_SQL, Long.class, archiveTable);
+        if (partitioned != null && partitioned > 0) {
+            jdbcTemplate.execute(REMOVE_ARCHIVE_PARTITIONING_SQL.formatted(archiveTable));
+        }
+
+        // 이전 실행이 교환까지 마치고 삭제 전에 멈췄다면, 다시 교환하면 보관된 행이 운영 테이블로 되돌아감
+        if (count(COUNT_ARCHIVE_SQL.formatted(archiveTable)) > 0) {
+            if (count(COUNT_PARTITION_SQL.formatted(partition)) > 0) {
+                throw new IllegalStateException(
+                        "보관 테이블과 파티션에 모두 행이 있어 교환할 수 없습니다: " + archiveTable + ", " + partition);
+            }
+        } else {
+            jdbcTemplate.execute(EXCHANGE_PARTITION_SQL.formatted(partition, archiveTable));
+        }
+        jdbcTemplate.execute(DROP_PARTITION_SQL.formatted(partition));
+
+        return count(COUNT_ARCHIVE_SQL.formatted(archiveTable));
+    }
+
+    private long count(String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return count != null ? count : 0L;
+    }
+}
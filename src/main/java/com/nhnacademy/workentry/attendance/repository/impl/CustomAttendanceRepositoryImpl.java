@@ -1,21 +1,45 @@
 package com.nhnacademy.workentry.attendance.repository.impl;
 
 import com.nhnacademy.workentry.adapter.member.dto.MemberNoResponse;
+import com.nhnacademy.workentry.attendance.dto.AttendanceCursor;
 import com.nhnacademy.workentry.attendance.dto.AttendanceDto;
+import com.nhnacademy.workentry.attendance.dto.AttendanceExportRow;
+import com.nhnacademy.workentry.attendance.dto.AttendanceSummaryDto;
 import com.nhnacademy.workentry.attendance.dto.QAttendanceDto;
+import com.nhnacademy.workentry.attendance.entity.Attendance;
 import com.nhnacademy.workentry.attendance.entity.QAttendance;
 import com.nhnacademy.workentry.attendance.repository.CustomAttendanceRepository;
+import com.nhnacademy.workentry.common.exception.InvalidSortPropertyException;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * {@link CustomAttendanceRepository}의 QueryDSL 기반 사용자 정의 구현체입니다.
@@ -29,13 +53,89 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CustomAttendanceRepositoryImpl implements CustomAttendanceRepository {
 
+    private static final String BULK_INSERT_PREFIX =
+            "INSERT INTO attendances (mb_no, work_date, in_time, out_time, work_minutes, status, created_at) VALUES ";
+    private static final String BULK_INSERT_ROW = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final String BULK_UPSERT_SUFFIX = """
+             ON DUPLICATE KEY UPDATE
+                in_time = VALUES(in_time),
+                out_time = VALUES(out_time),
+                work_minutes = VALUES(work_minutes),
+                status = VALUES(status),
+                updated_at = VALUES(created_at)
+            """;
+
+    // 키가 충돌하면 아무 컬럼도 바꾸지 않음 (INSERT IGNORE와 달리 다른 오류는 숨기지 않음)
+    // 충돌한 행도 found rows로 세어지므로 영향 행 수는 삽입 건수가 아님
+    private static final String BULK_INSERT_IF_ABSENT_SUFFIX = " ON DUPLICATE KEY UPDATE mb_no = mb_no";
+
+    private static final String STREAM_SELECT_SQL = """
+            SELECT mb_no, work_date, in_time, out_time, work_minutes, status
+              FROM attendances
+             WHERE work_date BETWEEN ? AND ?
+            """;
+    private static final String STREAM_MEMBER_CONDITION = " AND mb_no = ?";
+    private static final String STREAM_ORDER_BY = " ORDER BY mb_no, work_date";
+
+    // 페이지 조회에서 정렬 조건으로 허용하는 속성
+    private static final Map<String, ComparableExpressionBase<?>> SORTABLE_PROPERTIES = Map.of(
+            "id", QAttendance.attendance.id,
+            "workDate", QAttendance.attendance.workDate,
+            "inTime", QAttendance.attendance.inTime,
+            "outTime", QAttendance.attendance.outTime,
+            "workMinutes", QAttendance.attendance.workMinutes
+    );
+
+    // MySQL 드라이버는 fetchSize가 Integer.MIN_VALUE일 때만 결과를 서버에서 한 행씩 스트리밍합니다.
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    // MySQL은 단일 테이블 UPDATE의 SET 절을 왼쪽부터 평가하므로, work_minutes는 새로 설정된 out_time 기준으로 계산됩니다.
+    private static final String BULK_CHECK_OUT_SQL = """
+            UPDATE attendances
+               SET out_time = TIMESTAMP(work_date, ?) + INTERVAL FLOOR(RAND() * ?) MINUTE,
+                   work_minutes = TIMESTAMPDIFF(MINUTE, in_time, out_time),
+                   updated_at = ?
+             WHERE work_date = ?
+               AND in_time IS NOT NULL
+               AND out_time IS NULL
+               AND status IN (%s)
+            """;
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 지정된 회원의 기간 내 전체 출결 내역을 근무 일자 순으로 조회합니다.
+     *
+     * <p>출결 상태를 조인하여 {@link AttendanceDto}로 바로 매핑하므로 엔티티가 영속성 컨텍스트에 올라가지 않고,
+     * 상태 조회를 위한 추가 쿼리도 발생하지 않습니다.</p>
+     *
+     * @param mbNo 회원 고유 번호
+     * @param start 조회 시작 일자
+     * @param end 조회 종료 일자
+     * @return 출결 정보 DTO 리스트
+     */
+    @Override
+    public List<AttendanceDto> getAttendancesByNo(Long mbNo, LocalDate start, LocalDate end) {
+        QAttendance attendance = QAttendance.attendance;
+
+        return queryFactory
+                .select(attendanceDto(attendance))
+                .from(attendance)
+                .where(
+                        attendance.mbNo.eq(mbNo),
+                        attendance.workDate.between(start, end)
+                )
+                .orderBy(attendance.workDate.asc())
+                .fetch();
+    }
 
     /**
      * 지정된 회원 번호와 기간에 해당하는 출결 내역을 조회합니다.
      *
      * <p>출결 기준은 출근일(workDate)이며, 시간대(LocalDate)의 날짜 부분만 비교하여
-     * 해당 날짜 범위에 포함된 출결 정보만 조회합니다.</p>
+     * 해당 날짜 범위에 포함된 출결 정보만 조회합니다.
+     * 정렬 조건이 없으면 근무 일자 오름차순으로 정렬하여 페이지 경계가 요청마다 같도록 합니다.</p>
      *
      * @param mbNo 회원 고유 번호
      * @param start 조회 시작 일시 (LocalDate, 날짜 기준 비교)
@@ -48,33 +148,122 @@ public class CustomAttendanceRepositoryImpl implements CustomAttendanceRepositor
         QAttendance attendance = QAttendance.attendance;
 
         List<AttendanceDto> content = queryFactory
-                .select(
-                        new QAttendanceDto(
-                            attendance.id,
-                            attendance.mbNo,
-                            attendance.workDate,
-                            attendance.inTime,
-                            attendance.outTime,
-                            attendance.status.description
-                        )
+                .select(attendanceDto(attendance))
+                .from(attendance)
+                .where(
+                        attendance.mbNo.eq(mbNo),
+                        attendance.workDate.between(start, end)
                 )
+                .orderBy(orderSpecifiers(pageable.getSort(), attendance.workDate.asc()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(
+                attendance.mbNo.eq(mbNo),
+                attendance.workDate.between(start, end)
+        ));
+    }
+
+    /**
+     * 지정된 기간의 전체 회원 출결 내역을 페이지 단위로 조회합니다.
+     *
+     * <p>{@link Pageable}의 정렬 조건은 {@link Attendance} 속성 이름 기준으로 적용되며,
+     * {@code id}, {@code workDate}, {@code inTime}, {@code outTime}, {@code workMinutes}만 허용합니다.
+     * 마지막 페이지처럼 전체 건수를 알 수 있으면 COUNT 쿼리를 생략합니다.</p>
+     *
+     * @param start 조회 시작 일자
+     * @param end 조회 종료 일자
+     * @param pageable 페이징 정보
+     * @return 출결 정보 DTO 페이지
+     */
+    @Override
+    public Page<AttendanceDto> getAttendancesByDateRange(LocalDate start, LocalDate end, Pageable pageable) {
+        QAttendance attendance = QAttendance.attendance;
+
+        List<AttendanceDto> content = queryFactory
+                .select(attendanceDto(attendance))
                 .from(attendance)
+                .where(attendance.workDate.between(start, end))
+                .orderBy(orderSpecifiers(pageable.getSort()))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        long total = Optional.ofNullable(
-                queryFactory
-                        .select(attendance.count())
-                        .from(attendance)
-                        .where(
-                                attendance.mbNo.eq(mbNo),
-                                attendance.workDate.between(start, end)
-                        )
-                        .fetchOne()
-        ).orElse(0L);
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(attendance.workDate.between(start, end)));
+    }
+
+    /**
+     * 지정된 회원의 기간별 근무 요약을 페이지 단위로 조회합니다.
+     *
+     * <p>요약에 필요한 컬럼만 조회하며, 상태 코드는 {@code status} 컬럼 값을 그대로 사용하므로 출결 상태를 조인하지 않습니다.</p>
+     *
+     * @param mbNo 회원 고유 번호
+     * @param start 조회 시작 일자
+     * @param end 조회 종료 일자
+     * @param pageable 페이징 정보
+     * @return 근무 요약 DTO 페이지
+     */
+    @Override
+    public Page<AttendanceSummaryDto> getAttendanceSummaryByNoAndDateRange(Long mbNo, LocalDate start, LocalDate end, Pageable pageable) {
+        QAttendance attendance = QAttendance.attendance;
+
+        List<AttendanceSummaryDto> content = queryFactory
+                .select(attendance.workDate, attendance.workMinutes, attendance.inTime, attendance.outTime, attendance.statusCode)
+                .from(attendance)
+                .where(
+                        attendance.mbNo.eq(mbNo),
+                        attendance.workDate.between(start, end)
+                )
+                .orderBy(orderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch()
+                .stream()
+                .map(row -> toSummary(row, attendance))
+                .toList();
 
-        return new PageImpl<>(content, pageable, total);
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(
+                attendance.mbNo.eq(mbNo),
+                attendance.workDate.between(start, end)
+        ));
+    }
+
+    /**
+     * 지정된 기간의 출결 내역을 {@code (work_date DESC, id DESC)} 순서의 키셋 페이지네이션으로 조회합니다.
+     *
+     * <p>커서가 주어지면 {@code (work_date, id) < (cursor.workDate, cursor.id)} 조건으로 다음 위치부터 읽고,
+     * 요청 크기보다 한 건 더 조회하여 다음 페이지 존재 여부를 판단합니다. COUNT 쿼리는 실행하지 않습니다.</p>
+     *
+     * @param mbNo 회원 고유 번호 (null이면 전체 회원)
+     * @param start 조회 시작 일자
+     * @param end 조회 종료 일자
+     * @param cursor 이전 페이지의 마지막 위치 (null이면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 출결 정보 DTO 슬라이스
+     */
+    @Override
+    public Slice<AttendanceDto> getAttendanceSliceByDateRange(Long mbNo, LocalDate start, LocalDate end, AttendanceCursor cursor, int size) {
+        QAttendance attendance = QAttendance.attendance;
+
+        List<AttendanceDto> content = queryFactory
+                .select(attendanceDto(attendance))
+                .from(attendance)
+                .where(
+                        mbNo != null ? attendance.mbNo.eq(mbNo) : null,
+                        attendance.workDate.between(start, end),
+                        afterCursor(attendance, cursor)
+                )
+                .orderBy(attendance.workDate.desc(), attendance.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+
+        return new SliceImpl<>(content, Pageable.ofSize(size), hasNext);
     }
 
     /**
@@ -99,4 +288,221 @@ public class CustomAttendanceRepositoryImpl implements CustomAttendanceRepositor
                 .groupBy(attendance.mbNo)
                 .fetch();
     }
+
+    /**
+     * 지정된 기간의 출결 기록을 스트리밍 결과셋으로 읽어 한 행씩 전달합니다.
+     *
+     * <p>전진 전용·읽기 전용 커서와 스트리밍 fetch size를 사용하므로, 드라이버가 결과 전체를
+     * 메모리에 적재하지 않습니다. 소비자에서 발생한 예외는 그대로 전파되며 커서는 닫힙니다.</p>
+     *
+     * @param mbNo 회원 고유 번호 (null이면 전체 회원)
+     * @param start 조회 시작 일자
+     * @param end 조회 종료 일자
+     * @param consumer 행마다 호출되는 소비자
+     */
+    @Override
+    public void streamAttendances(Long mbNo, LocalDate start, LocalDate end, Consumer<AttendanceExportRow> consumer) {
+        String sql = STREAM_SELECT_SQL + (mbNo != null ? STREAM_MEMBER_CONDITION : "") + STREAM_ORDER_BY;
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAMING_FETCH_SIZE);
+            ps.setObject(1, start, Types.DATE);
+            ps.setObject(2, end, Types.DATE);
+            if (mbNo != null) {
+                ps.setLong(3, mbNo);
+            }
+            return ps;
+        }, rs -> {
+            consumer.accept(new AttendanceExportRow(
+                    rs.getLong("mb_no"),
+                    rs.getObject("work_date", LocalDate.class),
+                    toLocalDateTime(rs.getTimestamp("in_time")),
+                    toLocalDateTime(rs.getTimestamp("out_time")),
+                    rs.getObject("work_minutes", Integer.class),
+                    rs.getLong("status")
+            ));
+        });
+    }
+
+    /**
+     * 전달된 출결 기록을 하나의 다중 행 INSERT 문으로 저장합니다.
+     *
+     * <p>JPA 영속성 컨텍스트를 거치지 않으므로 {@code @PrePersist}가 호출되지 않으며,
+     * {@code created_at}은 청크 단위로 동일한 현재 시각이 기록됩니다.</p>
+     *
+     * @param attendances 저장할 출결 기록 ({@code statusCode}가 설정되어 있어야 함)
+     * @return 저장된 행 수
+     */
+    @Override
+    public int bulkInsert(List<Attendance> attendances) {
+        if (attendances.isEmpty()) {
+            return 0;
+        }
+
+        return jdbcTemplate.update(multiRowInsertSql(attendances.size()), ps -> bindRows(ps, attendances));
+    }
+
+    /**
+     * 전달된 출결 기록을 {@code INSERT ... ON DUPLICATE KEY UPDATE} 한 문장으로 저장합니다.
+     *
+     * <p>{@code (mb_no, work_date)} 유니크 키가 충돌하면 입실·퇴실 시각, 근무 시간, 상태를 새 값으로 덮어쓰고
+     * {@code updated_at}을 갱신합니다. 기존 행의 {@code created_at}은 유지됩니다.</p>
+     *
+     * @param attendances 저장할 출결 기록 ({@code statusCode}가 설정되어 있어야 함)
+     * @return 영향 행 수 (삽입 1, 갱신 2, 변경 없음 0)
+     */
+    @Override
+    public int bulkUpsert(List<Attendance> attendances) {
+        if (attendances.isEmpty()) {
+            return 0;
+        }
+
+        return jdbcTemplate.update(multiRowInsertSql(attendances.size()) + BULK_UPSERT_SUFFIX, ps -> bindRows(ps, attendances));
+    }
+
+    /**
+     * 전달된 출결 기록을 한 문장으로 저장하되, {@code (mb_no, work_date)}가 이미 있는 행은 변경하지 않습니다.
+     *
+     * @param attendances 저장할 출결 기록 ({@code statusCode}가 설정되어 있어야 함)
+     * @return 삽입되었거나 이미 존재한 행 수 (Connector/J 기본 설정인 {@code CLIENT_FOUND_ROWS} 기준)
+     */
+    @Override
+    public int bulkInsertIfAbsent(List<Attendance> attendances) {
+        if (attendances.isEmpty()) {
+            return 0;
+        }
+
+        return jdbcTemplate.update(multiRowInsertSql(attendances.size()) + BULK_INSERT_IF_ABSENT_SUFFIX, ps -> bindRows(ps, attendances));
+    }
+
+    private static String multiRowInsertSql(int rows) {
+        return BULK_INSERT_PREFIX + String.join(", ", Collections.nCopies(rows, BULK_INSERT_ROW));
+    }
+
+    private static void bindRows(PreparedStatement ps, List<Attendance> attendances) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+
+        int index = 1;
+        for (Attendance attendance : attendances) {
+            ps.setLong(index++, attendance.getMbNo());
+            ps.setObject(index++, attendance.getWorkDate(), Types.DATE);
+            ps.setObject(index++, attendance.getInTime(), Types.TIMESTAMP);
+            ps.setObject(index++, attendance.getOutTime(), Types.TIMESTAMP);
+            ps.setObject(index++, attendance.getWorkMinutes(), Types.INTEGER);
+            ps.setLong(index++, attendance.getStatusCode());
+            ps.setObject(index++, now, Types.TIMESTAMP);
+        }
+    }
+
+    /**
+     * 지정한 날짜·상태의 미퇴근 출결 기록을 하나의 UPDATE 문으로 퇴근 처리합니다.
+     *
+     * <p>회원 수와 관계없이 왕복 1회로 처리되며, 퇴근 시각은 {@code RAND()}로 행마다 분산됩니다.
+     * 이미 퇴근 처리된 기록({@code out_time IS NOT NULL})은 대상에서 제외되므로 재실행해도 안전합니다.</p>
+     *
+     * @param workDate      근무 일자
+     * @param statusCodes   퇴근 처리 대상 상태 코드
+     * @param windowStart   퇴근 시각 범위의 시작
+     * @param windowMinutes 퇴근 시각 범위(분), 0 ~ windowMinutes-1 분이 더해짐
+     * @return 퇴근 처리된 행 수
+     */
+    @Override
+    public int bulkCheckOut(LocalDate workDate, Collection<Long> statusCodes, LocalTime windowStart, int windowMinutes) {
+        if (statusCodes.isEmpty()) {
+            return 0;
+        }
+
+        String sql = String.format(BULK_CHECK_OUT_SQL, String.join(", ", Collections.nCopies(statusCodes.size(), "?")));
+
+        return jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            ps.setObject(index++, windowStart, Types.TIME);
+            ps.setInt(index++, windowMinutes);
+            ps.setObject(index++, LocalDateTime.now(), Types.TIMESTAMP);
+            ps.setObject(index++, workDate, Types.DATE);
+            for (Long statusCode : statusCodes) {
+                ps.setLong(index++, statusCode);
+            }
+        });
+    }
+
+    /**
+     * 역순 정렬 기준으로 커서 위치 이후의 행을 선택하는 조건을 생성합니다.
+     *
+     * @return 커서가 없으면 null (조건 없음)
+     */
+    private BooleanExpression afterCursor(QAttendance attendance, AttendanceCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return attendance.workDate.lt(cursor.getWorkDate())
+                .or(attendance.workDate.eq(cursor.getWorkDate()).and(attendance.id.lt(cursor.getId())));
+    }
+
+    /**
+     * 출결 상태를 내부 조인하여 {@link AttendanceDto}로 매핑하는 projection입니다.
+     * 상태 설명은 같은 SQL에서 조인으로 읽으므로 행마다 상태를 지연 로딩하지 않습니다.
+     */
+    private static QAttendanceDto attendanceDto(QAttendance attendance) {
+        return new QAttendanceDto(
+                attendance.id,
+                attendance.mbNo,
+                attendance.workDate,
+                attendance.inTime,
+                attendance.outTime,
+                attendance.status.description
+        );
+    }
+
+    private long count(BooleanExpression... conditions) {
+        QAttendance attendance = QAttendance.attendance;
+
+        return Optional.ofNullable(
+                queryFactory
+                        .select(attendance.count())
+                        .from(attendance)
+                        .where(conditions)
+                        .fetchOne()
+        ).orElse(0L);
+    }
+
+    /**
+     * {@link Sort}를 정렬 조건으로 변환하되, 정렬 조건이 없으면 기본 정렬을 사용합니다.
+     */
+    private static OrderSpecifier<?>[] orderSpecifiers(Sort sort, OrderSpecifier<?> defaultOrder) {
+        return sort.isSorted() ? orderSpecifiers(sort) : new OrderSpecifier<?>[]{defaultOrder};
+    }
+
+    /**
+     * {@link Sort}를 {@link Attendance} 속성 기준의 QueryDSL 정렬 조건으로 변환합니다.
+     *
+     * @throws InvalidSortPropertyException {@link #SORTABLE_PROPERTIES}에 없는 속성으로 정렬을 요청한 경우
+     */
+    private static OrderSpecifier<?>[] orderSpecifiers(Sort sort) {
+        return sort.stream()
+                .map(order -> {
+                    ComparableExpressionBase<?> property = SORTABLE_PROPERTIES.get(order.getProperty());
+                    if (property == null) {
+                        throw new InvalidSortPropertyException(order.getProperty());
+                    }
+                    return order.isAscending() ? property.asc() : property.desc();
+                })
+                .toArray(OrderSpecifier[]::new);
+    }
+
+    private static AttendanceSummaryDto toSummary(Tuple row, QAttendance attendance) {
+        return AttendanceSummaryDto.of(
+                row.get(attendance.workDate),
+                row.get(attendance.workMinutes),
+                row.get(attendance.inTime),
+                row.get(attendance.outTime),
+                row.get(attendance.statusCode)
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
 }
@@ -0,0 +1,107 @@
+package com.nhnacademy.workentry.attendance.repository.impl;
+
+import com.nhnacademy.workentry.attendance.repository.CustomAttendanceRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * {@link CustomAttendanceRollupRepository}의 JdbcTemplate 기반 구현체입니다.
+ *
+ * <p>재계산은 집계 대상 범위의 행을 DELETE한 뒤, 같은 범위의 원본 출결을 GROUP BY하여 INSERT ... SELECT로 다시 채웁니다.
+ * 재계산 범위는 하루 또는 한 달로 제한되므로 원본 스캔 비용은 그 범위의 행 수에 비례합니다.
+ * 증분 갱신은 원본을 읽지 않고 집계 행 하나에 증감분을 더합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class CustomAttendanceRollupRepositoryImpl implements CustomAttendanceRollupRepository {
+
+    private static final String DELETE_DAILY_SQL =
+            "DELETE FROM attendance_daily_rollups WHERE work_date BETWEEN ? AND ?";
+
+    private static final String INSERT_DAILY_SQL = """
+            INSERT INTO attendance_daily_rollups (work_date, status, member_count, work_minutes)
+            SELECT work_date, status, COUNT(*), COALESCE(SUM(work_minutes), 0)
+              FROM attendances
+             WHERE work_date BETWEEN ? AND ?
+             GROUP BY work_date, status
+            """;
+
+    private static final String DELETE_MONTHLY_SQL =
+            "DELETE FROM attendance_monthly_rollups WHERE month_start = ?";
+
+    private static final String INSERT_MONTHLY_SQL = """
+            INSERT INTO attendance_monthly_rollups (mb_no, month_start, status, day_count, work_minutes)
+            SELECT mb_no, ?, status, COUNT(*), COALESCE(SUM(work_minutes), 0)
+              FROM attendances
+             WHERE work_date BETWEEN ? AND ?
+            """;
+
+    private static final String MONTHLY_GROUP_BY = " GROUP BY mb_no, status";
+    private static final String MEMBERS_ON_DATE_CONDITION =
+            " AND mb_no IN (SELECT mb_no FROM attendances WHERE work_date = ?)";
+
+    private static final String ADD_DAILY_DELTA_SQL = """
+            INSERT INTO attendance_daily_rollups (work_date, status, member_count, work_minutes)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                member_count = member_count + VALUES(member_count),
+                work_minutes = work_minutes + VALUES(work_minutes)
+            """;
+
+    private static final String ADD_MONTHLY_DELTA_SQL = """
+            INSERT INTO attendance_monthly_rollups (mb_no, month_start, status, day_count, work_minutes)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                day_count = day_count + VALUES(day_count),
+                work_minutes = work_minutes + VALUES(work_minutes)
+            """;
+
+    private static final String DELETE_EMPTY_DAILY_SQL =
+            "DELETE FROM attendance_daily_rollups WHERE work_date = ? AND status = ? AND member_count <= 0";
+
+    private static final String DELETE_EMPTY_MONTHLY_SQL =
+            "DELETE FROM attendance_monthly_rollups WHERE mb_no = ? AND month_start = ? AND status = ? AND day_count <= 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int refreshDaily(LocalDate start, LocalDate end) {
+        jdbcTemplate.update(DELETE_DAILY_SQL, start, end);
+        return jdbcTemplate.update(INSERT_DAILY_SQL, start, end);
+    }
+
+    @Override
+    public int refreshMonthly(YearMonth month) {
+        LocalDate first = month.atDay(1);
+
+        jdbcTemplate.update(DELETE_MONTHLY_SQL, first);
+        return jdbcTemplate.update(INSERT_MONTHLY_SQL + MONTHLY_GROUP_BY, first, first, month.atEndOfMonth());
+    }
+
+    @Override
+    public int refreshMonthlyForMembersOn(LocalDate workDate) {
+        YearMonth month = YearMonth.from(workDate);
+        LocalDate first = month.atDay(1);
+
+        jdbcTemplate.update(DELETE_MONTHLY_SQL + MEMBERS_ON_DATE_CONDITION, first, workDate);
+        return jdbcTemplate.update(INSERT_MONTHLY_SQL + MEMBERS_ON_DATE_CONDITION + MONTHLY_GROUP_BY,
+                first, first, month.atEndOfMonth(), workDate);
+    }
+
+    @Override
+    public void addDelta(Long mbNo, LocalDate workDate, Long status, int countDelta, long minutesDelta) {
+        LocalDate monthStart = workDate.withDayOfMonth(1);
+
+        jdbcTemplate.update(ADD_DAILY_DELTA_SQL, workDate, status, countDelta, minutesDelta);
+        jdbcTemplate.update(ADD_MONTHLY_DELTA_SQL, mbNo, monthStart, status, countDelta, minutesDelta);
+
+        if (countDelta < 0) {
+            jdbcTemplate.update(DELETE_EMPTY_DAILY_SQL, workDate, status);
+            jdbcTemplate.update(DELETE_EMPTY_MONTHLY_SQL, mbNo, monthStart, status);
+        }
+    }
+}
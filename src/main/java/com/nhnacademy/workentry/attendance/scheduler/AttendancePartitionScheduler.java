@@ -0,0 +1,48 @@
+package com.nhnacademy.workentry.attendance.scheduler;
+
+import com.nhnacademy.workentry.attendance.dto.AttendanceArchiveResult;
+import com.nhnacademy.workentry.attendance.dto.AttendancePartitionMaintenanceResult;
+import com.nhnacademy.workentry.attendance.service.AttendanceArchiveService;
+import com.nhnacademy.workentry.attendance.service.AttendancePartitionService;
+import com.nhnacademy.workentry.common.time.TodayProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 출결 월 파티션을 주기적으로 정리하는 스케줄러입니다.
+ * <p>
+ * 월이 바뀌기 전에 다음 달 파티션이 준비되어 있도록 매일 실행하며, 이미 정리된 상태라면 아무 작업도 하지 않습니다.
+ * 파티션 정리로 떼어 낸 월은 이어서 보관 파일로 옮기므로, 두 작업은 순서대로 실행합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendancePartitionScheduler {
+
+    private final AttendancePartitionService attendancePartitionService;
+    private final AttendanceArchiveService attendanceArchiveService;
+    private final TodayProvider todayProvider;
+
+    /**
+     * 매일 03:00에 다가올 월 파티션을 만들고, 보존 기간이 지난 월을 보관 파일로 옮깁니다.
+     */
+    @Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
+    public void maintainPartitions() {
+        LocalDate today = todayProvider.getToday();
+
+        AttendancePartitionMaintenanceResult result = attendancePartitionService.maintain(today);
+        if (result.isPartitioned()) {
+            log.info("출결 파티션 정리 완료: 생성={}, 보관={}, 실패={}",
+                    result.getCreatedPartitions().size(), result.getArchivedPartitions().size(), result.getFailures().size());
+        }
+
+        AttendanceArchiveResult archiveResult = attendanceArchiveService.archive(today);
+        log.info("출결 보관 파일 이동 완료: 월={}, 실패={}",
+                archiveResult.getArchived().size(), archiveResult.getFailures().size());
+    }
+}
@@ -0,0 +1,38 @@
+package com.nhnacademy.workentry.attendance.scheduler;
+
+import com.nhnacademy.workentry.attendance.service.AttendanceRollupService;
+import com.nhnacademy.workentry.common.time.TodayProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 출결 집계(롤업) 테이블을 주기적으로 다시 계산하는 스케줄러입니다.
+ * <p>
+ * 체크인·체크아웃과 적재 경로에서 집계를 즉시 갱신하지만, 그 밖의 경로(직접 수정, 실패한 갱신 등)로 생긴
+ * 차이를 바로잡기 위해 매일 새벽 지난달 1일부터 오늘까지의 집계를 원본 출결에서 다시 계산합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceRollupScheduler {
+
+    private final AttendanceRollupService attendanceRollupService;
+    private final TodayProvider todayProvider;
+
+    /**
+     * 매일 03:30에 지난달 1일부터 오늘까지의 출결 집계를 다시 계산합니다.
+     */
+    @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul")
+    public void rebuildRecentRollups() {
+        LocalDate today = todayProvider.getToday();
+        LocalDate start = today.minusMonths(1).withDayOfMonth(1);
+
+        log.info("출결 집계 정기 재계산 실행: {} ~ {}", start, today);
+        attendanceRollupService.rebuild(start, today);
+    }
+}
@@ -0,0 +1,22 @@
+package com.nhnacademy.workentry.attendance.service;
+
+import com.nhnacademy.workentry.attendance.dto.AttendanceArchiveResult;
+
+import java.time.LocalDate;
+
+/**
+ * 보존 기간이 지난 출결 기록을 로컬 보관 파일로 옮기는 서비스 인터페이스입니다.
+ */
+public interface AttendanceArchiveService {
+
+    /**
+     * 기준일의 보관 기준 월보다 오래된 출결 기록을 월별 보관 파일로 옮기고 운영 DB에서 지웁니다.
+     * <p>
+     * 파일 기록과 검증이 끝난 뒤에만 원본을 지우므로, 중간에 멈추더라도 다시 실행하면 이어서 처리합니다.
+     * </p>
+     *
+     * @param today 기준일
+     * @return 보관 결과
+     */
+    AttendanceArchiveResult archive(LocalDate today);
+}
@@ -0,0 +1,40 @@
+package com.nhnacademy.workentry.attendance.service;
+
+import com.nhnacademy.workentry.attendance.export.AttendanceExportFormat;
+import com.nhnacademy.workentry.common.exception.ArchivedPeriodException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * 출결 기록 내보내기 서비스 인터페이스입니다.
+ * <p>
+ * 대량의 출결 기록을 페이지 단위로 메모리에 적재하지 않고, 출력 스트림으로 바로 기록하는 기능을 정의합니다.
+ * </p>
+ */
+public interface AttendanceExportService {
+
+    /**
+     * 내보낼 수 있는 기간인지 확인합니다. 내보내기는 운영 테이블만 읽으므로 보관 파일로 옮겨진 기간은 거부합니다.
+     * 응답 본문을 쓰기 시작하면 상태 코드를 바꿀 수 없으므로, 호출 측은 스트리밍을 시작하기 전에 호출합니다.
+     *
+     * @param start 시작 날짜
+     * @throws ArchivedPeriodException 시작 날짜가 보관 기준일보다 앞선 경우
+     */
+    void validatePeriod(LocalDate start);
+
+    /**
+     * 지정된 기간의 출결 기록을 주어진 형식으로 출력 스트림에 기록합니다.
+     *
+     * @param mbNo         회원 번호 (null이면 전체 회원)
+     * @param start        시작 날짜
+     * @param end          종료 날짜
+     * @param format       내보내기 형식 (CSV, NDJSON)
+     * @param outputStream 기록할 출력 스트림 (호출 측에서 닫음)
+     * @return 기록된 행 수
+     * @throws IOException 출력 스트림 기록에 실패한 경우
+     * @throws ArchivedPeriodException 시작 날짜가 보관 기준일보다 앞선 경우
+     */
+    long export(Long mbNo, LocalDate start, LocalDate end, AttendanceExportFormat format, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,25 @@
+package com.nhnacademy.workentry.attendance.service;
+
+import com.nhnacademy.workentry.attendance.dto.AttendanceImportResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 과거 출결 기록 적재 서비스 인터페이스입니다.
+ * <p>
+ * {@code cleaned.csv} 형식의 대용량 파일을 한 번에 메모리에 올리지 않고 스트리밍으로 읽어
+ * {@code (mb_no, work_date)} 기준으로 업서트하는 기능을 정의합니다.
+ * </p>
+ */
+public interface AttendanceImportService {
+
+    /**
+     * 출결 CSV를 읽어 저장합니다. 잘못된 줄은 건너뛰고 결과에 줄 번호와 사유를 남깁니다.
+     *
+     * @param inputStream CSV 입력 스트림 (UTF-8, 호출 측에서 닫음)
+     * @return 적재 결과
+     * @throws IOException 입력 스트림을 읽지 못한 경우
+     */
+    AttendanceImportResult importCsv(InputStream inputStream) throws IOException;
+}
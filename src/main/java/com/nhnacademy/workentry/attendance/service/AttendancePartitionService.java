@@ -0,0 +1,23 @@
+package com.nhnacademy.workentry.attendance.service;
+
+import com.nhnacademy.workentry.attendance.dto.AttendancePartitionMaintenanceResult;
+
+import java.time.LocalDate;
+
+/**
+ * {@code attendances} 테이블의 월 파티션을 관리하는 서비스 인터페이스입니다.
+ */
+public interface AttendancePartitionService {
+
+    /**
+     * 기준일에 맞춰 월 파티션을 정리합니다.
+     * <p>
+     * 미리 만들어 둘 월까지 빠진 파티션을 추가하고, 보존 기간이 지난 월 파티션은 보관 테이블로 옮깁니다.
+     * 같은 기준일로 여러 번 실행해도 결과가 같습니다.
+     * </p>
+     *
+     * @param today 기준일
+     * @return 정리 결과
+     */
+    AttendancePartitionMaintenanceResult maintain(LocalDate today);
+}
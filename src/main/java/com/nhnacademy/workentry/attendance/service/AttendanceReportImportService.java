@@ -0,0 +1,39 @@
+package com.nhnacademy.workentry.attendance.service;
+
+import com.nhnacademy.workentry.attendance.dto.AttendanceImportResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * 고용24 훈련 이력 PDF 출력물 적재 서비스 인터페이스입니다.
+ * <p>
+ * PDF를 페이지 단위로 텍스트 추출하여 출결 기록으로 변환하고, {@code (mb_no, work_date)} 기준으로 업서트합니다.
+ * </p>
+ */
+public interface AttendanceReportImportService {
+
+    /**
+     * PDF 출력물 하나를 적재합니다.
+     *
+     * @param mbNo        출력물 대상 회원 번호
+     * @param inputStream PDF 입력 스트림 (호출 측에서 닫음)
+     * @return 적재 결과
+     * @throws IOException PDF를 읽지 못한 경우
+     */
+    AttendanceImportResult importReport(long mbNo, InputStream inputStream) throws IOException;
+
+    /**
+     * 디렉터리 안의 PDF 출력물을 병렬로 적재합니다.
+     * <p>
+     * 회원 번호는 파일명 앞의 숫자에서 읽습니다 (예: {@code 95_kyeongyeong.pdf}).
+     * </p>
+     *
+     * @param directory PDF 파일이 있는 디렉터리
+     * @return 파일명별 적재 결과 (파일명 순)
+     * @throws IOException 디렉터리를 읽지 못한 경우
+     */
+    Map<String, AttendanceImportResult> importDirectory(Path directory) throws IOException;
+}
@@ -0,0 +1,68 @@
+package com.nhnacademy.workentry.attendance.service;
+
+import com.nhnacademy.workentry.attendance.dto.DailyAttendanceSummaryDto;
+import com.nhnacademy.workentry.attendance.dto.MonthlyAttendanceSummaryDto;
+import com.nhnacademy.workentry.attendance.entity.Attendance;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 출결 집계(롤업) 서비스 인터페이스입니다.
+ * <p>
+ * 회원별 월간 집계와 전사 일별 집계를 출결 변경 시점에 갱신하고, 통계 조회 시 원본 출결 대신 집계 행을 읽습니다.
+ * </p>
+ */
+public interface AttendanceRollupService {
+
+    /**
+     * 한 회원의 출결 기록 한 건이 바뀐 만큼 해당 일자와 월의 집계에 증감분을 더합니다.
+     * <p>
+     * 원본을 다시 읽지 않으므로 비용이 회원 수와 무관합니다.
+     * 같은 회원·일자에 대한 드문 동시 변경으로 생긴 오차는 야간 재계산({@link #rebuild})에서 바로잡힙니다.
+     * </p>
+     *
+     * @param previous 변경 전 기록의 집계 기여분 (새 기록이면 {@code null})
+     * @param current  변경 후 기록의 집계 기여분 (삭제되었으면 {@code null})
+     */
+    void applyChange(Long mbNo, LocalDate workDate, Contribution previous, Contribution current);
+
+    /**
+     * 하루치 출결 기록이 일괄로 바뀐 뒤 해당 일자와, 그날 기록이 있는 회원들의 월 집계를 갱신합니다.
+     */
+    void refreshDate(LocalDate workDate);
+
+    /**
+     * 기간에 걸친 모든 집계를 원본 출결에서 다시 계산합니다. 월 단위로 나누어 각각의 트랜잭션에서 실행합니다.
+     */
+    void rebuild(LocalDate start, LocalDate end);
+
+    /**
+     * 회원의 월별 근무 통계를 조회합니다.
+     *
+     * @return 월 순으로 정렬된 통계 (기록이 없는 월은 제외)
+     */
+    List<MonthlyAttendanceSummaryDto> getMonthlySummary(Long mbNo, YearMonth from, YearMonth to);
+
+    /**
+     * 전사 일별 출결 통계를 조회합니다.
+     *
+     * @return 일자 순으로 정렬된 통계 (기록이 없는 날은 제외)
+     */
+    List<DailyAttendanceSummaryDto> getDailySummary(LocalDate start, LocalDate end);
+
+    /**
+     * 출결 기록 한 건이 집계에 기여하는 값(상태 코드와 근무 시간)입니다.
+     */
+    record Contribution(Long statusCode, Integer workMinutes) {
+
+        public static Contribution of(Attendance attendance) {
+            return new Contribution(attendance.getStatusCode(), attendance.getWorkMinutes());
+        }
+
+        public long minutes() {
+            return workMinutes == null ? 0L : workMinutes;
+        }
+    }
+}
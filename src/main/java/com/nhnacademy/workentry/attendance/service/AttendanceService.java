@@ -1,9 +1,11 @@
 package com.nhnacademy.workentry.attendance.service;
 
 import com.nhnacademy.workentry.adapter.member.dto.MemberNoResponse;
+import com.nhnacademy.workentry.attendance.dto.AttendanceBulkResult;
 import com.nhnacademy.workentry.attendance.dto.AttendanceDto;
 import com.nhnacademy.workentry.attendance.dto.AttendanceRequest;
 import com.nhnacademy.workentry.attendance.dto.AttendanceSummaryDto;
+import com.nhnacademy.workentry.attendance.dto.CursorSliceResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -37,8 +39,38 @@ public interface AttendanceService {
      */
     Page<AttendanceDto> getAttendanceByNoAndDateRange(Long mbNo, LocalDate start, LocalDate end, Pageable pageable);
 
+    /**
+     * 특정 회원의 지정된 기간 내 출결 내역을 커서 기반으로 조회합니다.
+     * <p>
+     * 전체 건수를 계산하지 않으며, 응답의 {@code nextCursor}를 다음 요청에 전달하여 이어서 조회합니다.
+     * 운영 테이블만 읽으므로 보관 파일로 옮겨진 기간은 조회할 수 없습니다.
+     * </p>
+     *
+     * @param mbNo   회원 고유 번호
+     * @param start  시작 날짜
+     * @param end    종료 날짜
+     * @param cursor 이전 응답의 다음 페이지 커서 (첫 페이지는 null)
+     * @param size   페이지 크기
+     * @return 커서 기반 출결 목록
+     * @throws com.nhnacademy.workentry.common.exception.ArchivedPeriodException 시작 날짜가 보관 기준일보다 앞선 경우
+     */
+    CursorSliceResponse<AttendanceDto> getAttendanceSliceByNoAndDateRange(Long mbNo, LocalDate start, LocalDate end, String cursor, int size);
+
+    /**
+     * 최근 1년 전체 출결 데이터를 커서 기반으로 조회합니다.
+     *
+     * @param cursor 이전 응답의 다음 페이지 커서 (첫 페이지는 null)
+     * @param size   페이지 크기
+     * @return 커서 기반 출결 목록
+     */
+    CursorSliceResponse<AttendanceDto> getRecentAttendanceSummarySlice(String cursor, int size);
+
     /**
      * 최근 30일 전체 출결 데이터를 페이지 단위로 조회합니다.
+     * <p>
+     * 출결 기록 한 건 단위(출퇴근 시각 포함)로 응답하므로 집계 테이블로 대신할 수 없어 원본 출결을 페이지 단위로 읽습니다.
+     * 상태별 건수·근무 시간 같은 통계는 {@link AttendanceRollupService#getDailySummary}를 사용합니다.
+     * </p>
      *
      * @param pageable 페이지 정보
      * @return 페이지 형태의 출결 요약 데이터
@@ -47,6 +79,10 @@ public interface AttendanceService {
 
     /**
      * 특정 회원의 최근 30일 근무 데이터를  조회합니다.
+     * <p>
+     * 날짜별 출퇴근 시각을 함께 응답하므로 집계 테이블로 대신할 수 없어 원본 출결을 {@code (mb_no, work_date)} 인덱스 범위로 읽습니다.
+     * 월별 근무 시간·상태별 일수는 {@link AttendanceRollupService#getMonthlySummary}를 사용합니다.
+     * </p>
      *
      * @param mbNo       회원 번호
      * @return 페이지 형태의 근무 통계
@@ -55,7 +91,43 @@ public interface AttendanceService {
 
     void createAttendance(AttendanceRequest attendanceRequest);
 
+    /**
+     * 여러 회원의 출근 기록을 청크 단위 다중 행 INSERT로 일괄 생성합니다.
+     * <p>
+     * 청크마다 별도의 트랜잭션으로 저장되며, 한 청크의 실패가 다른 청크에 영향을 주지 않습니다.
+     * 실패한 청크는 회원 단위로 다시 저장을 시도하여 실패 회원을 결과에 기록합니다.
+     * </p>
+     *
+     * @param attendanceRequests 출근 기록 생성 요청 목록
+     * @return 생성 건수와 회원별 실패 내역
+     */
+    AttendanceBulkResult createAttendances(List<AttendanceRequest> attendanceRequests);
+
+    /**
+     * {@link #createAttendances(List)}와 같이 저장하되 출결 집계는 갱신하지 않습니다.
+     * <p>
+     * 한 번의 실행을 여러 조각으로 나눠 동시에 저장하는 호출자가, 모든 조각을 저장한 뒤 집계를 한 번만 갱신할 때 사용합니다.
+     * 이미 있는 기록은 건너뛰며, 생성 건수에는 건너뛴 기록도 포함되므로 새 기록이 있었는지 판단하는 데 쓸 수 없습니다.
+     * </p>
+     *
+     * @param attendanceRequests 출근 기록 생성 요청 목록
+     * @return 저장되었거나 이미 존재한 건수와 회원별 실패 내역
+     */
+    AttendanceBulkResult insertAttendances(List<AttendanceRequest> attendanceRequests);
+
     void checkOut(Long mbNo, LocalDate workDate);
 
+    /**
+     * 해당 날짜에 체크인한 모든 회원을 상태별 UPDATE 문으로 일괄 퇴근 처리합니다.
+     * <p>
+     * 출근·지각·외근은 18:00 ~ 18:30, 반차는 14:00 ~ 15:30 사이의 퇴근 시각이 부여되며,
+     * 그 외 상태(연차, 결근 등)는 퇴근 처리 대상이 아닙니다.
+     * </p>
+     *
+     * @param workDate 근무 일자
+     * @return 퇴근 처리된 출결 기록 수
+     */
+    int checkOutAll(LocalDate workDate);
+
     List<MemberNoResponse> getCheckedInMembers(LocalDate today);
 }
@@ -0,0 +1,96 @@
+package com.nhnacademy.workentry.attendance.service.impl;
+
+import com.nhnacademy.workentry.attendance.archive.AttendanceArchivePolicy;
+import com.nhnacademy.workentry.attendance.archive.AttendanceArchiveStore;
+import com.nhnacademy.workentry.attendance.dto.AttendanceArchiveResult;
+import com.nhnacademy.workentry.attendance.repository.AttendanceArchiveRepository;
+import com.nhnacademy.workentry.attendance.service.AttendanceArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+/**
+ * 출결 기록 보관 서비스 구현 클래스입니다.
+ * <p>
+ * 두 경로의 기록을 월별 보관 파일({@link AttendanceArchiveStore})로 옮깁니다.
+ * <ul>
+ *     <li>파티션 정리로 운영 테이블에서 떼어 낸 {@code attendances_archive_yyyyMM} 테이블: 행을 근무 월별 파일에 옮긴 뒤 테이블 삭제</li>
+ *     <li>파티션되지 않은 환경이거나 파티션 정리가 밀려 운영 테이블에 남은, 보관 기준({@link AttendanceArchivePolicy})보다 오래된 행:
+ *     파일에 옮긴 뒤 해당 행만 삭제</li>
+ * </ul>
+ * 보관 파일은 근무 일자의 월로 찾으므로, 가장 오래된 파티션처럼 여러 달의 행이 든 테이블은 행을 근무 월별로 나눠 각 월 파일에 합칩니다.
+ * 원본 행은 {@code (mb_no, work_date)} 순의 스트리밍 커서로 읽어 기존 파일과 한 행씩 합쳐 쓰므로 한 달치 행을 메모리에 올리지 않습니다.
+ * 원본 삭제는 파일 기록과 헤더 행 수 검증 뒤에 하고, 파일은 같은 기록을 다시 넣어도 결과가 같으므로 실행이 중간에 멈춰도 안전합니다.
+ * 보관된 월의 집계(롤업) 행은 그대로 두므로 월별·일별 통계는 계속 조회할 수 있습니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceArchiveServiceImpl implements AttendanceArchiveService {
+
+    private final AttendanceArchiveRepository attendanceArchiveRepository;
+    private final AttendanceArchiveStore attendanceArchiveStore;
+    private final AttendanceArchivePolicy attendanceArchivePolicy;
+
+    @Override
+    public AttendanceArchiveResult archive(LocalDate today) {
+        List<AttendanceArchiveResult.Archived> archived = new ArrayList<>();
+        List<AttendanceArchiveResult.Failure> failures = new ArrayList<>();
+
+        for (YearMonth table : attendanceArchiveRepository.findArchiveTableMonths()) {
+            try {
+                // 모든 근무 월의 파일 기록이 끝난 뒤에만 테이블을 삭제
+                for (YearMonth month : attendanceArchiveRepository.findArchiveTableWorkMonths(table)) {
+                    try (AttendanceArchiveStore.MonthMerge merge = attendanceArchiveStore.openMerge(month)) {
+                        attendanceArchiveRepository.streamArchiveTableRows(table, month.atDay(1), month.atEndOfMonth(), merge::add);
+                        int stored = merge.commit();
+                        archived.add(new AttendanceArchiveResult.Archived(month.toString(), merge.addedCount(), stored));
+                        log.info("출결 보관 테이블 이동: table={}, month={}, 이동={}, 파일={}", table, month, merge.addedCount(), stored);
+                    }
+                }
+                attendanceArchiveRepository.dropArchiveTable(table);
+            } catch (DataAccessException | UncheckedIOException | IllegalArgumentException | IllegalStateException e) {
+                log.error("출결 보관 테이블 이동 실패: table={}, error={}", table, e.getMessage());
+                failures.add(new AttendanceArchiveResult.Failure(table.toString(), e.getMessage()));
+            }
+        }
+
+        YearMonth horizon = attendanceArchivePolicy.oldestRetainedMonth(today);
+        Optional<LocalDate> oldest = attendanceArchiveRepository.findOldestWorkDate();
+        if (oldest.isPresent()) {
+            for (YearMonth month = YearMonth.from(oldest.get()); month.isBefore(horizon); month = month.plusMonths(1)) {
+                LocalDate start = month.atDay(1);
+                LocalDate end = month.atEndOfMonth();
+                try (AttendanceArchiveStore.MonthMerge merge = attendanceArchiveStore.openMerge(month)) {
+                    LongStream.Builder ids = LongStream.builder();
+                    attendanceArchiveRepository.streamRows(start, end, row -> {
+                        merge.add(row);
+                        ids.add(row.id());
+                    });
+                    if (merge.addedCount() == 0) {
+                        continue;
+                    }
+                    int stored = merge.commit();
+                    int deleted = attendanceArchiveRepository.deleteRows(start, end, ids.build().toArray());
+                    archived.add(new AttendanceArchiveResult.Archived(month.toString(), deleted, stored));
+                    log.info("출결 운영 테이블 보관: month={}, 이동={}, 파일={}", month, deleted, stored);
+                } catch (DataAccessException | UncheckedIOException | IllegalArgumentException | IllegalStateException e) {
+                    log.error("출결 운영 테이블 보관 실패: month={}, error={}", month, e.getMessage());
+                    failures.add(new AttendanceArchiveResult.Failure(month.toString(), e.getMessage()));
+                }
+            }
+        }
+
+        return new AttendanceArchiveResult(archived, failures);
+    }
+}
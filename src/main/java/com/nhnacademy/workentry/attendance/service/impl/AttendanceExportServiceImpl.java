@@ -0,0 +1,78 @@
+package com.nhnacademy.workentry.attendance.service.impl;
+
+import com.nhnacademy.workentry.attendance.archive.AttendanceArchiveReader;
+import com.nhnacademy.workentry.attendance.export.AttendanceExportFormat;
+import com.nhnacademy.workentry.attendance.repository.AttendanceRepository;
+import com.nhnacademy.workentry.attendance.service.AttendanceExportService;
+import com.nhnacademy.workentry.common.exception.ArchivedPeriodException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 출결 기록 내보내기 서비스 구현 클래스입니다.
+ * <p>
+ * 저장소의 스트리밍 커서에서 전달받은 행을 버퍼링된 Writer로 바로 기록하므로,
+ * 내보내는 행 수와 관계없이 힙 사용량이 버퍼 크기 수준으로 유지됩니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceExportServiceImpl implements AttendanceExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceArchiveReader attendanceArchiveReader;
+
+    @Override
+    public void validatePeriod(LocalDate start) {
+        attendanceArchiveReader.requireNotArchived(start);
+    }
+
+    /**
+     * 지정된 기간의 출결 기록을 스트리밍으로 내보냅니다.
+     *
+     * @param mbNo 회원 번호 (null이면 전체 회원)
+     * @param start 시작 날짜
+     * @param end 종료 날짜
+     * @param format 내보내기 형식
+     * @param outputStream 출력 스트림
+     * @return 기록된 행 수
+     * @throws IOException 출력 스트림 기록에 실패한 경우 (예: 클라이언트 연결 종료)
+     * @throws ArchivedPeriodException 시작 날짜가 보관 기준일보다 앞선 경우
+     */
+    @Override
+    public long export(Long mbNo, LocalDate start, LocalDate end, AttendanceExportFormat format, OutputStream outputStream) throws IOException {
+        log.info("출결 내보내기 시작: mbNo={}, from={} to={}, format={}", mbNo, start, end, format);
+        validatePeriod(start);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        AtomicLong rowCount = new AtomicLong();
+
+        format.writeHeader(writer);
+        try {
+            attendanceRepository.streamAttendances(mbNo, start, end, row -> {
+                try {
+                    format.writeRow(writer, row);
+                    rowCount.incrementAndGet();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            log.warn("출결 내보내기 중단: 기록된 행={}, error={}", rowCount.get(), e.getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+
+        log.info("출결 내보내기 완료: 행 수={}", rowCount.get());
+        return rowCount.get();
+    }
+}
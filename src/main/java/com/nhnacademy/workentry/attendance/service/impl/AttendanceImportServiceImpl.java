@@ -0,0 +1,293 @@
+package com.nhnacademy.workentry.attendance.service.impl;
+
+import com.nhnacademy.workentry.attendance.dto.AttendanceImportResult;
+import com.nhnacademy.workentry.attendance.entity.Attendance;
+import com.nhnacademy.workentry.attendance.importer.AttendanceCsvLineParser;
+import com.nhnacademy.workentry.attendance.importer.ImportErrorCollector;
+import com.nhnacademy.workentry.attendance.importer.ImportedDateRange;
+import com.nhnacademy.workentry.attendance.repository.AttendanceRepository;
+import com.nhnacademy.workentry.attendance.service.AttendanceImportService;
+import com.nhnacademy.workentry.attendance.service.AttendanceRollupService;
+import com.nhnacademy.workentry.common.exception.InvalidImportFileException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 출결 CSV 적재 서비스 구현 클래스입니다.
+ * <p>
+ * 적재는 세 단계의 파이프라인으로 진행됩니다.
+ * <ol>
+ *     <li>읽기: 호출 스레드가 파일을 줄 단위로 읽어 {@value #BLOCK_LINES}줄 블록으로 묶습니다.</li>
+ *     <li>파싱: 블록을 CPU 코어 수만큼의 스레드에서 병렬로 파싱합니다. 상태 코드는 메모리 레지스트리에서 조회합니다.</li>
+ *     <li>쓰기: 단일 쓰기 스레드가 파싱된 행을 {@value #UPSERT_BATCH_SIZE}건씩 모아 다중 행 업서트로 저장합니다.</li>
+ * </ol>
+ * 동시에 처리 중인 블록 수를 제한하므로 파일 크기와 관계없이 메모리 사용량이 일정하며,
+ * 쓰기가 느리면 읽기가 함께 대기하고, 쓰기 단계가 실패하면 읽기도 곧바로 중단합니다. 같은 파일 안에서 {@code (mb_no, work_date)}가 중복되면
+ * 블록 처리 순서에 따라 어느 줄이 남을지 정해지지 않습니다.
+ * </p>
+ * <p>
+ * 진행 상황은 Micrometer 카운터({@code attendance.import.lines}, {@code attendance.import.rows})로 노출됩니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceImportServiceImpl implements AttendanceImportService {
+
+    // 파싱 스레드 하나가 한 번에 처리하는 줄 수
+    private static final int BLOCK_LINES = 5_000;
+
+    // 다중 행 업서트 한 번에 담을 최대 행 수
+    private static final int UPSERT_BATCH_SIZE = 1_000;
+
+    // 파싱 중이거나 쓰기를 기다리는 블록의 최대 개수 (메모리 상한)
+    private static final int MAX_IN_FLIGHT_BLOCKS = 16;
+
+    // 결과에 사유를 남길 최대 실패 줄 수 (전체 건수는 별도로 집계)
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int PARSE_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+    private static final long PROGRESS_LOG_INTERVAL = 100_000;
+
+    // 블록 처리 허가를 기다리는 동안 쓰기 단계의 종료 여부를 확인하는 간격
+    private static final long WRITER_POLL_MILLIS = 500;
+
+    private static final String LINES_METRIC = "attendance.import.lines";
+    private static final String ROWS_METRIC = "attendance.import.rows";
+    private static final String RESULT_TAG = "result";
+
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceCsvLineParser attendanceCsvLineParser;
+    private final AttendanceRollupService attendanceRollupService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 출결 CSV를 병렬 파싱·배치 업서트 파이프라인으로 적재합니다.
+     *
+     * @param inputStream CSV 입력 스트림
+     * @return 적재 결과
+     * @throws IOException 입력 스트림을 읽지 못한 경우
+     * @throws InvalidImportFileException 헤더가 {@code cleaned.csv} 레이아웃과 다른 경우
+     */
+    @Override
+    public AttendanceImportResult importCsv(InputStream inputStream) throws IOException {
+        long startedAt = System.nanoTime();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+
+        String header = reader.readLine();
+        if (!attendanceCsvLineParser.isHeader(header)) {
+            throw new InvalidImportFileException("헤더: " + header);
+        }
+
+        ImportErrorCollector errors = new ImportErrorCollector(MAX_REPORTED_ERRORS);
+        ImportedDateRange dateRange = new ImportedDateRange();
+        BlockingQueue<ParsedBlock> parsedBlocks = new ArrayBlockingQueue<>(MAX_IN_FLIGHT_BLOCKS + 1);
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT_BLOCKS);
+        ExecutorService parsePool = Executors.newFixedThreadPool(PARSE_THREADS);
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        Future<Long> written = writer.submit(() -> drain(parsedBlocks, inFlight, errors, dateRange));
+
+        log.info("출결 CSV 적재 시작: 파싱 스레드={}", PARSE_THREADS);
+        long lineNumber = 1;
+        try {
+            List<String> lines = new ArrayList<>(BLOCK_LINES);
+            long blockStart = lineNumber + 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                lines.add(line);
+                if (lines.size() == BLOCK_LINES) {
+                    submitBlock(parsePool, inFlight, parsedBlocks, written, new RawBlock(blockStart, lines), errors);
+                    blockStart = lineNumber + 1;
+                    lines = new ArrayList<>(BLOCK_LINES);
+                }
+            }
+            if (!lines.isEmpty()) {
+                submitBlock(parsePool, inFlight, parsedBlocks, written, new RawBlock(blockStart, lines), errors);
+            }
+        } finally {
+            finishParsing(parsePool, parsedBlocks);
+            writer.shutdown();
+        }
+
+        long importedCount = await(written);
+        if (!dateRange.isEmpty()) {
+            attendanceRollupService.rebuild(dateRange.start().orElseThrow(), dateRange.end().orElseThrow());
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("출결 CSV 적재 완료: 줄 수={}, 저장={}, 실패={}, 소요={}ms",
+                lineNumber - 1, importedCount, errors.count(), elapsedMillis);
+
+        return new AttendanceImportResult(lineNumber - 1, importedCount, errors.count(), elapsedMillis, errors.snapshot());
+    }
+
+    /**
+     * 처리 중인 블록 수가 상한에 도달하면 쓰기 단계가 블록을 소비할 때까지 대기한 뒤 파싱을 맡깁니다.
+     * <p>
+     * 종료 표시를 보내기 전에 쓰기 단계가 끝났다면 실패한 것이므로, 허가를 기다리는 동안 주기적으로 확인하여
+     * 더 읽지 않고 쓰기 단계의 예외로 적재를 중단합니다.
+     * </p>
+     */
+    private void submitBlock(ExecutorService parsePool, Semaphore inFlight, BlockingQueue<ParsedBlock> parsedBlocks,
+                             Future<Long> written, RawBlock block, ImportErrorCollector errors) {
+        try {
+            do {
+                if (written.isDone()) {
+                    await(written);
+                    throw new IllegalStateException("출결 CSV 저장 단계가 먼저 종료되었습니다.");
+                }
+            } while (!inFlight.tryAcquire(WRITER_POLL_MILLIS, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("출결 CSV 적재가 중단되었습니다.", e);
+        }
+        // 큐 용량이 허가 수보다 크므로 add는 실패하지 않습니다.
+        parsePool.execute(() -> parsedBlocks.add(parseBlock(block, errors)));
+    }
+
+    private ParsedBlock parseBlock(RawBlock block, ImportErrorCollector errors) {
+        List<ParsedLine> rows = new ArrayList<>(block.lines().size());
+        int invalid = 0;
+
+        for (int i = 0; i < block.lines().size(); i++) {
+            String line = block.lines().get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            long lineNumber = block.firstLineNumber() + i;
+            try {
+                rows.add(new ParsedLine(lineNumber, attendanceCsvLineParser.parse(line)));
+            } catch (RuntimeException e) {
+                errors.add(lineNumber, e.getMessage());
+                invalid++;
+            }
+        }
+
+        meterRegistry.counter(LINES_METRIC, RESULT_TAG, "parsed").increment(rows.size());
+        meterRegistry.counter(LINES_METRIC, RESULT_TAG, "invalid").increment(invalid);
+        return new ParsedBlock(rows);
+    }
+
+    /**
+     * 파싱된 블록을 모아 배치 단위로 업서트합니다. 종료 표시 블록을 받으면 남은 행을 저장하고 끝냅니다.
+     *
+     * @return 저장된 행 수
+     */
+    private long drain(BlockingQueue<ParsedBlock> parsedBlocks, Semaphore inFlight, ImportErrorCollector errors,
+                       ImportedDateRange dateRange) throws InterruptedException {
+        List<ParsedLine> batch = new ArrayList<>(UPSERT_BATCH_SIZE);
+        long written = 0;
+        long nextProgressLog = PROGRESS_LOG_INTERVAL;
+
+        while (true) {
+            ParsedBlock block = parsedBlocks.take();
+            if (block == ParsedBlock.END) {
+                break;
+            }
+            try {
+                for (ParsedLine row : block.rows()) {
+                    batch.add(row);
+                    dateRange.include(row.attendance().getWorkDate());
+                    if (batch.size() == UPSERT_BATCH_SIZE) {
+                        written += writeBatch(batch, errors);
+                        batch.clear();
+                    }
+                }
+            } finally {
+                inFlight.release();
+            }
+
+            if (written >= nextProgressLog) {
+                log.info("출결 CSV 적재 진행 중: 저장={}, 실패={}", written, errors.count());
+                nextProgressLog += PROGRESS_LOG_INTERVAL;
+            }
+        }
+
+        return written + writeBatch(batch, errors);
+    }
+
+    /**
+     * 배치를 한 트랜잭션으로 업서트합니다. 실패하면 줄 단위로 다시 저장하여 문제가 된 줄만 실패로 기록합니다.
+     *
+     * @return 저장된 행 수
+     */
+    private int writeBatch(List<ParsedLine> batch, ImportErrorCollector errors) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Attendance> attendances = batch.stream().map(ParsedLine::attendance).toList();
+        try {
+            transactionTemplate.executeWithoutResult(tx -> attendanceRepository.bulkUpsert(attendances));
+            meterRegistry.counter(ROWS_METRIC, RESULT_TAG, "upserted").increment(batch.size());
+            return batch.size();
+        } catch (RuntimeException e) {
+            log.warn("업서트 배치 실패, 줄 단위로 재시도합니다: size={}, error={}", batch.size(), e.getMessage());
+        }
+
+        int written = 0;
+        for (ParsedLine row : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(tx -> attendanceRepository.bulkUpsert(List.of(row.attendance())));
+                written++;
+            } catch (RuntimeException e) {
+                errors.add(row.lineNumber(), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            }
+        }
+        meterRegistry.counter(ROWS_METRIC, RESULT_TAG, "upserted").increment(written);
+        meterRegistry.counter(ROWS_METRIC, RESULT_TAG, "failed").increment((double) batch.size() - written);
+        return written;
+    }
+
+    /**
+     * 모든 파싱 작업이 끝난 뒤 쓰기 단계에 종료 표시를 보냅니다.
+     */
+    private void finishParsing(ExecutorService parsePool, BlockingQueue<ParsedBlock> parsedBlocks) {
+        parsePool.shutdown();
+        try {
+            while (!parsePool.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.info("출결 CSV 파싱 작업 종료 대기 중");
+            }
+        } catch (InterruptedException e) {
+            parsePool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        parsedBlocks.add(ParsedBlock.END);
+    }
+
+    private static long await(Future<Long> written) {
+        try {
+            return written.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("출결 CSV 적재가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("출결 CSV 저장 단계가 실패했습니다.", e.getCause());
+        }
+    }
+
+    private record RawBlock(long firstLineNumber, List<String> lines) {
+    }
+
+    private record ParsedLine(long lineNumber, Attendance attendance) {
+    }
+
+    private record ParsedBlock(List<ParsedLine> rows) {
+        private static final ParsedBlock END = new ParsedBlock(List.of());
+    }
+}
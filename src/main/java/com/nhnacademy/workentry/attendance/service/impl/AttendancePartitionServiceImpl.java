@@ -0,0 +1,85 @@
+package com.nhnacademy.workentry.attendance.service.impl;
+
+import com.nhnacademy.workentry.attendance.dto.AttendancePartitionMaintenanceResult;
+import com.nhnacademy.workentry.attendance.partition.AttendancePartitionPolicy;
+import com.nhnacademy.workentry.attendance.repository.AttendancePartitionRepository;
+import com.nhnacademy.workentry.attendance.service.AttendancePartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * 출결 월 파티션 관리 서비스 구현 클래스입니다.
+ * <p>
+ * 파티션 DDL은 문장마다 바로 반영되므로 트랜잭션을 사용하지 않고, 한 파티션의 실패가 나머지 파티션 작업을 막지 않도록
+ * 파티션 단위로 실패를 모아 결과에 담습니다. 빠진 월은 다음 실행에서 다시 시도합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendancePartitionServiceImpl implements AttendancePartitionService {
+
+    private final AttendancePartitionRepository attendancePartitionRepository;
+    private final AttendancePartitionPolicy attendancePartitionPolicy;
+
+    @Override
+    public AttendancePartitionMaintenanceResult maintain(LocalDate today) {
+        List<String> partitions = attendancePartitionRepository.findPartitionNames();
+        if (partitions.isEmpty()) {
+            log.warn("attendances 테이블이 파티션되지 않아 파티션 정리를 건너뜁니다. (db/attendances-partitioning.sql 참고)");
+            return AttendancePartitionMaintenanceResult.notPartitioned();
+        }
+
+        TreeSet<YearMonth> months = new TreeSet<>();
+        partitions.stream()
+                .map(AttendancePartitionPolicy::monthOf)
+                .flatMap(Optional::stream)
+                .forEach(months::add);
+        boolean hasFuture = partitions.contains(AttendancePartitionPolicy.FUTURE_PARTITION);
+
+        List<String> created = new ArrayList<>();
+        List<AttendancePartitionMaintenanceResult.Archived> archived = new ArrayList<>();
+        List<AttendancePartitionMaintenanceResult.Failure> failures = new ArrayList<>();
+
+        // 월 파티션은 이어져 있어야 하므로, 마지막 월 다음 달부터 미리 만들어 둘 월까지 차례로 추가
+        YearMonth oldestRetained = attendancePartitionPolicy.oldestRetainedMonth(today);
+        YearMonth lastPrepared = attendancePartitionPolicy.lastPreparedMonth(today);
+        YearMonth next = months.isEmpty() ? oldestRetained : months.last().plusMonths(1);
+        for (YearMonth month = next; !month.isAfter(lastPrepared); month = month.plusMonths(1)) {
+            String partition = AttendancePartitionPolicy.partitionName(month);
+            try {
+                attendancePartitionRepository.addMonthlyPartition(month, hasFuture);
+                created.add(partition);
+                log.info("출결 파티션 생성: {}", partition);
+            } catch (DataAccessException e) {
+                log.error("출결 파티션 생성 실패: partition={}, error={}", partition, e.getMessage());
+                failures.add(new AttendancePartitionMaintenanceResult.Failure(partition, e.getMessage()));
+                break;
+            }
+        }
+
+        for (YearMonth month : months.headSet(oldestRetained)) {
+            String partition = AttendancePartitionPolicy.partitionName(month);
+            try {
+                long rows = attendancePartitionRepository.archiveMonthlyPartition(month);
+                String archiveTable = AttendancePartitionPolicy.archiveTableName(month);
+                archived.add(new AttendancePartitionMaintenanceResult.Archived(partition, archiveTable, rows));
+                log.info("출결 파티션 보관: {} -> {} ({}건)", partition, archiveTable, rows);
+            } catch (DataAccessException | IllegalStateException e) {
+                log.error("출결 파티션 보관 실패: partition={}, error={}", partition, e.getMessage());
+                failures.add(new AttendancePartitionMaintenanceResult.Failure(partition, e.getMessage()));
+            }
+        }
+
+        return new AttendancePartitionMaintenanceResult(true, created, archived, failures);
+    }
+}
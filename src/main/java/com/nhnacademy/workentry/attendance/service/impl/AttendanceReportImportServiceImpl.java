@@ -0,0 +1,255 @@
+package com.nhnacademy.workentry.attendance.service.impl;
+
+import com.nhnacademy.workentry.attendance.dto.AttendanceImportResult;
+import com.nhnacademy.workentry.attendance.entity.Attendance;
+import com.nhnacademy.workentry.attendance.importer.ImportErrorCollector;
+import com.nhnacademy.workentry.attendance.importer.ImportedDateRange;
+import com.nhnacademy.workentry.attendance.importer.Work24ReportLineParser;
+import com.nhnacademy.workentry.attendance.repository.AttendanceRepository;
+import com.nhnacademy.workentry.attendance.service.AttendanceReportImportService;
+import com.nhnacademy.workentry.attendance.service.AttendanceRollupService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 고용24 훈련 이력 PDF 적재 서비스 구현 클래스입니다.
+ * <p>
+ * PDFBox로 문서를 열 때 임시 파일 기반 메모리 설정을 사용하고, 텍스트는 한 페이지씩 추출하여 바로 파싱하므로
+ * 문서 전체 텍스트를 메모리에 올리지 않습니다. 파싱된 행은 {@value #UPSERT_BATCH_SIZE}건씩 모아 업서트합니다.
+ * 디렉터리 적재 시에는 파일 하나를 한 스레드가 맡아 CPU 코어 수만큼 병렬로 처리합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceReportImportServiceImpl implements AttendanceReportImportService {
+
+    // 다중 행 업서트 한 번에 담을 최대 행 수
+    private static final int UPSERT_BATCH_SIZE = 500;
+
+    // 결과에 사유를 남길 최대 실패 줄 수 (전체 건수는 별도로 집계)
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private static final int IMPORT_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+    private static final String PDF_EXTENSION = ".pdf";
+    private static final Pattern MEMBER_NO_PREFIX = Pattern.compile("^(\\d+)");
+
+    private static final String ROWS_METRIC = "attendance.report.import.rows";
+    private static final String RESULT_TAG = "result";
+
+    private final AttendanceRepository attendanceRepository;
+    private final Work24ReportLineParser work24ReportLineParser;
+    private final AttendanceRollupService attendanceRollupService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * PDF 출력물 하나를 적재합니다. 문서는 임시 파일에 버퍼링되며 힙에 전체를 올리지 않습니다.
+     *
+     * @param mbNo 출력물 대상 회원 번호
+     * @param inputStream PDF 입력 스트림
+     * @return 적재 결과
+     * @throws IOException PDF를 읽지 못한 경우
+     */
+    @Override
+    public AttendanceImportResult importReport(long mbNo, InputStream inputStream) throws IOException {
+        ImportedDateRange dateRange = new ImportedDateRange();
+        AttendanceImportResult result;
+        try (PDDocument document = PDDocument.load(inputStream, MemoryUsageSetting.setupTempFileOnly())) {
+            result = importDocument(mbNo, document, dateRange);
+        }
+        rebuildRollups(dateRange);
+        return result;
+    }
+
+    /**
+     * 디렉터리 안의 PDF 파일을 병렬로 적재합니다.
+     * <p>
+     * 파일명에서 회원 번호를 찾지 못했거나 파일을 열지 못한 경우, 해당 파일의 결과에 사유를 기록하고 나머지 파일은 계속 처리합니다.
+     * </p>
+     *
+     * @param directory PDF 파일이 있는 디렉터리
+     * @return 파일명별 적재 결과 (파일명 순)
+     * @throws IOException 디렉터리를 읽지 못한 경우
+     */
+    @Override
+    public Map<String, AttendanceImportResult> importDirectory(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> entries = Files.list(directory)) {
+            files = entries
+                    .filter(Files::isRegularFile)
+                    .filter(path -> path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(PDF_EXTENSION))
+                    .sorted()
+                    .toList();
+        }
+        log.info("PDF 출력물 디렉터리 적재 시작: directory={}, 파일 수={}", directory, files.size());
+        if (files.isEmpty()) {
+            return Map.of();
+        }
+
+        ImportedDateRange dateRange = new ImportedDateRange();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(IMPORT_THREADS, files.size()));
+        Map<String, Future<AttendanceImportResult>> futures = new LinkedHashMap<>();
+        try {
+            for (Path file : files) {
+                futures.put(file.getFileName().toString(), pool.submit(() -> importFile(file, dateRange)));
+            }
+
+            Map<String, AttendanceImportResult> results = new LinkedHashMap<>();
+            for (Map.Entry<String, Future<AttendanceImportResult>> entry : futures.entrySet()) {
+                results.put(entry.getKey(), await(entry.getValue()));
+            }
+            rebuildRollups(dateRange);
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private AttendanceImportResult importFile(Path file, ImportedDateRange dateRange) {
+        String fileName = file.getFileName().toString();
+        Matcher matcher = MEMBER_NO_PREFIX.matcher(fileName);
+        if (!matcher.find()) {
+            log.warn("파일명에서 회원 번호를 찾을 수 없음: file={}", fileName);
+            return fileFailure("파일명에서 회원 번호를 찾을 수 없습니다: " + fileName);
+        }
+
+        long mbNo = Long.parseLong(matcher.group(1));
+        try (PDDocument document = PDDocument.load(file.toFile(), MemoryUsageSetting.setupTempFileOnly())) {
+            return importDocument(mbNo, document, dateRange);
+        } catch (IOException e) {
+            log.warn("PDF 출력물을 읽지 못함: file={}, error={}", fileName, e.getMessage());
+            return fileFailure("PDF를 읽지 못했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 문서를 한 페이지씩 추출·파싱하여 배치 단위로 업서트합니다.
+     * 줄 번호는 문서 전체에서 추출된 텍스트 줄을 1부터 센 값입니다.
+     */
+    private AttendanceImportResult importDocument(long mbNo, PDDocument document, ImportedDateRange dateRange) throws IOException {
+        long startedAt = System.nanoTime();
+        PDFTextStripper stripper = new PDFTextStripper();
+        List<PendingRow> batch = new ArrayList<>(UPSERT_BATCH_SIZE);
+        ImportErrorCollector errors = new ImportErrorCollector(MAX_REPORTED_ERRORS);
+        long dataLines = 0;
+        long importedCount = 0;
+        long lineNumber = 0;
+
+        int pages = document.getNumberOfPages();
+        for (int page = 1; page <= pages; page++) {
+            stripper.setStartPage(page);
+            stripper.setEndPage(page);
+            String text = stripper.getText(document);
+
+            for (String line : text.split("\\R")) {
+                lineNumber++;
+                try {
+                    Optional<Attendance> attendance = work24ReportLineParser.parse(mbNo, line);
+                    if (attendance.isEmpty()) {
+                        continue;
+                    }
+                    dataLines++;
+                    batch.add(new PendingRow(lineNumber, attendance.get()));
+                    dateRange.include(attendance.get().getWorkDate());
+                } catch (IllegalArgumentException e) {
+                    dataLines++;
+                    errors.add(lineNumber, e.getMessage());
+                    continue;
+                }
+
+                if (batch.size() == UPSERT_BATCH_SIZE) {
+                    importedCount += writeBatch(batch, errors);
+                    batch.clear();
+                }
+            }
+        }
+        importedCount += writeBatch(batch, errors);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("PDF 출력물 적재 완료: mbNo={}, 페이지={}, 저장={}, 실패={}, 소요={}ms",
+                mbNo, pages, importedCount, errors.count(), elapsedMillis);
+        return new AttendanceImportResult(dataLines, importedCount, errors.count(), elapsedMillis, errors.snapshot());
+    }
+
+    /**
+     * 배치를 한 트랜잭션으로 업서트합니다. 실패하면 행 단위로 다시 저장하여 문제가 된 줄만 실패로 기록합니다.
+     *
+     * @return 저장된 행 수
+     */
+    private int writeBatch(List<PendingRow> batch, ImportErrorCollector errors) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Attendance> attendances = batch.stream().map(PendingRow::attendance).toList();
+        try {
+            transactionTemplate.executeWithoutResult(tx -> attendanceRepository.bulkUpsert(attendances));
+            meterRegistry.counter(ROWS_METRIC, RESULT_TAG, "upserted").increment(batch.size());
+            return batch.size();
+        } catch (RuntimeException e) {
+            log.warn("업서트 배치 실패, 행 단위로 재시도합니다: size={}, error={}", batch.size(), e.getMessage());
+        }
+
+        int written = 0;
+        for (PendingRow row : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(tx -> attendanceRepository.bulkUpsert(List.of(row.attendance())));
+                written++;
+            } catch (RuntimeException e) {
+                errors.add(row.lineNumber(), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            }
+        }
+        meterRegistry.counter(ROWS_METRIC, RESULT_TAG, "upserted").increment(written);
+        meterRegistry.counter(ROWS_METRIC, RESULT_TAG, "failed").increment((double) batch.size() - written);
+        return written;
+    }
+
+    /**
+     * 적재한 근무 일자 범위의 출결 집계를 다시 계산합니다. 디렉터리 적재는 모든 파일이 끝난 뒤 한 번만 실행합니다.
+     */
+    private void rebuildRollups(ImportedDateRange dateRange) {
+        if (!dateRange.isEmpty()) {
+            attendanceRollupService.rebuild(dateRange.start().orElseThrow(), dateRange.end().orElseThrow());
+        }
+    }
+
+    private static AttendanceImportResult fileFailure(String reason) {
+        return new AttendanceImportResult(0, 0, 1, 0, List.of(new AttendanceImportResult.LineError(0, reason)));
+    }
+
+    private static AttendanceImportResult await(Future<AttendanceImportResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("PDF 출력물 적재가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            return fileFailure(String.valueOf(e.getCause().getMessage()));
+        }
+    }
+
+    private record PendingRow(long lineNumber, Attendance attendance) {
+    }
+}
@@ -0,0 +1,212 @@
+package com.nhnacademy.workentry.attendance.service.impl;
+
+import com.nhnacademy.workentry.attendance.archive.AttendanceArchiveReader;
+import com.nhnacademy.workentry.attendance.constant.AttendanceStatusConstants;
+import com.nhnacademy.workentry.attendance.dto.DailyAttendanceSummaryDto;
+import com.nhnacademy.workentry.attendance.dto.MonthlyAttendanceSummaryDto;
+import com.nhnacademy.workentry.attendance.entity.AttendanceDailyRollup;
+import com.nhnacademy.workentry.attendance.entity.AttendanceMonthlyRollup;
+import com.nhnacademy.workentry.attendance.entity.AttendanceStatus;
+import com.nhnacademy.workentry.attendance.registry.AttendanceStatusRegistry;
+import com.nhnacademy.workentry.attendance.repository.AttendanceDailyRollupRepository;
+import com.nhnacademy.workentry.attendance.repository.AttendanceMonthlyRollupRepository;
+import com.nhnacademy.workentry.attendance.service.AttendanceRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 출결 집계(롤업) 서비스 구현 클래스입니다.
+ * <p>
+ * 체크인·체크아웃은 바뀐 {@code (work_date, status)}, {@code (mb_no, month, status)} 키에 증감분만 더하므로
+ * 원본을 다시 읽지 않습니다. 원본 재계산은 일괄 처리와 {@link #rebuild}에서만 사용합니다.
+ * 조회는 월·일 단위의 상태별 집계 행만 읽고, 상태 설명은 {@link AttendanceStatusRegistry}에서 매핑합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AttendanceRollupServiceImpl implements AttendanceRollupService {
+
+    private final AttendanceMonthlyRollupRepository attendanceMonthlyRollupRepository;
+    private final AttendanceDailyRollupRepository attendanceDailyRollupRepository;
+    private final AttendanceStatusRegistry attendanceStatusRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final AttendanceArchiveReader attendanceArchiveReader;
+
+    /**
+     * 변경 전후 기여분의 차이를 상태별로 계산해 집계 행에 더합니다. 호출 측 트랜잭션에 참여합니다.
+     * <p>
+     * 행 잠금 순서가 요청마다 같도록 상태 코드 순으로 갱신하고, 증감분이 없는 키는 건드리지 않습니다.
+     * </p>
+     */
+    @Transactional
+    @Override
+    public void applyChange(Long mbNo, LocalDate workDate, Contribution previous, Contribution current) {
+        Map<Long, long[]> deltas = new TreeMap<>();
+        if (previous != null) {
+            long[] delta = deltas.computeIfAbsent(previous.statusCode(), code -> new long[2]);
+            delta[0] -= 1;
+            delta[1] -= previous.minutes();
+        }
+        if (current != null) {
+            long[] delta = deltas.computeIfAbsent(current.statusCode(), code -> new long[2]);
+            delta[0] += 1;
+            delta[1] += current.minutes();
+        }
+
+        deltas.forEach((status, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                attendanceMonthlyRollupRepository.addDelta(mbNo, workDate, status, (int) delta[0], delta[1]);
+            }
+        });
+    }
+
+    /**
+     * 하루치 일별 집계와 그날 기록이 있는 회원들의 월간 집계를 갱신합니다. 호출 측 트랜잭션에 참여합니다.
+     */
+    @Transactional
+    @Override
+    public void refreshDate(LocalDate workDate) {
+        int daily = attendanceMonthlyRollupRepository.refreshDaily(workDate, workDate);
+        int monthly = attendanceMonthlyRollupRepository.refreshMonthlyForMembersOn(workDate);
+        log.debug("출결 집계 갱신: workDate={}, 일별={}, 월간={}", workDate, daily, monthly);
+    }
+
+    /**
+     * 기간에 걸친 집계를 월 단위 트랜잭션으로 다시 계산합니다.
+     * <p>
+     * 월간 집계는 기간의 시작·끝이 걸친 달 전체를 다시 계산합니다.
+     * 한 번에 긴 트랜잭션을 잡지 않도록 월마다 커밋합니다.
+     * 보관 파일로 옮겨진 달은 원본이 운영 테이블에 없어 집계가 지워지기만 하므로,
+     * 시작 일자를 보관 기준일({@link AttendanceArchiveReader#horizon()})로 당깁니다.
+     * </p>
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public void rebuild(LocalDate requestedStart, LocalDate end) {
+        LocalDate start = max(requestedStart, attendanceArchiveReader.horizon());
+        if (start.isAfter(end)) {
+            log.warn("출결 집계 재계산 생략: 요청 기간 {} ~ {} 이 보관 기준일({}) 이전입니다.", requestedStart, end, start);
+            return;
+        }
+        log.info("출결 집계 재계산 시작: {} ~ {}", start, end);
+
+        for (YearMonth month = YearMonth.from(start); !month.isAfter(YearMonth.from(end)); month = month.plusMonths(1)) {
+            YearMonth target = month;
+            LocalDate dailyStart = max(target.atDay(1), start);
+            LocalDate dailyEnd = min(target.atEndOfMonth(), end);
+
+            transactionTemplate.executeWithoutResult(tx -> {
+                attendanceMonthlyRollupRepository.refreshDaily(dailyStart, dailyEnd);
+                attendanceMonthlyRollupRepository.refreshMonthly(target);
+            });
+        }
+
+        log.info("출결 집계 재계산 완료: {} ~ {}", start, end);
+    }
+
+    /**
+     * 회원의 월별 근무 통계를 조회합니다. 읽는 행 수는 월 수 × 상태 수 이하입니다.
+     */
+    @Override
+    public List<MonthlyAttendanceSummaryDto> getMonthlySummary(Long mbNo, YearMonth from, YearMonth to) {
+        log.info("월별 근무 통계 조회 요청: mbNo={}, {} ~ {}", mbNo, from, to);
+
+        List<AttendanceMonthlyRollup> rollups = attendanceMonthlyRollupRepository
+                .findByMbNoAndMonthBetweenOrderByMonthAsc(mbNo, from.atDay(1), to.atDay(1));
+
+        Long lateCode = statusCode(AttendanceStatusConstants.STATUS_LATE);
+        Long absentCode = statusCode(AttendanceStatusConstants.STATUS_ABSENT);
+
+        Map<LocalDate, List<AttendanceMonthlyRollup>> byMonth = rollups.stream()
+                .collect(Collectors.groupingBy(AttendanceMonthlyRollup::getMonth, TreeMap::new, Collectors.toList()));
+
+        return byMonth.entrySet().stream()
+                .map(entry -> {
+                    List<AttendanceMonthlyRollup> rows = entry.getValue();
+                    long workMinutes = rows.stream().mapToLong(AttendanceMonthlyRollup::getWorkMinutes).sum();
+                    return new MonthlyAttendanceSummaryDto(
+                            entry.getKey().getYear(),
+                            entry.getKey().getMonthValue(),
+                            rows.stream().mapToInt(AttendanceMonthlyRollup::getDayCount).sum(),
+                            workMinutes,
+                            workMinutes / 60,
+                            countOf(rows, lateCode, AttendanceMonthlyRollup::getStatus, AttendanceMonthlyRollup::getDayCount),
+                            countOf(rows, absentCode, AttendanceMonthlyRollup::getStatus, AttendanceMonthlyRollup::getDayCount),
+                            statusCounts(rows, AttendanceMonthlyRollup::getStatus, AttendanceMonthlyRollup::getDayCount)
+                    );
+                })
+                .toList();
+    }
+
+    /**
+     * 전사 일별 출결 통계를 조회합니다. 읽는 행 수는 일수 × 상태 수 이하입니다.
+     */
+    @Override
+    public List<DailyAttendanceSummaryDto> getDailySummary(LocalDate start, LocalDate end) {
+        log.info("일별 출결 통계 조회 요청: {} ~ {}", start, end);
+
+        Map<LocalDate, List<AttendanceDailyRollup>> byDate = attendanceDailyRollupRepository
+                .findByWorkDateBetweenOrderByWorkDateAsc(start, end).stream()
+                .collect(Collectors.groupingBy(AttendanceDailyRollup::getWorkDate, TreeMap::new, Collectors.toList()));
+
+        return byDate.entrySet().stream()
+                .map(entry -> new DailyAttendanceSummaryDto(
+                        entry.getKey(),
+                        entry.getValue().stream().mapToInt(AttendanceDailyRollup::getMemberCount).sum(),
+                        entry.getValue().stream().mapToLong(AttendanceDailyRollup::getWorkMinutes).sum(),
+                        statusCounts(entry.getValue(), AttendanceDailyRollup::getStatus, AttendanceDailyRollup::getMemberCount)
+                ))
+                .toList();
+    }
+
+    private Long statusCode(String description) {
+        return attendanceStatusRegistry.findByDescription(description)
+                .map(AttendanceStatus::getCode)
+                .orElse(null);
+    }
+
+    private static <T> int countOf(List<T> rows, Long statusCode, Function<T, Long> status, Function<T, Integer> count) {
+        if (statusCode == null) {
+            return 0;
+        }
+        return rows.stream()
+                .filter(row -> statusCode.equals(status.apply(row)))
+                .mapToInt(count::apply)
+                .sum();
+    }
+
+    /**
+     * 상태 코드별 건수를 상태 설명을 키로 하는 맵으로 변환합니다. 레지스트리에 없는 코드는 코드 값을 키로 사용합니다.
+     */
+    private <T> Map<String, Integer> statusCounts(List<T> rows, Function<T, Long> status, Function<T, Integer> count) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (T row : rows) {
+            Long code = status.apply(row);
+            String description = attendanceStatusRegistry.findByCode(code)
+                    .map(AttendanceStatus::getDescription)
+                    .orElse(String.valueOf(code));
+            counts.merge(description, count.apply(row), Integer::sum);
+        }
+        return counts;
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -1,29 +1,52 @@
 package com.nhnacademy.workentry.attendance.service.impl;
 
 import com.nhnacademy.workentry.adapter.member.dto.MemberNoResponse;
+import com.nhnacademy.workentry.attendance.archive.AttendanceArchivePolicy;
+import com.nhnacademy.workentry.attendance.archive.AttendanceArchiveReader;
 import com.nhnacademy.workentry.attendance.constant.AttendanceStatusConstants;
+import com.nhnacademy.workentry.attendance.dto.AttendanceBulkResult;
+import com.nhnacademy.workentry.attendance.dto.AttendanceCursor;
 import com.nhnacademy.workentry.attendance.dto.AttendanceDto;
 import com.nhnacademy.workentry.attendance.dto.AttendanceRequest;
 import com.nhnacademy.workentry.attendance.dto.AttendanceSummaryDto;
+import com.nhnacademy.workentry.attendance.dto.CursorSliceResponse;
 import com.nhnacademy.workentry.attendance.entity.Attendance;
 import com.nhnacademy.workentry.attendance.entity.AttendanceStatus;
+import com.nhnacademy.workentry.attendance.partition.AttendancePartitionPolicy;
+import com.nhnacademy.workentry.attendance.registry.AttendanceStatusRegistry;
 import com.nhnacademy.workentry.attendance.repository.AttendanceRepository;
-import com.nhnacademy.workentry.attendance.repository.AttendanceStatusRepository;
+import com.nhnacademy.workentry.attendance.service.AttendanceRollupService;
+import com.nhnacademy.workentry.attendance.service.AttendanceRollupService.Contribution;
 import com.nhnacademy.workentry.attendance.service.AttendanceService;
+import com.nhnacademy.workentry.common.exception.ArchivedPeriodException;
 import com.nhnacademy.workentry.common.exception.AttendanceNotFoundException;
 import com.nhnacademy.workentry.common.exception.AttendanceStatusNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 /**
  * 출결 정보 처리 서비스 구현 클래스입니다.
@@ -39,11 +62,32 @@ import java.util.Random;
 public class AttendanceServiceImpl implements AttendanceService {
 
     private final AttendanceRepository attendanceRepository;
-    private final AttendanceStatusRepository attendanceStatusRepository;
+    private final AttendanceStatusRegistry attendanceStatusRegistry;
+    private final AttendanceRollupService attendanceRollupService;
+    private final TransactionTemplate transactionTemplate;
+    private final AttendancePartitionPolicy attendancePartitionPolicy;
+    private final AttendanceArchiveReader attendanceArchiveReader;
+    private final AttendanceArchivePolicy attendanceArchivePolicy;
     private static final Random random = new Random();
 
+    // 커서 기반 조회 시 한 페이지의 최대 크기
+    private static final int MAX_SLICE_SIZE = 1000;
+
+    // 다중 행 INSERT 한 번에 담을 최대 출결 기록 수
+    private static final int BULK_CHUNK_SIZE = 1000;
+
+    // 정상 퇴근: 18:00 ~ 18:30, 반차 조퇴: 14:00 ~ 15:30
+    private static final LocalTime REGULAR_CHECK_OUT_START = LocalTime.of(18, 0);
+    private static final int REGULAR_CHECK_OUT_WINDOW_MINUTES = 31;
+    private static final LocalTime EARLY_LEAVE_CHECK_OUT_START = LocalTime.of(14, 0);
+    private static final int EARLY_LEAVE_CHECK_OUT_WINDOW_MINUTES = 91;
+
     /**
      * 특정 회원의 전체 출결 기록을 조회합니다.
+     * <p>
+     * 운영 테이블은 보관 기준 월부터 미리 만든 마지막 월까지의 월 파티션만 읽고,
+     * 그보다 오래된 기록은 보관 파일에서 읽어 근무 일자 순으로 합칩니다.
+     * </p>
      *
      * @param mbNo 회원 고유 번호
      * @return 출결 정보 DTO 리스트
@@ -52,12 +96,17 @@ public class AttendanceServiceImpl implements AttendanceService {
     public List<AttendanceDto> getAttendanceByNo(Long mbNo) {
         log.info("전체 출결 조회 요청: mbNo={}", mbNo);
 
-        List<Attendance> attendanceList = attendanceRepository.findAllByMbNo(mbNo);
-        log.debug("조회된 전체 출결 수: {}", attendanceList.size());
+        LocalDate today = LocalDate.now();
+        List<AttendanceDto> attendanceList = attendanceRepository.getAttendancesByNo(
+                mbNo, attendanceArchivePolicy.hotStart(today), attendancePartitionPolicy.hotEnd(today));
 
-        return attendanceList.stream()
-                .map(AttendanceDto::from)
-                .toList();
+        List<AttendanceDto> archived = attendanceArchiveReader.findAllAttendances(mbNo);
+        if (!archived.isEmpty()) {
+            attendanceList = mergeByWorkDate(archived, attendanceList, AttendanceDto::getWorkDate);
+        }
+        log.debug("조회된 전체 출결 수: {} (보관 {})", attendanceList.size(), archived.size());
+
+        return attendanceList;
     }
     /**
      * 특정 회원의 지정된 기간 내 출결 기록을 페이지 단위로 조회합니다.
@@ -72,7 +121,53 @@ public class AttendanceServiceImpl implements AttendanceService {
     public Page<AttendanceDto> getAttendanceByNoAndDateRange(Long mbNo, LocalDate start, LocalDate end, Pageable pageable) {
         log.info("기간별 출결 조회 요청: mbNo={}, from={} to={}", mbNo, start, end);
 
-        return attendanceRepository.getAttendanceByNoAndDateRange(mbNo, start, end, pageable);
+        if (!attendanceArchiveReader.isArchived(start)) {
+            return attendanceRepository.getAttendanceByNoAndDateRange(mbNo, start, end, pageable);
+        }
+
+        // 보관 기준일에 걸친 기간은 보관 파일과 운영 테이블을 합쳐 페이지를 만듦 (한 회원의 기간이므로 행 수가 제한됨)
+        // 파티션 보존 기간보다 보관 기준이 길면 기준일 앞의 행도 운영 테이블에 있으므로 기간 전체를 읽음
+        List<AttendanceDto> archived = attendanceArchiveReader.findAttendances(mbNo, start, end);
+        List<AttendanceDto> hot = attendanceRepository.getAttendancesByNo(mbNo, start, end);
+        return toPage(mergeByWorkDate(archived, hot, AttendanceDto::getWorkDate), pageable);
+    }
+
+    /**
+     * 특정 회원의 지정된 기간 내 출결 기록을 커서 기반으로 조회합니다.
+     *
+     * @param mbNo 회원 고유 번호
+     * @param start 시작 날짜
+     * @param end 종료 날짜
+     * @param cursor 다음 페이지 커서
+     * @param size 페이지 크기
+     * @return 커서 기반 출결 DTO 목록
+     * @throws ArchivedPeriodException 시작 날짜가 보관 기준일보다 앞선 경우 (키셋 커서는 운영 테이블만 읽음)
+     */
+    @Override
+    public CursorSliceResponse<AttendanceDto> getAttendanceSliceByNoAndDateRange(Long mbNo, LocalDate start, LocalDate end, String cursor, int size) {
+        log.info("기간별 출결 커서 조회 요청: mbNo={}, from={} to={}, size={}", mbNo, start, end, size);
+        attendanceArchiveReader.requireNotArchived(start);
+
+        Slice<AttendanceDto> slice = attendanceRepository.getAttendanceSliceByDateRange(
+                mbNo, start, end, AttendanceCursor.decode(cursor), limitSliceSize(size));
+        return CursorSliceResponse.of(slice, attendance -> AttendanceCursor.from(attendance).encode());
+    }
+
+    /**
+     * 최근 1년간 전체 출결 정보를 커서 기반으로 조회합니다.
+     *
+     * @param cursor 다음 페이지 커서
+     * @param size 페이지 크기
+     * @return 커서 기반 출결 DTO 목록
+     */
+    @Override
+    public CursorSliceResponse<AttendanceDto> getRecentAttendanceSummarySlice(String cursor, int size) {
+        LocalDate now = LocalDate.now();
+        LocalDate yearAgo = now.minusDays(364);
+
+        Slice<AttendanceDto> slice = attendanceRepository.getAttendanceSliceByDateRange(
+                null, yearAgo, now, AttendanceCursor.decode(cursor), limitSliceSize(size));
+        return CursorSliceResponse.of(slice, attendance -> AttendanceCursor.from(attendance).encode());
     }
 
     /**
@@ -84,8 +179,7 @@ public class AttendanceServiceImpl implements AttendanceService {
     public Page<AttendanceDto> getRecentAttendanceSummary(Pageable pageable) {
         LocalDate now = LocalDate.now();
         LocalDate monthAgo = now.minusDays(364);
-        Page<Attendance> records = attendanceRepository.findByWorkDateBetween(monthAgo, now, pageable);
-        return records.map(AttendanceDto::from);
+        return attendanceRepository.getAttendancesByDateRange(monthAgo, now, pageable);
     }
 
     /**
@@ -100,32 +194,28 @@ public class AttendanceServiceImpl implements AttendanceService {
         LocalDate now = LocalDate.now();
         LocalDate monthAgo = now.minusDays(364);
 
-        Page<Attendance> records = attendanceRepository.findByMbNoAndWorkDateBetween(mbNo, monthAgo, now.plusDays(1), pageable);
+        Page<AttendanceSummaryDto> records = attendanceArchiveReader.isArchived(monthAgo)
+                ? getSummaryAcrossArchive(mbNo, monthAgo, now.plusDays(1), pageable)
+                : attendanceRepository.getAttendanceSummaryByNoAndDateRange(mbNo, monthAgo, now.plusDays(1), pageable);
 
         if (records.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "최근 30일간 근무 기록이 존재하지 않습니다.");
         }
 
-        return records.map(att -> new AttendanceSummaryDto(
-                att.getWorkDate().getYear(),
-                att.getWorkDate().getMonthValue(),
-                att.getWorkDate().getDayOfMonth(),
-                att.getWorkMinutes() != null ? att.getWorkMinutes() / 60 : 0,
-                att.getInTime(),
-                att.getOutTime(),
-                att.getStatus() != null ? att.getStatus().getCode() : 0L
-        ));
+        return records;
     }
 
     /**
      * 출근 기록 생성
+     * <p>
+     * 같은 회원·근무 일자의 기록이 이미 있으면 새 값으로 갱신하므로, 같은 요청이 두 번 들어와도 기록은 하나만 남습니다.
+     * </p>
      */
     @Transactional
     @Override
     public void createAttendance(AttendanceRequest request) {
-        // 실제 외래 키 값(code)이 DB에 저장
-        AttendanceStatus status = attendanceStatusRepository.findByDescription(request.getStatus())
-                .orElseThrow(() -> new AttendanceNotFoundException(request.getMbNo()));
+        // 상태 코드는 레지스트리에서 I/O 없이 조회
+        AttendanceStatus status = attendanceStatusRegistry.getByDescription(request.getStatus());
 
         Attendance attendance = Attendance.newAttendance(
                 request.getMbNo(),
@@ -136,7 +226,89 @@ public class AttendanceServiceImpl implements AttendanceService {
                 status
         );
 
-        attendanceRepository.save(attendance);
+        // 집계 증감분 계산을 위해 덮어쓰기 전 기록의 기여분을 먼저 읽음
+        Contribution previous = attendanceRepository.findByMbNoAndWorkDate(request.getMbNo(), request.getWorkDate())
+                .map(Contribution::of)
+                .orElse(null);
+
+        // (mb_no, work_date) 유니크 키 기준 업서트
+        attendanceRepository.bulkUpsert(List.of(attendance));
+        attendanceRollupService.applyChange(request.getMbNo(), request.getWorkDate(), previous, Contribution.of(attendance));
+    }
+
+    /**
+     * 출근 기록 일괄 생성
+     * <p>
+     * 출결 상태는 {@link AttendanceStatusRegistry}에서 메모리로 매핑하고,
+     * {@value #BULK_CHUNK_SIZE}건 단위의 청크를 각각 독립된 트랜잭션으로 저장합니다.
+     * </p>
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public AttendanceBulkResult createAttendances(List<AttendanceRequest> attendanceRequests) {
+        Set<LocalDate> workDates = new TreeSet<>();
+        AttendanceBulkResult result = insertChunks(attendanceRequests, workDates, attendanceRepository::bulkInsert);
+
+        if (result.getStoredCount() > 0) {
+            workDates.forEach(attendanceRollupService::refreshDate);
+        }
+
+        log.info("출근 기록 일괄 생성 완료: 요청={}, 생성={}, 실패={}",
+                result.getRequestedCount(), result.getStoredCount(), result.getFailures().size());
+        return result;
+    }
+
+    /**
+     * 출결 집계를 갱신하지 않고 출근 기록을 일괄 저장합니다.
+     * <p>
+     * 여러 스레드가 나눠 저장한 뒤 호출자가 집계를 한 번만 갱신하는 경우에 사용합니다.
+     * 같은 회원·근무 일자의 기록이 이미 있으면 건너뛰므로, 중간에 멈춘 실행을 다시 돌려도 중복되거나 덮어쓰지 않습니다.
+     * </p>
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public AttendanceBulkResult insertAttendances(List<AttendanceRequest> attendanceRequests) {
+        return insertChunks(attendanceRequests, new TreeSet<>(), attendanceRepository::bulkInsertIfAbsent);
+    }
+
+    /**
+     * 요청을 {@value #BULK_CHUNK_SIZE}건 단위 청크로 {@code writer}에 넘겨 저장하고, 저장 대상이 된 근무 일자를 {@code workDates}에 모읍니다.
+     */
+    private AttendanceBulkResult insertChunks(List<AttendanceRequest> attendanceRequests,
+                                              Set<LocalDate> workDates,
+                                              ToIntFunction<List<Attendance>> writer) {
+        List<AttendanceBulkResult.Failure> failures = new ArrayList<>();
+        List<Attendance> chunk = new ArrayList<>(Math.min(attendanceRequests.size(), BULK_CHUNK_SIZE));
+        int stored = 0;
+
+        for (AttendanceRequest request : attendanceRequests) {
+            AttendanceStatus status = attendanceStatusRegistry.findByDescription(request.getStatus()).orElse(null);
+            if (status == null) {
+                failures.add(new AttendanceBulkResult.Failure(
+                        request.getMbNo(), new AttendanceStatusNotFoundException(request.getStatus()).getMessage()));
+                continue;
+            }
+
+            workDates.add(request.getWorkDate());
+            chunk.add(Attendance.newAttendance(
+                    request.getMbNo(),
+                    request.getWorkDate(),
+                    request.getCheckIn(),
+                    request.getCheckOut(),
+                    request.getWorkMinutes(),
+                    status
+            ));
+
+            if (chunk.size() == BULK_CHUNK_SIZE) {
+                stored += saveChunk(chunk, failures, writer);
+                chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            stored += saveChunk(chunk, failures, writer);
+        }
+        return new AttendanceBulkResult(attendanceRequests.size(), stored, failures);
     }
 
     /**
@@ -148,7 +320,8 @@ public class AttendanceServiceImpl implements AttendanceService {
         Attendance attendance = attendanceRepository.findByMbNoAndWorkDate(mbNo, workDate)
                 .orElseThrow(() -> new AttendanceNotFoundException(mbNo));
 
-        String statusDescription = attendance.getStatus().getDescription();
+        // 지연 로딩 연관관계를 초기화하지 않고 레지스트리에서 상태를 조회
+        String statusDescription = attendanceStatusRegistry.getByCode(attendance.getStatusCode()).getDescription();
 
         // 퇴근 처리가 필요한 상태 목록
         List<String> validStatuses = List.of(
@@ -165,14 +338,46 @@ public class AttendanceServiceImpl implements AttendanceService {
 
         LocalDateTime checkOutTime = generateCheckOutTimeForStatus(statusDescription);
 
-        AttendanceStatus status = attendanceStatusRepository.findByDescription(statusDescription)
-                .orElseThrow(() -> new AttendanceStatusNotFoundException(statusDescription));
-
         Integer workMinutes = (int) Duration.between(attendance.getInTime(), checkOutTime).toMinutes();
 
-        attendance.updateCheckOut(checkOutTime, workMinutes, status);
+        Contribution previous = Contribution.of(attendance);
+        attendance.updateCheckOut(checkOutTime, workMinutes, attendance.getStatus());
 
         attendanceRepository.save(attendance);
+        attendanceRollupService.applyChange(mbNo, workDate, previous, Contribution.of(attendance));
+    }
+
+    /**
+     * 일괄 퇴근 처리 (체크아웃)
+     * <p>
+     * 회원별 조회·수정·저장 대신 퇴근 시각 범위별로 UPDATE 문 한 번씩만 실행하므로,
+     * 회원 수와 관계없이 DB 왕복 횟수가 일정합니다.
+     * </p>
+     */
+    @Transactional
+    @Override
+    public int checkOutAll(LocalDate workDate) {
+        int regular = attendanceRepository.bulkCheckOut(
+                workDate,
+                resolveStatusCodes(AttendanceStatusConstants.STATUS_PRESENT,
+                        AttendanceStatusConstants.STATUS_LATE,
+                        AttendanceStatusConstants.STATUS_OUTING),
+                REGULAR_CHECK_OUT_START,
+                REGULAR_CHECK_OUT_WINDOW_MINUTES
+        );
+        int earlyLeave = attendanceRepository.bulkCheckOut(
+                workDate,
+                resolveStatusCodes(AttendanceStatusConstants.STATUS_EARLY_LEAVE),
+                EARLY_LEAVE_CHECK_OUT_START,
+                EARLY_LEAVE_CHECK_OUT_WINDOW_MINUTES
+        );
+
+        if (regular + earlyLeave > 0) {
+            attendanceRollupService.refreshDate(workDate);
+        }
+
+        log.info("일괄 퇴근 처리 완료: workDate={}, 정상 퇴근={}, 반차={}", workDate, regular, earlyLeave);
+        return regular + earlyLeave;
     }
 
     /**
@@ -200,11 +405,11 @@ public class AttendanceServiceImpl implements AttendanceService {
                  AttendanceStatusConstants.STATUS_LATE,
                  AttendanceStatusConstants.STATUS_OUTING:
                 // 정상 퇴근: 18:00 ~ 18:30
-                baseTime = LocalTime.of(18, 0).plusMinutes(random.nextInt(31));
+                baseTime = REGULAR_CHECK_OUT_START.plusMinutes(random.nextInt(REGULAR_CHECK_OUT_WINDOW_MINUTES));
                 break;
             case AttendanceStatusConstants.STATUS_EARLY_LEAVE:
                 // 반차 조퇴: 14:00 ~ 15:30
-                baseTime = LocalTime.of(14, 0).plusMinutes(random.nextInt(91));
+                baseTime = EARLY_LEAVE_CHECK_OUT_START.plusMinutes(random.nextInt(EARLY_LEAVE_CHECK_OUT_WINDOW_MINUTES));
                 break;
             case AttendanceStatusConstants.STATUS_VACATION,
                  AttendanceStatusConstants.STATUS_SICK,
@@ -216,4 +421,98 @@ public class AttendanceServiceImpl implements AttendanceService {
 
         return LocalDateTime.of(today, baseTime);
     }
+
+    /**
+     * 하나의 청크를 독립된 트랜잭션에서 다중 행 INSERT로 저장합니다.
+     * <p>
+     * 청크 저장이 실패하면 해당 청크만 회원 단위로 다시 저장을 시도하여,
+     * 실패 원인이 되는 회원만 실패 목록에 기록합니다.
+     * </p>
+     *
+     * @param chunk    저장할 출결 기록 청크
+     * @param failures 회원별 실패 내역을 누적할 리스트
+     * @param writer   청크를 저장하는 저장소 메서드
+     * @return 저장된 행 수
+     */
+    private int saveChunk(List<Attendance> chunk, List<AttendanceBulkResult.Failure> failures, ToIntFunction<List<Attendance>> writer) {
+        try {
+            Integer inserted = transactionTemplate.execute(tx -> writer.applyAsInt(chunk));
+            return inserted != null ? inserted : 0;
+        } catch (DataAccessException e) {
+            log.warn("청크 저장 실패, 회원 단위로 재시도합니다: size={}, error={}", chunk.size(), e.getMessage());
+        }
+
+        int inserted = 0;
+        for (Attendance attendance : chunk) {
+            try {
+                Integer rows = transactionTemplate.execute(tx -> writer.applyAsInt(List.of(attendance)));
+                inserted += rows != null ? rows : 0;
+            } catch (DataAccessException e) {
+                failures.add(new AttendanceBulkResult.Failure(attendance.getMbNo(), e.getMostSpecificCause().getMessage()));
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * 상태 설명 목록을 레지스트리에 등록된 상태 코드 목록으로 변환합니다.
+     *
+     * @param descriptions 상태 설명
+     * @return 상태 코드 목록
+     * @throws AttendanceStatusNotFoundException 등록되지 않은 상태가 하나라도 있을 경우
+     */
+    private List<Long> resolveStatusCodes(String... descriptions) {
+        return Arrays.stream(descriptions)
+                .map(attendanceStatusRegistry::getByDescription)
+                .map(AttendanceStatus::getCode)
+                .toList();
+    }
+
+    /**
+     * 커서 조회 페이지 크기를 1 ~ {@value #MAX_SLICE_SIZE} 범위로 제한합니다.
+     */
+    private int limitSliceSize(int size) {
+        return Math.clamp(size, 1, MAX_SLICE_SIZE);
+    }
+
+    /**
+     * 보관 기준일에 걸친 기간의 근무 요약을 보관 파일과 운영 테이블에서 읽어 페이지로 만듭니다.
+     */
+    private Page<AttendanceSummaryDto> getSummaryAcrossArchive(Long mbNo, LocalDate start, LocalDate end, Pageable pageable) {
+        List<AttendanceSummaryDto> archived = attendanceArchiveReader.findSummaries(mbNo, start, end);
+
+        List<AttendanceSummaryDto> hot = new ArrayList<>();
+        attendanceRepository.streamAttendances(mbNo, start, end, row -> hot.add(AttendanceSummaryDto.of(
+                row.getWorkDate(), row.getWorkMinutes(), row.getInTime(), row.getOutTime(), row.getStatusCode())));
+
+        return toPage(mergeByWorkDate(archived, hot,
+                summary -> LocalDate.of(summary.getYear(), summary.getMonthValue(), summary.getDayOfMonth())), pageable);
+    }
+
+    /**
+     * 한 회원의 보관 기록과 운영 기록을 근무 일자 순으로 합칩니다. 같은 일자가 양쪽에 있으면 운영 기록을 사용합니다.
+     */
+    private static <T> List<T> mergeByWorkDate(List<T> archived, List<T> hot, Function<T, LocalDate> workDate) {
+        TreeMap<LocalDate, T> merged = new TreeMap<>();
+        archived.forEach(row -> merged.put(workDate.apply(row), row));
+        hot.forEach(row -> merged.put(workDate.apply(row), row));
+        return new ArrayList<>(merged.values());
+    }
+
+    /**
+     * 근무 일자 오름차순 목록을 페이지로 자릅니다. 근무 일자 내림차순 정렬을 요청하면 순서를 뒤집습니다.
+     */
+    private static <T> Page<T> toPage(List<T> rows, Pageable pageable) {
+        Sort.Order order = pageable.getSort().getOrderFor("workDate");
+        if (order != null && order.isDescending()) {
+            Collections.reverse(rows);
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(rows);
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), rows.size());
+        int to = Math.min(from + pageable.getPageSize(), rows.size());
+        return new PageImpl<>(rows.subList(from, to), pageable, rows.size());
+    }
 }
@@ -0,0 +1,33 @@
+package com.nhnacademy.workentry.common.datasource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * MySQL의 {@code SHOW REPLICA STATUS}로 복제본 지연 시간을 확인합니다 (MySQL 8.0.22 이상).
+ * <p>
+ * 복제 설정이 없는 서버(단독 읽기 서버)는 지연이 없는 것으로 보고,
+ * 복제 스레드가 멈춰 {@code Seconds_Behind_Source}가 NULL이면 지연 시간을 알 수 없는 것으로 처리합니다.
+ * </p>
+ */
+public class MySqlReplicaLagProbe implements ReplicaLagProbe {
+
+    private static final String REPLICA_STATUS_SQL = "SHOW REPLICA STATUS";
+
+    @Override
+    public Duration lag(DataSource replica) throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet status = statement.executeQuery(REPLICA_STATUS_SQL)) {
+            if (!status.next()) {
+                return Duration.ZERO;
+            }
+            long seconds = status.getLong("Seconds_Behind_Source");
+            return status.wasNull() ? null : Duration.ofSeconds(seconds);
+        }
+    }
+}
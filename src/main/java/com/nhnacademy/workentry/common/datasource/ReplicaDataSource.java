@@ -0,0 +1,175 @@
+package com.nhnacademy.workentry.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션의 커넥션을 복제본에서 가져오는 데이터소스입니다.
+ * <p>
+ * 복제본은 돌아가며 사용하고, 마지막 확인에서 지연 시간이 {@code maxLag} 이하였던 복제본만 대상으로 삼습니다.
+ * 지연 시간을 아직 확인하지 않았거나, 모든 복제본이 뒤처져 있거나, 커넥션을 얻지 못하면 원본 커넥션을 반환하므로
+ * 읽기 요청이 실패하거나 오래된 데이터를 읽지 않습니다.
+ * </p>
+ * <p>
+ * 읽기 요청이 어디로 갔는지는 {@code datasource.read.route{target=replica|primary}}로,
+ * 복제본 상태는 {@code datasource.replica.lag}(초)와 {@code datasource.replica.healthy}로 기록합니다.
+ * </p>
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final String ROUTE_METRIC = "datasource.read.route";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReplicaLagProbe lagProbe;
+    private final Duration maxLag;
+    private final Counter replicaRoutes;
+    private final Counter primaryRoutes;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * @param primary     복제본을 쓸 수 없을 때 사용할 원본 데이터소스
+     * @param replicas    이름별 복제본 데이터소스 (순서대로 돌아가며 사용)
+     * @param lagProbe    복제본 지연 시간 확인 방법
+     * @param maxLag      복제본을 사용할 수 있는 최대 지연 시간
+     * @param meterRegistry 지표 레지스트리
+     */
+    public ReplicaDataSource(DataSource primary,
+                             Map<String, DataSource> replicas,
+                             ReplicaLagProbe lagProbe,
+                             Duration maxLag,
+                             MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.lagProbe = lagProbe;
+        this.maxLag = maxLag;
+        this.replicas = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            this.replicas.add(replica);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("replica", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+        this.replicaRoutes = meterRegistry.counter(ROUTE_METRIC, "target", "replica");
+        this.primaryRoutes = meterRegistry.counter(ROUTE_METRIC, "target", "primary");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * 복제본마다 지연 시간을 확인하여 사용 가능 여부를 갱신합니다.
+     * 확인에 실패하거나 지연 시간을 알 수 없는 복제본은 다음 확인까지 사용하지 않습니다.
+     */
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            Duration lag;
+            try {
+                lag = lagProbe.lag(replica.dataSource);
+            } catch (SQLException | RuntimeException e) {
+                replica.lagSeconds = Double.NaN;
+                markHealthy(replica, false, "지연 확인 실패: " + e.getMessage());
+                continue;
+            }
+
+            replica.lagSeconds = lag != null ? lag.toMillis() / 1000.0 : Double.NaN;
+            if (lag == null) {
+                markHealthy(replica, false, "복제 중단");
+            } else {
+                markHealthy(replica, lag.compareTo(maxLag) <= 0, "지연=" + lag.toMillis() + "ms");
+            }
+        }
+    }
+
+    /**
+     * 복제본 데이터소스를 닫습니다. 원본 데이터소스는 별도로 관리되므로 닫지 않습니다.
+     */
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("[데이터소스] 복제본 종료 실패: replica={}, error={}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Connection route(ConnectionSupplier supplier) throws SQLException {
+        int size = replicas.size();
+        int start = next.getAndIncrement();
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get(Math.floorMod(start + i, size));
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = supplier.get(replica.dataSource);
+                replicaRoutes.increment();
+                return connection;
+            } catch (SQLException e) {
+                markHealthy(replica, false, "커넥션 획득 실패: " + e.getMessage());
+            }
+        }
+
+        primaryRoutes.increment();
+        return supplier.get(primary);
+    }
+
+    private void markHealthy(Replica replica, boolean healthy, String reason) {
+        if (replica.healthy != healthy) {
+            if (healthy) {
+                log.info("[데이터소스] 복제본 읽기 재개: replica={}, {}", replica.name, reason);
+            } else {
+                log.warn("[데이터소스] 복제본 제외, 원본에서 읽음: replica={}, {}", replica.name, reason);
+            }
+        }
+        replica.healthy = healthy;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+
+        // 지연 시간을 확인하기 전에는 사용하지 않음
+        private volatile boolean healthy;
+        private volatile double lagSeconds = Double.NaN;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.nhnacademy.workentry.common.datasource;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * 읽기 전용 복제본이 원본보다 얼마나 뒤처져 있는지 확인하는 인터페이스입니다.
+ */
+@FunctionalInterface
+public interface ReplicaLagProbe {
+
+    /**
+     * 복제본의 지연 시간을 조회합니다.
+     *
+     * @param replica 복제본 데이터소스
+     * @return 지연 시간, 복제가 멈춰 알 수 없으면 null
+     * @throws SQLException 복제본에 연결하거나 상태를 조회하지 못한 경우
+     */
+    Duration lag(DataSource replica) throws SQLException;
+}
@@ -0,0 +1,91 @@
+package com.nhnacademy.workentry.common.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 MySQL 복제본으로 보내는 데이터소스 설정입니다.
+ * <p>
+ * {@code datasource.replica.urls}에 복제본 JDBC URL을 쉼표로 나열하면 활성화되며, 설정하지 않으면 기본 단일 데이터소스를 그대로 사용합니다.
+ * 애플리케이션이 쓰는 데이터소스는 원본 위의 {@link LazyConnectionDataSourceProxy}로, 실제 커넥션을 첫 SQL 실행 시점에 가져오므로
+ * {@code @Transactional(readOnly = true)}로 읽기 전용이 지정된 트랜잭션은 {@link ReplicaDataSource}에서, 나머지는 원본에서 커넥션을 얻습니다.
+ * </p>
+ * <p>
+ * 커넥션 풀은 경로마다 따로 두며 이름은 {@code primary}, {@code replica-0}, {@code replica-1}...입니다.
+ * 풀 지표는 {@code hikaricp.connections.*{pool=...}}로 노출됩니다.
+ * 복제본 풀은 원본 풀 설정({@code spring.datasource.*}, {@code spring.datasource.hikari.*})을 복사하고 URL과 풀 크기만 바꿉니다.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "urls")
+public class ReplicaRoutingConfig {
+
+    /**
+     * 쓰기와 복제본을 쓸 수 없을 때의 읽기에 사용하는 원본 커넥션 풀입니다.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+
+    /**
+     * 복제본마다 커넥션 풀을 만들어 {@link ReplicaDataSource}로 묶습니다.
+     * 복제본이 내려가 있어도 애플리케이션은 시작되며, 지연 확인에 성공할 때까지 읽기는 원본에서 처리됩니다.
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaDataSource replicaDataSource(HikariDataSource primaryDataSource,
+                                               @Value("${datasource.replica.urls}") List<String> urls,
+                                               @Value("${datasource.replica.maximum-pool-size:0}") int maximumPoolSize,
+                                               @Value("${datasource.replica.max-lag:PT5S}") Duration maxLag,
+                                               MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setJdbcUrl(url.trim());
+            config.setPoolName("replica-" + replicas.size());
+            config.setReadOnly(true);
+            config.setInitializationFailTimeout(-1);
+            if (maximumPoolSize > 0) {
+                config.setMaximumPoolSize(maximumPoolSize);
+            }
+            replicas.put(config.getPoolName(), new HikariDataSource(config));
+        }
+
+        log.info("[데이터소스] 읽기 전용 트랜잭션 복제본 라우팅 활성화: 복제본={}, 최대 지연={}", replicas.keySet(), maxLag);
+        return new ReplicaDataSource(primaryDataSource, replicas, new MySqlReplicaLagProbe(), maxLag, meterRegistry);
+    }
+
+    /**
+     * 애플리케이션이 사용하는 데이터소스입니다. 읽기 전용 커넥션만 복제본으로 보냅니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
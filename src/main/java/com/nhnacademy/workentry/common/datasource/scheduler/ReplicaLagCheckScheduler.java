@@ -0,0 +1,26 @@
+package com.nhnacademy.workentry.common.datasource.scheduler;
+
+import com.nhnacademy.workentry.common.datasource.ReplicaDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 복제본 지연 시간을 주기적으로 확인하여, 뒤처진 복제본으로 읽기 요청이 가지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "datasource.replica", name = "urls")
+public class ReplicaLagCheckScheduler {
+
+    private final ReplicaDataSource replicaDataSource;
+
+    /**
+     * 애플리케이션 시작 직후와, 이전 확인이 끝난 뒤 {@code datasource.replica.lag-check-interval}(기본 5초)마다 지연 시간을 확인합니다.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:PT5S}")
+    public void checkReplicaLag() {
+        replicaDataSource.checkLag();
+    }
+}
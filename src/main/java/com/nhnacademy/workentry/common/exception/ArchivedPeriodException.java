@@ -0,0 +1,28 @@
+package com.nhnacademy.workentry.common.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 운영 테이블만 읽는 조회에 보관 파일로 옮겨진 기간이 포함되었을 때 발생하는 예외입니다.
+ *
+ * <p>커서 기반 조회와 내보내기는 운영 테이블의 키셋 순서와 스트리밍 커서를 그대로 사용하므로
+ * 보관 기준일 이전 기간을 요청하면 일부 기록이 빠진 결과 대신 HTTP 400(Bad Request) 상태 코드로 응답됩니다.</p>
+ *
+ * @see org.springframework.web.bind.annotation.ResponseStatus
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class ArchivedPeriodException extends RuntimeException {
+
+    /**
+     * 요청한 시작 일자와 보관 기준일을 포함하는 ArchivedPeriodException을 생성합니다.
+     *
+     * @param start 요청한 조회 시작 일자
+     * @param horizon 운영 테이블의 첫 근무 일자
+     */
+    public ArchivedPeriodException(LocalDate start, LocalDate horizon) {
+        super("보관된 기간은 이 조회에서 지원하지 않습니다. 시작 일자는 " + horizon + " 이후여야 합니다. start : " + start);
+    }
+}
@@ -22,4 +22,8 @@ public class AttendanceStatusNotFoundException extends RuntimeException {
     public AttendanceStatusNotFoundException(String statusDescription) {
         super("출결 상태가 존재하지 않습니다. statusDescription : " + statusDescription);
     }
+
+    public AttendanceStatusNotFoundException(Long code) {
+        super("출결 상태가 존재하지 않습니다. code : " + code);
+    }
 }
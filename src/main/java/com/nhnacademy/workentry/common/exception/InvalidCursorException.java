@@ -0,0 +1,26 @@
+package com.nhnacademy.workentry.common.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 커서 기반 페이지 조회에서 잘못된 커서 값이 전달되었을 때 발생하는 예외입니다.
+ *
+ * <p>커서는 서버가 발급한 불투명(opaque) 문자열이어야 하며, 클라이언트가 임의로 만들거나
+ * 변조한 값이 전달되면 HTTP 400(Bad Request) 상태 코드로 응답됩니다.</p>
+ *
+ * @see org.springframework.web.bind.annotation.ResponseStatus
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+
+    /**
+     * 지정된 커서 값과 원인(cause)을 포함하는 InvalidCursorException을 생성합니다.
+     *
+     * @param cursor 해석에 실패한 커서 값
+     * @param cause 원인 예외
+     */
+    public InvalidCursorException(String cursor, Throwable cause) {
+        super("유효하지 않은 커서입니다. cursor : " + cursor, cause);
+    }
+}
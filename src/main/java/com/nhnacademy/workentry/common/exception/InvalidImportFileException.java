@@ -0,0 +1,25 @@
+package com.nhnacademy.workentry.common.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 출결 적재 파일의 형식이 예상한 레이아웃과 다를 때 발생하는 예외입니다.
+ *
+ * <p>개별 데이터 줄의 오류는 적재 결과에 줄 단위로 보고되며, 이 예외는 헤더 불일치처럼
+ * 파일 전체를 처리할 수 없는 경우에만 사용되어 HTTP 400(Bad Request) 상태 코드로 응답됩니다.</p>
+ *
+ * @see org.springframework.web.bind.annotation.ResponseStatus
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidImportFileException extends RuntimeException {
+
+    /**
+     * 지정된 사유를 포함하는 InvalidImportFileException을 생성합니다.
+     *
+     * @param reason 파일을 처리할 수 없는 사유
+     */
+    public InvalidImportFileException(String reason) {
+        super("출결 적재 파일 형식이 올바르지 않습니다. " + reason);
+    }
+}
@@ -0,0 +1,25 @@
+package com.nhnacademy.workentry.common.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 페이지 조회의 정렬 조건에 정렬할 수 없는 속성이 지정되었을 때 발생하는 예외입니다.
+ *
+ * <p>정렬은 인덱스로 처리할 수 있는 몇 가지 속성으로만 허용하며, 그 밖의 속성 이름이 전달되면
+ * HTTP 400(Bad Request) 상태 코드로 응답됩니다.</p>
+ *
+ * @see org.springframework.web.bind.annotation.ResponseStatus
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSortPropertyException extends RuntimeException {
+
+    /**
+     * 지정된 속성 이름을 포함하는 InvalidSortPropertyException을 생성합니다.
+     *
+     * @param property 정렬할 수 없는 속성 이름
+     */
+    public InvalidSortPropertyException(String property) {
+        super("정렬할 수 없는 속성입니다. property : " + property);
+    }
+}
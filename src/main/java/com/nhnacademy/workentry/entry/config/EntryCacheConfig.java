@@ -0,0 +1,29 @@
+package com.nhnacademy.workentry.entry.config;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 출입 통계 캐시 설정 클래스입니다.
+ * <p>
+ * 지나간 날짜의 일별 출입 횟수는 더 이상 바뀌지 않으므로 만료 없이 보관합니다.
+ * 하루에 한 항목씩만 늘어나므로 크기 제한은 두지 않습니다.
+ * </p>
+ */
+@Configuration
+@EnableCaching
+public class EntryCacheConfig {
+
+    /** 마감된 날짜별 출입 횟수 캐시 (키: {@link java.time.LocalDate}, 값: {@link Integer}) */
+    public static final String DAILY_ENTRY_COUNTS = "dailyEntryCounts";
+
+    @Bean
+    public CacheManager cacheManager() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(DAILY_ENTRY_COUNTS);
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
@@ -0,0 +1,76 @@
+package com.nhnacademy.workentry.entry.influx;
+
+import com.influxdb.client.InfluxDBClient;
+import com.influxdb.query.FluxRecord;
+import com.influxdb.query.FluxTable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * InfluxDB에서 '입구' 센서의 일별 출입 횟수를 조회하는 컴포넌트입니다.
+ * <p>
+ * 하루 경계는 한국 시간(Asia/Seoul) 자정 기준이며, 각 집계 구간은 구간 시작 시각으로 날짜를 매깁니다.
+ * 입구 센서가 여러 대인 경우 같은 날짜의 횟수를 합산합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntryCountInfluxQuery {
+
+    private static final ZoneId ASIA_SEOUL = ZoneId.of("Asia/Seoul");
+
+    private final InfluxDBClient influxDBClient;
+
+    /**
+     * {@code [from, toExclusive)} 기간의 일별 출입 횟수를 조회합니다.
+     *
+     * @param from 조회 시작 날짜 (포함)
+     * @param toExclusive 조회 종료 날짜 (제외)
+     * @return 날짜별 출입 횟수 (날짜 순). 센서 기록이 없는 날짜는 포함되지 않습니다.
+     */
+    public Map<LocalDate, Integer> countByDay(LocalDate from, LocalDate toExclusive) {
+        String flux = String.format("""
+            import "timezone"
+            option location = timezone.location(name: "Asia/Seoul")
+
+            from(bucket: "coffee-mqtt")
+              |> range(start: %s, stop: %s)
+              |> filter(fn: (r) => r["_measurement"] == "sensor")
+              |> filter(fn: (r) => r["_field"] == "value")
+              |> filter(fn: (r) => r["location"] == "입구")
+              |> filter(fn: (r) => r["type"] == "activity")
+              |> aggregateWindow(every: 1d, fn: count, timeSrc: "_start", createEmpty: false)
+              |> group(columns: ["_time"])
+              |> sum(column: "_value")
+              |> keep(columns: ["_time", "_value"])
+              |> yield(name: "daily_count")
+        """, toInstant(from), toInstant(toExclusive));
+
+        List<FluxTable> tables = influxDBClient.getQueryApi().query(flux);
+
+        Map<LocalDate, Integer> counts = new TreeMap<>();
+        for (FluxTable table : tables) {
+            for (FluxRecord fRecord : table.getRecords()) {
+                LocalDate date = Objects.requireNonNull(fRecord.getTime()).atZone(ASIA_SEOUL).toLocalDate();
+                int count = ((Number) Objects.requireNonNull(fRecord.getValue())).intValue();
+                counts.merge(date, count, Integer::sum);
+            }
+        }
+        log.debug("[Influx Entry] 일별 출입 횟수 조회: {} ~ {} (제외), 결과={}", from, toExclusive, counts);
+        return counts;
+    }
+
+    private static String toInstant(LocalDate date) {
+        return date.atStartOfDay(ASIA_SEOUL).toOffsetDateTime().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    }
+}
@@ -12,8 +12,16 @@ public interface EntryRealtimeService {
 
     /**
      * 가장 최근의 출입 정보를 조회합니다.
+     * <p>
+     * 백그라운드 수집 루프가 메모리에 보관한 값을 반환하며, 데이터 저장소를 조회하지 않습니다.
+     * </p>
      *
      * @return EntryRealtimeDto 객체로, 현재 시점 기준의 최신 출입 정보를 포함합니다.
      */
     EntryRealtimeDto getLatestEntry();
+
+    /**
+     * 데이터 저장소에서 최근 출입 집계를 가져와 최신 값을 갱신하고, 값이 바뀐 경우 구독자에게 전송합니다.
+     */
+    void pollLatestEntry();
 }
@@ -6,79 +6,125 @@ import com.influxdb.query.FluxRecord;
 import com.influxdb.query.FluxTable;
 import com.nhnacademy.workentry.entry.realtime.dto.EntryRealtimeDto;
 import com.nhnacademy.workentry.entry.realtime.service.EntryRealtimeService;
+import com.nhnacademy.workentry.log.realtime.LogTopic;
 import com.nhnacademy.workentry.log.realtime.LogWebSocketHandler;
-import com.nhnacademy.workentry.notify.adapter.NotifyAdapter;
-import com.nhnacademy.workentry.notify.dto.EmailRequest;
+import com.nhnacademy.workentry.notify.service.IntrusionAlertService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.context.request.RequestContextHolder;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * InfluxDB에서 최근 하루 데이터를 조회하여
- * 실시간 출입 통계를 반환하는 서비스 클래스입니다.
+ * InfluxDB의 최근 1분 단위 출입 집계를 백그라운드에서 추적하고,
+ * 메모리에 보관한 최신 값으로 실시간 출입 통계를 반환하는 서비스 클래스입니다.
+ * <p>
+ * 조회 요청은 InfluxDB에 접근하지 않고 메모리의 최신 값만 읽습니다.
+ * 수집 루프는 직전에 본 1분 구간부터(최대 {@code entry.realtime.lookback}까지만 거슬러 올라가) 다시 집계하므로
+ * 쿼리당 집계 구간 수는 접속자 수와 무관하게 몇 개로 제한됩니다. 값이 바뀐 경우에만 WebSocket으로 전송합니다.
+ * 이상 출입 알림 메일은 {@link IntrusionAlertService}에 넘기기만 하므로 수집 루프가 메일 발송을 기다리지 않습니다.
+ * </p>
  */
 @Slf4j
 @Service
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class EntryRealtimeServiceImpl implements EntryRealtimeService {
 
+    private static final ZoneId ASIA_SEOUL = ZoneId.of("Asia/Seoul");
+
     private final InfluxDBClient influxDBClient;
     private final LogWebSocketHandler logWebSocketHandler;
-    private final NotifyAdapter notifyAdapter;
+    private final IntrusionAlertService intrusionAlertService;
+
+    @Value("${entry.realtime.lookback:PT5M}")
+    private Duration lookback = Duration.ofMinutes(5);
 
-    @Value("${admin.email}")
-    private String adminEmail;
+    // 가장 최근 1분 구간의 출입 횟수 (수집 전이면 null)
+    private final AtomicReference<EntryRealtimeDto> latest = new AtomicReference<>();
 
     /**
-     * 최근 24시간 이내의 출입 데이터를 1분 간격으로 집계합니다.
+     * 메모리에 보관된 가장 최근 1분 구간의 출입 통계를 반환합니다.
      *
-     * @return EntryRealtimeDto 객체 (가장 최근 시간의 데이터)
+     * @return EntryRealtimeDto 객체 (아직 수집된 값이 없으면 현재 시각, 0명)
      */
     @Override
     public EntryRealtimeDto getLatestEntry() {
-        List<FluxTable> tables = getFluxTables();
-
-        for (FluxTable table : tables) {
-            for (FluxRecord fRecord : table.getRecords()) {
-                LocalDateTime entryTime = Objects.requireNonNull(fRecord.getTime()).atZone(ZoneId.of("Asia/Seoul")).toLocalDateTime();
-                int count = ((Number) Objects.requireNonNull(fRecord.getValue())).intValue();
-
-                EntryRealtimeDto dto = new EntryRealtimeDto(entryTime, count);
-
-                logAndBroadcast(dto, entryTime);
+        EntryRealtimeDto dto = latest.get();
+        return dto != null ? dto : new EntryRealtimeDto(LocalDateTime.now(ASIA_SEOUL), 0);
+    }
 
-                return dto; // 정상적인 FluxRecord가 존재할 경우 무조건 바로 반환
+    /**
+     * 직전에 본 1분 구간부터 현재까지를 다시 집계하여 최신 값을 갱신합니다.
+     * <p>
+     * 최신 구간의 시각이나 출입 횟수가 바뀐 경우에만 로그를 남기고 WebSocket으로 전송합니다.
+     * 입구 센서가 여러 대이면 같은 구간의 횟수를 합산합니다.
+     * </p>
+     */
+    @Override
+    public void pollLatestEntry() {
+        Instant now = Instant.now();
+        Instant start = pollStart(now);
 
+        Instant bucket = null;
+        int count = 0;
+        for (FluxTable table : getFluxTables(start)) {
+            for (FluxRecord fRecord : table.getRecords()) {
+                Instant time = Objects.requireNonNull(fRecord.getTime());
+                int value = ((Number) Objects.requireNonNull(fRecord.getValue())).intValue();
+                if (bucket == null || time.isAfter(bucket)) {
+                    bucket = time;
+                    count = value;
+                } else if (time.equals(bucket)) {
+                    count += value;
+                }
             }
         }
+        if (bucket == null) {
+            return;
+        }
 
-        return new EntryRealtimeDto(LocalDateTime.now(ZoneId.of("Asia/Seoul")), 0);
+        EntryRealtimeDto dto = new EntryRealtimeDto(LocalDateTime.ofInstant(bucket, ASIA_SEOUL), count);
+        EntryRealtimeDto previous = latest.getAndSet(dto);
+        if (!dto.equals(previous)) {
+            logAndBroadcast(dto, dto.getTime());
+        }
+    }
+
+    /**
+     * 수집 시작 시각을 계산합니다. 직전에 본 구간이 조회 한도 안에 있으면 그 구간부터, 아니면 한도 시점부터 조회합니다.
+     */
+    private Instant pollStart(Instant now) {
+        Instant limit = now.minus(lookback).truncatedTo(ChronoUnit.MINUTES);
+        EntryRealtimeDto previous = latest.get();
+        if (previous == null) {
+            return limit;
+        }
+        Instant lastBucket = previous.getTime().atZone(ASIA_SEOUL).toInstant();
+        return lastBucket.isAfter(limit) ? lastBucket : limit;
     }
 
     @NotNull
-    private List<FluxTable> getFluxTables() {
-        String flux = """
+    private List<FluxTable> getFluxTables(Instant start) {
+        String flux = String.format("""
                         from(bucket: "coffee-mqtt")
-                          |> range(start: -1d)
+                          |> range(start: %s)
                           |> filter(fn: (r) => r["_measurement"] == "sensor")
                           |> filter(fn: (r) => r["_field"] == "value")
                           |> filter(fn: (r) => r["location"] == "입구")
                           |> filter(fn: (r) => r["type"] == "activity")
-                          |> aggregateWindow(every: 1m, fn: count, createEmpty: true)
-                          |> sort(columns: ["_time"], desc: true)
-                          |> limit(n: 1)
-                      """;
+                          |> aggregateWindow(every: 1m, fn: count, timeSrc: "_start", createEmpty: true)
+                          |> last()
+                      """, DateTimeFormatter.ISO_INSTANT.format(start));
 
         QueryApi queryApi = influxDBClient.getQueryApi();
         return queryApi.query(flux);
@@ -111,7 +157,7 @@ public class EntryRealtimeServiceImpl implements EntryRealtimeService {
      * - 심야 시간대(entryTime이 지정된 범위 내)에는 경고(ALERT) 레벨로 로그를 남기고,
      * - 일반 시간대에는 정보(INFO) 레벨로 로그를 남깁니다.
      * <p>
-     * 또한, 데이터 직렬화 실패 시 에러 로그를 출력하고 에러 메시지를 WebSocket으로 전송합니다.
+     * 수집 루프에서 값이 바뀐 경우에만 호출됩니다.
      *
      * @param dto       출입 정보를 담은 DTO 객체 (시간, 출입자 수)
      * @param entryTime 출입이 감지된 시간 (심야 여부 판단에 사용)
@@ -128,28 +174,20 @@ public class EntryRealtimeServiceImpl implements EntryRealtimeService {
             message = String.format("[%s]이상 출입자 발생. 관리자는 확인 부탁드립니다.", logTime);
         } else {
             message = String.format("[%s] 현재 출입자 수는 %d명 입니다.", logTime, dto.getCount());
-            log.info("[{}] 현재 출입자 수는 {}명입니다. (Session: {})",
-                    logTime, dto.getCount(), RequestContextHolder.currentRequestAttributes().getSessionId());
         }
 
 
         // 로그 출력
         if (isNight && hasEntry) {
-            EmailRequest notifyEntry = new EmailRequest(
-                    adminEmail,
-                    "⚠️ 이상 출입 감지 알림",
-                    dto.getTime()+"\n이상 출입자 발생.\n관리자 확인 바랍니다.",
-                    "ROLE_ADMIN"
-            );
-            notifyAdapter.sendTextEmail(notifyEntry);
+            intrusionAlertService.notifyIntrusion(dto.getTime(), dto.getCount());
 
             log.error(message);
         } else {
             log.info(message);
         }
 
-        // WebSocket 방송
-        logWebSocketHandler.broadcast(message);
+        // WebSocket 방송 (이상 출입은 알림 주제, 그 외는 실시간 출입 주제)
+        logWebSocketHandler.publish(isNight && hasEntry ? LogTopic.INTRUSION_ALERT : LogTopic.ENTRY_REALTIME, message);
 
     }
 
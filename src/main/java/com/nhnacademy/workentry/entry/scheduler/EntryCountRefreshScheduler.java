@@ -0,0 +1,33 @@
+package com.nhnacademy.workentry.entry.scheduler;
+
+import com.nhnacademy.workentry.entry.service.EntryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주간 출입 통계 캐시를 백그라운드에서 갱신하는 스케줄러입니다.
+ * <p>
+ * 요청 스레드가 InfluxDB 조회를 기다리지 않도록, 오늘의 출입 횟수를 조회 허용 기간보다 짧은 주기로 미리 갱신합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntryCountRefreshScheduler {
+
+    private final EntryService entryService;
+
+    /**
+     * 이전 갱신이 끝난 뒤 {@code entry.weekly.refresh-interval}(기본 1분)마다 주간 출입 통계 캐시를 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${entry.weekly.refresh-interval:PT1M}", initialDelayString = "PT10S")
+    public void refreshWeeklyEntryCounts() {
+        try {
+            entryService.refreshWeeklyEntryCounts();
+        } catch (Exception e) {
+            log.warn("[주간 출입 통계] 백그라운드 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.nhnacademy.workentry.entry.scheduler;
+
+import com.nhnacademy.workentry.entry.realtime.service.EntryRealtimeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실시간 출입 통계를 수집하는 단일 백그라운드 루프입니다.
+ * <p>
+ * InfluxDB 조회는 이 루프에서만 일어나므로, 조회 부하는 실시간 화면을 보는 사용자 수와 무관합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntryRealtimePollScheduler {
+
+    private final EntryRealtimeService entryRealtimeService;
+
+    /**
+     * 이전 수집이 끝난 뒤 {@code entry.realtime.poll-interval}(기본 5초)마다 최신 출입 집계를 수집합니다.
+     */
+    @Scheduled(fixedDelayString = "${entry.realtime.poll-interval:PT5S}")
+    public void pollLatestEntry() {
+        try {
+            entryRealtimeService.pollLatestEntry();
+        } catch (Exception e) {
+            log.warn("[실시간 출입 통계] 수집 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -20,4 +20,12 @@ public interface EntryService {
      * @return {@link EntryCountDto} 객체 리스트. 각 객체는 날짜와 해당 날짜의 출입 횟수를 포함합니다.
      */
     List<EntryCountDto> getWeeklyEntryCounts();
+
+    /**
+     * 주간 출입 통계 캐시를 갱신합니다.
+     *
+     * <p>오늘의 출입 횟수를 다시 조회하고, 마감된 날짜 중 캐시에 없는 날짜를 채웁니다.
+     * 백그라운드 스케줄러에서 주기적으로 호출합니다.</p>
+     */
+    void refreshWeeklyEntryCounts();
 }
@@ -1,106 +1,240 @@
 package com.nhnacademy.workentry.entry.service.impl;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.influxdb.client.InfluxDBClient;
-import com.influxdb.client.QueryApi;
-import com.influxdb.query.FluxRecord;
-import com.influxdb.query.FluxTable;
+import com.nhnacademy.workentry.common.time.TodayProvider;
+import com.nhnacademy.workentry.entry.config.EntryCacheConfig;
 import com.nhnacademy.workentry.entry.dto.EntryCountDto;
+import com.nhnacademy.workentry.entry.influx.EntryCountInfluxQuery;
 import com.nhnacademy.workentry.entry.service.EntryService;
-import lombok.AllArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
-import java.time.*;
-import java.time.format.DateTimeFormatter;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * InfluxDB에서 출입 데이터(센서 데이터)를 조회하여
  * 일별 출입 횟수를 반환하는 서비스 클래스입니다.
  *
- * <p>이 서비스는 InfluxDBClient를 통해 Flux 쿼리를 실행하고,
- * 응답 결과를 List 형태로 가공하여 반환합니다.</p>
+ * <p>이번 주 월요일부터 어제까지의 마감된 날짜는 값이 바뀌지 않으므로 {@link EntryCacheConfig#DAILY_ENTRY_COUNTS}
+ * 캐시에 영구 보관하고, 캐시에 없는 날짜만 연속된 구간별 Flux 쿼리로 조회합니다.
+ * 출입 기록이 0건인 날짜는 센서 데이터 적재 지연일 수 있으므로, 마감 후 유예 일수({@code entry.weekly.zero-grace-days})가
+ * 지나기 전에는 캐시하지 않고 다음 요청에서 다시 조회합니다. 유예가 지난 0건은 확정된 값으로 보고 캐시합니다.
+ * 오늘의 출입 횟수는 백그라운드에서 주기적으로 갱신한 값을 사용하며, 값이 없거나 오래된 경우에만 요청 스레드에서 조회합니다.
+ * 마감일과 오늘 모두, 동시에 들어온 요청은 진행 중인 하나의 조회 결과를 함께 기다립니다.</p>
  */
 @Slf4j
 @Service
-@AllArgsConstructor
 public class EntryServiceImpl implements EntryService {
-    private final InfluxDBClient influxDBClient;
-    private final ObjectMapper objectMapper;
+
+    private static final String CACHE_METRIC = "entry.weekly.cache";
+
+    private final EntryCountInfluxQuery entryCountInfluxQuery;
+    private final TodayProvider todayProvider;
+    private final Cache dailyCountCache;
+    private final MeterRegistry meterRegistry;
+    private final Duration todayMaxAge;
+    private final int zeroGraceDays;
+
+    // 조회 범위별로 진행 중인 마감일 출입 횟수 조회
+    private final ConcurrentMap<DateRange, CompletableFuture<Map<LocalDate, Integer>>> closedDayLoads = new ConcurrentHashMap<>();
+
+    // 진행 중인 오늘 출입 횟수 조회 (없으면 null)
+    private final AtomicReference<CompletableFuture<TodayCount>> todayLoad = new AtomicReference<>();
+
+    // 가장 최근에 조회한 오늘 출입 횟수
+    private volatile TodayCount todayCount;
+
+    public EntryServiceImpl(EntryCountInfluxQuery entryCountInfluxQuery,
+                            TodayProvider todayProvider,
+                            CacheManager cacheManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${entry.weekly.today-max-age:PT2M}") Duration todayMaxAge,
+                            @Value("${entry.weekly.zero-grace-days:1}") int zeroGraceDays) {
+        this.entryCountInfluxQuery = entryCountInfluxQuery;
+        this.todayProvider = todayProvider;
+        this.dailyCountCache = Objects.requireNonNull(cacheManager.getCache(EntryCacheConfig.DAILY_ENTRY_COUNTS));
+        this.meterRegistry = meterRegistry;
+        this.todayMaxAge = todayMaxAge;
+        this.zeroGraceDays = zeroGraceDays;
+    }
 
     /**
-     * InfluxDB에 저장된 센서 데이터를 조회하여
-     * 최근 7일간의 일별 출입 횟수를 가져옵니다.
+     * 이번 주 월요일부터 오늘까지의 일별 출입 횟수를 가져옵니다.
+     *
+     * <p>마감된 날짜는 캐시에서, 오늘은 주기적으로 갱신되는 값에서 읽으므로
+     * 대부분의 요청은 InfluxDB를 조회하지 않습니다. 센서 기록이 없는 날짜는 결과에 포함되지 않습니다.</p>
      *
-     * <p>Flux 쿼리를 통해 '입구' 위치의 'activity(인원이 지나간 횟수)' 타입 센서 값을 집계하여,
-     * 날짜별 출입 횟수를 계산합니다.</p>
-     * 쿼리문 속 range는 해당 데이터 기간설정
-     * aggregateWindow 속 every 뒤엔 받아올 시간 및 월별 단위 작성
      * @return 날짜와 해당 날짜의 출입 횟수를 담은 EntryCountDto 객체 리스트
      */
     @Override
     public List<EntryCountDto> getWeeklyEntryCounts() {
-        List<FluxTable> tables = getFluxTables();
-        log.info("FluxTable 수: {}", tables.size());
+        LocalDate today = todayProvider.getToday();
+        LocalDate monday = today.with(DayOfWeek.MONDAY);
+
         List<EntryCountDto> result = new ArrayList<>();
+        closedDayCounts(monday, today).forEach((date, count) -> {
+            if (count > 0) {
+                result.add(new EntryCountDto(date.toString(), count));
+            }
+        });
 
-        for (FluxTable table : tables) {
-            log.info("Record 수: {}", table.getRecords().size());
-            for (FluxRecord fRecord : table.getRecords()) {
-                log.info("Record: time={}, value={}", fRecord.getTime(), fRecord.getValue());
+        int todayValue = currentTodayCount(today);
+        if (todayValue > 0) {
+            result.add(new EntryCountDto(today.toString(), todayValue));
+        }
+        return result;
+    }
 
-                String date = Objects.requireNonNull(fRecord.getTime()).toString().substring(0, 10);
-                int count = ((Number) Objects.requireNonNull(fRecord.getValue())).intValue();
-                EntryCountDto dto = new EntryCountDto(date, count);
+    /**
+     * 오늘의 출입 횟수를 다시 조회하고, 이번 주 마감된 날짜 중 캐시에 없는 날짜를 채웁니다.
+     * 자정이 지난 뒤 첫 호출에서 어제의 최종 값이 캐시에 들어갑니다.
+     */
+    @Override
+    public void refreshWeeklyEntryCounts() {
+        LocalDate today = todayProvider.getToday();
+        closedDayCounts(today.with(DayOfWeek.MONDAY), today);
+        await(loadToday(today));
+    }
 
-                try {
-                    String json = objectMapper.writeValueAsString(dto);
-                    String fallbackMessage = "[Influx Entry] " + json;
-                    log.info(fallbackMessage);
+    /**
+     * {@code [monday, today)} 날짜의 출입 횟수를 캐시에서 읽고, 캐시에 없는 날짜는 연속된 구간마다 한 번의 쿼리로 조회합니다.
+     * 센서 기록이 없는 날짜는 0으로 반환합니다.
+     */
+    private Map<LocalDate, Integer> closedDayCounts(LocalDate monday, LocalDate today) {
+        Map<LocalDate, Integer> counts = new TreeMap<>();
+        List<DateRange> misses = new ArrayList<>();
+        LocalDate missFrom = null;
+        for (LocalDate date = monday; date.isBefore(today); date = date.plusDays(1)) {
+            Integer cached = dailyCountCache.get(date, Integer.class);
+            if (cached != null) {
+                counts.put(date, cached);
+                if (missFrom != null) {
+                    misses.add(new DateRange(missFrom, date));
+                    missFrom = null;
+                }
+            } else if (missFrom == null) {
+                missFrom = date;
+            }
+        }
+        if (missFrom != null) {
+            misses.add(new DateRange(missFrom, today));
+        }
+        if (misses.isEmpty()) {
+            recordCache("closed", "hit");
+            return counts;
+        }
 
-                } catch (JsonProcessingException e) {
-                    log.error("[Influx Entry] JSON 직렬화 실패", e);
+        recordCache("closed", "miss");
+        // 유예 일수가 지난 날짜는 0건이어도 확정된 값으로 캐시
+        LocalDate zeroCacheBefore = today.minusDays(zeroGraceDays);
+        for (DateRange range : misses) {
+            Map<LocalDate, Integer> fetched = await(loadClosedDays(range, zeroCacheBefore));
+            for (LocalDate date = range.from(); date.isBefore(range.to()); date = date.plusDays(1)) {
+                counts.put(date, fetched.getOrDefault(date, 0));
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * {@code [from, to)} 날짜의 출입 횟수를 조회하여 캐시에 넣습니다. 0건인 날짜는 {@code zeroCacheBefore}보다 앞선 경우에만 넣습니다.
+     * 같은 범위를 조회 중인 요청이 있으면 새로 조회하지 않고 그 결과를 반환합니다.
+     */
+    private CompletableFuture<Map<LocalDate, Integer>> loadClosedDays(DateRange range, LocalDate zeroCacheBefore) {
+        CompletableFuture<Map<LocalDate, Integer>> load = new CompletableFuture<>();
+        CompletableFuture<Map<LocalDate, Integer>> inFlight = closedDayLoads.putIfAbsent(range, load);
+        if (inFlight != null) {
+            return inFlight;
+        }
+
+        try {
+            Map<LocalDate, Integer> fetched = entryCountInfluxQuery.countByDay(range.from(), range.to());
+            for (LocalDate date = range.from(); date.isBefore(range.to()); date = date.plusDays(1)) {
+                int count = fetched.getOrDefault(date, 0);
+                if (count > 0 || date.isBefore(zeroCacheBefore)) {
+                    dailyCountCache.put(date, count);
                 }
+            }
+            log.info("[주간 출입 통계] 마감일 캐시 적재: {} ~ {}", range.from(), range.to().minusDays(1));
+            load.complete(fetched);
+        } catch (RuntimeException e) {
+            log.warn("[주간 출입 통계] 마감일 출입 횟수 조회 실패: {}", e.getMessage());
+            load.completeExceptionally(e);
+        } finally {
+            closedDayLoads.remove(range, load);
+        }
+        return load;
+    }
+
+    private int currentTodayCount(LocalDate today) {
+        TodayCount snapshot = todayCount;
+        if (snapshot != null && snapshot.date().equals(today)
+                && Duration.between(snapshot.fetchedAt(), Instant.now()).compareTo(todayMaxAge) <= 0) {
+            recordCache("today", "hit");
+            return snapshot.count();
+        }
+        recordCache("today", "miss");
+        return await(loadToday(today)).count();
+    }
 
-                result.add(dto);
+    /**
+     * 오늘의 출입 횟수를 조회합니다. 이미 진행 중인 조회가 있으면 새로 조회하지 않고 그 결과를 반환합니다.
+     */
+    private CompletableFuture<TodayCount> loadToday(LocalDate today) {
+        CompletableFuture<TodayCount> load = new CompletableFuture<>();
+        CompletableFuture<TodayCount> inFlight = todayLoad.compareAndExchange(null, load);
+        if (inFlight != null) {
+            return inFlight;
+        }
+
+        try {
+            int count = entryCountInfluxQuery.countByDay(today, today.plusDays(1)).getOrDefault(today, 0);
+            TodayCount loaded = new TodayCount(today, count, Instant.now());
+            todayCount = loaded;
+            load.complete(loaded);
+        } catch (RuntimeException e) {
+            log.warn("[주간 출입 통계] 오늘 출입 횟수 조회 실패: {}", e.getMessage());
+            load.completeExceptionally(e);
+        } finally {
+            todayLoad.set(null);
+        }
+        return load;
+    }
+
+    private void recordCache(String day, String result) {
+        meterRegistry.counter(CACHE_METRIC, "day", day, "result", result).increment();
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw e;
         }
+    }
 
-        return result;
+    private record TodayCount(LocalDate date, int count, Instant fetchedAt) {
     }
 
-    @NotNull
-    private List<FluxTable> getFluxTables() {
-        // 현재 날짜 기준으로 이번 주 월요일 00:00 (한국 시간, Asia/Seoul) 계산
-        // InfluxDB는 UTC 기반이므로, 이를 UTC로 변환한 ISO 8601 형식으로 사용함
-        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-        LocalDate monday = today.with(DayOfWeek.MONDAY);
-        ZonedDateTime startOfWeek = monday.atStartOfDay(ZoneId.of("Asia/Seoul")).withZoneSameInstant(ZoneOffset.UTC);
-        String startTime = startOfWeek.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
-
-
-        String flux = String.format("""
-            import "date"
-            from(bucket: "coffee-mqtt")
-              |> range(start: %s)
-              |> filter(fn: (r) => r["_measurement"] == "sensor")
-              |> filter(fn: (r) => r["_field"] == "value")
-              |> filter(fn: (r) => r["location"] == "입구")
-              |> filter(fn: (r) => r["type"] == "activity")
-              |> aggregateWindow(every: 1d, fn: count, createEmpty: false)
-              |> map(fn: (r) => ({ r with _time: date.truncate(t: r._time, unit: 1d) }))  // _time 자정으로 통일
-              |> group(columns: ["_time"])
-              |> sum(column: "_value")
-              |> keep(columns: ["_time", "_value"])
-              |> yield(name: "daily_count")
-        """, startTime);
-
-        QueryApi queryApi = influxDBClient.getQueryApi();
-        return queryApi.query(flux);
+    private record DateRange(LocalDate from, LocalDate to) {
     }
 }
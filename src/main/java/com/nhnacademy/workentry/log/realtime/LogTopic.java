@@ -0,0 +1,36 @@
+package com.nhnacademy.workentry.log.realtime;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * WebSocket으로 전달하는 메시지의 주제입니다.
+ * <p>
+ * 클라이언트는 접속 경로 또는 {@code topics} 쿼리 파라미터(쉼표 구분)로 받을 주제를 고르며,
+ * 생산자는 주제를 지정하여 발행합니다. 구독자가 없는 주제의 메시지는 만들지도 전송하지도 않습니다.
+ * </p>
+ */
+public enum LogTopic {
+
+    /** 실시간 출입자 수 */
+    ENTRY_REALTIME,
+
+    /** 통제 시간대 이상 출입 알림 */
+    INTRUSION_ALERT,
+
+    /** 애플리케이션 로그 */
+    RAW_LOG;
+
+    /**
+     * 이름으로 주제를 찾습니다. 대소문자와 하이픈·밑줄 차이는 무시합니다.
+     *
+     * @param name 주제 이름 (예: {@code entry-realtime})
+     * @return 일치하는 주제, 없으면 빈 값
+     */
+    public static Optional<LogTopic> from(String name) {
+        String normalized = name.strip().replace('-', '_');
+        return Arrays.stream(values())
+                .filter(topic -> topic.name().equalsIgnoreCase(normalized))
+                .findFirst();
+    }
+}
@@ -1,27 +1,76 @@
 package com.nhnacademy.workentry.log.realtime;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.*;
 
-import java.io.IOException;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 /**
  * WebSocket을 통해 클라이언트에게 로그 메시지를 실시간으로 전달하는 핸들러입니다.
+ * <p>
+ * 세션마다 크기가 제한된 송신 대기열({@link SessionOutbound})을 두고, 전송은 세션별 송신 작업이 가상 스레드에서 수행합니다.
+ * {@link #publish(LogTopic, String)}는 전달 작업을 넘기기만 하고 바로 반환하므로, 느린 클라이언트가 호출 스레드나
+ * 다른 클라이언트의 수신을 지연시키지 않습니다.
+ * </p>
+ * <p>
+ * 세션은 {@link LogTopic} 주제별로 구독하며, 메시지는 해당 주제의 구독자에게만 전달됩니다.
+ * 구독 조건은 접속 URI의 쿼리 파라미터로 지정합니다({@link Subscription} 참고).
+ * </p>
+ * <p>
+ * 주제별 최근 메시지를 {@link ReplayBuffer}에 보관하여, 접속한 클라이언트는 다음 발행을 기다리거나 REST API를 호출하지 않고도
+ * 최근 상태를 바로 받습니다. 재접속 시 {@code since}로 마지막 기동 식별자와 일련번호를 넘기면 그 이후 메시지만 받습니다.
+ * </p>
  */
 @Slf4j
 @Component
 public class LogWebSocketHandler implements WebSocketHandler {
 
-    private final Set<WebSocketSession> sessions = Collections.synchronizedSet(new HashSet<>());
-    private final Map<WebSocketSession, Object> sessionLocks = new ConcurrentHashMap<>();
+    // 빈 페이로드의 Ping 제어 프레임. 읽을 바이트가 없으므로 모든 세션이 같은 인스턴스를 공유해도 안전함
+    private static final PingMessage PING = new PingMessage();
+
+    private final SessionRegistry registry = new SessionRegistry();
+    private final ReplayBuffer replayBuffer;
+
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration idleTimeout;
+
+    // 세션별 송신 작업 실행기 (세션마다 동시에 하나의 작업만 실행됨)
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 브로드캐스트 메시지를 세션별 대기열로 나눠 넣는 단일 스레드
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ws-broadcast-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * @param queueCapacity 세션별 송신 대기열 크기
+     * @param overflowPolicy 대기열이 가득 찼을 때의 처리 방식
+     * @param idleTimeout 클라이언트 응답(Pong 포함)이 없을 때 세션을 끊기까지의 시간
+     * @param replaySize 주제별로 보관하여 접속 시 재전송할 최근 메시지 수 (0이면 재전송하지 않음)
+     */
+    public LogWebSocketHandler(@Value("${websocket.outbound.queue-capacity:64}") int queueCapacity,
+                               @Value("${websocket.outbound.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+                               @Value("${websocket.session.idle-timeout:PT90S}") Duration idleTimeout,
+                               @Value("${websocket.replay.size:50}") int replaySize) {
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.idleTimeout = idleTimeout;
+        this.replayBuffer = new ReplayBuffer(replaySize);
+    }
 
 
     /**
@@ -31,18 +80,54 @@ public class LogWebSocketHandler implements WebSocketHandler {
      */
     @Override
     public void afterConnectionEstablished(@NotNull WebSocketSession session) {
-        sessions.add(session);
-        log.info("[LogWebSocketHandler] 클라이언트 연결됨: {}", session.getId());
+        Subscription subscription = Subscription.from(session.getUri());
+        SessionOutbound outbound = new SessionOutbound(session, subscription, queueCapacity, overflowPolicy, senders);
+        registry.register(outbound);
+        try {
+            dispatcher.execute(() -> replay(outbound));
+        } catch (RejectedExecutionException e) {
+            outbound.markLive();
+        }
+        log.info("[LogWebSocketHandler] 클라이언트 연결됨: {} (구독: {}, since: {}:{})",
+                session.getId(), subscription.topics(), subscription.afterEpoch(), subscription.afterSequence());
     }
 
     /**
-     * 클라이언트로부터 메시지를 수신했을 때 호출됩니다. (현재는 미사용)
+     * 접속한 세션에 보관 중인 최근 메시지를 재전송하고 실시간 수신을 시작합니다.
+     * <p>
+     * 발행과 같은 디스패처 스레드에서 실행되므로, 등록 후 재전송 전까지 발행된 메시지는 실시간 전달에서 제외되고
+     * 재전송 목록에 포함됩니다. 따라서 세션은 메시지를 빠짐없이, 중복 없이, 발행 순서대로 받습니다.
+     * </p>
+     */
+    private void replay(SessionOutbound outbound) {
+        Subscription subscription = outbound.subscription();
+        List<PublishedFrame> frames = replayBuffer.since(subscription.topics(), subscription.afterEpoch(), subscription.afterSequence());
+        for (PublishedFrame frame : frames) {
+            if (!outbound.offer(frame.messageFor(subscription.enveloped()))) {
+                registry.unregister(outbound.session().getId());
+                return;
+            }
+        }
+        outbound.markLive();
+        if (!frames.isEmpty()) {
+            log.debug("[LogWebSocketHandler] 최근 메시지 재전송: session={}, 건수={}", outbound.session().getId(), frames.size());
+        }
+    }
+
+    /**
+     * 클라이언트로부터 메시지를 수신했을 때 호출됩니다.
+     * 내용은 사용하지 않지만, Pong을 포함한 모든 수신을 세션의 활동으로 기록합니다.
      *
      * @param session WebSocket 세션 객체
      * @param message 수신된 메시지
      */
     @Override
     public void handleMessage(@NotNull WebSocketSession session, WebSocketMessage<?> message) {
+        registry.find(session.getId()).ifPresent(SessionOutbound::touch);
+        if (message instanceof PongMessage) {
+            log.debug("[KeepAlive] Pong 수신: {}", session.getId());
+            return;
+        }
         log.debug("[LogWebSocketHandler] 메시지 수신 (미사용): {}", message.getPayload());
     }
 
@@ -54,7 +139,7 @@ public class LogWebSocketHandler implements WebSocketHandler {
      */
     @Override
     public void handleTransportError(@NotNull WebSocketSession session, @NotNull Throwable exception) {
-        sessions.remove(session);
+        registry.unregister(session.getId());
         log.error("[LogWebSocketHandler] 전송 오류 발생: {}", session.getId(), exception);
     }
 
@@ -66,7 +151,7 @@ public class LogWebSocketHandler implements WebSocketHandler {
      */
     @Override
     public void afterConnectionClosed(@NotNull WebSocketSession session, @NotNull CloseStatus closeStatus) {
-        sessions.remove(session);
+        registry.unregister(session.getId());
         log.info("[LogWebSocketHandler] 연결 종료: {} ({})", session.getId(), closeStatus);
     }
 
@@ -81,74 +166,126 @@ public class LogWebSocketHandler implements WebSocketHandler {
     }
 
     /**
-     * 모든 연결된 클라이언트에게 로그 메시지를 전송합니다.
-     * <p>
-     * 각 {@link WebSocketSession}에 대해 동기화된 블록 내에서 메시지를 전송함으로써,
-     * {@code sendMessage} 호출 시 발생할 수 있는 {@link IllegalStateException}
-     * (예: "TEXT_PARTIAL_WRITING") 예외를 방지합니다.
-     * </p>
-     * <p>
-     * 세션 객체는 스레드 안전하지 않으므로, 세션마다 고유의 락 객체를 생성하고,
-     * 이를 통해 전송 동작을 직렬화(serialization)합니다.
-     * </p>
+     * 애플리케이션 로그를 {@link LogTopic#RAW_LOG} 구독자에게 전송합니다.
      *
      * @param logMsg 전송할 로그 문자열
      */
     public void broadcast(String logMsg) {
-        if (sessions.isEmpty()) {
-            log.warn("[LogWebSocketHandler] 연결된 클라이언트 없음");
+        publish(LogTopic.RAW_LOG, logMsg);
+    }
+
+    /**
+     * 주제를 구독 중인 클라이언트에게 메시지를 전송합니다.
+     *
+     * @param topic 메시지 주제
+     * @param payload 전송할 문자열
+     */
+    public void publish(LogTopic topic, String payload) {
+        publish(topic, () -> payload);
+    }
+
+    /**
+     * 주제를 구독 중인 클라이언트에게 메시지를 전송합니다.
+     * <p>
+     * 메시지는 디스패처에 넘기고 바로 반환합니다. 디스패처는 메시지에 일련번호를 붙여 재전송 버퍼에 넣은 뒤,
+     * 각 구독 세션의 송신 대기열에 넣기만 합니다. 구독자가 없으면 페이로드를 만들지 않으며,
+     * 재전송 버퍼에 남은 메시지는 이후 접속한 클라이언트에게 재전송할 때 만들어집니다. 실제 전송은 세션별 송신 작업이 순서대로 수행합니다.
+     * 세션 객체는 스레드 안전하지 않지만 세션마다 송신 작업이 하나만 실행되므로 {@code sendMessage} 호출이 겹치지 않습니다.
+     * </p>
+     *
+     * @param topic 메시지 주제
+     * @param payload 전송할 문자열을 만드는 함수 (전송 또는 재전송할 때 한 번만 호출)
+     */
+    public void publish(LogTopic topic, Supplier<String> payload) {
+        if (!replayBuffer.isEnabled() && !hasSubscribers(topic)) {
+            log.debug("[LogWebSocketHandler] 구독자 없는 주제 건너뜀: {}", topic);
+            return;
         }
+        try {
+            dispatcher.execute(() -> fanOut(topic, payload));
+        } catch (RejectedExecutionException e) {
+            log.warn("[LogWebSocketHandler] 종료 중이므로 메시지를 전송하지 않음: topic={}", topic);
+        }
+    }
 
-        for (WebSocketSession session : sessions) {
-            if(session.isOpen()){
-                sessionLocks.putIfAbsent(session, new Object()); // 세션별 락 등록
-                Object lock = sessionLocks.get(session);
-
-                try {
-                    synchronized (lock){ // 세션마다 락을 잡고 전송
-                        session.sendMessage(new TextMessage(logMsg));
-                    }
-                    log.debug("[LogWebSocketHandler] 로그 전송 완료: {}", logMsg);
-                } catch (IOException e) {
-                    log.error("[LogWebSocketHandler] 메시지 전송 실패", e);
-                }
+    /**
+     * 주제에 구독자가 있는지 확인합니다.
+     *
+     * @param topic 메시지 주제
+     * @return 구독 중인 세션이 하나 이상이면 true
+     */
+    public boolean hasSubscribers(LogTopic topic) {
+        return registry.hasSubscribers(topic);
+    }
+
+    /**
+     * 메시지를 재전송 버퍼에 넣고 주제 구독자의 대기열에 넣습니다.
+     * 프레임은 UTF-8로 한 번만 인코딩하여 모든 세션이 같은 인스턴스를 공유하므로, 세션 수와 관계없이 발행당 페이로드 할당은
+     * 수신 형식별로 한 번입니다. 아직 재전송 중인 세션은 건너뛰며, 이 메시지는 재전송 목록에 포함됩니다.
+     */
+    private void fanOut(LogTopic topic, Supplier<String> payload) {
+        PublishedFrame frame = replayBuffer.append(topic, payload);
+        Collection<SessionOutbound> targets = registry.subscribers(topic);
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        for (SessionOutbound outbound : targets) {
+            if (outbound.isLive() && !outbound.offer(frame.messageFor(outbound.subscription().enveloped()))) {
+                registry.unregister(outbound.session().getId());
             }
         }
+        log.debug("[LogWebSocketHandler] 로그 전송 대기열 등록 완료: topic={}, seq={}, 세션 수={}",
+                topic, frame.sequence(), targets.size());
     }
 
     /**
-     * 일정 주기로 WebSocket 세션 상태를 모니터링하고,
-     * 연결이 살아있는 클라이언트에게 "ping" 메시지를 전송합니다.
-     * <p>
-     * isOpen()이 false인 세션은 더 이상 유효하지 않다고 판단하여
-     * {@code sessions}에서 제거합니다.
-     * </p>
+     * 일정 주기로 WebSocket 세션 상태를 점검하고,
+     * 연결이 살아있는 클라이언트에게 Ping 제어 프레임을 전송합니다. 브라우저는 Pong으로 자동 응답합니다.
      * <p>
-     * {@code sessions}는 동기화된 Set이므로,
-     * 직접 순회하면서 수정하지 않고 복사본을 만들어 순회 후 원본을 수정합니다.
+     * isOpen()이 false인 세션과, {@code websocket.session.idle-timeout} 동안 Pong을 포함한 응답이 없는 세션은
+     * 등록부에서 제거합니다. 등록부는 락 없이 순회하며, Ping 전송과 세션 종료는 세션별 송신 실행기에서 수행하므로
+     * 점검 중에도 연결·해제 처리가 막히지 않고 스케줄러 스레드도 네트워크 I/O를 기다리지 않습니다.
      * </p>
      */
     @Scheduled(fixedRate = 30000)
     public void keepAlive() {
-        synchronized (sessions){
-            for (WebSocketSession session : sessions) {
-                log.info("[세션 상태 모니터링] session {} isOpen: {}", session.getId(), session.isOpen());
-
-                if (session.isOpen()) {
-                    try {
-                        session.sendMessage(new TextMessage("ping"));
-                        log.debug("[KeepAlive] Ping 메시지 전송 to session: {}", session.getId());
-                    } catch (IOException e) {
-                        log.error("[KeepAlive] Ping 전송 실패", e);
-                    }
-                }
-                else{
-                    // 닫힌 세션 제거 (유효하지 않은 클라이언트 연결 정리) -> 메모리 누수 및 불필요한 작업 방지
-                    sessions.remove(session);
-                    log.info("[KeepAlive] 닫힌 세션 제거됨: {}", session.getId());
-                }
+        long now = System.nanoTime();
+        long idleTimeoutNanos = idleTimeout.toNanos();
+
+        for (SessionOutbound outbound : registry.all()) {
+            WebSocketSession session = outbound.session();
+
+            if (!session.isOpen()) {
+                // 닫힌 세션 제거 (유효하지 않은 클라이언트 연결 정리) -> 메모리 누수 및 불필요한 작업 방지
+                registry.unregister(session.getId());
+                log.info("[KeepAlive] 닫힌 세션 제거됨: {}", session.getId());
+            } else if (outbound.idleNanos(now) > idleTimeoutNanos) {
+                registry.unregister(session.getId());
+                outbound.closeAsync(CloseStatus.SESSION_NOT_RELIABLE);
+                log.info("[KeepAlive] 응답 없는 세션 종료: {}", session.getId());
+            } else if (!outbound.offer(PING)) {
+                registry.unregister(session.getId());
+                log.info("[KeepAlive] 닫힌 세션 제거됨: {}", session.getId());
             }
         }
+    }
 
+    /**
+     * 현재 송신 대기열을 가진 세션 수를 반환합니다.
+     *
+     * @return 연결된 세션 수
+     */
+    public int sessionCount() {
+        return registry.size();
+    }
+
+    /**
+     * 애플리케이션 종료 시 디스패처와 송신 작업을 정리합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
     }
 }
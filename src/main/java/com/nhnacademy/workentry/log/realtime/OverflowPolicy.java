@@ -0,0 +1,16 @@
+package com.nhnacademy.workentry.log.realtime;
+
+/**
+ * 세션별 송신 대기열이 가득 찼을 때의 처리 방식입니다.
+ */
+public enum OverflowPolicy {
+
+    /** 가장 오래된 메시지를 버리고 새 메시지를 넣습니다. */
+    DROP_OLDEST,
+
+    /** 대기 중인 메시지를 모두 버리고 새 메시지 하나만 남깁니다. 최신 값만 의미 있는 스트림에 적합합니다. */
+    COALESCE_LATEST,
+
+    /** 따라오지 못하는 클라이언트로 보고 세션을 종료합니다. */
+    DISCONNECT
+}
@@ -0,0 +1,91 @@
+package com.nhnacademy.workentry.log.realtime;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.web.socket.TextMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * 발행된 메시지 하나입니다. 발행 순서대로 증가하는 일련번호와, 그 번호를 발급한 기동의 식별자를 가집니다.
+ * <p>
+ * 페이로드와 전송 프레임은 처음 필요할 때 한 번만 만들어 모든 세션이 공유합니다. 구독자가 없는 동안 발행된 메시지는
+ * 재전송 버퍼에만 들어가고, 이후 접속한 클라이언트에게 재전송할 때까지 페이로드를 만들지 않습니다.
+ * </p>
+ * <p>
+ * 일반 프레임은 페이로드 문자열 그대로이며, 봉투(envelope) 프레임은
+ * {@code {"epoch":1714000000000,"seq":12,"topic":"ENTRY_REALTIME","payload":"..."}} 형식의 JSON입니다.
+ * 재접속할 때 {@code since=<epoch>:<seq>}로 넘깁니다.
+ * </p>
+ */
+final class PublishedFrame {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final long epoch;
+    private final long sequence;
+    private final LogTopic topic;
+    private Supplier<String> payloadSupplier;
+
+    // 아래 필드는 this로 보호됨
+    private String payload;
+    private TextMessage plain;
+    private TextMessage envelope;
+
+    PublishedFrame(long epoch, long sequence, LogTopic topic, Supplier<String> payloadSupplier) {
+        this.epoch = epoch;
+        this.sequence = sequence;
+        this.topic = topic;
+        this.payloadSupplier = payloadSupplier;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    LogTopic topic() {
+        return topic;
+    }
+
+    /**
+     * 세션의 수신 형식에 맞는 공유 프레임을 반환합니다.
+     *
+     * @param enveloped 봉투 형식으로 받는 세션이면 true
+     */
+    TextMessage messageFor(boolean enveloped) {
+        return enveloped ? envelope() : plain();
+    }
+
+    private synchronized TextMessage plain() {
+        if (plain == null) {
+            plain = new TextMessage(payload().getBytes(StandardCharsets.UTF_8));
+        }
+        return plain;
+    }
+
+    private synchronized TextMessage envelope() {
+        if (envelope == null) {
+            ObjectNode node = OBJECT_MAPPER.createObjectNode()
+                    .put("epoch", epoch)
+                    .put("seq", sequence)
+                    .put("topic", topic.name())
+                    .put("payload", payload());
+            try {
+                envelope = new TextMessage(OBJECT_MAPPER.writeValueAsBytes(node));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("봉투 프레임 직렬화 실패", e);
+            }
+        }
+        return envelope;
+    }
+
+    private synchronized String payload() {
+        if (payload == null) {
+            payload = payloadSupplier.get();
+            payloadSupplier = null;
+        }
+        return payload;
+    }
+}
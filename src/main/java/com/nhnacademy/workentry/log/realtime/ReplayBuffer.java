@@ -0,0 +1,101 @@
+package com.nhnacademy.workentry.log.realtime;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 주제별로 최근 발행된 메시지를 보관하는 고정 크기 링 버퍼입니다.
+ * <p>
+ * 새로 접속하거나 재접속한 클라이언트에게 최근 메시지를 메모리에서 바로 재전송하기 위해 사용합니다.
+ * 주제마다 최대 {@code capacity}개를 보관하며, 가득 차면 가장 오래된 메시지부터 버립니다.
+ * 일련번호는 모든 주제에 걸쳐 발행 순서대로 증가합니다.
+ * </p>
+ * <p>
+ * 일련번호는 서버가 다시 시작되면 1부터 새로 매겨지므로, 버퍼를 만든 시각을 기동 식별자({@link #epoch()})로 함께 발급합니다.
+ * 클라이언트가 넘긴 기동 식별자가 현재와 다르거나 일련번호가 마지막 발행 번호보다 크면,
+ * 이전 기동의 번호로 보고 보관 중인 메시지 전체를 재전송합니다.
+ * </p>
+ * <p>
+ * 발행과 재전송은 모두 브로드캐스트 디스패처 스레드에서만 호출되지만, 다른 스레드의 조회에 대비해 주제별 링을 동기화합니다.
+ * </p>
+ */
+final class ReplayBuffer {
+
+    private final int capacity;
+    private final long epoch;
+    private final Map<LogTopic, Deque<PublishedFrame>> rings = new EnumMap<>(LogTopic.class);
+    private long lastSequence;
+
+    ReplayBuffer(int capacity) {
+        this(capacity, System.currentTimeMillis());
+    }
+
+    ReplayBuffer(int capacity, long epoch) {
+        this.capacity = Math.max(0, capacity);
+        this.epoch = epoch;
+        for (LogTopic topic : LogTopic.values()) {
+            rings.put(topic, new ArrayDeque<>(this.capacity));
+        }
+    }
+
+    /**
+     * 다음 일련번호로 메시지를 만들고 버퍼에 추가합니다.
+     *
+     * @return 발행된 메시지
+     */
+    synchronized PublishedFrame append(LogTopic topic, Supplier<String> payload) {
+        PublishedFrame frame = new PublishedFrame(epoch, ++lastSequence, topic, payload);
+        if (capacity > 0) {
+            Deque<PublishedFrame> ring = rings.get(topic);
+            if (ring.size() == capacity) {
+                ring.pollFirst();
+            }
+            ring.addLast(frame);
+        }
+        return frame;
+    }
+
+    /**
+     * 주제들의 보관 메시지 중 일련번호가 {@code afterSequence}보다 큰 메시지를 발행 순서대로 반환합니다.
+     * <p>
+     * 다른 기동에서 받은 일련번호이면 보관 중인 전체를 반환합니다.
+     * </p>
+     *
+     * @param topics 조회할 주제
+     * @param afterEpoch 일련번호를 받은 기동의 식별자 (null이면 현재 기동으로 간주)
+     * @param afterSequence 이 번호 이후의 메시지만 반환 (0이면 보관 중인 전체)
+     */
+    synchronized List<PublishedFrame> since(Set<LogTopic> topics, Long afterEpoch, long afterSequence) {
+        boolean previousBoot = (afterEpoch != null && afterEpoch != epoch) || afterSequence > lastSequence;
+        long after = previousBoot ? 0 : afterSequence;
+
+        List<PublishedFrame> frames = new ArrayList<>();
+        for (LogTopic topic : topics) {
+            for (PublishedFrame frame : rings.get(topic)) {
+                if (frame.sequence() > after) {
+                    frames.add(frame);
+                }
+            }
+        }
+        frames.sort(Comparator.comparingLong(PublishedFrame::sequence));
+        return frames;
+    }
+
+    /**
+     * 이 버퍼가 일련번호를 발급하는 기동의 식별자입니다.
+     */
+    long epoch() {
+        return epoch;
+    }
+
+    boolean isEnabled() {
+        return capacity > 0;
+    }
+}
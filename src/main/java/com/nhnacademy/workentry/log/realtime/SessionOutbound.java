@@ -0,0 +1,273 @@
+package com.nhnacademy.workentry.log.realtime;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * WebSocket 세션 하나의 송신 대기열입니다.
+ * <p>
+ * {@link #offer(WebSocketMessage)}는 대기열에 넣기만 하고 바로 반환하며, 실제 전송은 세션마다 하나씩만 실행되는
+ * 송신 작업이 대기열을 비울 때까지 순서대로 수행합니다. 따라서 느린 클라이언트는 자신의 대기열만 채울 뿐
+ * 호출 스레드나 다른 세션의 전송을 막지 않습니다. 대기열이 가득 차면 {@link OverflowPolicy}에 따라 처리합니다.
+ * </p>
+ * <p>
+ * 세션 종료도 같은 송신 작업이 마지막 단계로 수행하므로, 진행 중인 전송과 종료가 동시에 세션에 접근하지 않습니다.
+ * </p>
+ * <p>
+ * 구독 조건과 마지막 수신 활동 시각, 재전송 완료 여부도 함께 보관하여, 세션에 관한 상태가 한 객체에 모이도록 합니다.
+ * </p>
+ */
+@Slf4j
+final class SessionOutbound {
+
+    private final WebSocketSession session;
+    private final Subscription subscription;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor sender;
+
+    private final Deque<WebSocketMessage<?>> queue = new ArrayDeque<>();
+    private final ReentrantLock queueLock = new ReentrantLock();
+
+    // 송신 작업이 실행 중이거나 실행 대기 중이면 true
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private long dropped;
+
+    // 종료 요청 상태 (queueLock으로 보호). 요청 후에는 새 메시지를 받지 않음
+    private CloseStatus closeStatus;
+    private boolean closed;
+
+    // 마지막으로 클라이언트의 응답(Pong 포함)을 받은 시각 (System.nanoTime 기준)
+    private volatile long lastActivityNanos = System.nanoTime();
+
+    // 접속 시 재전송을 마치고 실시간 메시지를 받기 시작했으면 true
+    private volatile boolean live;
+
+    SessionOutbound(WebSocketSession session, Subscription subscription, int capacity, OverflowPolicy overflowPolicy, Executor sender) {
+        this.session = session;
+        this.subscription = subscription;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.sender = sender;
+    }
+
+    WebSocketSession session() {
+        return session;
+    }
+
+    Set<LogTopic> topics() {
+        return subscription.topics();
+    }
+
+    Subscription subscription() {
+        return subscription;
+    }
+
+    boolean isLive() {
+        return live;
+    }
+
+    /**
+     * 재전송을 마쳤음을 기록합니다. 이후 발행되는 메시지부터 실시간으로 받습니다.
+     */
+    void markLive() {
+        live = true;
+    }
+
+    /**
+     * 클라이언트로부터 메시지나 Pong을 받았음을 기록합니다.
+     */
+    void touch() {
+        lastActivityNanos = System.nanoTime();
+    }
+
+    /**
+     * 마지막 수신 활동 이후 지난 시간(나노초)을 반환합니다.
+     */
+    long idleNanos(long nowNanos) {
+        return nowNanos - lastActivityNanos;
+    }
+
+    /**
+     * 대기열을 비우고 세션 종료를 요청합니다. 호출 스레드는 네트워크 I/O를 기다리지 않습니다.
+     * <p>
+     * 종료는 송신 작업이 진행 중인 전송을 마친 뒤 수행합니다. 송신 작업이 없으면 새로 시작합니다.
+     * </p>
+     */
+    void closeAsync(CloseStatus status) {
+        queueLock.lock();
+        try {
+            queue.clear();
+            if (closeStatus == null) {
+                closeStatus = status;
+            }
+        } finally {
+            queueLock.unlock();
+        }
+        startDrain();
+    }
+
+    /**
+     * 메시지를 대기열에 넣고, 실행 중인 송신 작업이 없으면 새로 시작합니다.
+     *
+     * @param message 전송할 메시지
+     * @return 대기열에 들어갔으면 true, 세션이 닫혔거나 종료 정책으로 세션을 닫은 경우 false
+     */
+    boolean offer(WebSocketMessage<?> message) {
+        if (!session.isOpen()) {
+            return false;
+        }
+
+        boolean overflowed = false;
+        queueLock.lock();
+        try {
+            if (closeStatus != null) {
+                return false;
+            }
+            if (queue.size() >= capacity) {
+                switch (overflowPolicy) {
+                    case DROP_OLDEST -> {
+                        queue.pollFirst();
+                        dropped++;
+                    }
+                    case COALESCE_LATEST -> {
+                        dropped += queue.size();
+                        queue.clear();
+                    }
+                    case DISCONNECT -> {
+                        queue.clear();
+                        overflowed = true;
+                    }
+                }
+            }
+            if (!overflowed) {
+                queue.addLast(message);
+            }
+        } finally {
+            queueLock.unlock();
+        }
+
+        if (overflowed) {
+            disconnect();
+            return false;
+        }
+
+        startDrain();
+        return true;
+    }
+
+    /**
+     * 버린 메시지 수를 반환합니다.
+     */
+    long droppedCount() {
+        queueLock.lock();
+        try {
+            return dropped;
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    private void startDrain() {
+        if (draining.compareAndSet(false, true)) {
+            sender.execute(this::drain);
+        }
+    }
+
+    /**
+     * 대기열이 빌 때까지 전송하고, 종료가 요청되었으면 세션을 닫습니다.
+     * 작업을 끝내기 직전에 들어온 메시지나 종료 요청이 있으면 이어서 처리합니다.
+     */
+    private void drain() {
+        do {
+            WebSocketMessage<?> message;
+            while ((message = poll()) != null) {
+                send(message);
+            }
+            CloseStatus status = takeCloseRequest();
+            if (status != null) {
+                close(status);
+            }
+            draining.set(false);
+        } while (hasPending() && draining.compareAndSet(false, true));
+    }
+
+    private void close(CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.debug("[LogWebSocketHandler] 세션 종료 실패: {}", session.getId(), e);
+        }
+    }
+
+    private void send(WebSocketMessage<?> message) {
+        if (!session.isOpen()) {
+            clear();
+            return;
+        }
+        try {
+            session.sendMessage(message);
+        } catch (IOException | IllegalStateException e) {
+            log.warn("[LogWebSocketHandler] 메시지 전송 실패: session={}, error={}", session.getId(), e.getMessage());
+        }
+    }
+
+    private void disconnect() {
+        log.warn("[LogWebSocketHandler] 송신 대기열 초과로 세션 종료: {}", session.getId());
+        closeAsync(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    private WebSocketMessage<?> poll() {
+        queueLock.lock();
+        try {
+            return queue.pollFirst();
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /**
+     * 아직 수행하지 않은 종료 요청을 한 번만 반환합니다.
+     */
+    private CloseStatus takeCloseRequest() {
+        queueLock.lock();
+        try {
+            if (closeStatus == null || closed) {
+                return null;
+            }
+            closed = true;
+            return closeStatus;
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    private boolean hasPending() {
+        queueLock.lock();
+        try {
+            return !queue.isEmpty() || (closeStatus != null && !closed);
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    private void clear() {
+        queueLock.lock();
+        try {
+            queue.clear();
+        } finally {
+            queueLock.unlock();
+        }
+    }
+}
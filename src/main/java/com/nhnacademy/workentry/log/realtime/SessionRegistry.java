@@ -0,0 +1,67 @@
+package com.nhnacademy.workentry.log.realtime;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 연결된 WebSocket 세션의 등록부입니다.
+ * <p>
+ * 세션별 상태(송신 대기열, 전송 상태, 구독 주제, 마지막 활동 시각)는 {@link SessionOutbound} 하나에 모여 있고,
+ * 등록부는 세션 ID와 주제별로 이를 {@link ConcurrentHashMap}에 보관합니다. 전역 락이 없으므로 등록·해제는
+ * 세션 수와 관계없이 일정한 시간이 걸리며, 순회 중에도 등록·해제가 막히지 않습니다.
+ * </p>
+ */
+final class SessionRegistry {
+
+    private final Map<String, SessionOutbound> sessions = new ConcurrentHashMap<>();
+    private final Map<LogTopic, Map<String, SessionOutbound>> subscribers = new EnumMap<>(LogTopic.class);
+
+    SessionRegistry() {
+        for (LogTopic topic : LogTopic.values()) {
+            subscribers.put(topic, new ConcurrentHashMap<>());
+        }
+    }
+
+    void register(SessionOutbound outbound) {
+        String sessionId = outbound.session().getId();
+        sessions.put(sessionId, outbound);
+        outbound.topics().forEach(topic -> subscribers.get(topic).put(sessionId, outbound));
+    }
+
+    /**
+     * 세션을 등록부에서 제거합니다. 이미 제거된 세션이면 빈 값을 반환합니다.
+     */
+    Optional<SessionOutbound> unregister(String sessionId) {
+        SessionOutbound removed = sessions.remove(sessionId);
+        if (removed != null) {
+            removed.topics().forEach(topic -> subscribers.get(topic).remove(sessionId));
+        }
+        return Optional.ofNullable(removed);
+    }
+
+    Optional<SessionOutbound> find(String sessionId) {
+        return Optional.ofNullable(sessions.get(sessionId));
+    }
+
+    /**
+     * 등록된 모든 세션입니다. 약한 일관성(weakly consistent) 뷰이므로 순회 중 등록·해제가 일어나도 안전합니다.
+     */
+    Collection<SessionOutbound> all() {
+        return sessions.values();
+    }
+
+    Collection<SessionOutbound> subscribers(LogTopic topic) {
+        return subscribers.get(topic).values();
+    }
+
+    boolean hasSubscribers(LogTopic topic) {
+        return !subscribers.get(topic).isEmpty();
+    }
+
+    int size() {
+        return sessions.size();
+    }
+}
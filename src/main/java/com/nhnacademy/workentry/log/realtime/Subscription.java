@@ -0,0 +1,92 @@
+package com.nhnacademy.workentry.log.realtime;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 접속 URI로 지정한 세션의 구독 조건입니다.
+ * <p>
+ * 쿼리 파라미터:
+ * <ul>
+ *     <li>{@code topics}: 구독할 주제 (쉼표 구분). 없으면 {@code /ws/stranger}는 이상 출입 알림만, 그 밖의 경로는 모든 주제</li>
+ *     <li>{@code since}: 마지막으로 받은 봉투의 {@code <epoch>:<seq>}. 재접속 시 그 이후 메시지만 재전송받으며, 지정하면 봉투 형식으로 받음.
+ *     {@code epoch}를 생략하고 일련번호만 넘기면 현재 기동의 번호로 간주</li>
+ *     <li>{@code envelope}: {@code true}이면 일련번호와 주제를 포함한 봉투 형식으로 받음</li>
+ * </ul>
+ * </p>
+ *
+ * @param topics 구독 주제
+ * @param afterEpoch {@code afterSequence}를 발급한 기동의 식별자 (null이면 현재 기동)
+ * @param afterSequence 이 번호 이후의 메시지만 재전송 (0이면 보관 중인 전체)
+ * @param enveloped 봉투 형식으로 받으면 true
+ */
+@Slf4j
+record Subscription(Set<LogTopic> topics, Long afterEpoch, long afterSequence, boolean enveloped) {
+
+    private static final String STRANGER_PATH = "/ws/stranger";
+    private static final String TOPICS_PARAM = "topics";
+    private static final String SINCE_PARAM = "since";
+    private static final String ENVELOPE_PARAM = "envelope";
+
+    /**
+     * 접속 URI에서 구독 조건을 읽습니다. 알 수 없는 주제 이름과 형식이 잘못된 {@code since}는 무시합니다.
+     */
+    static Subscription from(URI uri) {
+        if (uri == null) {
+            return new Subscription(EnumSet.allOf(LogTopic.class), null, 0, false);
+        }
+
+        MultiValueMap<String, String> params = UriComponentsBuilder.fromUri(uri).build().getQueryParams();
+        Since since = parseSince(params.getFirst(SINCE_PARAM));
+        boolean enveloped = since != null || Boolean.parseBoolean(params.getFirst(ENVELOPE_PARAM));
+        return new Subscription(resolveTopics(uri, params.get(TOPICS_PARAM)),
+                since != null ? since.epoch() : null,
+                since != null ? since.sequence() : 0,
+                enveloped);
+    }
+
+    private static Set<LogTopic> resolveTopics(URI uri, List<String> requested) {
+        if (requested != null && !requested.isEmpty()) {
+            Set<LogTopic> topics = EnumSet.noneOf(LogTopic.class);
+            for (String value : requested) {
+                for (String name : value.split(",")) {
+                    LogTopic.from(name).ifPresentOrElse(topics::add,
+                            () -> log.warn("[LogWebSocketHandler] 알 수 없는 주제 무시: {}", name));
+                }
+            }
+            return topics;
+        }
+
+        return uri.getPath() != null && uri.getPath().endsWith(STRANGER_PATH)
+                ? EnumSet.of(LogTopic.INTRUSION_ALERT)
+                : EnumSet.allOf(LogTopic.class);
+    }
+
+    /**
+     * {@code <epoch>:<seq>} 또는 {@code <seq>} 형식의 {@code since} 값을 읽습니다.
+     */
+    private static Since parseSince(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String stripped = value.strip();
+        int separator = stripped.indexOf(':');
+        try {
+            Long epoch = separator >= 0 ? Long.parseLong(stripped.substring(0, separator)) : null;
+            long sequence = Long.parseLong(stripped.substring(separator + 1));
+            return new Since(epoch, Math.max(0, sequence));
+        } catch (NumberFormatException e) {
+            log.warn("[LogWebSocketHandler] 잘못된 since 값 무시: {}", value);
+            return null;
+        }
+    }
+
+    private record Since(Long epoch, long sequence) {
+    }
+}
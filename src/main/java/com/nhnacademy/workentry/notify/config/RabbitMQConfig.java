@@ -6,6 +6,8 @@ import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -16,27 +18,39 @@ import org.springframework.context.annotation.Configuration;
 public class RabbitMQConfig {
 
     public static final String QUEUE_NAME = "email-queue";
+    public static final String EXCHANGE_NAME = "email-exchange";
+    public static final String ROUTING_KEY = "email-routing-key";
 
     @Bean
     public Queue emailQueue() {
         return new Queue(QUEUE_NAME, true);
     }
 
+    /**
+     * 메시지 본문을 JSON으로 변환합니다. 자바 직렬화와 달리 수신 측이 같은 클래스를 갖지 않아도 읽을 수 있습니다.
+     */
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory){
-        return new RabbitTemplate(connectionFactory);
+    public MessageConverter messageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+
+    @Bean
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter){
+        RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
+        rabbitTemplate.setMessageConverter(messageConverter);
+        return rabbitTemplate;
     }
 
     @Bean
     public DirectExchange emailExchange() {
-        return new DirectExchange("email-exchange");
+        return new DirectExchange(EXCHANGE_NAME);
     }
 
     @Bean
     public Binding binding(Queue emailQueue, DirectExchange emailExchange) {
         return BindingBuilder.bind(emailQueue)
                 .to(emailExchange)
-                .with("email-routing-key");
+                .with(ROUTING_KEY);
     }
 
 }
\ No newline at end of file
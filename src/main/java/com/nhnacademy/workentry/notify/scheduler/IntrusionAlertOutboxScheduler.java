@@ -0,0 +1,33 @@
+package com.nhnacademy.workentry.notify.scheduler;
+
+import com.nhnacademy.workentry.notify.service.IntrusionAlertService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이상 출입 알림 발송함을 주기적으로 비우는 스케줄러입니다.
+ * <p>
+ * 끝난 사건 구간의 요약 메일을 적재하고, 브로커 장애로 남아 있던 메일을 다시 발행합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IntrusionAlertOutboxScheduler {
+
+    private final IntrusionAlertService intrusionAlertService;
+
+    /**
+     * 이전 실행이 끝난 뒤 {@code notify.alert.retry-interval}(기본 30초)마다 발송함을 비웁니다.
+     */
+    @Scheduled(fixedDelayString = "${notify.alert.retry-interval:PT30S}")
+    public void flushOutbox() {
+        try {
+            intrusionAlertService.flushOutbox();
+        } catch (Exception e) {
+            log.warn("[이상 출입 알림] 발송함 처리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.nhnacademy.workentry.notify.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이상 출입 알림 메일을 발송하는 서비스 인터페이스입니다.
+ *
+ * <p>알림은 RabbitMQ 메일 익스체인지로 비동기 발행되며, 호출한 스레드는 메일 발송을 기다리지 않습니다.</p>
+ */
+public interface IntrusionAlertService {
+
+    /**
+     * 이상 출입 감지를 알립니다.
+     *
+     * <p>같은 사건 구간 안에서 반복된 감지는 메일을 다시 보내지 않고 횟수만 집계하며,
+     * 구간이 끝날 때 억제된 횟수를 담은 요약 메일을 한 번 보냅니다.</p>
+     *
+     * @param entryTime 이상 출입이 감지된 시간
+     * @param count     감지된 출입 횟수
+     */
+    void notifyIntrusion(LocalDateTime entryTime, int count);
+
+    /**
+     * 끝난 사건 구간의 요약 메일을 적재하고, 발송 대기 중인 메일을 다시 발행합니다.
+     * 백그라운드 스케줄러에서 주기적으로 호출합니다.
+     */
+    void flushOutbox();
+}
@@ -0,0 +1,325 @@
+package com.nhnacademy.workentry.notify.service.impl;
+
+import com.nhnacademy.workentry.notify.config.RabbitMQConfig;
+import com.nhnacademy.workentry.notify.dto.EmailRequest;
+import com.nhnacademy.workentry.notify.service.IntrusionAlertService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 이상 출입 알림 메일을 RabbitMQ 메일 익스체인지로 비동기 발행하는 서비스 구현 클래스입니다.
+ * <p>
+ * 첫 감지 시 알림 메일을 바로 보내고, 이후 {@code notify.alert.dedup-window}(기본 10분) 동안의 반복 감지는 횟수만 집계합니다.
+ * 구간이 끝났을 때 억제된 감지가 있으면 그 횟수를 담은 요약 메일을 한 번 더 보냅니다.
+ * </p>
+ * <p>
+ * 메일은 크기가 제한된 로컬 발송함에 쌓인 뒤 전용 발송 스레드에서 하나씩 발행되며,
+ * 브로커의 발행 확인(publisher confirm)을 받은 메일만 발송함에서 제거합니다.
+ * 브로커 장애로 발행하지 못한 메일은 발송함에 남아 다음 주기에 다시 발행되고, 발송함이 가득 차면 가장 오래된 메일부터 버립니다.
+ * 확인 응답이 제한 시간 안에 오지 않으면 다시 발행하므로, 드물게 같은 메일이 두 번 전달될 수 있습니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class IntrusionAlertServiceImpl implements IntrusionAlertService {
+
+    static final String ALERT_SUBJECT = "⚠️ 이상 출입 감지 알림";
+    static final String SUMMARY_SUBJECT = "⚠️ 이상 출입 반복 감지 알림";
+
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
+    private static final String ALERT_METRIC = "notify.alert";
+    private static final String RESULT_TAG = "result";
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final RabbitTemplate rabbitTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String adminEmail;
+    private final Duration dedupWindow;
+    private final int outboxCapacity;
+    private final Duration confirmTimeout;
+    private final Executor sender;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<EmailRequest> outbox = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    // 진행 중인 사건 구간 (lock 으로 보호, 없으면 null)
+    private Incident incident;
+
+    public IntrusionAlertServiceImpl(RabbitTemplate rabbitTemplate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${admin.email}") String adminEmail,
+                                     @Value("${notify.alert.dedup-window:PT10M}") Duration dedupWindow,
+                                     @Value("${notify.alert.outbox-capacity:100}") int outboxCapacity,
+                                     @Value("${notify.alert.confirm-timeout:PT5S}") Duration confirmTimeout) {
+        this(rabbitTemplate, meterRegistry, adminEmail, dedupWindow, outboxCapacity, confirmTimeout,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "intrusion-alert-sender");
+                    thread.setDaemon(true);
+                    return thread;
+                }),
+                Clock.systemDefaultZone());
+    }
+
+    IntrusionAlertServiceImpl(RabbitTemplate rabbitTemplate,
+                              MeterRegistry meterRegistry,
+                              String adminEmail,
+                              Duration dedupWindow,
+                              int outboxCapacity,
+                              Duration confirmTimeout,
+                              Executor sender,
+                              Clock clock) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.meterRegistry = meterRegistry;
+        this.adminEmail = adminEmail;
+        this.dedupWindow = dedupWindow;
+        this.outboxCapacity = outboxCapacity;
+        this.confirmTimeout = confirmTimeout;
+        this.sender = sender;
+        this.clock = clock;
+        Gauge.builder(ALERT_METRIC + ".outbox.size", this, IntrusionAlertServiceImpl::outboxSize)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이상 출입 감지를 알립니다. 발송함에 메일을 넣기만 하고 발행 결과는 기다리지 않습니다.
+     *
+     * @param entryTime 이상 출입이 감지된 시간
+     * @param count     감지된 출입 횟수
+     */
+    @Override
+    public void notifyIntrusion(LocalDateTime entryTime, int count) {
+        Instant now = clock.instant();
+        lock.lock();
+        try {
+            if (incident != null && incident.isOpen(now, dedupWindow)) {
+                incident.suppress(entryTime);
+                meterRegistry.counter(ALERT_METRIC, RESULT_TAG, "suppressed").increment();
+                log.info("[이상 출입 알림] 같은 사건 구간의 반복 감지, 메일 생략: time={}, count={}", entryTime, count);
+                return;
+            }
+            closeIncident();
+            incident = new Incident(now, entryTime);
+            enqueue(new EmailRequest(
+                    adminEmail,
+                    ALERT_SUBJECT,
+                    entryTime + "\n이상 출입자 발생.\n관리자 확인 바랍니다.",
+                    ROLE_ADMIN
+            ));
+        } finally {
+            lock.unlock();
+        }
+        drainAsync();
+    }
+
+    /**
+     * 끝난 사건 구간의 요약 메일을 발송함에 넣고, 발송함에 남은 메일을 다시 발행합니다.
+     */
+    @Override
+    public void flushOutbox() {
+        Instant now = clock.instant();
+        lock.lock();
+        try {
+            if (incident != null && !incident.isOpen(now, dedupWindow)) {
+                closeIncident();
+            }
+        } finally {
+            lock.unlock();
+        }
+        drainAsync();
+    }
+
+    /**
+     * 발송함에 남아 있는 메일 수를 반환합니다.
+     */
+    int outboxSize() {
+        lock.lock();
+        try {
+            return outbox.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        int remaining = outboxSize();
+        if (remaining > 0) {
+            log.warn("[이상 출입 알림] 종료 시점에 발행하지 못한 메일 {}건이 남아 있습니다.", remaining);
+        }
+    }
+
+    /**
+     * 진행 중인 사건 구간을 닫고, 억제된 반복 감지가 있었다면 요약 메일을 발송함에 넣습니다. lock 을 잡은 상태에서 호출합니다.
+     */
+    private void closeIncident() {
+        if (incident == null) {
+            return;
+        }
+        if (incident.suppressed > 0) {
+            enqueue(new EmailRequest(
+                    adminEmail,
+                    SUMMARY_SUBJECT,
+                    String.format("%s ~ %s%n같은 사건 구간에서 이상 출입이 %d회 더 감지되었습니다.%n관리자 확인 바랍니다.",
+                            incident.firstEntry.format(TIME_FORMAT),
+                            incident.lastEntry.format(TIME_FORMAT),
+                            incident.suppressed),
+                    ROLE_ADMIN
+            ));
+        }
+        incident = null;
+    }
+
+    /**
+     * 발송함 끝에 메일을 넣습니다. 가득 찼으면 가장 오래된 메일을 버립니다. lock 을 잡은 상태에서 호출합니다.
+     */
+    private void enqueue(EmailRequest request) {
+        if (outbox.size() >= outboxCapacity) {
+            EmailRequest dropped = outbox.pollFirst();
+            meterRegistry.counter(ALERT_METRIC, RESULT_TAG, "dropped").increment();
+            log.warn("[이상 출입 알림] 발송함이 가득 차 가장 오래된 메일을 버립니다: subject={}",
+                    dropped != null ? dropped.getSubject() : null);
+        }
+        outbox.addLast(request);
+    }
+
+    /**
+     * 발송 스레드가 쉬고 있으면 발송함 비우기를 예약합니다.
+     */
+    private void drainAsync() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            log.warn("[이상 출입 알림] 발송 스레드가 종료되어 메일을 발행하지 못했습니다.");
+        }
+    }
+
+    /**
+     * 발송함 앞의 메일부터 하나씩 발행합니다. 발행에 실패하면 멈추고 다음 주기에 다시 시도합니다.
+     */
+    private void drain() {
+        boolean delivered = true;
+        try {
+            EmailRequest next;
+            while (delivered && (next = peekOutbox()) != null) {
+                delivered = publish(next);
+                if (delivered) {
+                    removeDelivered(next);
+                }
+            }
+        } finally {
+            draining.set(false);
+        }
+        // 비우는 도중 들어온 메일이 남아 있을 수 있으므로 다시 확인합니다.
+        if (delivered && outboxSize() > 0) {
+            drainAsync();
+        }
+    }
+
+    /**
+     * 메일 하나를 발행하고 브로커의 확인 응답을 기다립니다.
+     *
+     * @return 브로커가 메일을 받았으면 true
+     */
+    private boolean publish(EmailRequest request) {
+        CorrelationData correlation = new CorrelationData(UUID.randomUUID().toString());
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.EXCHANGE_NAME, RabbitMQConfig.ROUTING_KEY, request, correlation);
+            CorrelationData.Confirm confirm = correlation.getFuture().get(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (confirm.isAck()) {
+                meterRegistry.counter(ALERT_METRIC, RESULT_TAG, "sent").increment();
+                log.info("[이상 출입 알림] 메일 발행 완료: subject={}", request.getSubject());
+                return true;
+            }
+            log.warn("[이상 출입 알림] 브로커가 메일 발행을 거부했습니다, 다음 주기에 재시도합니다: {}", confirm.getReason());
+        } catch (AmqpException | ExecutionException | TimeoutException e) {
+            log.warn("[이상 출입 알림] 메일 발행 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        meterRegistry.counter(ALERT_METRIC, RESULT_TAG, "retry").increment();
+        return false;
+    }
+
+    private EmailRequest peekOutbox() {
+        lock.lock();
+        try {
+            return outbox.peekFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 발행한 메일을 발송함에서 제거합니다. 발행하는 동안 가득 찬 발송함에서 이미 밀려났다면 아무것도 하지 않습니다.
+     */
+    private void removeDelivered(EmailRequest delivered) {
+        lock.lock();
+        try {
+            if (outbox.peekFirst() == delivered) {
+                outbox.pollFirst();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 첫 알림 메일을 보낸 뒤 반복 감지를 모으는 사건 구간입니다.
+     */
+    private static final class Incident {
+
+        private final Instant openedAt;
+        private final LocalDateTime firstEntry;
+        private LocalDateTime lastEntry;
+        private int suppressed;
+
+        private Incident(Instant openedAt, LocalDateTime firstEntry) {
+            this.openedAt = openedAt;
+            this.firstEntry = firstEntry;
+            this.lastEntry = firstEntry;
+        }
+
+        private boolean isOpen(Instant now, Duration window) {
+            return now.isBefore(openedAt.plus(window));
+        }
+
+        private void suppress(LocalDateTime entryTime) {
+            suppressed++;
+            lastEntry = entryTime;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+-- attendances 테이블을 work_date 기준 월 단위 RANGE 파티션으로 전환합니다. (MySQL 8.0, 1회 실행)
+--
+-- 1. 파티션 테이블의 모든 유니크 키는 파티션 키를 포함해야 하므로 기본 키를 (id, work_date)로 바꿉니다.
+--    (mb_no, work_date) 유니크 키는 이미 work_date를 포함합니다.
+-- 2. InnoDB 파티션 테이블은 외래 키를 지원하지 않으므로 attendance_status 외래 키를 제거합니다.
+-- 3. 운영 데이터의 가장 오래된 월부터 이번 달까지 월 파티션을 나열하고, 그 이후는 p_future가 받습니다.
+--    아래 월 목록은 예시이므로 적용 전에 실제 데이터 범위에 맞춥니다.
+--
+-- 이후 파티션 추가와 보존 기간(attendance.partition.retention-months)이 지난 월의 보관은
+-- AttendancePartitionScheduler가 매일 처리합니다.
+
+ALTER TABLE attendances MODIFY work_date DATE NOT NULL;
+
+-- 외래 키 이름은 환경마다 다르므로 먼저 확인합니다.
+-- SELECT CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS
+--  WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = 'attendances';
+-- ALTER TABLE attendances DROP FOREIGN KEY <CONSTRAINT_NAME>;
+
+ALTER TABLE attendances
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, work_date);
+
+ALTER TABLE attendances
+    PARTITION BY RANGE COLUMNS (work_date) (
+        PARTITION p202501 VALUES LESS THAN ('2025-02-01'),
+        PARTITION p202502 VALUES LESS THAN ('2025-03-01'),
+        PARTITION p202503 VALUES LESS THAN ('2025-04-01'),
+        PARTITION p202504 VALUES LESS THAN ('2025-05-01'),
+        PARTITION p202505 VALUES LESS THAN ('2025-06-01'),
+        PARTITION p202506 VALUES LESS THAN ('2025-07-01'),
+        PARTITION p_future VALUES LESS THAN (MAXVALUE)
+    );
+
+-- 파티션 확인: 조회 쿼리의 EXPLAIN partitions 컬럼에 해당 월만 나오는지 봅니다.
+-- EXPLAIN SELECT * FROM attendances WHERE mb_no = 1 AND work_date BETWEEN '2025-05-01' AND '2025-06-30';
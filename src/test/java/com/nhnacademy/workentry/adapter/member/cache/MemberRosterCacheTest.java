@@ -0,0 +1,229 @@
+package com.nhnacademy.workentry.adapter.member.cache;
+
+import com.nhnacademy.workentry.adapter.member.client.MemberServiceClient;
+import com.nhnacademy.workentry.adapter.member.dto.MemberIdChangesResponse;
+import com.nhnacademy.workentry.adapter.member.dto.MemberNoResponse;
+import com.nhnacademy.workentry.common.exception.MemberCallException;
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link MemberRosterCache} 클래스의 단위 테스트입니다.
+ * 회원 서비스 대신 응답·장애를 조절할 수 있는 메모리 대역(stand-in)을 사용하여 캐시 만료, 백그라운드 갱신, 장애 시 동작을 검증합니다.
+ */
+class MemberRosterCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration FULL_REFRESH_INTERVAL = Duration.ofHours(6);
+    private static final Instant START = Instant.parse("2025-06-02T00:00:00Z");
+
+    private StubMemberService memberService;
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private List<Runnable> scheduled;
+    private MemberRosterCache cache;
+
+    @BeforeEach
+    void setUp() {
+        memberService = new StubMemberService();
+        clock = new MutableClock(START);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduled = new ArrayList<>();
+        cache = newCache(scheduled::add);
+    }
+
+    @Test
+    @DisplayName("처음 한 번만 회원 서비스를 호출하고 이후에는 캐시에서 반환")
+    void testGetMemberIds_servesFromCacheWithinTtl() {
+        memberService.members = List.of(3L, 1L, 2L);
+
+        assertThat(cache.getMemberIds()).containsExactly(1L, 2L, 3L);
+        clock.advance(TTL);
+        assertThat(cache.getMemberIds()).containsExactly(1L, 2L, 3L);
+
+        assertThat(memberService.fullCalls).isEqualTo(1);
+        assertThat(scheduled).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만료된 목록은 즉시 반환하고 백그라운드 갱신은 한 번만 예약")
+    void testGetMemberIds_staleWhileRevalidate() {
+        memberService.members = List.of(1L, 2L);
+        cache.getMemberIds();
+        memberService.changes.add(new MemberIdChangesResponse(List.of(3L), List.of(), null));
+        clock.advance(TTL.plusSeconds(1));
+
+        assertThat(cache.getMemberIds()).containsExactly(1L, 2L);
+        assertThat(cache.getMemberIds()).containsExactly(1L, 2L);
+        assertThat(scheduled).hasSize(1);
+        assertThat(memberService.fullCalls).isEqualTo(1);
+
+        scheduled.get(0).run();
+
+        assertThat(cache.getMemberIds()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("회원 서비스 장애 시 마지막 목록으로 계속 동작")
+    void testRefresh_keepsStaleRosterWhenMemberServiceDown() {
+        memberService.members = List.of(1L, 2L);
+        cache.getMemberIds();
+        memberService.down = true;
+        clock.advance(Duration.ofHours(1));
+
+        cache.refresh();
+
+        assertThat(cache.getMemberIds()).containsExactly(1L, 2L);
+        assertThat(meterRegistry.timer("member.roster.refresh", "mode", "delta", "result", "failure").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("member.roster.age").gauge().value()).isEqualTo(3600.0);
+    }
+
+    @Test
+    @DisplayName("목록이 없는데 회원 서비스가 내려가 있으면 회원 호출 예외")
+    void testGetMemberIds_failsWithoutRosterWhenMemberServiceDown() {
+        memberService.down = true;
+
+        assertThatThrownBy(() -> cache.getMemberIds()).isInstanceOf(MemberCallException.class);
+        assertThat(meterRegistry.timer("member.roster.refresh", "mode", "full", "result", "failure").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("변경분 조회로 추가·삭제 회원만 반영하고, 전체 갱신 주기가 지나면 전체 목록으로 맞춤")
+    void testRefresh_appliesDeltaThenPeriodicFullFetch() {
+        memberService.members = List.of(1L, 2L, 3L);
+        cache.getMemberIds();
+        Instant asOf = START.plusSeconds(600);
+        memberService.changes.add(new MemberIdChangesResponse(List.of(4L), List.of(2L), asOf));
+
+        clock.advance(TTL);
+        cache.refresh();
+
+        assertThat(cache.getMemberIds()).containsExactly(1L, 3L, 4L);
+        assertThat(memberService.sinceValues).containsExactly(START.minus(Duration.ofMinutes(1)).toString());
+        assertThat(memberService.fullCalls).isEqualTo(1);
+
+        memberService.changes.add(new MemberIdChangesResponse(List.of(), List.of(), null));
+        cache.refresh();
+        assertThat(memberService.sinceValues).last().isEqualTo(asOf.toString());
+
+        memberService.members = List.of(1L, 5L);
+        clock.advance(FULL_REFRESH_INTERVAL);
+        cache.refresh();
+
+        assertThat(cache.getMemberIds()).containsExactly(1L, 5L);
+        assertThat(memberService.fullCalls).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("회원 서비스가 변경분 조회를 지원하지 않으면 전체 조회로 전환")
+    void testRefresh_fallsBackToFullFetchWhenDeltaUnsupported() {
+        memberService.members = List.of(1L);
+        memberService.deltaSupported = false;
+        cache.getMemberIds();
+        memberService.members = List.of(1L, 2L);
+
+        cache.refresh();
+        cache.refresh();
+
+        assertThat(cache.getMemberIds()).containsExactly(1L, 2L);
+        assertThat(memberService.deltaCalls).isEqualTo(1);
+        assertThat(memberService.fullCalls).isEqualTo(3);
+    }
+
+    private MemberRosterCache newCache(Executor refresher) {
+        return new MemberRosterCache(memberService, meterRegistry, TTL, FULL_REFRESH_INTERVAL, refresher, clock);
+    }
+
+    /**
+     * 회원 서비스 대역입니다. 실제 Feign 클라이언트가 던지는 예외로 장애와 미지원 엔드포인트를 흉내 냅니다.
+     */
+    private static final class StubMemberService implements MemberServiceClient {
+
+        private List<Long> members = List.of();
+        private boolean down;
+        private boolean deltaSupported = true;
+        private final Deque<MemberIdChangesResponse> changes = new ArrayDeque<>();
+        private final List<String> sinceValues = new ArrayList<>();
+        private int fullCalls;
+        private int deltaCalls;
+
+        @Override
+        public List<MemberNoResponse> getAllMemberIds() {
+            fullCalls++;
+            if (down) {
+                throw unavailable("/api/v1/members/ids");
+            }
+            return members.stream().map(MemberNoResponse::new).toList();
+        }
+
+        @Override
+        public MemberIdChangesResponse getMemberIdChanges(String since) {
+            deltaCalls++;
+            sinceValues.add(since);
+            String url = "/api/v1/members/ids/changes?since=" + since;
+            if (down) {
+                throw unavailable(url);
+            }
+            if (!deltaSupported) {
+                throw new FeignException.NotFound("Not Found", request(url), null, Map.of());
+            }
+            return changes.removeFirst();
+        }
+
+        private static FeignException unavailable(String url) {
+            return new FeignException.ServiceUnavailable("Service Unavailable", request(url), null, Map.of());
+        }
+
+        private static Request request(String url) {
+            return Request.create(Request.HttpMethod.GET, url, Map.of(), null, StandardCharsets.UTF_8, null);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.nhnacademy.workentry.attendance.archive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link AttendanceArchiveStore}와 {@link AttendanceColumnarFormat}의 단위 테스트입니다.
+ * 임시 디렉터리에 월별 보관 파일을 쓰고 다시 읽어 값과 null이 그대로 유지되는지 확인합니다.
+ */
+class AttendanceArchiveStoreTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+
+    @TempDir
+    Path directory;
+
+    private AttendanceArchiveStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new AttendanceArchiveStore(directory);
+    }
+
+    @Test
+    @DisplayName("기록한 행을 그대로 읽고, 회원 번호로 거른 행만 반환")
+    void testMerge_roundTrip() {
+        List<ArchivedAttendance> rows = List.of(
+                row(2L, 7L, MONTH.atDay(4), 540, 1L),
+                row(1L, 7L, MONTH.atDay(1), 535, 1L),
+                new ArchivedAttendance(3L, 8L, MONTH.atDay(1), null, null, null, 3L)
+        );
+
+        int stored = store.merge(MONTH, rows);
+
+        assertThat(stored).isEqualTo(3);
+        assertThat(store.months()).containsExactly(MONTH);
+        assertThat(store.read(MONTH, 7L)).containsExactly(rows.get(1), rows.get(0));
+        assertThat(store.read(MONTH, null)).containsExactlyInAnyOrderElementsOf(rows);
+        assertThat(directory.resolve("month=2024-03").resolve("attendances.col.gz")).isRegularFile();
+    }
+
+    @Test
+    @DisplayName("같은 회원·근무 일자를 다시 넣으면 새 기록으로 바꾸고 행 수는 늘지 않음")
+    void testMerge_idempotent() {
+        store.merge(MONTH, List.of(row(1L, 7L, MONTH.atDay(1), 480, 2L)));
+        store.merge(MONTH, List.of(row(1L, 7L, MONTH.atDay(1), 540, 1L), row(2L, 7L, MONTH.atDay(2), 540, 1L)));
+
+        List<ArchivedAttendance> read = store.read(MONTH, null);
+
+        assertThat(read).hasSize(2);
+        assertThat(read.getFirst().workMinutes()).isEqualTo(540);
+        assertThat(read.getFirst().statusCode()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("정렬된 기록을 기존 파일과 한 행씩 합쳐 쓰고, 헤더 행 수를 반환")
+    void testOpenMerge_mergesIntoExistingFile() {
+        store.merge(MONTH, List.of(row(1L, 7L, MONTH.atDay(1), 480, 2L), row(2L, 9L, MONTH.atDay(1), 540, 1L)));
+
+        int stored;
+        try (AttendanceArchiveStore.MonthMerge merge = store.openMerge(MONTH)) {
+            merge.add(row(3L, 7L, MONTH.atDay(2), 540, 1L));
+            merge.add(row(4L, 8L, MONTH.atDay(1), 540, 1L));
+            stored = merge.commit();
+            assertThat(merge.addedCount()).isEqualTo(2);
+        }
+
+        assertThat(stored).isEqualTo(4);
+        assertThat(store.read(MONTH, null)).extracting(ArchivedAttendance::id).containsExactly(1L, 3L, 4L, 2L);
+    }
+
+    @Test
+    @DisplayName("정렬 순서가 아닌 기록은 거부하고, 커밋하지 않으면 기존 파일과 디렉터리를 그대로 둠")
+    void testOpenMerge_rejectsUnorderedRows() throws Exception {
+        List<ArchivedAttendance> existing = List.of(row(1L, 7L, MONTH.atDay(1), 480, 2L));
+        store.merge(MONTH, existing);
+
+        try (AttendanceArchiveStore.MonthMerge merge = store.openMerge(MONTH)) {
+            merge.add(row(2L, 8L, MONTH.atDay(2), 540, 1L));
+            assertThatThrownBy(() -> merge.add(row(3L, 8L, MONTH.atDay(1), 540, 1L)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        assertThat(store.read(MONTH, null)).containsExactlyElementsOf(existing);
+        try (Stream<Path> files = Files.list(directory.resolve("month=2024-03"))) {
+            assertThat(files).extracting(file -> file.getFileName().toString()).containsExactly("attendances.col.gz");
+        }
+    }
+
+    @Test
+    @DisplayName("열 단위로 압축한 파일은 행 수보다 훨씬 작음")
+    void testMerge_compresses() throws Exception {
+        List<ArchivedAttendance> rows = new ArrayList<>();
+        long id = 1;
+        for (long mbNo = 1; mbNo <= 500; mbNo++) {
+            for (int day = 1; day <= MONTH.lengthOfMonth(); day++) {
+                rows.add(row(id++, mbNo, MONTH.atDay(day), 540, 1L));
+            }
+        }
+
+        store.merge(MONTH, rows);
+
+        // 한 행의 원본 값만 약 50바이트
+        long size = Files.size(directory.resolve("month=2024-03").resolve("attendances.col.gz"));
+        assertThat(size).isLessThan(rows.size() * 10L);
+        assertThat(store.read(MONTH, 250L)).hasSize(MONTH.lengthOfMonth());
+    }
+
+    @Test
+    @DisplayName("회원 한 명을 읽을 때는 헤더와 그 회원이 속한 행 그룹만 읽음")
+    void testRead_seeksSingleRowGroup() throws Exception {
+        List<ArchivedAttendance> rows = new ArrayList<>();
+        long id = 1;
+        for (long mbNo = 1; mbNo <= 2_000; mbNo++) {
+            for (int day = 1; day <= MONTH.lengthOfMonth(); day++) {
+                rows.add(row(id++, mbNo, MONTH.atDay(day), 540, 1L));
+            }
+        }
+        store.merge(MONTH, rows);
+        Path file = directory.resolve("month=2024-03").resolve("attendances.col.gz");
+
+        long bytesRead;
+        List<ArchivedAttendance> member;
+        try (CountingChannel channel = new CountingChannel(Files.newByteChannel(file))) {
+            member = AttendanceColumnarFormat.read(channel, 1_234L);
+            bytesRead = channel.bytesRead;
+        }
+
+        assertThat(member).hasSize(MONTH.lengthOfMonth()).allMatch(row -> row.mbNo() == 1_234L);
+        assertThat(bytesRead).isLessThan(Files.size(file) / 4);
+        assertThat(store.read(MONTH, null)).hasSize(rows.size());
+    }
+
+    @Test
+    @DisplayName("보관 파일이 없으면 빈 목록")
+    void testRead_missing() {
+        assertThat(store.months()).isEmpty();
+        assertThat(store.read(MONTH, null)).isEmpty();
+    }
+
+    /**
+     * 읽은 바이트 수를 세는 채널입니다.
+     */
+    private static final class CountingChannel implements SeekableByteChannel {
+
+        private final SeekableByteChannel delegate;
+        private long bytesRead;
+
+        private CountingChannel(SeekableByteChannel delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            int read = delegate.read(dst);
+            if (read > 0) {
+                bytesRead += read;
+            }
+            return read;
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public SeekableByteChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public SeekableByteChannel truncate(long size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
+    private static ArchivedAttendance row(long id, long mbNo, LocalDate workDate, Integer workMinutes, long status) {
+        return new ArchivedAttendance(id, mbNo, workDate, workDate.atTime(9, 0), workDate.atTime(18, 0, 30), workMinutes, status);
+    }
+}
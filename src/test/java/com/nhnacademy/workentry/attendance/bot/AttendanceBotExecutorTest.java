@@ -0,0 +1,109 @@
+package com.nhnacademy.workentry.attendance.bot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link AttendanceBotExecutor} 클래스의 단위 테스트입니다.
+ */
+class AttendanceBotExecutorTest {
+
+    @ParameterizedTest
+    @EnumSource(BotExecutionMode.class)
+    @DisplayName("조각 결과를 입력 순서대로 반환")
+    void testRun_keepsSliceOrder(BotExecutionMode mode) {
+        AttendanceBotExecutor executor = new AttendanceBotExecutor(mode, 3, 4);
+        try {
+            List<Long> items = LongStream.rangeClosed(1, 10).boxed().toList();
+
+            List<AttendanceBotExecutor.SliceOutcome<Long, Long>> outcomes =
+                    executor.run(items, slice -> slice.stream().mapToLong(Long::longValue).sum());
+
+            assertThat(outcomes).extracting(AttendanceBotExecutor.SliceOutcome::result).containsExactly(10L, 26L, 19L);
+            assertThat(outcomes).extracting(outcome -> outcome.slice().size()).containsExactly(4, 4, 2);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("한 조각의 예외는 다른 조각 처리에 영향을 주지 않음")
+    void testRun_isolatesSliceFailure() {
+        AttendanceBotExecutor executor = new AttendanceBotExecutor(BotExecutionMode.VIRTUAL_THREADS, 2, 1);
+        try {
+            List<AttendanceBotExecutor.SliceOutcome<Integer, Integer>> outcomes = executor.run(List.of(1, 2, 3), slice -> {
+                if (slice.getFirst() == 2) {
+                    throw new IllegalStateException("boom");
+                }
+                return slice.getFirst();
+            });
+
+            assertThat(outcomes.get(0).result()).isEqualTo(1);
+            assertThat(outcomes.get(1).error()).hasMessage("boom");
+            assertThat(outcomes.get(2).result()).isEqualTo(3);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("조각 크기를 직접 지정하면 설정된 조각 크기 대신 사용")
+    void testRun_withExplicitSliceSize() {
+        AttendanceBotExecutor executor = new AttendanceBotExecutor(BotExecutionMode.BOUNDED_POOL, 2, 1_000);
+        try {
+            List<AttendanceBotExecutor.SliceOutcome<Integer, Integer>> outcomes =
+                    executor.run(List.of(1, 2, 3), 1, List::size);
+
+            assertThat(outcomes).extracting(AttendanceBotExecutor.SliceOutcome::slice)
+                    .containsExactly(List.of(1), List.of(2), List.of(3));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = BotExecutionMode.class, names = {"VIRTUAL_THREADS", "BOUNDED_POOL"})
+    @DisplayName("5만 명 처리 시 동시성 한도를 넘지 않고 순차 처리보다 빠름")
+    void testRun_boundsConcurrencyForLargeRoster(BotExecutionMode mode) {
+        int concurrency = 4;
+        int sliceSize = 1_000;
+        long sliceMillis = 20;
+        List<Long> members = LongStream.rangeClosed(1, 50_000).boxed().toList();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AttendanceBotExecutor executor = new AttendanceBotExecutor(mode, concurrency, sliceSize);
+
+        long startedAt = System.nanoTime();
+        List<AttendanceBotExecutor.SliceOutcome<Long, Integer>> outcomes;
+        try {
+            outcomes = executor.run(members, slice -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(sliceMillis); // 조각 하나의 DB 왕복을 흉내
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+                return slice.size();
+            });
+        } finally {
+            executor.shutdown();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(outcomes).hasSize(50);
+        assertThat(outcomes.stream().mapToInt(AttendanceBotExecutor.SliceOutcome::result).sum()).isEqualTo(50_000);
+        assertThat(maxInFlight.get()).isBetween(2, concurrency);
+        assertThat(elapsedMillis).isLessThan(50 * sliceMillis * 3 / 4);
+    }
+}
@@ -1,21 +1,30 @@
 package com.nhnacademy.workentry.attendance.bot;
 
-import com.nhnacademy.workentry.adapter.member.client.MemberServiceClient;
-import com.nhnacademy.workentry.adapter.member.dto.MemberNoResponse;
+import com.nhnacademy.workentry.adapter.member.cache.MemberRosterCache;
+import com.nhnacademy.workentry.attendance.constant.AttendanceStatusConstants;
+import com.nhnacademy.workentry.attendance.dto.AttendanceBulkResult;
 import com.nhnacademy.workentry.attendance.dto.AttendanceRequest;
+import com.nhnacademy.workentry.attendance.dto.BotRunReport;
+import com.nhnacademy.workentry.attendance.service.AttendanceRollupService;
 import com.nhnacademy.workentry.attendance.service.AttendanceService;
 import com.nhnacademy.workentry.common.time.TodayProvider;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @Slf4j
@@ -23,53 +32,91 @@ import static org.mockito.Mockito.*;
 class AttendanceSimulatorBotTest {
 
     @Mock
-    private MemberServiceClient memberServiceClient;
+    private MemberRosterCache memberRosterCache;
 
     @Mock
     private AttendanceService attendanceService;
 
+    @Mock
+    private TodayProvider todayProvider;
+
+    @Mock
+    private AttendanceRollupService attendanceRollupService;
+
+    @Spy
+    private AttendanceBotExecutor attendanceBotExecutor = new AttendanceBotExecutor(BotExecutionMode.SEQUENTIAL, 1, 1_000);
+
+    @Mock
+    private BotRunLedger botRunLedger;
+
     @InjectMocks
     private AttendanceSimulatorBot bot;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(botRunLedger.checkpoint(anyString(), any(), anyList()))
+                .thenAnswer(invocation -> new BotRunLedger.Checkpoint(invocation.getArgument(2), 0));
+    }
+
     @Test
     @DisplayName("정상적으로 모든 멤버에 대해 출근 기록 생성")
     void createCheckInAttendanceData_정상작동() {
-        List<MemberNoResponse> mockMemberIds = List.of(
-                new MemberNoResponse(1L),
-                new MemberNoResponse(2L),
-                new MemberNoResponse(3L)
-        );
-        when(memberServiceClient.getAllMemberIds()).thenReturn(mockMemberIds);
+        List<Long> mockMemberIds = List.of(1L, 2L, 3L);
+        when(memberRosterCache.getMemberIds()).thenReturn(mockMemberIds);
+        when(todayProvider.getToday()).thenReturn(LocalDate.of(2025, 6, 2)); // 월요일
+        when(attendanceService.insertAttendances(anyList())).thenReturn(new AttendanceBulkResult(3, 3, List.of()));
+
+        BotRunReport report = bot.createCheckInAttendanceData();
+
+        verify(attendanceService, times(1)).insertAttendances(argThat(requests -> requests.size() == 3));
+        assertThat(report.getTargetCount()).isEqualTo(3);
+        assertThat(report.getProcessedCount()).isEqualTo(3);
+        assertThat(report.getFailedCount()).isZero();
+        verify(attendanceService, never()).createAttendance(any());
+        verify(attendanceRollupService).refreshDate(LocalDate.of(2025, 6, 2));
+    }
+
+    @Test
+    @DisplayName("저장 건수가 0이어도 저장을 시도했으면 출결 집계를 갱신")
+    void createCheckInAttendanceData_저장건수0_집계갱신() {
+        when(memberRosterCache.getMemberIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(todayProvider.getToday()).thenReturn(LocalDate.of(2025, 6, 2)); // 월요일
+        when(attendanceService.insertAttendances(anyList())).thenReturn(new AttendanceBulkResult(3, 0, List.of()));
 
         bot.createCheckInAttendanceData();
 
-        verify(attendanceService, times(3)).createAttendance(any(AttendanceRequest.class));
+        verify(attendanceRollupService).refreshDate(LocalDate.of(2025, 6, 2));
     }
 
     @Test
     @DisplayName("정상적으로 모든 멤버에 대해 퇴근 기록 생성")
     void createCheckOutAttendanceData_정상작동() {
-        List<MemberNoResponse> mockMemberIds = List.of(
-                new MemberNoResponse(1L)
-        );
-        when(memberServiceClient.getAllMemberIds()).thenReturn(mockMemberIds);
+        LocalDate today = LocalDate.of(2025, 6, 2);
+        when(todayProvider.getToday()).thenReturn(today);
+        when(attendanceService.checkOutAll(today)).thenReturn(3);
 
-        bot.createCheckOutAttendanceData();
+        BotRunReport report = bot.createCheckOutAttendanceData();
 
-        verify(attendanceService).checkOut(eq(1L), eq(LocalDate.now()));
+        verify(attendanceService).checkOutAll(today);
+        assertThat(report.getProcessedCount()).isEqualTo(3);
+        verify(attendanceService, never()).checkOut(any(), any());
+        verify(memberRosterCache, never()).getMemberIds();
     }
 
     @Test
     @DisplayName("출근 출결 요청이 정상적으로 생성되어야 함")
     void createCheckInAttendanceData_실제값검증() {
-        when(memberServiceClient.getAllMemberIds()).thenReturn(List.of(new MemberNoResponse(99L)));
+        when(memberRosterCache.getMemberIds()).thenReturn(List.of(99L));
+        when(todayProvider.getToday()).thenReturn(LocalDate.of(2025, 6, 2)); // 월요일
+        when(attendanceService.insertAttendances(anyList())).thenReturn(AttendanceBulkResult.empty());
 
         bot.createCheckInAttendanceData();
 
-        verify(attendanceService).createAttendance(argThat(req ->
-                req.getMbNo().equals(99L) &&
-                        req.getCheckIn() != null &&
-                        req.getStatus() != null
+        verify(attendanceService).insertAttendances(argThat(requests ->
+                requests.size() == 1 &&
+                        requests.getFirst().getMbNo().equals(99L) &&
+                        requests.getFirst().getWorkDate().equals(LocalDate.of(2025, 6, 2)) &&
+                        requests.getFirst().getStatus() != null
         ));
 
     }
@@ -77,46 +124,45 @@ class AttendanceSimulatorBotTest {
     @Test
     @DisplayName("주말 출근 데이터 생성이 정상적으로 생성되어야 함")
     void createWeekendCheckInAttendanceData_정상작동() {
-        List<MemberNoResponse> mockMemberIds = List.of(
-                new MemberNoResponse(1L),
-                new MemberNoResponse(2L),
-                new MemberNoResponse(3L)
-        );
-        when(memberServiceClient.getAllMemberIds()).thenReturn(mockMemberIds);
+        List<Long> mockMemberIds = List.of(1L, 2L, 3L);
+        when(memberRosterCache.getMemberIds()).thenReturn(mockMemberIds);
 
         TodayProvider sundayProvider = () -> LocalDate.of(2025, 6, 1);
 
-        when(memberServiceClient.getAllMemberIds()).thenReturn(mockMemberIds);
+        when(memberRosterCache.getMemberIds()).thenReturn(mockMemberIds);
 
         AttendanceSimulatorBot simulatorBot = new AttendanceSimulatorBot(
-                memberServiceClient,
+                memberRosterCache,
                 attendanceService,
-                sundayProvider
+                sundayProvider,
+                attendanceRollupService,
+                attendanceBotExecutor,
+                botRunLedger
         );
+        lenient().when(attendanceService.insertAttendances(anyList())).thenReturn(AttendanceBulkResult.empty());
 
         simulatorBot.createCheckInAttendanceData();
 
-        verify(attendanceService, atMost(mockMemberIds.size()))
-                .createAttendance(any(AttendanceRequest.class));
+        verify(attendanceService, atMost(1))
+                .insertAttendances(argThat(requests -> requests.size() <= mockMemberIds.size()));
 
     }
 
     @Test
     @DisplayName("출근 레코드가 없으면 넘어가야 함.(주말)")
     void passWeekendCheckInAttendanceData_정상작동() {
-        List<MemberNoResponse> mockMemberIds = List.of(
-                new MemberNoResponse(1L),
-                new MemberNoResponse(2L),
-                new MemberNoResponse(3L)
-        );
-        when(memberServiceClient.getAllMemberIds()).thenReturn(mockMemberIds);
+        List<Long> mockMemberIds = List.of(1L, 2L, 3L);
+        when(memberRosterCache.getMemberIds()).thenReturn(mockMemberIds);
 
         TodayProvider sundayProvider = () -> LocalDate.of(2025, 6, 1);
 
         AttendanceSimulatorBot simulatorBot = new AttendanceSimulatorBot(
-                memberServiceClient,
+                memberRosterCache,
                 attendanceService,
-                sundayProvider
+                sundayProvider,
+                attendanceRollupService,
+                attendanceBotExecutor,
+                botRunLedger
         ) {
             @Override
             protected String decideWeekendAttendanceStatus(){
@@ -124,11 +170,138 @@ class AttendanceSimulatorBotTest {
             }
         };
 
-        when(memberServiceClient.getAllMemberIds()).thenReturn(mockMemberIds);
+        when(memberRosterCache.getMemberIds()).thenReturn(mockMemberIds);
 
         simulatorBot.createCheckInAttendanceData();
 
-        verify(attendanceService, never()).createAttendance(any());
+        verify(attendanceService, never()).insertAttendances(anyList());
+
+    }
+
+    @Test
+    @DisplayName("조각별 저장 실패와 회원별 실패를 실행 보고서에 모음")
+    void createCheckInAttendanceData_실패집계() {
+        AttendanceSimulatorBot slicedBot = new AttendanceSimulatorBot(
+                memberRosterCache,
+                attendanceService,
+                todayProvider,
+                attendanceRollupService,
+                new AttendanceBotExecutor(BotExecutionMode.BOUNDED_POOL, 2, 2),
+                botRunLedger
+        );
+        when(memberRosterCache.getMemberIds()).thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+        when(todayProvider.getToday()).thenReturn(LocalDate.of(2025, 6, 2)); // 월요일
+        when(attendanceService.insertAttendances(anyList())).thenAnswer(invocation -> {
+            List<AttendanceRequest> requests = invocation.getArgument(0);
+            if (requests.getFirst().getMbNo() == 3L) {
+                throw new IllegalStateException("connection timeout");
+            }
+            if (requests.getFirst().getMbNo() == 5L) {
+                return new AttendanceBulkResult(1, 0, List.of(new AttendanceBulkResult.Failure(5L, "duplicate")));
+            }
+            return new AttendanceBulkResult(requests.size(), requests.size(), List.of());
+        });
+
+        BotRunReport report = slicedBot.createCheckInAttendanceData();
+
+        assertThat(report.getMode()).isEqualTo(BotExecutionMode.BOUNDED_POOL);
+        assertThat(report.getTargetCount()).isEqualTo(5);
+        assertThat(report.getProcessedCount()).isEqualTo(2);
+        assertThat(report.getFailedCount()).isEqualTo(3);
+        assertThat(report.getFailures())
+                .extracting(AttendanceBulkResult.Failure::getMbNo)
+                .containsExactly(3L, 4L, 5L);
+        verify(attendanceRollupService, times(1)).refreshDate(LocalDate.of(2025, 6, 2));
+        verify(botRunLedger).complete("check-in", LocalDate.of(2025, 6, 2), List.of(1L, 2L), 2);
+        verify(botRunLedger, never()).complete(eq("check-in"), any(), eq(List.of(3L, 4L)), anyInt());
+        verify(botRunLedger, never()).complete(eq("check-in"), any(), eq(List.of(5L)), anyInt());
+    }
+
+    @Test
+    @DisplayName("같은 날 다시 실행하면 원장에 기록된 조각은 건너뛰고 남은 회원만 처리")
+    void createCheckInAttendanceData_재실행() {
+        LocalDate monday = LocalDate.of(2025, 6, 2);
+        when(memberRosterCache.getMemberIds()).thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(todayProvider.getToday()).thenReturn(monday);
+        when(botRunLedger.checkpoint("check-in", monday, List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(new BotRunLedger.Checkpoint(List.of(3L, 4L), 2));
+        when(attendanceService.insertAttendances(anyList())).thenReturn(new AttendanceBulkResult(2, 2, List.of()));
+
+        BotRunReport report = bot.createCheckInAttendanceData();
+
+        verify(attendanceService).insertAttendances(argThat(requests ->
+                requests.stream().map(AttendanceRequest::getMbNo).toList().equals(List.of(3L, 4L))));
+        verify(botRunLedger).complete("check-in", monday, List.of(3L, 4L), 2);
+        assertThat(report.getTargetCount()).isEqualTo(4);
+        assertThat(report.getResumedCount()).isEqualTo(2);
+        assertThat(report.getProcessedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 시드로 백필하면 같은 출결 데이터를 만들고, 기간 전체 집계를 한 번 재계산")
+    void backfill_시드결정성() {
+        LocalDate start = LocalDate.of(2025, 5, 26); // 월요일
+        LocalDate end = LocalDate.of(2025, 6, 1);    // 일요일
+        when(todayProvider.getToday()).thenReturn(LocalDate.of(2025, 6, 2));
+        List<AttendanceRequest> first = captureBackfill(start, end, 7L);
+        List<AttendanceRequest> second = captureBackfill(start, end, 7L);
+
+        assertThat(second).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(first);
+        assertThat(first).extracting(AttendanceRequest::getWorkDate).contains(start, LocalDate.of(2025, 5, 30));
+        assertThat(first).filteredOn(request -> request.getCheckIn() != null)
+                .allSatisfy(request -> {
+                    assertThat(request.getCheckIn().toLocalDate()).isEqualTo(request.getWorkDate());
+                    assertThat(request.getCheckOut()).isAfter(request.getCheckIn());
+                    assertThat(request.getWorkMinutes()).isPositive();
+                });
+        verify(attendanceRollupService, times(2)).rebuild(start, end);
+    }
+
+    @Test
+    @DisplayName("백필 값은 회원·일자로만 정해지고, 주말에는 출근 또는 비출근만 생성")
+    void backfill_회원일자별난수() {
+        LocalDate saturday = LocalDate.of(2025, 5, 31);
+        LocalDate monday = LocalDate.of(2025, 6, 2);
+
+        AttendanceRequest request = bot.backfillRequest(500L, monday, false, true, 7L);
+        AttendanceRequest again = bot.backfillRequest(500L, monday, false, true, 7L);
+        assertThat(again).usingRecursiveComparison().isEqualTo(request);
+
+        for (long mbNo = 1; mbNo <= 200; mbNo++) {
+            AttendanceRequest weekend = bot.backfillRequest(mbNo, saturday, true, true, 7L);
+            if (weekend != null) {
+                assertThat(weekend.getStatus()).isEqualTo(AttendanceStatusConstants.STATUS_PRESENT);
+            }
+            AttendanceRequest open = bot.backfillRequest(mbNo, monday, false, false, 7L);
+            assertThat(open.getCheckOut()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("백필 기간이나 회원 구간이 잘못되면 예외")
+    void backfill_잘못된구간() {
+        LocalDate day = LocalDate.of(2025, 6, 2);
+
+        assertThatThrownBy(() -> bot.backfill(day, day.minusDays(1), 1L, 10L, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bot.backfill(day, day, 10L, 1L, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(attendanceService);
+    }
+
+    private List<AttendanceRequest> captureBackfill(LocalDate start, LocalDate end, long seed) {
+        List<AttendanceRequest> captured = Collections.synchronizedList(new ArrayList<>());
+        when(attendanceService.insertAttendances(anyList())).thenAnswer(invocation -> {
+            List<AttendanceRequest> requests = invocation.getArgument(0);
+            captured.addAll(requests);
+            return new AttendanceBulkResult(requests.size(), requests.size(), List.of());
+        });
+
+        BotRunReport report = bot.backfill(start, end, 1L, 50L, seed);
 
+        assertThat(report.getJob()).isEqualTo("backfill");
+        assertThat(report.getTargetCount()).isEqualTo(7 * 50);
+        assertThat(report.getProcessedCount() + report.getSkippedCount()).isEqualTo(7 * 50);
+        return captured;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,118 @@
+package com.nhnacademy.workentry.attendance.bot;
+
+import com.nhnacademy.workentry.attendance.entity.AttendanceBotRunChunk;
+import com.nhnacademy.workentry.attendance.repository.AttendanceBotRunChunkRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link BotRunLedger} 클래스의 단위 테스트입니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class BotRunLedgerTest {
+
+    private static final LocalDate WORK_DATE = LocalDate.of(2025, 6, 2);
+
+    @Mock
+    private AttendanceBotRunChunkRepository attendanceBotRunChunkRepository;
+
+    @InjectMocks
+    private BotRunLedger botRunLedger;
+
+    @Test
+    @DisplayName("완료된 회원 구간을 제외한 나머지 회원만 반환")
+    void testCheckpoint_skipsCompletedRanges() {
+        List<Long> members = LongStream.rangeClosed(1, 100_000).boxed().toList();
+        when(attendanceBotRunChunkRepository.findByJobAndWorkDate("check-in", WORK_DATE)).thenReturn(List.of(
+                chunk(1L, 1_000L),
+                chunk(1_001L, 2_000L),
+                chunk(50_001L, 51_000L)
+        ));
+
+        BotRunLedger.Checkpoint checkpoint = botRunLedger.checkpoint("check-in", WORK_DATE, members);
+
+        assertThat(checkpoint.resumedCount()).isEqualTo(3_000);
+        assertThat(checkpoint.remaining()).hasSize(97_000);
+        assertThat(checkpoint.remaining().getFirst()).isEqualTo(2_001L);
+        assertThat(checkpoint.remaining()).doesNotContain(50_001L, 51_000L).contains(50_000L, 51_001L);
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 전체 회원을 처리")
+    void testCheckpoint_withoutLedger_returnsAllMembers() {
+        when(attendanceBotRunChunkRepository.findByJobAndWorkDate("check-in", WORK_DATE)).thenReturn(List.of());
+
+        BotRunLedger.Checkpoint checkpoint = botRunLedger.checkpoint("check-in", WORK_DATE, List.of(1L, 2L));
+
+        assertThat(checkpoint.remaining()).containsExactly(1L, 2L);
+        assertThat(checkpoint.resumedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("조각 완료 시 회원 번호 구간을 기록하고, 기록 실패는 실행을 멈추지 않음")
+    void testComplete_recordsRange() {
+        botRunLedger.complete("check-in", WORK_DATE, List.of(10L, 11L, 15L), 3);
+
+        verify(attendanceBotRunChunkRepository).save(argThat(chunk ->
+                chunk.getFirstMbNo() == 10L && chunk.getLastMbNo() == 15L
+                        && chunk.getMemberCount() == 3 && chunk.getSavedCount() == 3
+                        && chunk.getMemberChecksum() == BotRunLedger.checksum(List.of(10L, 11L, 15L))));
+
+        when(attendanceBotRunChunkRepository.save(any())).thenThrow(new QueryTimeoutException("timeout"));
+        assertThatCode(() -> botRunLedger.complete("check-in", WORK_DATE, List.of(20L), 1)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("완료된 구간 안에 새로 들어온 회원이 있으면 그 구간 전체를 다시 처리")
+    void testCheckpoint_reprocessesRangeWithNewMember() {
+        List<Long> before = List.of(1L, 3L, 5L, 7L, 9L, 11L);
+        List<Long> after = List.of(1L, 3L, 4L, 5L, 7L, 9L, 11L);
+        when(attendanceBotRunChunkRepository.findByJobAndWorkDate("check-in", WORK_DATE)).thenReturn(List.of(
+                chunk(before.subList(0, 3)),
+                chunk(before.subList(3, 6))
+        ));
+
+        BotRunLedger.Checkpoint checkpoint = botRunLedger.checkpoint("check-in", WORK_DATE, after);
+
+        assertThat(checkpoint.remaining()).containsExactly(1L, 3L, 4L, 5L);
+        assertThat(checkpoint.resumedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("구간 안의 회원이 바뀌면 회원 수가 같아도 다시 처리")
+    void testCheckpoint_reprocessesRangeWithReplacedMember() {
+        when(attendanceBotRunChunkRepository.findByJobAndWorkDate("check-in", WORK_DATE)).thenReturn(List.of(
+                chunk(List.of(1L, 3L, 5L))
+        ));
+
+        BotRunLedger.Checkpoint checkpoint = botRunLedger.checkpoint("check-in", WORK_DATE, List.of(1L, 2L, 5L, 6L));
+
+        assertThat(checkpoint.remaining()).containsExactly(1L, 2L, 5L, 6L);
+        assertThat(checkpoint.resumedCount()).isZero();
+    }
+
+    private static AttendanceBotRunChunk chunk(long first, long last) {
+        return chunk(LongStream.rangeClosed(first, last).boxed().toList());
+    }
+
+    private static AttendanceBotRunChunk chunk(List<Long> members) {
+        return new AttendanceBotRunChunk("check-in", WORK_DATE, members.getFirst(), members.getLast(), members.size(),
+                BotRunLedger.checksum(members), members.size(), LocalDateTime.of(2025, 6, 2, 9, 0));
+    }
+}
@@ -0,0 +1,111 @@
+package com.nhnacademy.workentry.attendance.importer;
+
+import com.nhnacademy.workentry.attendance.entity.Attendance;
+import com.nhnacademy.workentry.attendance.entity.AttendanceStatus;
+import com.nhnacademy.workentry.attendance.export.AttendanceExportFormat;
+import com.nhnacademy.workentry.attendance.registry.AttendanceStatusRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * {@link Work24ReportLineParser} 클래스의 단위 테스트입니다.
+ * PDF에서 추출한 텍스트({@code kyeongyeong.txt})를 파싱한 결과가 정제본({@code kyeongyeong.csv})과 같은지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class Work24ReportLineParserTest {
+
+    private static final Map<String, Long> STATUS_CODES = Map.of("출석", 1L, "지각", 2L, "결석", 3L, "휴가", 5L);
+
+    @Mock
+    private AttendanceStatusRegistry attendanceStatusRegistry;
+
+    @InjectMocks
+    private Work24ReportLineParser parser;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(attendanceStatusRegistry.findByDescription(anyString())).thenAnswer(invocation -> {
+            String description = invocation.getArgument(0);
+            return Optional.ofNullable(STATUS_CODES.get(description))
+                    .map(code -> new AttendanceStatus(code, description));
+        });
+    }
+
+    @Test
+    @DisplayName("추출 텍스트 전체를 파싱하면 정제된 CSV와 일치")
+    void testParseExtractedTextMatchesCleanedCsv() throws IOException {
+        List<String> expected = readLines("/kyeongyeong/kyeongyeong.csv");
+        List<String> actual = readLines("/kyeongyeong.txt").stream()
+                .map(line -> parser.parse(95L, line))
+                .flatMap(Optional::stream)
+                .map(Work24ReportLineParserTest::toCsvRow)
+                .toList();
+
+        assertThat(actual).containsExactlyElementsOf(expected.subList(1, expected.size()));
+    }
+
+    @Test
+    @DisplayName("머리말·꼬리말 줄은 무시")
+    void testIgnoreNonDataLines() {
+        assertThat(parser.parse(95L, "일자 입실시간 퇴실시간 수업시간 실수업시간 출결상태")).isEmpty();
+        assertThat(parser.parse(95L, "2 / 10 25. 4. 18. 16:11")).isEmpty();
+        assertThat(parser.parse(95L, "닫기 출력")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("퇴실 기록이 00:00이면 미퇴실로 처리")
+    void testMidnightCheckOutIsMissing() {
+        Attendance attendance = parser.parse(95L, "2025-04-18 09:07 00:00 08:00 0 분 결석").orElseThrow();
+
+        assertThat(attendance.getInTime()).isEqualTo(LocalDateTime.of(2025, 4, 18, 9, 7));
+        assertThat(attendance.getOutTime()).isNull();
+        assertThat(attendance.getWorkMinutes()).isZero();
+        assertThat(attendance.getStatusCode()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 출결 상태는 예외")
+    void testUnknownStatus() {
+        assertThatThrownBy(() -> parser.parse(95L, "2024-09-02 09:05 17:51 08:00 480 분 공가"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("공가");
+    }
+
+    private static String toCsvRow(Attendance attendance) {
+        return String.join(",",
+                String.valueOf(attendance.getMbNo()),
+                attendance.getWorkDate().toString(),
+                formatTime(attendance.getInTime()),
+                formatTime(attendance.getOutTime()),
+                String.valueOf(attendance.getWorkMinutes()),
+                String.valueOf(attendance.getStatusCode()));
+    }
+
+    private static String formatTime(LocalDateTime time) {
+        return time != null ? AttendanceExportFormat.TIME_FORMATTER.format(time) : AttendanceExportFormat.NULL_VALUE;
+    }
+
+    private List<String> readLines(String resource) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream(resource)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+    }
+}
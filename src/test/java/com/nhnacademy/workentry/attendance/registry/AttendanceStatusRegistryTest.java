@@ -0,0 +1,64 @@
+package com.nhnacademy.workentry.attendance.registry;
+
+import com.nhnacademy.workentry.attendance.entity.AttendanceStatus;
+import com.nhnacademy.workentry.attendance.repository.AttendanceStatusRepository;
+import com.nhnacademy.workentry.common.exception.AttendanceStatusNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link AttendanceStatusRegistry}의 단위 테스트입니다.
+ * 기동 시 적재한 출결 상태를 I/O 없이 조회하고, refresh 시 스냅샷이 교체되는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class AttendanceStatusRegistryTest {
+
+    @Mock
+    private AttendanceStatusRepository attendanceStatusRepository;
+
+    @InjectMocks
+    private AttendanceStatusRegistry registry;
+
+    @Test
+    @DisplayName("코드와 설명 양쪽으로 조회해도 DB는 한 번만 조회")
+    void testLookupWithoutIo() {
+        when(attendanceStatusRepository.findAll()).thenReturn(List.of(
+                new AttendanceStatus(1L, "출석"),
+                new AttendanceStatus(2L, "지각")
+        ));
+        registry.load();
+
+        assertThat(registry.getByDescription("지각").getCode()).isEqualTo(2L);
+        assertThat(registry.getByCode(1L).getDescription()).isEqualTo("출석");
+        assertThat(registry.findByDescription("없음")).isEmpty();
+        assertThat(registry.getAll()).hasSize(2);
+
+        verify(attendanceStatusRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("refresh 호출 시 새 스냅샷으로 교체")
+    void testRefresh() {
+        when(attendanceStatusRepository.findAll())
+                .thenReturn(List.of(new AttendanceStatus(1L, "출석")))
+                .thenReturn(List.of(new AttendanceStatus(1L, "출석"), new AttendanceStatus(8L, "기타")));
+        registry.load();
+
+        assertThatThrownBy(() -> registry.getByCode(8L))
+                .isInstanceOf(AttendanceStatusNotFoundException.class);
+
+        registry.refresh();
+
+        assertThat(registry.getByCode(8L).getDescription()).isEqualTo("기타");
+    }
+}
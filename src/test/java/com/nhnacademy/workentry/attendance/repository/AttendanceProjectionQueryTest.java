@@ -0,0 +1,187 @@
+package com.nhnacademy.workentry.attendance.repository;
+
+import com.nhnacademy.workentry.attendance.config.QuerydslConfig;
+import com.nhnacademy.workentry.attendance.dto.AttendanceDto;
+import com.nhnacademy.workentry.attendance.dto.AttendanceSummaryDto;
+import com.nhnacademy.workentry.attendance.entity.Attendance;
+import com.nhnacademy.workentry.attendance.entity.AttendanceStatus;
+import com.nhnacademy.workentry.common.exception.InvalidSortPropertyException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link CustomAttendanceRepository}의 DTO projection 조회를 내장 H2 데이터베이스에서 검증합니다.
+ * <p>
+ * Hibernate 통계로 실행된 SQL 문과 적재된 엔티티 수를 세어, 조회 API가 페이지당 한 번의 SQL로 끝나고
+ * 출결 상태를 행마다 지연 로딩(N+1)하지 않는지 확인합니다.
+ * 애플리케이션 클래스의 Feign·RabbitMQ 설정을 불러오지 않도록 JPA 구성만 담은 설정 클래스를 사용합니다.
+ * </p>
+ */
+@DataJpaTest
+@TestPropertySource(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AttendanceProjectionQueryTest {
+
+    private static final long MB_NO = 7L;
+    private static final LocalDate START = LocalDate.of(2025, 6, 2);
+    private static final int DAYS = 8;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @Configuration(proxyBeanMethods = false)
+    @EntityScan(basePackageClasses = Attendance.class)
+    @EnableJpaRepositories(basePackageClasses = AttendanceRepository.class)
+    @Import(QuerydslConfig.class)
+    static class JpaTestConfig {
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<AttendanceStatus> statuses = List.of(
+                new AttendanceStatus(1L, "출석"),
+                new AttendanceStatus(2L, "지각"),
+                new AttendanceStatus(3L, "결석"),
+                new AttendanceStatus(4L, "외출")
+        );
+        statuses.forEach(testEntityManager::persist);
+
+        for (int day = 0; day < DAYS; day++) {
+            LocalDate workDate = START.plusDays(day);
+            for (long mbNo = MB_NO; mbNo <= MB_NO + 1; mbNo++) {
+                testEntityManager.persist(Attendance.newAttendance(
+                        mbNo,
+                        workDate,
+                        workDate.atTime(9, 0),
+                        workDate.atTime(18, 0),
+                        540,
+                        statuses.get(day % statuses.size())
+                ));
+            }
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("회원 전체 출결 조회는 상태를 조인한 한 번의 SQL로 DTO를 반환")
+    void testGetAttendancesByNo() {
+        List<AttendanceDto> result = attendanceRepository.getAttendancesByNo(MB_NO, START, START.plusDays(DAYS - 1));
+
+        assertThat(result).hasSize(DAYS);
+        assertThat(result).extracting(AttendanceDto::getWorkDate).isSorted();
+        assertThat(result).extracting(AttendanceDto::getStatusDescription)
+                .containsExactly("출석", "지각", "결석", "외출", "출석", "지각", "결석", "외출");
+        assertSingleStatementWithoutEntities();
+    }
+
+    @Test
+    @DisplayName("회원 전체 출결 조회는 근무 일자 범위 밖의 기록을 읽지 않음")
+    void testGetAttendancesByNo_boundedByWorkDate() {
+        List<AttendanceDto> result = attendanceRepository.getAttendancesByNo(MB_NO, START.plusDays(2), START.plusDays(3));
+
+        assertThat(result).extracting(AttendanceDto::getWorkDate).containsExactly(START.plusDays(2), START.plusDays(3));
+    }
+
+    @Test
+    @DisplayName("기간별 전체 출결 페이지는 한 번의 SQL로 조회하고 정렬 조건을 적용")
+    void testGetAttendancesByDateRange() {
+        PageRequest pageable = PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "workDate"));
+
+        Page<AttendanceDto> page = attendanceRepository.getAttendancesByDateRange(START, START.plusDays(2), pageable);
+
+        assertThat(page.getTotalElements()).isEqualTo(6);
+        assertThat(page.getContent().getFirst().getWorkDate()).isEqualTo(START.plusDays(2));
+        assertThat(page.getContent()).allSatisfy(dto -> assertThat(dto.getStatusDescription()).isNotNull());
+        assertSingleStatementWithoutEntities();
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 COUNT 쿼리만 추가되고 행마다 추가 쿼리는 없음")
+    void testGetAttendancesByDateRange_fullPageRunsCount() {
+        Page<AttendanceDto> page = attendanceRepository.getAttendancesByDateRange(
+                START, START.plusDays(DAYS - 1), PageRequest.of(0, 5));
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getTotalElements()).isEqualTo(DAYS * 2L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("허용하지 않은 속성으로 정렬을 요청하면 쿼리를 실행하지 않고 예외 발생")
+    void testGetAttendancesByDateRange_rejectsUnknownSortProperty() {
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("status.description"));
+
+        assertThatThrownBy(() -> attendanceRepository.getAttendancesByDateRange(START, START.plusDays(1), pageable))
+                .isInstanceOf(InvalidSortPropertyException.class);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("회원 기간별 출결 페이지는 정렬 조건이 없으면 근무 일자 순으로 한 번의 SQL로 조회")
+    void testGetAttendanceByNoAndDateRange() {
+        Page<AttendanceDto> page = attendanceRepository.getAttendanceByNoAndDateRange(
+                MB_NO, START, START.plusDays(3), PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).hasSize(4).allSatisfy(dto -> assertThat(dto.getMbNo()).isEqualTo(MB_NO));
+        assertThat(page.getContent()).extracting(AttendanceDto::getWorkDate).isSorted();
+        assertSingleStatementWithoutEntities();
+    }
+
+    @Test
+    @DisplayName("근무 요약 페이지는 상태를 조인하지 않고 상태 코드를 그대로 반환")
+    void testGetAttendanceSummaryByNoAndDateRange() {
+        Page<AttendanceSummaryDto> page = attendanceRepository.getAttendanceSummaryByNoAndDateRange(
+                MB_NO, START, START.plusDays(DAYS), PageRequest.of(0, 10, Sort.by("workDate")));
+
+        assertThat(page.getContent()).hasSize(DAYS);
+        AttendanceSummaryDto first = page.getContent().getFirst();
+        assertThat(first.getDayOfMonth()).isEqualTo(START.getDayOfMonth());
+        assertThat(first.getHoursWorked()).isEqualTo(9);
+        assertThat(first.getInTime()).isEqualTo(START.atTime(9, 0));
+        assertThat(page.getContent()).extracting(AttendanceSummaryDto::getCode)
+                .containsExactly(1L, 2L, 3L, 4L, 1L, 2L, 3L, 4L);
+        assertSingleStatementWithoutEntities();
+    }
+
+    private void assertSingleStatementWithoutEntities() {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
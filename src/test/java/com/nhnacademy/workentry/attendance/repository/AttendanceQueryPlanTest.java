@@ -0,0 +1,225 @@
+package com.nhnacademy.workentry.attendance.repository;
+
+import com.nhnacademy.workentry.attendance.entity.Attendance;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 출결 저장소의 조회 형태마다 {@code EXPLAIN}을 실행하여 인덱스 없이 테이블 전체를 읽는 쿼리가 없는지 확인합니다.
+ *
+ * <p>MySQL 실행 계획이 필요하므로 {@code attendance.explain.jdbc-url}이 지정된 경우에만 실행됩니다.
+ * 예: {@code ./mvnw test -Dtest=AttendanceQueryPlanTest -Dattendance.explain.jdbc-url=jdbc:mysql://localhost:3306
+ * -Dattendance.explain.username=root -Dattendance.explain.password=secret}</p>
+ *
+ * <p>지정한 서버에 {@value #SCHEMA} 스키마를 새로 만들고, 인덱스는 {@link Attendance}의 {@code @Table} 선언에서 그대로 읽어 생성합니다.
+ * 옵티마이저가 작은 테이블을 전체 스캔으로 처리하지 않도록 회원 {@value #MEMBERS}명 × {@value #DAYS}일 분량의 출결 기록을 채웁니다.
+ * 쿼리는 {@link AttendanceRepository}의 파생 쿼리와 {@code CustomAttendanceRepositoryImpl},
+ * {@code CustomAttendanceRollupRepositoryImpl}이 실행하는 SQL을 같은 형태로 옮긴 것입니다.</p>
+ */
+@EnabledIfSystemProperty(named = "attendance.explain.jdbc-url", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AttendanceQueryPlanTest {
+
+    private static final String SCHEMA = "work_entry_explain_check";
+    private static final int MEMBERS = 500;
+    private static final int DAYS = 120;
+
+    // 테이블 전체 또는 인덱스 전체를 읽는 접근 방식
+    private static final Set<String> FULL_SCAN_TYPES = Set.of("ALL", "index");
+
+    private static final String COLUMNS = "a.id, a.mb_no, a.work_date, a.in_time, a.out_time, a.work_minutes, a.status";
+
+    private Connection connection;
+
+    @BeforeAll
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("attendance.explain.jdbc-url"),
+                System.getProperty("attendance.explain.username", "root"),
+                System.getProperty("attendance.explain.password", ""));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP DATABASE IF EXISTS " + SCHEMA);
+            statement.execute("CREATE DATABASE " + SCHEMA);
+            statement.execute("USE " + SCHEMA);
+            statement.execute("SET SESSION cte_max_recursion_depth = " + Math.max(MEMBERS, DAYS));
+
+            statement.execute("""
+                    CREATE TABLE attendance_status (
+                        code BIGINT PRIMARY KEY,
+                        description VARCHAR(20) NOT NULL
+                    )""");
+            statement.execute("""
+                    INSERT INTO attendance_status (code, description) VALUES
+                        (1, '출석'), (2, '지각'), (3, '결석'), (4, '외출'), (5, '휴가'), (6, '질병/입원'), (7, '조퇴'), (8, '기타')""");
+            statement.execute(createAttendancesSql());
+            statement.execute(String.format("""
+                    INSERT INTO attendances (mb_no, work_date, in_time, out_time, work_minutes, status, created_at)
+                    WITH RECURSIVE members (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM members WHERE n < %d),
+                                   days (d) AS (SELECT 0 UNION ALL SELECT d + 1 FROM days WHERE d < %d)
+                    SELECT m.n,
+                           DATE '2025-01-01' + INTERVAL days.d DAY,
+                           IF((m.n + days.d) %% 5 = 0, NULL, TIMESTAMP(DATE '2025-01-01' + INTERVAL days.d DAY, '09:00')),
+                           IF((m.n + days.d) %% 5 = 0, NULL, TIMESTAMP(DATE '2025-01-01' + INTERVAL days.d DAY, '18:00')),
+                           IF((m.n + days.d) %% 5 = 0, NULL, 540),
+                           (m.n + days.d) %% 8 + 1,
+                           NOW()
+                      FROM members m CROSS JOIN days""", MEMBERS, DAYS - 1));
+            statement.execute("ANALYZE TABLE attendances, attendance_status");
+        }
+    }
+
+    @AfterAll
+    void tearDown() throws SQLException {
+        if (connection == null) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP DATABASE IF EXISTS " + SCHEMA);
+        } finally {
+            connection.close();
+        }
+    }
+
+    static Stream<Arguments> queries() {
+        return Stream.of(
+                // AttendanceRepository 파생 쿼리
+                Arguments.of("findByMbNoAndWorkDate",
+                        "SELECT " + COLUMNS + " FROM attendances a WHERE a.mb_no = 42 AND a.work_date = '2025-03-03'"),
+
+                // CustomAttendanceRepositoryImpl
+                Arguments.of("getAttendancesByNo",
+                        "SELECT a.id, a.mb_no, a.work_date, a.in_time, a.out_time, st.description"
+                                + " FROM attendances a JOIN attendance_status st ON st.code = a.status"
+                                + " WHERE a.mb_no = 42 AND a.work_date BETWEEN '2023-04-01' AND '2025-06-30' ORDER BY a.work_date"),
+                Arguments.of("getAttendancesByDateRange",
+                        "SELECT a.id, a.mb_no, a.work_date, a.in_time, a.out_time, st.description"
+                                + " FROM attendances a JOIN attendance_status st ON st.code = a.status"
+                                + " WHERE a.work_date BETWEEN '2025-03-01' AND '2025-03-03' LIMIT 20 OFFSET 40"),
+                Arguments.of("getAttendancesByDateRange (count)",
+                        "SELECT COUNT(a.id) FROM attendances a WHERE a.work_date BETWEEN '2025-03-01' AND '2025-03-03'"),
+                Arguments.of("getAttendanceSummaryByNoAndDateRange",
+                        "SELECT a.work_date, a.work_minutes, a.in_time, a.out_time, a.status FROM attendances a"
+                                + " WHERE a.mb_no = 42 AND a.work_date BETWEEN '2025-02-01' AND '2025-03-01' LIMIT 20"),
+                Arguments.of("getAttendanceByNoAndDateRange",
+                        "SELECT a.id, a.mb_no, a.work_date, a.in_time, a.out_time, st.description"
+                                + " FROM attendances a JOIN attendance_status st ON st.code = a.status"
+                                + " WHERE a.mb_no = 42 AND a.work_date BETWEEN '2025-02-01' AND '2025-03-01' ORDER BY a.work_date LIMIT 20"),
+                Arguments.of("getAttendanceByNoAndDateRange (count)",
+                        "SELECT COUNT(a.id) FROM attendances a WHERE a.mb_no = 42 AND a.work_date BETWEEN '2025-02-01' AND '2025-03-01'"),
+                Arguments.of("getAttendanceSliceByDateRange",
+                        "SELECT a.id, a.mb_no, a.work_date, a.in_time, a.out_time, st.description"
+                                + " FROM attendances a JOIN attendance_status st ON st.code = a.status"
+                                + " WHERE a.work_date BETWEEN '2025-03-01' AND '2025-03-31'"
+                                + " ORDER BY a.work_date DESC, a.id DESC LIMIT 21"),
+                Arguments.of("getAttendanceSliceByDateRange (cursor)",
+                        "SELECT a.id, a.mb_no, a.work_date, a.in_time, a.out_time, st.description"
+                                + " FROM attendances a JOIN attendance_status st ON st.code = a.status"
+                                + " WHERE a.work_date BETWEEN '2025-03-01' AND '2025-03-31'"
+                                + " AND (a.work_date < '2025-03-20' OR (a.work_date = '2025-03-20' AND a.id < 40000))"
+                                + " ORDER BY a.work_date DESC, a.id DESC LIMIT 21"),
+                Arguments.of("getAttendanceSliceByDateRange (member)",
+                        "SELECT a.id, a.mb_no, a.work_date, a.in_time, a.out_time, st.description"
+                                + " FROM attendances a JOIN attendance_status st ON st.code = a.status"
+                                + " WHERE a.mb_no = 42 AND a.work_date BETWEEN '2025-01-01' AND '2025-04-30'"
+                                + " ORDER BY a.work_date DESC, a.id DESC LIMIT 21"),
+                Arguments.of("getCheckedInMembers",
+                        "SELECT a.mb_no FROM attendances a WHERE a.work_date = '2025-03-03' AND a.in_time IS NOT NULL GROUP BY a.mb_no"),
+                Arguments.of("streamAttendances",
+                        "SELECT mb_no, work_date, in_time, out_time, work_minutes, status FROM attendances"
+                                + " WHERE work_date BETWEEN '2025-03-01' AND '2025-03-03' ORDER BY mb_no, work_date"),
+                Arguments.of("streamAttendances (member)",
+                        "SELECT mb_no, work_date, in_time, out_time, work_minutes, status FROM attendances"
+                                + " WHERE work_date BETWEEN '2025-01-01' AND '2025-04-30' AND mb_no = 42 ORDER BY mb_no, work_date"),
+                Arguments.of("bulkCheckOut",
+                        "UPDATE attendances SET out_time = TIMESTAMP(work_date, '18:00'), updated_at = NOW()"
+                                + " WHERE work_date = '2025-03-03' AND in_time IS NOT NULL AND out_time IS NULL AND status IN (1, 2, 4)"),
+
+                // CustomAttendanceRollupRepositoryImpl
+                Arguments.of("refreshDaily",
+                        "SELECT work_date, status, COUNT(*), COALESCE(SUM(work_minutes), 0) FROM attendances"
+                                + " WHERE work_date BETWEEN '2025-03-01' AND '2025-03-03' GROUP BY work_date, status"),
+                Arguments.of("refreshMonthly",
+                        "SELECT mb_no, '2025-03-01', status, COUNT(*), COALESCE(SUM(work_minutes), 0) FROM attendances"
+                                + " WHERE work_date BETWEEN '2025-03-01' AND '2025-03-31' GROUP BY mb_no, status"),
+                Arguments.of("refreshMonthlyForMembersOn",
+                        "SELECT mb_no, '2025-03-01', status, COUNT(*), COALESCE(SUM(work_minutes), 0) FROM attendances"
+                                + " WHERE work_date BETWEEN '2025-03-01' AND '2025-03-31'"
+                                + " AND mb_no IN (SELECT mb_no FROM attendances WHERE work_date = '2025-03-03')"
+                                + " GROUP BY mb_no, status")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    @DisplayName("출결 조회가 인덱스를 사용하고 테이블 전체를 읽지 않음")
+    void testQueryPlan_usesIndex(String name, String sql) throws SQLException {
+        List<String> fullScans = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet plan = statement.executeQuery("EXPLAIN " + sql)) {
+            while (plan.next()) {
+                String table = plan.getString("table");
+                if (!"a".equals(table) && !"attendances".equals(table)) {
+                    continue;
+                }
+                String type = plan.getString("type");
+                String key = plan.getString("key");
+                if (FULL_SCAN_TYPES.contains(type) || key == null) {
+                    fullScans.add(String.format("table=%s, type=%s, key=%s, rows=%s, extra=%s",
+                            table, type, key, plan.getString("rows"), plan.getString("Extra")));
+                }
+            }
+        }
+
+        assertThat(fullScans).as("%s 실행 계획에 전체 스캔이 있습니다: %s", name, sql).isEmpty();
+    }
+
+    /**
+     * 엔티티 컬럼과 {@code @Table}의 유니크 키·인덱스 선언으로 출결 테이블 DDL을 만듭니다.
+     */
+    private static String createAttendancesSql() {
+        Table table = Attendance.class.getAnnotation(Table.class);
+        StringBuilder ddl = new StringBuilder("""
+                CREATE TABLE attendances (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    mb_no BIGINT NOT NULL,
+                    work_date DATE,
+                    in_time DATETIME(6),
+                    out_time DATETIME(6),
+                    work_minutes INT,
+                    status BIGINT NOT NULL,
+                    created_at DATETIME(6) NOT NULL,
+                    updated_at DATETIME(6),
+                    CONSTRAINT fk_attendances_status FOREIGN KEY (status) REFERENCES attendance_status (code)""");
+        for (UniqueConstraint unique : table.uniqueConstraints()) {
+            ddl.append(",\n    CONSTRAINT ").append(unique.name())
+                    .append(" UNIQUE (").append(String.join(", ", unique.columnNames())).append(')');
+        }
+        for (Index index : table.indexes()) {
+            ddl.append(",\n    ").append(index.unique() ? "UNIQUE INDEX " : "INDEX ")
+                    .append(index.name()).append(" (").append(index.columnList()).append(')');
+        }
+        return ddl.append("\n)").toString();
+    }
+}
@@ -0,0 +1,65 @@
+package com.nhnacademy.workentry.attendance.repository;
+
+import com.nhnacademy.workentry.attendance.repository.impl.CustomAttendanceRepositoryImpl;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link CustomAttendanceRepositoryImpl#streamAttendances}가 MySQL 드라이버의 행 단위 스트리밍 모드로 조회하는지 검증합니다.
+ * <p>
+ * MySQL Connector/J는 전진 전용·읽기 전용 결과셋에 fetch size가 {@link Integer#MIN_VALUE}일 때만
+ * 결과 전체를 메모리에 적재하지 않으므로, 실행 전 문장 설정을 확인합니다.
+ * </p>
+ */
+@ExtendWith(MockitoExtension.class)
+class AttendanceStreamingQueryTest {
+
+    @Mock
+    private JPAQueryFactory queryFactory;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private CustomAttendanceRepositoryImpl customAttendanceRepository;
+
+    @Test
+    @DisplayName("내보내기 조회는 전진 전용 커서와 스트리밍 fetch size로 실행")
+    void testStreamAttendances_usesStreamingFetchSize() throws Exception {
+        customAttendanceRepository.streamAttendances(null, LocalDate.of(2024, 9, 1), LocalDate.of(2025, 4, 30), row -> {
+        });
+
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(creator.capture(), any(RowCallbackHandler.class));
+
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString(), eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY)))
+                .thenReturn(ps);
+
+        creator.getValue().createPreparedStatement(connection);
+
+        verify(ps).setFetchSize(Integer.MIN_VALUE);
+    }
+}
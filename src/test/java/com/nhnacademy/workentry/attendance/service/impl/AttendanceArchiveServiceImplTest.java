@@ -0,0 +1,181 @@
+package com.nhnacademy.workentry.attendance.service.impl;
+
+import com.nhnacademy.workentry.attendance.archive.ArchivedAttendance;
+import com.nhnacademy.workentry.attendance.archive.AttendanceArchivePolicy;
+import com.nhnacademy.workentry.attendance.archive.AttendanceArchiveStore;
+import com.nhnacademy.workentry.attendance.dto.AttendanceArchiveResult;
+import com.nhnacademy.workentry.attendance.partition.AttendancePartitionPolicy;
+import com.nhnacademy.workentry.attendance.repository.AttendanceArchiveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Stubber;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link AttendanceArchiveServiceImpl} 클래스의 단위 테스트입니다.
+ * 파티션 보존 기간과 보관 기준 모두 6개월 기준으로, 임시 디렉터리의 실제 보관 파일에 기록이 끝난 뒤에만 원본을 지우는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class AttendanceArchiveServiceImplTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 15);
+
+    @Mock
+    private AttendanceArchiveRepository attendanceArchiveRepository;
+
+    @TempDir
+    Path directory;
+
+    private AttendanceArchiveStore attendanceArchiveStore;
+
+    private AttendanceArchiveServiceImpl attendanceArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        attendanceArchiveStore = new AttendanceArchiveStore(directory.resolve("archive"));
+        attendanceArchiveService = new AttendanceArchiveServiceImpl(
+                attendanceArchiveRepository, attendanceArchiveStore, new AttendanceArchivePolicy(6, new AttendancePartitionPolicy(6, 2)));
+    }
+
+    @Test
+    @DisplayName("보관 기준 개월 수는 파티션 보존 개월 수보다 작을 수 없음")
+    void testPolicy_horizonShorterThanRetention() {
+        AttendancePartitionPolicy partitionPolicy = new AttendancePartitionPolicy(13, 3);
+
+        assertThatThrownBy(() -> new AttendanceArchivePolicy(12, partitionPolicy))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(new AttendanceArchivePolicy(24, partitionPolicy).hotStart(TODAY)).isEqualTo(LocalDate.of(2023, 7, 1));
+    }
+
+    @Test
+    @DisplayName("파티션 보관 테이블은 파일에 옮긴 뒤 삭제")
+    void testArchive_movesArchiveTables() {
+        YearMonth month = YearMonth.of(2024, 12);
+        List<ArchivedAttendance> rows = List.of(row(1L, month.atDay(2)), row(2L, month.atDay(3)));
+        when(attendanceArchiveRepository.findArchiveTableMonths()).thenReturn(List.of(month));
+        when(attendanceArchiveRepository.findArchiveTableWorkMonths(month)).thenReturn(List.of(month));
+        stream(rows).when(attendanceArchiveRepository).streamArchiveTableRows(eq(month), eq(month.atDay(1)), eq(month.atEndOfMonth()), any());
+        when(attendanceArchiveRepository.findOldestWorkDate()).thenReturn(Optional.of(LocalDate.of(2025, 1, 2)));
+
+        AttendanceArchiveResult result = attendanceArchiveService.archive(TODAY);
+
+        verify(attendanceArchiveRepository).dropArchiveTable(month);
+        assertThat(attendanceArchiveStore.read(month, null)).containsExactlyElementsOf(rows);
+        assertThat(result.getArchived()).extracting(AttendanceArchiveResult.Archived::getMonth).containsExactly("2024-12");
+        verify(attendanceArchiveRepository, never()).streamRows(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("여러 달의 행이 든 보관 테이블은 근무 월별 파일에 나눠 옮긴 뒤 삭제")
+    void testArchive_splitsArchiveTableByWorkMonth() {
+        YearMonth table = YearMonth.of(2025, 1);
+        YearMonth november = YearMonth.of(2024, 11);
+        YearMonth december = YearMonth.of(2024, 12);
+        List<ArchivedAttendance> novemberRows = List.of(row(1L, november.atDay(20)));
+        List<ArchivedAttendance> decemberRows = List.of(row(2L, december.atDay(2)), row(3L, december.atDay(3)));
+        List<ArchivedAttendance> januaryRows = List.of(row(4L, table.atDay(2)));
+        when(attendanceArchiveRepository.findArchiveTableMonths()).thenReturn(List.of(table));
+        when(attendanceArchiveRepository.findArchiveTableWorkMonths(table)).thenReturn(List.of(november, december, table));
+        stream(novemberRows).when(attendanceArchiveRepository).streamArchiveTableRows(eq(table), eq(november.atDay(1)), any(), any());
+        stream(decemberRows).when(attendanceArchiveRepository).streamArchiveTableRows(eq(table), eq(december.atDay(1)), any(), any());
+        stream(januaryRows).when(attendanceArchiveRepository).streamArchiveTableRows(eq(table), eq(table.atDay(1)), any(), any());
+        when(attendanceArchiveRepository.findOldestWorkDate()).thenReturn(Optional.empty());
+
+        AttendanceArchiveResult result = attendanceArchiveService.archive(TODAY);
+
+        verify(attendanceArchiveRepository).dropArchiveTable(table);
+        assertThat(attendanceArchiveStore.months()).containsExactly(november, december, table);
+        assertThat(attendanceArchiveStore.read(december, null)).containsExactlyElementsOf(decemberRows);
+        assertThat(result.getArchived()).extracting(AttendanceArchiveResult.Archived::getMonth)
+                .containsExactly("2024-11", "2024-12", "2025-01");
+        assertThat(result.getArchived()).extracting(AttendanceArchiveResult.Archived::getMovedCount).containsExactly(1, 2, 1);
+    }
+
+    @Test
+    @DisplayName("운영 테이블에 남은 보존 기간 밖의 행은 월별로 옮기고 읽은 ID만 삭제")
+    void testArchive_movesOldHotRows() {
+        YearMonth month = YearMonth.of(2024, 11);
+        List<ArchivedAttendance> rows = List.of(row(10L, month.atDay(4)), row(11L, month.atDay(5)));
+        when(attendanceArchiveRepository.findArchiveTableMonths()).thenReturn(List.of());
+        when(attendanceArchiveRepository.findOldestWorkDate()).thenReturn(Optional.of(month.atDay(4)));
+        stream(rows).when(attendanceArchiveRepository).streamRows(eq(month.atDay(1)), eq(month.atEndOfMonth()), any());
+        when(attendanceArchiveRepository.deleteRows(eq(month.atDay(1)), eq(month.atEndOfMonth()), aryEq(new long[]{10L, 11L})))
+                .thenReturn(2);
+
+        AttendanceArchiveResult result = attendanceArchiveService.archive(TODAY);
+
+        assertThat(result.getArchived()).singleElement()
+                .satisfies(archived -> assertThat(archived.getMovedCount()).isEqualTo(2));
+        assertThat(attendanceArchiveStore.months()).containsExactly(month);
+        // 2024-11, 2024-12만 보관 대상 (2025-01부터 보존), 행이 없는 2024-12는 파일도 삭제도 없음
+        verify(attendanceArchiveRepository, times(2)).streamRows(any(), any(), any());
+        verify(attendanceArchiveRepository, never()).streamRows(eq(LocalDate.of(2025, 1, 1)), any(), any());
+        verify(attendanceArchiveRepository, times(1)).deleteRows(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("파일 기록에 실패하면 원본을 지우지 않음")
+    void testArchive_keepsSourceOnWriteFailure() throws IOException {
+        YearMonth month = YearMonth.of(2024, 12);
+        // 보관 디렉터리 자리에 일반 파일이 있어 월 디렉터리를 만들 수 없음
+        Path blocked = Files.createFile(directory.resolve("blocked"));
+        attendanceArchiveService = new AttendanceArchiveServiceImpl(attendanceArchiveRepository, new AttendanceArchiveStore(blocked),
+                new AttendanceArchivePolicy(6, new AttendancePartitionPolicy(6, 2)));
+        when(attendanceArchiveRepository.findArchiveTableMonths()).thenReturn(List.of(month));
+        when(attendanceArchiveRepository.findArchiveTableWorkMonths(month)).thenReturn(List.of(month));
+        when(attendanceArchiveRepository.findOldestWorkDate()).thenReturn(Optional.empty());
+
+        AttendanceArchiveResult result = attendanceArchiveService.archive(TODAY);
+
+        verify(attendanceArchiveRepository, never()).dropArchiveTable(any());
+        assertThat(result.getFailures()).extracting(AttendanceArchiveResult.Failure::getMonth).containsExactly("2024-12");
+    }
+
+    @Test
+    @DisplayName("원본 행이 정렬 순서가 아니면 파일을 바꾸지 않고 원본도 지우지 않음")
+    void testArchive_keepsSourceOnUnorderedRows() {
+        YearMonth month = YearMonth.of(2024, 11);
+        when(attendanceArchiveRepository.findArchiveTableMonths()).thenReturn(List.of());
+        when(attendanceArchiveRepository.findOldestWorkDate()).thenReturn(Optional.of(month.atDay(4)));
+        stream(List.of(row(11L, month.atDay(5)), row(10L, month.atDay(4))))
+                .when(attendanceArchiveRepository).streamRows(eq(month.atDay(1)), eq(month.atEndOfMonth()), any());
+
+        AttendanceArchiveResult result = attendanceArchiveService.archive(TODAY);
+
+        verify(attendanceArchiveRepository, never()).deleteRows(any(), any(), any());
+        assertThat(result.getFailures()).extracting(AttendanceArchiveResult.Failure::getMonth).containsExactly("2024-11");
+        assertThat(attendanceArchiveStore.months()).isEmpty();
+    }
+
+    /**
+     * 저장소의 스트리밍 조회가 주어진 행을 소비자에 차례로 넘기도록 합니다.
+     */
+    private static Stubber stream(List<ArchivedAttendance> rows) {
+        return doAnswer(invocation -> {
+            Consumer<ArchivedAttendance> consumer = invocation.getArgument(invocation.getArguments().length - 1);
+            rows.forEach(consumer);
+            return null;
+        });
+    }
+
+    private static ArchivedAttendance row(long id, LocalDate workDate) {
+        return new ArchivedAttendance(id, 7L, workDate, workDate.atTime(9, 0), workDate.atTime(18, 0), 540, 1L);
+    }
+}
@@ -0,0 +1,141 @@
+package com.nhnacademy.workentry.attendance.service.impl;
+
+import com.nhnacademy.workentry.attendance.archive.AttendanceArchiveReader;
+import com.nhnacademy.workentry.attendance.dto.AttendanceExportRow;
+import com.nhnacademy.workentry.attendance.export.AttendanceExportFormat;
+import com.nhnacademy.workentry.attendance.repository.AttendanceRepository;
+import com.nhnacademy.workentry.common.exception.ArchivedPeriodException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * {@link AttendanceExportServiceImpl} 클래스의 단위 테스트입니다.
+ * 내보내기 레이아웃, 보관된 기간 거부, 대량 행을 모아 두지 않고 바로 출력하는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class AttendanceExportServiceImplTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 9, 1);
+    private static final LocalDate END = LocalDate.of(2025, 4, 30);
+
+    // Writer 버퍼(64K 문자, ASCII 기준 64KB)와 인코더 버퍼(8KB)를 합친 값에 여유를 둔 상한
+    private static final long MAX_BUFFERED_BYTES = 128 * 1024;
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private AttendanceArchiveReader attendanceArchiveReader;
+
+    @InjectMocks
+    private AttendanceExportServiceImpl attendanceExportService;
+
+    @Test
+    @DisplayName("CSV 내보내기는 cleaned.csv와 같은 레이아웃으로 기록")
+    void testExportCsvLayout() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<AttendanceExportRow> consumer = invocation.getArgument(3);
+            consumer.accept(new AttendanceExportRow(95L, LocalDate.of(2024, 9, 2),
+                    LocalDateTime.of(2024, 9, 2, 9, 5), LocalDateTime.of(2024, 9, 2, 17, 51), 526, 1L));
+            consumer.accept(new AttendanceExportRow(95L, LocalDate.of(2024, 10, 30), null, null, null, 5L));
+            return null;
+        }).when(attendanceRepository).streamAttendances(eq(95L), eq(START), eq(END), any());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = attendanceExportService.export(95L, START, END, AttendanceExportFormat.CSV, out);
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "사원번호,근무일자,입실시간,퇴실시간,근무시간,출결상태\n" +
+                "95,2024-09-02,2024-09-02 09:05,2024-09-02 17:51,526,1\n" +
+                "95,2024-10-30,NULL,NULL,0,5\n");
+    }
+
+    @Test
+    @DisplayName("보관 기준일 이전 기간은 운영 테이블을 읽지 않고 거부")
+    void testExportRejectsArchivedPeriod() {
+        doThrow(new ArchivedPeriodException(START, START.plusMonths(1)))
+                .when(attendanceArchiveReader).requireNotArchived(START);
+
+        assertThatThrownBy(() -> attendanceExportService.export(null, START, END, AttendanceExportFormat.CSV, new ByteArrayOutputStream()))
+                .isInstanceOf(ArchivedPeriodException.class);
+        verify(attendanceRepository, never()).streamAttendances(any(), any(), any(), any());
+    }
+
+    /**
+     * 100만 행을 내보내는 동안 결과가 메모리에 누적되지 않고 출력 스트림으로 흘러가는지 검증합니다.
+     * <p>
+     * 힙 사용량은 GC 시점에 따라 달라지므로, 대신 행 공급이 끝나기 직전까지 출력 스트림에 기록된 바이트 수를 셉니다.
+     * 그 시점에 아직 내보내지 않은 양이 Writer 버퍼 크기 이하이면, 결과를 모아 두었다가 한 번에 쓰지 않는다는 뜻입니다.
+     * </p>
+     */
+    @Test
+    @DisplayName("100만 행 NDJSON 내보내기 시 행 공급이 끝나기 전에 출력에 기록")
+    void testExportMillionRowsStreamsBeforeSourceExhausted() throws Exception {
+        int rowCount = 1_000_000;
+        CountingOutputStream out = new CountingOutputStream();
+        long[] bytesBeforeLastRow = new long[1];
+        doAnswer(invocation -> {
+            Consumer<AttendanceExportRow> consumer = invocation.getArgument(3);
+            LocalDateTime base = LocalDateTime.of(2024, 1, 1, 9, 0);
+            for (int i = 0; i < rowCount; i++) {
+                if (i == rowCount - 1) {
+                    bytesBeforeLastRow[0] = out.bytes;
+                }
+                LocalDateTime inTime = base.plusDays(i % 365);
+                consumer.accept(new AttendanceExportRow((long) i, inTime.toLocalDate(),
+                        inTime, inTime.plusHours(9), 540, 1L));
+            }
+            return null;
+        }).when(attendanceRepository).streamAttendances(any(), any(), any(), any());
+
+        long rows = attendanceExportService.export(null, START, END, AttendanceExportFormat.NDJSON, out);
+
+        assertThat(rows).isEqualTo(rowCount);
+        assertThat(out.lines).isEqualTo(rowCount);
+        assertThat(out.bytes - bytesBeforeLastRow[0]).isLessThanOrEqualTo(MAX_BUFFERED_BYTES);
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long bytes;
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.nhnacademy.workentry.attendance.service.impl;
+
+import com.nhnacademy.workentry.attendance.dto.AttendanceImportResult;
+import com.nhnacademy.workentry.attendance.entity.Attendance;
+import com.nhnacademy.workentry.attendance.entity.AttendanceStatus;
+import com.nhnacademy.workentry.attendance.importer.AttendanceCsvLineParser;
+import com.nhnacademy.workentry.attendance.registry.AttendanceStatusRegistry;
+import com.nhnacademy.workentry.attendance.repository.AttendanceRepository;
+import com.nhnacademy.workentry.attendance.service.AttendanceRollupService;
+import com.nhnacademy.workentry.common.exception.InvalidImportFileException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link AttendanceImportServiceImpl} 클래스의 단위 테스트입니다.
+ * 실제 파서와 메모리 레지스트리 목을 사용하여 파싱·업서트 파이프라인 전체를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class AttendanceImportServiceImplTest {
+
+    private static final String HEADER = "사원번호,근무일자,입실시간,퇴실시간,근무시간,출결상태\n";
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private AttendanceStatusRegistry attendanceStatusRegistry;
+
+    @Mock
+    private AttendanceRollupService attendanceRollupService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AttendanceImportServiceImpl attendanceImportService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        attendanceImportService = new AttendanceImportServiceImpl(
+                attendanceRepository,
+                new AttendanceCsvLineParser(attendanceStatusRegistry),
+                attendanceRollupService,
+                transactionTemplate,
+                meterRegistry);
+
+        lenient().when(attendanceStatusRegistry.findByCode(anyLong())).thenAnswer(invocation -> {
+            Long code = invocation.getArgument(0);
+            return code >= 1 && code <= 8 ? Optional.of(new AttendanceStatus(code, "상태" + code)) : Optional.empty();
+        });
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("cleaned.csv 전체 적재")
+    void testImportCleanedCsv() throws Exception {
+        AtomicLong upserted = new AtomicLong();
+        when(attendanceRepository.bulkUpsert(anyList())).thenAnswer(invocation ->
+                (int) upserted.addAndGet(invocation.<List<Attendance>>getArgument(0).size()));
+
+        AttendanceImportResult result;
+        try (InputStream inputStream = getClass().getResourceAsStream("/cleaned.csv")) {
+            result = attendanceImportService.importCsv(inputStream);
+        }
+
+        assertThat(result.getTotalLines()).isEqualTo(149);
+        assertThat(result.getImportedCount()).isEqualTo(149);
+        assertThat(result.getFailedCount()).isZero();
+        assertThat(upserted.get()).isEqualTo(149);
+        assertThat(meterRegistry.counter("attendance.import.rows", "result", "upserted").count()).isEqualTo(149);
+        verify(attendanceRollupService).rebuild(LocalDate.of(2024, 9, 2), LocalDate.of(2025, 4, 18));
+    }
+
+    @Test
+    @DisplayName("잘못된 줄은 줄 번호와 함께 보고하고 나머지는 계속 적재")
+    void testImportReportsLineErrors() throws Exception {
+        String csv = HEADER +
+                "95,2024-09-02,2024-09-02 09:05,2024-09-02 17:51,526,1\n" +
+                "95,2024-09-03,2024-09-03 09:01\n" +
+                "95,2024-09-04,NULL,NULL,0,99\n" +
+                "\n" +
+                "abc,2024-09-05,NULL,NULL,0,3\n" +
+                "95,2024-09-06,2024-09-06 09:10,2024-09-06 18:00,530,2\n";
+        when(attendanceRepository.bulkUpsert(anyList())).thenAnswer(invocation ->
+                invocation.<List<Attendance>>getArgument(0).size());
+
+        AttendanceImportResult result = attendanceImportService.importCsv(toStream(csv));
+
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(3);
+        assertThat(result.getErrors())
+                .extracting(AttendanceImportResult.LineError::getLineNumber)
+                .containsExactly(3L, 4L, 6L);
+    }
+
+    @Test
+    @DisplayName("업서트 배치 실패 시 줄 단위로 재시도하여 실패한 줄만 보고")
+    void testImportFallsBackToRowUpsert() throws Exception {
+        String csv = HEADER +
+                "95,2024-09-02,2024-09-02 09:05,2024-09-02 17:51,526,1\n" +
+                "96,2024-09-02,2024-09-02 09:05,2024-09-02 17:51,526,1\n" +
+                "97,2024-09-02,2024-09-02 09:05,2024-09-02 17:51,526,1\n";
+        when(attendanceRepository.bulkUpsert(anyList())).thenAnswer(invocation -> {
+            List<Attendance> attendances = invocation.getArgument(0);
+            if (attendances.stream().anyMatch(a -> a.getMbNo() == 96L)) {
+                throw new DataIntegrityViolationException("fk_attendances_member");
+            }
+            return attendances.size();
+        });
+
+        AttendanceImportResult result = attendanceImportService.importCsv(toStream(csv));
+
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getErrors())
+                .singleElement()
+                .satisfies(error -> {
+                    assertThat(error.getLineNumber()).isEqualTo(3L);
+                    assertThat(error.getReason()).isEqualTo("fk_attendances_member");
+                });
+    }
+
+    @Test
+    @DisplayName("여러 블록에 걸친 대량 적재 시 모든 행을 배치로 저장")
+    void testImportManyBlocks() throws Exception {
+        int rows = 120_000;
+        AtomicLong upserted = new AtomicLong();
+        when(attendanceRepository.bulkUpsert(anyList())).thenAnswer(invocation ->
+                (int) upserted.addAndGet(invocation.<List<Attendance>>getArgument(0).size()));
+
+        AttendanceImportResult result = attendanceImportService.importCsv(toStream(generatedCsv(rows)));
+
+        assertThat(result.getImportedCount()).isEqualTo(rows);
+        assertThat(result.getFailedCount()).isZero();
+        assertThat(upserted.get()).isEqualTo(rows);
+        verify(attendanceRepository, times(rows / 1_000)).bulkUpsert(anyList());
+    }
+
+    @Test
+    @DisplayName("쓰기 단계가 실패하면 읽기를 멈추고 그 예외로 적재 실패")
+    void testImportStopsWhenWriterDies() {
+        // 허가 수(16 블록)를 넘는 분량이어야 읽기가 쓰기 단계를 기다리게 됨
+        String csv = generatedCsv(200_000);
+        doThrow(new LinkageError("writer died")).when(transactionTemplate).executeWithoutResult(any());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+                assertThatThrownBy(() -> attendanceImportService.importCsv(toStream(csv)))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasRootCauseInstanceOf(LinkageError.class));
+
+        verify(attendanceRollupService, never()).rebuild(any(), any());
+    }
+
+    @Test
+    @DisplayName("헤더가 다르면 적재하지 않음")
+    void testImportRejectsUnknownHeader() {
+        assertThatThrownBy(() -> attendanceImportService.importCsv(toStream("mb_no,date\n1,2024-09-02\n")))
+                .isInstanceOf(InvalidImportFileException.class);
+
+        verify(attendanceRepository, never()).bulkUpsert(anyList());
+        verify(attendanceRollupService, never()).rebuild(any(), any());
+    }
+
+    private static String generatedCsv(int rows) {
+        StringBuilder csv = new StringBuilder(HEADER);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (int i = 0; i < rows; i++) {
+            LocalDateTime inTime = base.plusDays(i % 365);
+            csv.append(i / 365).append(',')
+                    .append(inTime.toLocalDate()).append(',')
+                    .append(inTime.toString().replace('T', ' ')).append(',')
+                    .append(inTime.plusHours(9).toString().replace('T', ' ')).append(',')
+                    .append(540).append(',')
+                    .append(1).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static InputStream toStream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,117 @@
+package com.nhnacademy.workentry.attendance.service.impl;
+
+import com.nhnacademy.workentry.attendance.dto.AttendancePartitionMaintenanceResult;
+import com.nhnacademy.workentry.attendance.partition.AttendancePartitionPolicy;
+import com.nhnacademy.workentry.attendance.repository.AttendancePartitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link AttendancePartitionServiceImpl} 클래스의 단위 테스트입니다.
+ * 보존 기간 6개월, 미리 만들 개월 수 2개월 기준으로 파티션 추가·보관 대상을 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class AttendancePartitionServiceImplTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 15);
+
+    @Mock
+    private AttendancePartitionRepository attendancePartitionRepository;
+
+    private AttendancePartitionServiceImpl attendancePartitionService;
+
+    @BeforeEach
+    void setUp() {
+        attendancePartitionService = new AttendancePartitionServiceImpl(
+                attendancePartitionRepository, new AttendancePartitionPolicy(6, 2));
+    }
+
+    @Test
+    @DisplayName("마지막 월 파티션 다음 달부터 미리 만들 월까지 추가하고, 보존 기간이 지난 월은 보관")
+    void testMaintain_createsUpcomingAndArchivesExpired() {
+        when(attendancePartitionRepository.findPartitionNames())
+                .thenReturn(List.of("p202411", "p202412", "p202501", "p202506", "p_future"));
+        when(attendancePartitionRepository.archiveMonthlyPartition(any())).thenReturn(120L);
+
+        AttendancePartitionMaintenanceResult result = attendancePartitionService.maintain(TODAY);
+
+        assertThat(result.getCreatedPartitions()).containsExactly("p202507", "p202508");
+        verify(attendancePartitionRepository).addMonthlyPartition(YearMonth.of(2025, 7), true);
+        verify(attendancePartitionRepository).addMonthlyPartition(YearMonth.of(2025, 8), true);
+
+        assertThat(result.getArchivedPartitions())
+                .extracting(AttendancePartitionMaintenanceResult.Archived::getArchiveTable)
+                .containsExactly("attendances_archive_202411", "attendances_archive_202412");
+        verify(attendancePartitionRepository, never()).archiveMonthlyPartition(YearMonth.of(2025, 1));
+        assertThat(result.getFailures()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미 정리된 상태면 아무 DDL도 실행하지 않음")
+    void testMaintain_idempotent() {
+        when(attendancePartitionRepository.findPartitionNames())
+                .thenReturn(List.of("p202501", "p202506", "p202507", "p202508", "p_future"));
+
+        AttendancePartitionMaintenanceResult result = attendancePartitionService.maintain(TODAY);
+
+        assertThat(result.isPartitioned()).isTrue();
+        assertThat(result.getCreatedPartitions()).isEmpty();
+        assertThat(result.getArchivedPartitions()).isEmpty();
+        verify(attendancePartitionRepository, never()).addMonthlyPartition(any(), anyBoolean());
+        verify(attendancePartitionRepository, never()).archiveMonthlyPartition(any());
+    }
+
+    @Test
+    @DisplayName("파티션되지 않은 테이블이면 건너뜀")
+    void testMaintain_notPartitioned() {
+        when(attendancePartitionRepository.findPartitionNames()).thenReturn(List.of());
+
+        AttendancePartitionMaintenanceResult result = attendancePartitionService.maintain(TODAY);
+
+        assertThat(result.isPartitioned()).isFalse();
+        verify(attendancePartitionRepository, never()).addMonthlyPartition(any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("파티션 생성이 실패하면 이후 월은 만들지 않고, 보관 실패는 다른 월 보관을 막지 않음")
+    void testMaintain_collectsFailures() {
+        when(attendancePartitionRepository.findPartitionNames())
+                .thenReturn(List.of("p202411", "p202412", "p202506"));
+        doThrow(new QueryTimeoutException("lock wait timeout"))
+                .when(attendancePartitionRepository).addMonthlyPartition(YearMonth.of(2025, 7), false);
+        when(attendancePartitionRepository.archiveMonthlyPartition(YearMonth.of(2024, 11)))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"));
+        when(attendancePartitionRepository.archiveMonthlyPartition(YearMonth.of(2024, 12))).thenReturn(10L);
+
+        AttendancePartitionMaintenanceResult result = attendancePartitionService.maintain(TODAY);
+
+        verify(attendancePartitionRepository, never()).addMonthlyPartition(eq(YearMonth.of(2025, 8)), anyBoolean());
+        assertThat(result.getArchivedPartitions()).extracting(AttendancePartitionMaintenanceResult.Archived::getPartition)
+                .containsExactly("p202412");
+        assertThat(result.getFailures()).extracting(AttendancePartitionMaintenanceResult.Failure::getPartition)
+                .containsExactly("p202507", "p202411");
+    }
+
+    @Test
+    @DisplayName("운영 테이블 조회 범위는 보존 시작 월 1일부터 미리 만든 마지막 월 말일까지")
+    void testPolicy_hotRange() {
+        AttendancePartitionPolicy policy = new AttendancePartitionPolicy(6, 2);
+
+        assertThat(policy.hotStart(TODAY)).isEqualTo(LocalDate.of(2025, 1, 1));
+        assertThat(policy.hotEnd(TODAY)).isEqualTo(LocalDate.of(2025, 8, 31));
+        assertThat(AttendancePartitionPolicy.monthOf("p202501")).contains(YearMonth.of(2025, 1));
+        assertThat(AttendancePartitionPolicy.monthOf("p_future")).isEmpty();
+    }
+}
@@ -0,0 +1,120 @@
+package com.nhnacademy.workentry.attendance.service.impl;
+
+import com.nhnacademy.workentry.attendance.dto.AttendanceImportResult;
+import com.nhnacademy.workentry.attendance.entity.Attendance;
+import com.nhnacademy.workentry.attendance.entity.AttendanceStatus;
+import com.nhnacademy.workentry.attendance.importer.Work24ReportLineParser;
+import com.nhnacademy.workentry.attendance.registry.AttendanceStatusRegistry;
+import com.nhnacademy.workentry.attendance.repository.AttendanceRepository;
+import com.nhnacademy.workentry.attendance.service.AttendanceRollupService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link AttendanceReportImportServiceImpl} 클래스의 단위 테스트입니다.
+ * 테스트 리소스의 고용24 PDF 출력물({@code kyeongyeong.pdf})을 실제로 추출하여 적재 결과를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class AttendanceReportImportServiceImplTest {
+
+    // kyeongyeong.csv의 데이터 행 수
+    private static final int REPORT_ROWS = 149;
+
+    private static final Map<String, Long> STATUS_CODES = Map.of("출석", 1L, "지각", 2L, "결석", 3L, "휴가", 5L);
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private AttendanceStatusRegistry attendanceStatusRegistry;
+
+    @Mock
+    private AttendanceRollupService attendanceRollupService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private AttendanceReportImportServiceImpl attendanceReportImportService;
+
+    private final AtomicLong upserted = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        attendanceReportImportService = new AttendanceReportImportServiceImpl(
+                attendanceRepository,
+                new Work24ReportLineParser(attendanceStatusRegistry),
+                attendanceRollupService,
+                transactionTemplate,
+                new SimpleMeterRegistry());
+
+        lenient().when(attendanceStatusRegistry.findByDescription(anyString())).thenAnswer(invocation -> {
+            String description = invocation.getArgument(0);
+            return Optional.ofNullable(STATUS_CODES.get(description))
+                    .map(code -> new AttendanceStatus(code, description));
+        });
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(attendanceRepository.bulkUpsert(anyList())).thenAnswer(invocation ->
+                (int) upserted.addAndGet(invocation.<List<Attendance>>getArgument(0).size()));
+    }
+
+    @Test
+    @DisplayName("PDF 출력물 하나를 페이지 단위로 추출하여 적재")
+    void testImportReport() throws Exception {
+        AttendanceImportResult result;
+        try (InputStream inputStream = getClass().getResourceAsStream("/kyeongyeong.pdf")) {
+            result = attendanceReportImportService.importReport(95L, inputStream);
+        }
+
+        assertThat(result.getFailedCount()).isZero();
+        assertThat(result.getImportedCount()).isEqualTo(REPORT_ROWS);
+        assertThat(upserted.get()).isEqualTo(REPORT_ROWS);
+    }
+
+    @Test
+    @DisplayName("디렉터리 적재 시 파일명의 회원 번호로 적재하고, 번호가 없는 파일은 실패로 보고")
+    void testImportDirectory(@TempDir Path directory) throws Exception {
+        try (InputStream inputStream = getClass().getResourceAsStream("/kyeongyeong.pdf")) {
+            byte[] pdf = inputStream.readAllBytes();
+            Files.write(directory.resolve("95_kyeongyeong.pdf"), pdf);
+            Files.write(directory.resolve("96_kyeongyeong.pdf"), pdf);
+            Files.write(directory.resolve("kyeongyeong.pdf"), pdf);
+        }
+        Files.writeString(directory.resolve("memo.txt"), "ignored");
+
+        Map<String, AttendanceImportResult> results = attendanceReportImportService.importDirectory(directory);
+
+        assertThat(results).containsOnlyKeys("95_kyeongyeong.pdf", "96_kyeongyeong.pdf", "kyeongyeong.pdf");
+        assertThat(results.get("95_kyeongyeong.pdf").getImportedCount()).isEqualTo(REPORT_ROWS);
+        assertThat(results.get("96_kyeongyeong.pdf").getImportedCount()).isEqualTo(REPORT_ROWS);
+        assertThat(results.get("kyeongyeong.pdf").getFailedCount()).isEqualTo(1);
+        assertThat(upserted.get()).isEqualTo(REPORT_ROWS * 2L);
+        verify(attendanceRepository, atLeast(2)).bulkUpsert(argThat(rows ->
+                rows.stream().map(Attendance::getMbNo).distinct().count() == 1));
+    }
+}
@@ -0,0 +1,191 @@
+package com.nhnacademy.workentry.attendance.service.impl;
+
+import com.nhnacademy.workentry.attendance.archive.AttendanceArchiveReader;
+import com.nhnacademy.workentry.attendance.constant.AttendanceStatusConstants;
+import com.nhnacademy.workentry.attendance.dto.DailyAttendanceSummaryDto;
+import com.nhnacademy.workentry.attendance.dto.MonthlyAttendanceSummaryDto;
+import com.nhnacademy.workentry.attendance.entity.AttendanceDailyRollup;
+import com.nhnacademy.workentry.attendance.entity.AttendanceMonthlyRollup;
+import com.nhnacademy.workentry.attendance.entity.AttendanceStatus;
+import com.nhnacademy.workentry.attendance.registry.AttendanceStatusRegistry;
+import com.nhnacademy.workentry.attendance.repository.AttendanceDailyRollupRepository;
+import com.nhnacademy.workentry.attendance.repository.AttendanceMonthlyRollupRepository;
+import com.nhnacademy.workentry.attendance.service.AttendanceRollupService.Contribution;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttendanceRollupServiceImplTest {
+
+    @Mock
+    private AttendanceMonthlyRollupRepository attendanceMonthlyRollupRepository;
+
+    @Mock
+    private AttendanceDailyRollupRepository attendanceDailyRollupRepository;
+
+    @Mock
+    private AttendanceStatusRegistry attendanceStatusRegistry;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private AttendanceArchiveReader attendanceArchiveReader;
+
+    @InjectMocks
+    private AttendanceRollupServiceImpl attendanceRollupService;
+
+    @Test
+    @DisplayName("월간 집계 행을 월별 근무 통계로 변환")
+    void testGetMonthlySummary() {
+        LocalDate march = LocalDate.of(2025, 3, 1);
+        LocalDate april = LocalDate.of(2025, 4, 1);
+        when(attendanceMonthlyRollupRepository.findByMbNoAndMonthBetweenOrderByMonthAsc(95L, march, april))
+                .thenReturn(List.of(
+                        new AttendanceMonthlyRollup(95L, march, 1L, 18, 9_000L),
+                        new AttendanceMonthlyRollup(95L, march, 2L, 2, 960L),
+                        new AttendanceMonthlyRollup(95L, march, 3L, 1, 0L),
+                        new AttendanceMonthlyRollup(95L, april, 1L, 10, 5_000L)
+                ));
+        when(attendanceStatusRegistry.findByDescription(any())).thenAnswer(invocation -> switch ((String) invocation.getArgument(0)) {
+            case AttendanceStatusConstants.STATUS_LATE -> Optional.of(new AttendanceStatus(2L, AttendanceStatusConstants.STATUS_LATE));
+            case AttendanceStatusConstants.STATUS_ABSENT -> Optional.of(new AttendanceStatus(3L, AttendanceStatusConstants.STATUS_ABSENT));
+            default -> Optional.empty();
+        });
+        when(attendanceStatusRegistry.findByCode(anyLong())).thenAnswer(invocation -> {
+            Long code = invocation.getArgument(0);
+            return code <= 2 ? Optional.of(new AttendanceStatus(code, "상태" + code)) : Optional.empty();
+        });
+
+        List<MonthlyAttendanceSummaryDto> result = attendanceRollupService.getMonthlySummary(
+                95L, YearMonth.of(2025, 3), YearMonth.of(2025, 4));
+
+        assertThat(result).hasSize(2);
+        MonthlyAttendanceSummaryDto first = result.get(0);
+        assertThat(first.getMonthValue()).isEqualTo(3);
+        assertThat(first.getRecordedDays()).isEqualTo(21);
+        assertThat(first.getWorkMinutes()).isEqualTo(9_960L);
+        assertThat(first.getHoursWorked()).isEqualTo(166L);
+        assertThat(first.getLateCount()).isEqualTo(2);
+        assertThat(first.getAbsentCount()).isEqualTo(1);
+        assertThat(first.getStatusCounts()).containsExactly(
+                Map.entry("상태1", 18), Map.entry("상태2", 2), Map.entry("3", 1));
+        assertThat(result.get(1).getMonthValue()).isEqualTo(4);
+        assertThat(result.get(1).getLateCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("일별 집계 행을 날짜별 출결 통계로 변환")
+    void testGetDailySummary() {
+        LocalDate day = LocalDate.of(2025, 4, 1);
+        when(attendanceDailyRollupRepository.findByWorkDateBetweenOrderByWorkDateAsc(day, day))
+                .thenReturn(List.of(
+                        new AttendanceDailyRollup(day, 1L, 40, 20_000L),
+                        new AttendanceDailyRollup(day, 2L, 5, 2_000L)
+                ));
+        when(attendanceStatusRegistry.findByCode(anyLong())).thenAnswer(invocation ->
+                Optional.of(new AttendanceStatus(invocation.getArgument(0), "상태" + invocation.getArgument(0))));
+
+        List<DailyAttendanceSummaryDto> result = attendanceRollupService.getDailySummary(day, day);
+
+        assertThat(result).singleElement().satisfies(summary -> {
+            assertThat(summary.getMemberCount()).isEqualTo(45);
+            assertThat(summary.getWorkMinutes()).isEqualTo(22_000L);
+            assertThat(summary.getStatusCounts()).containsEntry("상태1", 40).containsEntry("상태2", 5);
+        });
+    }
+
+    @Test
+    @DisplayName("기간 재계산 시 월마다 별도 트랜잭션으로 일별·월간 집계 갱신")
+    void testRebuild() {
+        when(attendanceArchiveReader.horizon()).thenReturn(LocalDate.of(2024, 4, 1));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        attendanceRollupService.rebuild(LocalDate.of(2025, 2, 15), LocalDate.of(2025, 4, 10));
+
+        verify(transactionTemplate, times(3)).executeWithoutResult(any());
+        InOrder inOrder = inOrder(attendanceMonthlyRollupRepository);
+        inOrder.verify(attendanceMonthlyRollupRepository).refreshDaily(LocalDate.of(2025, 2, 15), LocalDate.of(2025, 2, 28));
+        inOrder.verify(attendanceMonthlyRollupRepository).refreshMonthly(YearMonth.of(2025, 2));
+        inOrder.verify(attendanceMonthlyRollupRepository).refreshDaily(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+        inOrder.verify(attendanceMonthlyRollupRepository).refreshMonthly(YearMonth.of(2025, 3));
+        inOrder.verify(attendanceMonthlyRollupRepository).refreshDaily(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 10));
+        inOrder.verify(attendanceMonthlyRollupRepository).refreshMonthly(YearMonth.of(2025, 4));
+    }
+
+    @Test
+    @DisplayName("보관된 달은 재계산하지 않고 시작 일자를 보관 기준일로 당김")
+    void testRebuild_clampsToArchiveHorizon() {
+        when(attendanceArchiveReader.horizon()).thenReturn(LocalDate.of(2025, 4, 1));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        attendanceRollupService.rebuild(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 4, 10));
+        attendanceRollupService.rebuild(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 28));
+
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+        verify(attendanceMonthlyRollupRepository).refreshDaily(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 10));
+        verify(attendanceMonthlyRollupRepository).refreshMonthly(YearMonth.of(2025, 4));
+        verifyNoMoreInteractions(attendanceMonthlyRollupRepository);
+    }
+
+    @Test
+    @DisplayName("체크아웃 시 같은 상태의 근무 시간 증감분만 집계에 더함")
+    void testApplyChange_sameStatus() {
+        LocalDate day = LocalDate.of(2025, 4, 1);
+
+        attendanceRollupService.applyChange(95L, day, new Contribution(1L, null), new Contribution(1L, 540));
+
+        verify(attendanceMonthlyRollupRepository).addDelta(95L, day, 1L, 0, 540L);
+        verifyNoMoreInteractions(attendanceMonthlyRollupRepository);
+    }
+
+    @Test
+    @DisplayName("상태가 바뀌면 이전 상태에서 빼고 새 상태에 더함")
+    void testApplyChange_statusChanged() {
+        LocalDate day = LocalDate.of(2025, 4, 1);
+
+        attendanceRollupService.applyChange(95L, day, new Contribution(2L, 480), new Contribution(1L, 500));
+
+        InOrder inOrder = inOrder(attendanceMonthlyRollupRepository);
+        inOrder.verify(attendanceMonthlyRollupRepository).addDelta(95L, day, 1L, 1, 500L);
+        inOrder.verify(attendanceMonthlyRollupRepository).addDelta(95L, day, 2L, -1, -480L);
+        verify(attendanceMonthlyRollupRepository, never()).refreshDaily(any(), any());
+    }
+
+    @Test
+    @DisplayName("새 기록은 건수 1과 근무 시간을 더하고, 같은 값으로 덮어쓰면 집계를 건드리지 않음")
+    void testApplyChange_newAndUnchanged() {
+        LocalDate day = LocalDate.of(2025, 4, 1);
+
+        attendanceRollupService.applyChange(95L, day, null, new Contribution(1L, 480));
+        attendanceRollupService.applyChange(95L, day, new Contribution(1L, 480), new Contribution(1L, 480));
+
+        verify(attendanceMonthlyRollupRepository).addDelta(95L, day, 1L, 1, 480L);
+        verifyNoMoreInteractions(attendanceMonthlyRollupRepository);
+    }
+}
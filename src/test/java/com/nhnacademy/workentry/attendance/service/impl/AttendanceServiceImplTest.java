@@ -1,28 +1,44 @@
 package com.nhnacademy.workentry.attendance.service.impl;
 
+import com.nhnacademy.workentry.attendance.archive.AttendanceArchivePolicy;
+import com.nhnacademy.workentry.attendance.archive.AttendanceArchiveReader;
 import com.nhnacademy.workentry.attendance.constant.AttendanceStatusConstants;
+import com.nhnacademy.workentry.attendance.dto.AttendanceBulkResult;
 import com.nhnacademy.workentry.attendance.dto.AttendanceDto;
+import com.nhnacademy.workentry.attendance.dto.AttendanceSummaryDto;
 import com.nhnacademy.workentry.attendance.dto.AttendanceRequest;
 import com.nhnacademy.workentry.attendance.entity.Attendance;
 import com.nhnacademy.workentry.attendance.entity.AttendanceStatus;
+import com.nhnacademy.workentry.attendance.partition.AttendancePartitionPolicy;
+import com.nhnacademy.workentry.attendance.registry.AttendanceStatusRegistry;
 import com.nhnacademy.workentry.attendance.repository.AttendanceRepository;
 import com.nhnacademy.workentry.attendance.repository.AttendanceStatusRepository;
+import com.nhnacademy.workentry.attendance.service.AttendanceRollupService;
+import com.nhnacademy.workentry.attendance.service.AttendanceRollupService.Contribution;
+import com.nhnacademy.workentry.common.exception.ArchivedPeriodException;
 import com.nhnacademy.workentry.common.exception.AttendanceNotFoundException;
+import com.nhnacademy.workentry.common.exception.AttendanceStatusNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -37,6 +53,24 @@ class AttendanceServiceImplTest {
     @Mock
     private AttendanceStatusRepository attendanceStatusRepository;
 
+    @Mock
+    private AttendanceStatusRegistry attendanceStatusRegistry;
+
+    @Mock
+    private AttendanceRollupService attendanceRollupService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private AttendancePartitionPolicy attendancePartitionPolicy;
+
+    @Mock
+    private AttendanceArchiveReader attendanceArchiveReader;
+
+    @Mock
+    private AttendanceArchivePolicy attendanceArchivePolicy;
+
     @InjectMocks
     private AttendanceServiceImpl attendanceService;
 
@@ -44,13 +78,17 @@ class AttendanceServiceImplTest {
     @DisplayName("특정 회원의 전체 출결 기록 조회 테스트")
     void testGetAttendanceByNo() {
         Long mbNo = 1L;
-        Attendance attendance = mock(Attendance.class);
-        when(attendanceRepository.findAllByMbNo(mbNo)).thenReturn(List.of(attendance));
+        AttendanceDto attendance = mock(AttendanceDto.class);
+        LocalDate hotStart = LocalDate.of(2023, 11, 1);
+        LocalDate hotEnd = LocalDate.of(2026, 1, 31);
+        when(attendanceArchivePolicy.hotStart(any())).thenReturn(hotStart);
+        when(attendancePartitionPolicy.hotEnd(any())).thenReturn(hotEnd);
+        when(attendanceRepository.getAttendancesByNo(mbNo, hotStart, hotEnd)).thenReturn(List.of(attendance));
 
         List<AttendanceDto> result = attendanceService.getAttendanceByNo(mbNo);
 
         assertThat(result).hasSize(1);
-        verify(attendanceRepository).findAllByMbNo(mbNo);
+        verify(attendanceRepository).getAttendancesByNo(mbNo, hotStart, hotEnd);
     }
 
     @Test
@@ -80,6 +118,56 @@ class AttendanceServiceImplTest {
         verify(attendanceRepository).getAttendanceByNoAndDateRange(mbNo, start.toLocalDate(), end.toLocalDate(), pageable);
     }
 
+    @Test
+    @DisplayName("보관 기준일에 걸친 기간은 보관 파일과 운영 테이블을 근무 일자 순으로 합쳐 페이지 구성")
+    void testGetAttendanceByNoAndDateRange_mergesArchive() {
+        Long mbNo = 1L;
+        LocalDate start = LocalDate.of(2024, 5, 30);
+        LocalDate end = LocalDate.of(2024, 6, 2);
+        when(attendanceArchiveReader.isArchived(start)).thenReturn(true);
+        when(attendanceArchiveReader.findAttendances(mbNo, start, end)).thenReturn(List.of(
+                new AttendanceDto(1L, mbNo, LocalDate.of(2024, 5, 30), null, null, "출석"),
+                new AttendanceDto(2L, mbNo, LocalDate.of(2024, 5, 31), null, null, "지각")
+        ));
+        when(attendanceRepository.getAttendancesByNo(mbNo, start, end)).thenReturn(List.of(
+                new AttendanceDto(3L, mbNo, LocalDate.of(2024, 6, 1), null, null, "출석"),
+                new AttendanceDto(4L, mbNo, LocalDate.of(2024, 6, 2), null, null, "결석")
+        ));
+
+        Page<AttendanceDto> page = attendanceService.getAttendanceByNoAndDateRange(
+                mbNo, start, end, PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "workDate")));
+
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.getContent()).extracting(AttendanceDto::getId).containsExactly(4L, 3L, 2L);
+        verify(attendanceRepository, never()).getAttendanceByNoAndDateRange(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("회원 전체 출결 조회는 보관 기록을 앞에 합침")
+    void testGetAttendanceByNo_includesArchive() {
+        Long mbNo = 1L;
+        when(attendanceArchiveReader.findAllAttendances(mbNo)).thenReturn(List.of(
+                new AttendanceDto(1L, mbNo, LocalDate.of(2022, 3, 2), null, null, "출석")));
+        when(attendanceRepository.getAttendancesByNo(eq(mbNo), any(), any())).thenReturn(List.of(
+                new AttendanceDto(2L, mbNo, LocalDate.of(2025, 3, 4), null, null, "출석")));
+
+        List<AttendanceDto> result = attendanceService.getAttendanceByNo(mbNo);
+
+        assertThat(result).extracting(AttendanceDto::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("커서 조회는 보관 기준일 이전 기간을 운영 테이블만으로 조회하지 않고 거부")
+    void testGetAttendanceSlice_rejectsArchivedPeriod() {
+        LocalDate start = LocalDate.of(2022, 3, 1);
+        doThrow(new ArchivedPeriodException(start, LocalDate.of(2023, 7, 1)))
+                .when(attendanceArchiveReader).requireNotArchived(start);
+
+        assertThatThrownBy(() -> attendanceService.getAttendanceSliceByNoAndDateRange(1L, start, LocalDate.of(2022, 3, 31), null, 100))
+                .isInstanceOf(ArchivedPeriodException.class);
+        verify(attendanceRepository, never()).getAttendanceSliceByDateRange(any(), any(), any(), any(), anyInt());
+    }
+
     @Test
     @DisplayName("출근 기록 생성 테스트")
     void testCreateAttendance() {
@@ -91,13 +179,16 @@ class AttendanceServiceImplTest {
         request.setWorkMinutes(480);
         request.setStatus(AttendanceStatusConstants.STATUS_PRESENT);
 
-        AttendanceStatus mockStatus = new AttendanceStatus();
-        when(attendanceStatusRepository.findByDescription(request.getStatus()))
-                .thenReturn(Optional.of(mockStatus));
+        AttendanceStatus mockStatus = new AttendanceStatus(1L, AttendanceStatusConstants.STATUS_PRESENT);
+        when(attendanceStatusRegistry.getByDescription(request.getStatus())).thenReturn(mockStatus);
 
         attendanceService.createAttendance(request);
 
-        verify(attendanceRepository, times(1)).save(any(Attendance.class));
+        verify(attendanceRepository, times(1)).bulkUpsert(argThat(attendances ->
+                attendances.size() == 1 && attendances.getFirst().getStatusCode() == 1L));
+        verify(attendanceRepository, never()).save(any(Attendance.class));
+        verifyNoInteractions(attendanceStatusRepository);
+        verify(attendanceRollupService).applyChange(1L, request.getWorkDate(), null, new Contribution(1L, 480));
     }
 
     @Test
@@ -107,16 +198,16 @@ class AttendanceServiceImplTest {
         LocalDate workDate = LocalDate.now();
 
         Attendance attendance = mock(Attendance.class);
-        AttendanceStatus status = new AttendanceStatus();
         when(attendanceRepository.findByMbNoAndWorkDate(mbNo, workDate)).thenReturn(Optional.of(attendance));
-        when(attendance.getStatus()).thenReturn(new AttendanceStatus(null, AttendanceStatusConstants.STATUS_PRESENT));
-        when(attendanceStatusRepository.findByDescription(AttendanceStatusConstants.STATUS_PRESENT))
-                .thenReturn(Optional.of(status));
+        when(attendance.getStatusCode()).thenReturn(1L);
+        when(attendanceStatusRegistry.getByCode(1L))
+                .thenReturn(new AttendanceStatus(1L, AttendanceStatusConstants.STATUS_PRESENT));
         when(attendance.getInTime()).thenReturn(LocalDateTime.now().minusHours(9));
 
         attendanceService.checkOut(mbNo, workDate);
 
         verify(attendanceRepository).save(attendance);
+        verify(attendanceRollupService).applyChange(eq(mbNo), eq(workDate), any(Contribution.class), any(Contribution.class));
     }
 
     @Test
@@ -136,9 +227,9 @@ class AttendanceServiceImplTest {
     void testGetRecentWorkingHoursByMember_noRecords() {
         Long mbNo = 1L;
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Attendance> emptyPage = Page.empty();
+        Page<AttendanceSummaryDto> emptyPage = Page.empty();
 
-        when(attendanceRepository.findByMbNoAndWorkDateBetween(any(), any(), any(), eq(pageable)))
+        when(attendanceRepository.getAttendanceSummaryByNoAndDateRange(any(), any(), any(), eq(pageable)))
                 .thenReturn(emptyPage);
 
         assertThatThrownBy(() -> attendanceService.getRecentWorkingHoursByMember(mbNo, pageable))
@@ -149,12 +240,109 @@ class AttendanceServiceImplTest {
     @DisplayName("최근 일주일 출결 정보 조회 테스트")
     void testGetRecentAttendanceSummary() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Attendance> page = new PageImpl<>(List.of(mock(Attendance.class)));
+        Page<AttendanceDto> page = new PageImpl<>(List.of(mock(AttendanceDto.class)));
 
-        when(attendanceRepository.findByWorkDateBetween(any(), any(), eq(pageable))).thenReturn(page);
+        when(attendanceRepository.getAttendancesByDateRange(any(), any(), eq(pageable))).thenReturn(page);
 
         Page<AttendanceDto> result = attendanceService.getRecentAttendanceSummary(pageable);
 
         assertThat(result.getTotalElements()).isEqualTo(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("출근 기록 일괄 생성 시 청크 단위로 저장")
+    void testCreateAttendances_chunked() {
+        AttendanceStatus present = new AttendanceStatus(1L, AttendanceStatusConstants.STATUS_PRESENT);
+        when(attendanceStatusRegistry.findByDescription(any())).thenAnswer(invocation ->
+                Optional.of(present).filter(status -> status.getDescription().equals(invocation.getArgument(0))));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(attendanceRepository.bulkInsert(anyList())).thenAnswer(invocation ->
+                invocation.<List<Attendance>>getArgument(0).size());
+
+        List<AttendanceRequest> requests = LongStream.rangeClosed(1, 2500)
+                .mapToObj(mbNo -> new AttendanceRequest(mbNo, LocalDate.now(), LocalDateTime.now(), null, null,
+                        AttendanceStatusConstants.STATUS_PRESENT))
+                .toList();
+
+        AttendanceBulkResult result = attendanceService.createAttendances(requests);
+
+        assertThat(result.getStoredCount()).isEqualTo(2500);
+        assertThat(result.getFailures()).isEmpty();
+        verify(attendanceStatusRepository, never()).findByDescription(any());
+        verify(attendanceRepository, times(3)).bulkInsert(anyList());
+        verify(attendanceRepository, never()).save(any());
+        verify(attendanceRollupService, times(1)).refreshDate(LocalDate.now());
+    }
+
+    @Test
+    @DisplayName("출근 기록 일괄 생성 실패 시 회원별 실패 내역 기록")
+    void testCreateAttendances_reportsFailuresPerMember() {
+        AttendanceStatus present = new AttendanceStatus(1L, AttendanceStatusConstants.STATUS_PRESENT);
+        when(attendanceStatusRegistry.findByDescription(any())).thenAnswer(invocation ->
+                Optional.of(present).filter(status -> status.getDescription().equals(invocation.getArgument(0))));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(attendanceRepository.bulkInsert(anyList())).thenAnswer(invocation -> {
+            List<Attendance> chunk = invocation.getArgument(0);
+            if (chunk.stream().anyMatch(attendance -> attendance.getMbNo().equals(2L))) {
+                throw new DataIntegrityViolationException("duplicate mbNo=2");
+            }
+            return chunk.size();
+        });
+
+        List<AttendanceRequest> requests = List.of(
+                new AttendanceRequest(1L, LocalDate.now(), LocalDateTime.now(), null, null, AttendanceStatusConstants.STATUS_PRESENT),
+                new AttendanceRequest(2L, LocalDate.now(), LocalDateTime.now(), null, null, AttendanceStatusConstants.STATUS_PRESENT),
+                new AttendanceRequest(3L, LocalDate.now(), null, null, null, "존재하지 않는 상태")
+        );
+
+        AttendanceBulkResult result = attendanceService.createAttendances(requests);
+
+        assertThat(result.getStoredCount()).isEqualTo(1);
+        assertThat(result.getFailures())
+                .extracting(AttendanceBulkResult.Failure::getMbNo)
+                .containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("일괄 퇴근 처리 시 퇴근 시각 범위별 UPDATE만 실행")
+    void testCheckOutAll() {
+        LocalDate workDate = LocalDate.now();
+        when(attendanceStatusRegistry.getByDescription(any())).thenAnswer(invocation -> switch ((String) invocation.getArgument(0)) {
+            case AttendanceStatusConstants.STATUS_PRESENT -> new AttendanceStatus(1L, AttendanceStatusConstants.STATUS_PRESENT);
+            case AttendanceStatusConstants.STATUS_LATE -> new AttendanceStatus(2L, AttendanceStatusConstants.STATUS_LATE);
+            case AttendanceStatusConstants.STATUS_OUTING -> new AttendanceStatus(4L, AttendanceStatusConstants.STATUS_OUTING);
+            case AttendanceStatusConstants.STATUS_EARLY_LEAVE -> new AttendanceStatus(7L, AttendanceStatusConstants.STATUS_EARLY_LEAVE);
+            default -> throw new AttendanceStatusNotFoundException((String) invocation.getArgument(0));
+        });
+        when(attendanceRepository.bulkCheckOut(eq(workDate), eq(List.of(1L, 2L, 4L)), eq(LocalTime.of(18, 0)), anyInt())).thenReturn(10);
+        when(attendanceRepository.bulkCheckOut(eq(workDate), eq(List.of(7L)), eq(LocalTime.of(14, 0)), anyInt())).thenReturn(2);
+
+        int checkedOut = attendanceService.checkOutAll(workDate);
+
+        assertThat(checkedOut).isEqualTo(12);
+        verify(attendanceRollupService).refreshDate(workDate);
+        verify(attendanceRepository, never()).findByMbNoAndWorkDate(any(), any());
+        verify(attendanceRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("일괄 퇴근 대상 상태가 등록되어 있지 않으면 UPDATE 없이 예외 발생")
+    void testCheckOutAll_unknownStatus() {
+        LocalDate workDate = LocalDate.now();
+        when(attendanceStatusRegistry.getByDescription(any())).thenAnswer(invocation -> {
+            String description = invocation.getArgument(0);
+            if (AttendanceStatusConstants.STATUS_OUTING.equals(description)) {
+                throw new AttendanceStatusNotFoundException(description);
+            }
+            return new AttendanceStatus(1L, description);
+        });
+
+        assertThatThrownBy(() -> attendanceService.checkOutAll(workDate))
+                .isInstanceOf(AttendanceStatusNotFoundException.class);
+
+        verify(attendanceRepository, never()).bulkCheckOut(any(), anyList(), any(), anyInt());
+        verify(attendanceRollupService, never()).refreshDate(any());
+    }
+}
@@ -0,0 +1,125 @@
+package com.nhnacademy.workentry.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ReplicaDataSource} 클래스의 단위 테스트입니다.
+ * 원본과 복제본 역할을 하는 내장 H2 데이터베이스를 각각 띄우고, 어느 쪽에서 읽었는지는 데이터베이스마다 다른 표식 행으로 확인합니다.
+ */
+class ReplicaDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    private DataSource primary;
+    private DataSource replica;
+    private Map<DataSource, Duration> lags;
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaDataSource replicaDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        lags = new HashMap<>();
+        meterRegistry = new SimpleMeterRegistry();
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica);
+        replicaDataSource = new ReplicaDataSource(primary, replicas, dataSource -> {
+            if (!lags.containsKey(dataSource)) {
+                throw new SQLException("Connection refused");
+            }
+            return lags.get(dataSource);
+        }, MAX_LAG, meterRegistry);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("지연 시간이 허용 범위면 읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 원본에서 처리")
+    void testRoute_readOnlyToReplica() {
+        lags.put(replica, Duration.ofMillis(200));
+        replicaDataSource.checkLag();
+
+        assertThat(readOnlyTransaction.execute(status -> node())).isEqualTo("replica");
+        assertThat(writeTransaction.execute(status -> node())).isEqualTo("primary");
+        assertThat(meterRegistry.counter("datasource.read.route", "target", "replica").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("datasource.replica.lag").tag("replica", "replica-0").gauge().value()).isEqualTo(0.2);
+    }
+
+    @Test
+    @DisplayName("지연 시간을 확인하기 전에는 원본에서 읽음")
+    void testRoute_primaryBeforeFirstLagCheck() {
+        assertThat(readOnlyTransaction.execute(status -> node())).isEqualTo("primary");
+        assertThat(meterRegistry.counter("datasource.read.route", "target", "primary").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제본이 허용 지연을 넘으면 원본으로 돌리고, 따라잡으면 다시 복제본에서 읽음")
+    void testRoute_fallsBackWhileReplicaLags() {
+        lags.put(replica, Duration.ofSeconds(30));
+        replicaDataSource.checkLag();
+
+        assertThat(readOnlyTransaction.execute(status -> node())).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.replica.healthy").tag("replica", "replica-0").gauge().value()).isZero();
+
+        lags.put(replica, Duration.ofSeconds(1));
+        replicaDataSource.checkLag();
+
+        assertThat(readOnlyTransaction.execute(status -> node())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("복제가 멈췄거나 지연 확인에 실패하면 원본에서 읽음")
+    void testRoute_fallsBackWhenLagUnknown() {
+        lags.put(replica, null);
+        replicaDataSource.checkLag();
+        assertThat(readOnlyTransaction.execute(status -> node())).isEqualTo("primary");
+
+        lags.remove(replica);
+        replicaDataSource.checkLag();
+        assertThat(readOnlyTransaction.execute(status -> node())).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.replica.lag").tag("replica", "replica-0").gauge().value()).isNaN();
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -2,6 +2,7 @@ package com.nhnacademy.workentry.controller;
 
 import com.nhnacademy.workentry.attendance.dto.AttendanceDto;
 import com.nhnacademy.workentry.attendance.dto.AttendanceSummaryDto;
+import com.nhnacademy.workentry.attendance.dto.CursorSliceResponse;
 import com.nhnacademy.workentry.attendance.service.AttendanceService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,9 +22,13 @@ import java.time.LocalDate;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -114,4 +119,41 @@ class AttendanceControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("4. 회원 출결 내역 커서 조회 성공")
+    void testGetAttendanceSliceByNo() throws Exception {
+        CursorSliceResponse<AttendanceDto> mockSlice = new CursorSliceResponse<>(List.of(), 0, true, "next-cursor");
+
+        when(attendanceService.getAttendanceSliceByNoAndDateRange(
+                eq(1L),
+                any(LocalDate.class),
+                any(LocalDate.class),
+                isNull(),
+                anyInt()
+        )).thenReturn(mockSlice);
+
+        mockMvc.perform(get("/api/v1/attendances/1/cursor")
+                        .param("start", "2024-04-01")
+                        .param("end", "2024-04-30")
+                        .param("size", "50")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+    }
+
+
+    @Test
+    @DisplayName("집계 재계산 기간이 뒤집혔거나 너무 길면 400")
+    void testRebuildSummary_invalidRange() throws Exception {
+        mockMvc.perform(post("/api/v1/attendances/summary/rebuild")
+                        .param("start", "2025-04-10")
+                        .param("end", "2025-04-01"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/v1/attendances/summary/rebuild")
+                        .param("start", "2020-01-01")
+                        .param("end", "2025-04-01"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -1,26 +1,24 @@
 package com.nhnacademy.workentry.entry.realtime.service.impl;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.influxdb.client.InfluxDBClient;
 import com.influxdb.client.QueryApi;
 import com.influxdb.query.FluxRecord;
 import com.influxdb.query.FluxTable;
 import com.nhnacademy.workentry.entry.realtime.dto.EntryRealtimeDto;
+import com.nhnacademy.workentry.log.realtime.LogTopic;
 import com.nhnacademy.workentry.log.realtime.LogWebSocketHandler;
-import com.nhnacademy.workentry.notify.adapter.NotifyAdapter;
+import com.nhnacademy.workentry.notify.service.IntrusionAlertService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
-import java.time.ZoneOffset;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,7 +27,7 @@ import static org.mockito.Mockito.*;
 
 /**
  * {@link EntryRealtimeServiceImpl} 클래스의 단위 테스트 클래스입니다.
- * InfluxDB에서 가져온 출입 데이터의 처리 및 WebSocket 로그 전송 기능을 검증합니다.
+ * InfluxDB에서 가져온 출입 데이터의 수집, 메모리 조회 및 WebSocket 로그 전송 기능을 검증합니다.
  */
 @ExtendWith(MockitoExtension.class)
 class EntryRealtimeServiceImplTest {
@@ -41,110 +39,132 @@ class EntryRealtimeServiceImplTest {
     LogWebSocketHandler logWebSocketHandler;
 
     @Mock
-    NotifyAdapter notifyAdapter;
+    IntrusionAlertService intrusionAlertService;
 
     @InjectMocks
     EntryRealtimeServiceImpl service;
 
-    @Spy
-    ObjectMapper objectMapper = new ObjectMapper();
-
     /**
-     * 정상적인 InfluxDB 응답이 있을 때 logWebSocketHandler가 "INFO" 로그를 broadcast 하는지 검증합니다.
+     * 정상적인 InfluxDB 응답이 있을 때 수집한 값을 조회로 반환하고 일반 출입 로그를 broadcast 하는지 검증합니다.
      */
     @Test
     @DisplayName("정상 출입 로그 출력 테스트(INFO)")
     void testGetLatestEntry_withValidData_broadcastsInfo() {
-        QueryApi mockQueryApi = mock(QueryApi.class);
-        FluxRecord mockRecord = mock(FluxRecord.class);
-        FluxTable mockTable = mock(FluxTable.class);
-
-        when(influxDBClient.getQueryApi()).thenReturn(mockQueryApi);
-        when(mockQueryApi.query(anyString())).thenReturn(List.of(mockTable));
-        when(mockTable.getRecords()).thenReturn(List.of(mockRecord));
-
         OffsetDateTime fakeTime = OffsetDateTime.now().withHour(14);
-        when(mockRecord.getTime()).thenReturn(fakeTime.toInstant());
-        when(mockRecord.getValue()).thenReturn(3);
+        QueryApi queryApi = stubRecords(List.of(fluxRecord(fakeTime.toInstant(), 3)));
 
+        service.pollLatestEntry();
         EntryRealtimeDto result = service.getLatestEntry();
 
-        verify(logWebSocketHandler).broadcast(contains("INFO"));
+        verify(logWebSocketHandler).publish(eq(LogTopic.ENTRY_REALTIME), contains("현재 출입자 수는 3명"));
         assertEquals(3, result.getCount());
+
+        service.getLatestEntry();
+        verify(queryApi, times(1)).query(anyString());
     }
 
     /**
-     * 심야 시간일 경우 로그 레벨이 "ALERT"로 처리되는지 검증합니다.
+     * 심야 시간일 경우 이상 출입 알림이 전송되는지 검증합니다.
      */
     @Test
     @DisplayName("절대 통제 시간대일 경우 이상 출입 로그레벨 출력 테스트(ALERT)")
     void getLatestEntry() {
         LocalDateTime midnight = LocalDateTime.of(2025, 4, 29, 0, 1);
+        stubRecords(List.of(fluxRecord(midnight.atZone(ZoneId.of("Asia/Seoul")).toInstant(), 1)));
 
-        QueryApi mockQueryApi = mock(QueryApi.class);
-        FluxRecord mockRecord = mock(FluxRecord.class);
-        FluxTable mockTable = mock(FluxTable.class);
+        service.pollLatestEntry();
 
-        when(influxDBClient.getQueryApi()).thenReturn(mockQueryApi);
-        when(mockQueryApi.query(anyString())).thenReturn(List.of(mockTable));
-        when(mockTable.getRecords()).thenReturn(List.of(mockRecord));
-
-        when(mockRecord.getTime()).thenReturn(midnight.atZone(ZoneId.of("Asia/Seoul")).toInstant());
-        when(mockRecord.getValue()).thenReturn(1);
-        service.getLatestEntry();
-
-        verify(logWebSocketHandler).broadcast(contains("ALERT"));
+        verify(logWebSocketHandler).publish(eq(LogTopic.INTRUSION_ALERT), contains("이상 출입자 발생"));
+        verify(intrusionAlertService).notifyIntrusion(LocalDateTime.of(2025, 4, 29, 0, 1), 1);
     }
 
     /**
-     * 오후 시간일 경우 로그 레벨이 "INFO"로 처리되는지 검증합니다.
+     * 오후 시간일 경우 일반 출입 로그로 처리되는지 검증합니다.
      */
     @Test
     @DisplayName("오후 시간대일 경우 로그 레벨 출력 테스트(INFO)")
     void testLogAndBroadcast_atAfternoon_logsAsInfo() {
         LocalDateTime afternoon = LocalDateTime.of(2025, 4, 29, 14, 0);
+        stubRecords(List.of(fluxRecord(afternoon.atZone(ZoneId.of("Asia/Seoul")).toInstant(), 1)));
 
-        QueryApi mockQueryApi = mock(QueryApi.class);
-        FluxRecord mockRecord = mock(FluxRecord.class);
-        FluxTable mockTable = mock(FluxTable.class);
+        service.pollLatestEntry();
 
-        when(influxDBClient.getQueryApi()).thenReturn(mockQueryApi);
-        when(mockQueryApi.query(anyString())).thenReturn(List.of(mockTable));
-        when(mockTable.getRecords()).thenReturn(List.of(mockRecord));
-
-        when(mockRecord.getTime()).thenReturn(afternoon.atZone(ZoneId.of("Asia/Seoul")).toInstant());
-        when(mockRecord.getValue()).thenReturn(1);
-        service.getLatestEntry();
-
-        verify(logWebSocketHandler).broadcast(contains("INFO"));
+        verify(logWebSocketHandler).publish(eq(LogTopic.ENTRY_REALTIME), contains("현재 출입자 수는 1명"));
+        verify(intrusionAlertService, never()).notifyIntrusion(any(), anyInt());
     }
 
     /**
-     * JSON 직렬화 실패 상황을 강제로 발생시켜 로그 메시지가 "직렬화 실패"로 출력되는지 검증합니다.
-     *
-     * @throws JsonProcessingException 직렬화 실패를 강제로 유발하기 위해 선언된 예외
+     * 최신 구간의 값이 바뀌지 않으면 다시 전송하지 않는지 검증합니다.
      */
     @Test
-    @DisplayName("직렬화 실패 로그 메시지 테스트")
-    void testLogAndBroadcast_jsonSerializationFails_logsError() throws JsonProcessingException {
-        LocalDateTime entryTime = LocalDateTime.of(2025, 4, 29, 1, 0);
-
-        FluxRecord record = mock(FluxRecord.class);
+    @DisplayName("값이 바뀐 경우에만 broadcast")
+    void testPollLatestEntry_broadcastsOnlyOnChange() {
+        Instant bucket = LocalDateTime.of(2025, 4, 29, 14, 0).atZone(ZoneId.of("Asia/Seoul")).toInstant();
+        FluxRecord sameRecord = fluxRecord(bucket, 2);
+        FluxRecord changedRecord = fluxRecord(bucket, 4);
         FluxTable table = mock(FluxTable.class);
         QueryApi queryApi = mock(QueryApi.class);
-
         when(influxDBClient.getQueryApi()).thenReturn(queryApi);
         when(queryApi.query(anyString())).thenReturn(List.of(table));
-        when(table.getRecords()).thenReturn(List.of(record));
+        when(table.getRecords()).thenReturn(List.of(sameRecord), List.of(sameRecord), List.of(changedRecord));
 
-        when(record.getTime()).thenReturn(entryTime.atZone(ZoneId.of("Asia/Seoul")).toInstant());
-        when(record.getValue()).thenReturn(1);
+        service.pollLatestEntry();
+        service.pollLatestEntry();
+        service.pollLatestEntry();
 
-        doThrow(JsonProcessingException.class)
-                .when(objectMapper).writeValueAsString(any(EntryRealtimeDto.class));
+        verify(logWebSocketHandler, times(2)).publish(any(LogTopic.class), anyString());
+        assertEquals(4, service.getLatestEntry().getCount());
+    }
 
-        service.getLatestEntry();
+    /**
+     * 같은 구간의 여러 센서 값은 합산하고, 가장 최근 구간만 사용하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("여러 센서의 최신 구간 합산")
+    void testPollLatestEntry_sumsLatestBucketAcrossSensors() {
+        Instant bucket = LocalDateTime.of(2025, 4, 29, 14, 1).atZone(ZoneId.of("Asia/Seoul")).toInstant();
+        FluxTable first = mock(FluxTable.class);
+        FluxTable second = mock(FluxTable.class);
+        QueryApi queryApi = mock(QueryApi.class);
+        when(influxDBClient.getQueryApi()).thenReturn(queryApi);
+        when(queryApi.query(anyString())).thenReturn(List.of(first, second));
+        List<FluxRecord> firstRecords = List.of(fluxRecord(bucket.minusSeconds(60), 9), fluxRecord(bucket, 2));
+        List<FluxRecord> secondRecords = List.of(fluxRecord(bucket, 3));
+        when(first.getRecords()).thenReturn(firstRecords);
+        when(second.getRecords()).thenReturn(secondRecords);
+
+        service.pollLatestEntry();
+
+        EntryRealtimeDto result = service.getLatestEntry();
+        assertEquals(LocalDateTime.of(2025, 4, 29, 14, 1), result.getTime());
+        assertEquals(5, result.getCount());
+    }
+
+    /**
+     * 수집 전에는 InfluxDB를 조회하지 않고 0명을 반환하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("수집 전 조회 시 기본값 반환")
+    void testGetLatestEntry_beforePoll_returnsDefault() {
+        EntryRealtimeDto result = service.getLatestEntry();
+
+        assertEquals(0, result.getCount());
+        verifyNoInteractions(influxDBClient, logWebSocketHandler);
+    }
+
+    private QueryApi stubRecords(List<FluxRecord> records) {
+        QueryApi queryApi = mock(QueryApi.class);
+        FluxTable table = mock(FluxTable.class);
+        when(influxDBClient.getQueryApi()).thenReturn(queryApi);
+        when(queryApi.query(anyString())).thenReturn(List.of(table));
+        when(table.getRecords()).thenReturn(records);
+        return queryApi;
+    }
 
-        verify(logWebSocketHandler).broadcast(contains("직렬화 실패"));
+    private static FluxRecord fluxRecord(Instant time, int value) {
+        FluxRecord fRecord = mock(FluxRecord.class);
+        when(fRecord.getTime()).thenReturn(time);
+        when(fRecord.getValue()).thenReturn(value);
+        return fRecord;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,245 @@
+package com.nhnacademy.workentry.entry.service.impl;
+
+import com.nhnacademy.workentry.common.time.TodayProvider;
+import com.nhnacademy.workentry.entry.config.EntryCacheConfig;
+import com.nhnacademy.workentry.entry.dto.EntryCountDto;
+import com.nhnacademy.workentry.entry.influx.EntryCountInfluxQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link EntryServiceImpl} 클래스의 단위 테스트입니다.
+ * 마감일 캐시와 0건 유예, 빠진 날짜만 조회, 마감일과 오늘 출입 횟수의 단일 조회, 캐시 지표를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class EntryServiceImplTest {
+
+    // 2025-04-17 (목요일)
+    private static final LocalDate TODAY = LocalDate.of(2025, 4, 17);
+    private static final LocalDate MONDAY = LocalDate.of(2025, 4, 14);
+
+    @Mock
+    private EntryCountInfluxQuery entryCountInfluxQuery;
+
+    @Mock
+    private TodayProvider todayProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EntryServiceImpl entryService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        entryService = new EntryServiceImpl(
+                entryCountInfluxQuery,
+                todayProvider,
+                new EntryCacheConfig().cacheManager(),
+                meterRegistry,
+                Duration.ofMinutes(2),
+                1);
+        when(todayProvider.getToday()).thenReturn(TODAY);
+    }
+
+    @Test
+    @DisplayName("마감일은 한 번만 조회하고 이후 요청은 캐시 사용")
+    void testClosedDaysCached() {
+        when(entryCountInfluxQuery.countByDay(MONDAY, TODAY))
+                .thenReturn(Map.of(MONDAY, 12, MONDAY.plusDays(1), 4, MONDAY.plusDays(2), 7));
+        when(entryCountInfluxQuery.countByDay(TODAY, TODAY.plusDays(1)))
+                .thenReturn(Map.of(TODAY, 3));
+
+        List<EntryCountDto> first = entryService.getWeeklyEntryCounts();
+        List<EntryCountDto> second = entryService.getWeeklyEntryCounts();
+
+        assertThat(first).containsExactly(
+                new EntryCountDto("2025-04-14", 12),
+                new EntryCountDto("2025-04-15", 4),
+                new EntryCountDto("2025-04-16", 7),
+                new EntryCountDto("2025-04-17", 3));
+        assertThat(second).isEqualTo(first);
+        verify(entryCountInfluxQuery, times(1)).countByDay(MONDAY, TODAY);
+        verify(entryCountInfluxQuery, times(1)).countByDay(TODAY, TODAY.plusDays(1));
+        assertThat(meterRegistry.counter("entry.weekly.cache", "day", "closed", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("entry.weekly.cache", "day", "today", "result", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유예 일수 안의 0건 마감일은 캐시하지 않고 그 날짜만 다시 조회")
+    void testZeroClosedDayWithinGraceNotCached() {
+        LocalDate yesterday = TODAY.minusDays(1);
+        when(entryCountInfluxQuery.countByDay(MONDAY, TODAY))
+                .thenReturn(Map.of(MONDAY, 12, MONDAY.plusDays(1), 4));
+        when(entryCountInfluxQuery.countByDay(yesterday, TODAY))
+                .thenReturn(Map.of(yesterday, 7));
+        when(entryCountInfluxQuery.countByDay(TODAY, TODAY.plusDays(1)))
+                .thenReturn(Map.of(TODAY, 3));
+
+        List<EntryCountDto> first = entryService.getWeeklyEntryCounts();
+        List<EntryCountDto> second = entryService.getWeeklyEntryCounts();
+
+        assertThat(first).doesNotContain(new EntryCountDto("2025-04-16", 7));
+        assertThat(second).containsExactly(
+                new EntryCountDto("2025-04-14", 12),
+                new EntryCountDto("2025-04-15", 4),
+                new EntryCountDto("2025-04-16", 7),
+                new EntryCountDto("2025-04-17", 3));
+        verify(entryCountInfluxQuery, times(1)).countByDay(MONDAY, TODAY);
+        verify(entryCountInfluxQuery, times(1)).countByDay(yesterday, TODAY);
+    }
+
+    @Test
+    @DisplayName("유예 일수가 지난 0건 마감일은 캐시하여 다시 조회하지 않음")
+    void testZeroClosedDayAfterGraceCached() {
+        when(entryCountInfluxQuery.countByDay(MONDAY, TODAY))
+                .thenReturn(Map.of(MONDAY.plusDays(1), 4, MONDAY.plusDays(2), 7));
+        when(entryCountInfluxQuery.countByDay(TODAY, TODAY.plusDays(1)))
+                .thenReturn(Map.of(TODAY, 3));
+
+        entryService.getWeeklyEntryCounts();
+        List<EntryCountDto> second = entryService.getWeeklyEntryCounts();
+
+        assertThat(second).containsExactly(
+                new EntryCountDto("2025-04-15", 4),
+                new EntryCountDto("2025-04-16", 7),
+                new EntryCountDto("2025-04-17", 3));
+        verify(entryCountInfluxQuery, times(1)).countByDay(MONDAY, TODAY);
+        assertThat(meterRegistry.counter("entry.weekly.cache", "day", "closed", "result", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 날짜가 떨어져 있으면 빠진 구간만 각각 조회")
+    void testOnlyMissingRangesQueried() {
+        CacheManager cacheManager = new EntryCacheConfig().cacheManager();
+        cacheManager.getCache(EntryCacheConfig.DAILY_ENTRY_COUNTS).put(MONDAY.plusDays(1), 4);
+        entryService = new EntryServiceImpl(entryCountInfluxQuery, todayProvider, cacheManager, meterRegistry, Duration.ofMinutes(2), 1);
+        when(entryCountInfluxQuery.countByDay(MONDAY, MONDAY.plusDays(1))).thenReturn(Map.of(MONDAY, 12));
+        when(entryCountInfluxQuery.countByDay(MONDAY.plusDays(2), TODAY)).thenReturn(Map.of(MONDAY.plusDays(2), 7));
+        when(entryCountInfluxQuery.countByDay(TODAY, TODAY.plusDays(1))).thenReturn(Map.of(TODAY, 3));
+
+        List<EntryCountDto> result = entryService.getWeeklyEntryCounts();
+
+        assertThat(result).extracting(EntryCountDto::getCount).containsExactly(12, 4, 7, 3);
+        verify(entryCountInfluxQuery, never()).countByDay(MONDAY, TODAY);
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 새로 마감된 날짜만 조회")
+    void testOnlyNewlyClosedDayQueried() {
+        when(entryCountInfluxQuery.countByDay(any(), any())).thenAnswer(invocation -> everyDay(invocation.getArgument(0), invocation.getArgument(1)));
+        entryService.refreshWeeklyEntryCounts();
+
+        LocalDate tomorrow = TODAY.plusDays(1);
+        when(todayProvider.getToday()).thenReturn(tomorrow);
+        entryService.refreshWeeklyEntryCounts();
+
+        verify(entryCountInfluxQuery).countByDay(MONDAY, TODAY);
+        // 첫 번째는 오늘 출입 횟수, 두 번째는 새로 마감된 날짜 조회
+        verify(entryCountInfluxQuery, times(2)).countByDay(TODAY, tomorrow);
+        verify(entryCountInfluxQuery).countByDay(tomorrow, tomorrow.plusDays(1));
+        verify(entryCountInfluxQuery, never()).countByDay(MONDAY, tomorrow);
+    }
+
+    @Test
+    @DisplayName("오늘 출입 횟수를 동시에 요청하면 InfluxDB 조회는 한 번만 실행")
+    void testConcurrentTodayLoadsCollapse() throws Exception {
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        when(entryCountInfluxQuery.countByDay(TODAY, TODAY.plusDays(1))).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            releaseQuery.await(5, TimeUnit.SECONDS);
+            return Map.of(TODAY, 5);
+        });
+        // 마감일은 미리 캐시하고 오늘 값은 항상 오래된 것으로 취급하여, 모든 요청이 오늘 조회에서 겹치도록 함
+        CacheManager cacheManager = new EntryCacheConfig().cacheManager();
+        for (LocalDate date = MONDAY; date.isBefore(TODAY); date = date.plusDays(1)) {
+            cacheManager.getCache(EntryCacheConfig.DAILY_ENTRY_COUNTS).put(date, 0);
+        }
+        entryService = new EntryServiceImpl(entryCountInfluxQuery, todayProvider, cacheManager, meterRegistry, Duration.ZERO, 1);
+
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<EntryCountDto>>> futures = new ArrayList<>();
+            futures.add(pool.submit(() -> entryService.getWeeklyEntryCounts()));
+            assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < threads; i++) {
+                futures.add(pool.submit(() -> entryService.getWeeklyEntryCounts()));
+            }
+            Thread.sleep(100);
+            releaseQuery.countDown();
+
+            for (Future<List<EntryCountDto>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).containsExactly(new EntryCountDto("2025-04-17", 5));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        verify(entryCountInfluxQuery, times(1)).countByDay(any(), any());
+    }
+
+    @Test
+    @DisplayName("마감일 출입 횟수를 동시에 요청하면 InfluxDB 조회는 한 번만 실행")
+    void testConcurrentClosedDayLoadsCollapse() throws Exception {
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        when(entryCountInfluxQuery.countByDay(MONDAY, TODAY)).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            releaseQuery.await(5, TimeUnit.SECONDS);
+            return everyDay(MONDAY, TODAY);
+        });
+        when(entryCountInfluxQuery.countByDay(TODAY, TODAY.plusDays(1))).thenReturn(Map.of(TODAY, 5));
+
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<EntryCountDto>>> futures = new ArrayList<>();
+            futures.add(pool.submit(() -> entryService.getWeeklyEntryCounts()));
+            assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 1; i < threads; i++) {
+                futures.add(pool.submit(() -> entryService.getWeeklyEntryCounts()));
+            }
+            Thread.sleep(100);
+            releaseQuery.countDown();
+
+            for (Future<List<EntryCountDto>> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).hasSize(4);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        verify(entryCountInfluxQuery, times(1)).countByDay(MONDAY, TODAY);
+    }
+
+    /**
+     * {@code [from, to)}의 모든 날짜에 출입 기록이 1건씩 있는 조회 결과를 만듭니다.
+     */
+    private static Map<LocalDate, Integer> everyDay(LocalDate from, LocalDate to) {
+        Map<LocalDate, Integer> counts = new HashMap<>();
+        for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+            counts.put(date, 1);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,508 @@
+package com.nhnacademy.workentry.log.realtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.PongMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link LogWebSocketHandler}와 {@link SessionOutbound}의 단위 테스트입니다.
+ * 세션별 송신 대기열의 초과 처리 정책과 전송 순서, 브로드캐스트가 세션 전송을 기다리지 않는지를 검증합니다.
+ *
+ * <p>세션 수천 개로 지연 시간을 재는 부하 테스트는 실행 환경에 따라 결과가 달라지므로
+ * {@value #LOAD_TEST_PROPERTY}가 {@code true}인 경우에만 실행됩니다.
+ * 예: {@code ./mvnw test -Dtest=LogWebSocketHandlerTest -Dlog.websocket.load-test=true}</p>
+ */
+class LogWebSocketHandlerTest {
+
+    private static final String LOAD_TEST_PROPERTY = "log.websocket.load-test";
+
+    private static final Duration IDLE_TIMEOUT = Duration.ofSeconds(90);
+    private static final int REPLAY_SIZE = 50;
+
+    private final ExecutorService sender = Executors.newCachedThreadPool();
+
+    private LogWebSocketHandler handler;
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdownNow();
+        if (handler != null) {
+            handler.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("대기열 초과 시 가장 오래된 메시지부터 버림 (DROP_OLDEST)")
+    void testDropOldest() throws Exception {
+        BlockingSession blocking = new BlockingSession();
+        SessionOutbound outbound = new SessionOutbound(blocking.session, new Subscription(Set.of(), null, 0, false), 2, OverflowPolicy.DROP_OLDEST, sender);
+
+        offerAll(outbound, blocking, "1", "2", "3", "4", "5");
+
+        assertThat(blocking.awaitPayloads(3)).containsExactly("1", "4", "5");
+        assertThat(outbound.droppedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기열 초과 시 최신 메시지 하나만 남김 (COALESCE_LATEST)")
+    void testCoalesceLatest() throws Exception {
+        BlockingSession blocking = new BlockingSession();
+        SessionOutbound outbound = new SessionOutbound(blocking.session, new Subscription(Set.of(), null, 0, false), 2, OverflowPolicy.COALESCE_LATEST, sender);
+
+        offerAll(outbound, blocking, "1", "2", "3", "4", "5");
+
+        assertThat(blocking.awaitPayloads(3)).containsExactly("1", "4", "5");
+
+        BlockingSession second = new BlockingSession();
+        SessionOutbound coalescing = new SessionOutbound(second.session, new Subscription(Set.of(), null, 0, false), 3, OverflowPolicy.COALESCE_LATEST, sender);
+        offerAll(coalescing, second, "1", "2", "3", "4", "5");
+
+        assertThat(second.awaitPayloads(2)).containsExactly("1", "5");
+    }
+
+    @Test
+    @DisplayName("대기열 초과 시 진행 중인 전송을 마친 뒤 세션 종료 (DISCONNECT)")
+    void testDisconnect() throws Exception {
+        BlockingSession blocking = new BlockingSession();
+        SessionOutbound outbound = new SessionOutbound(blocking.session, new Subscription(Set.of(), null, 0, false), 1, OverflowPolicy.DISCONNECT, sender);
+
+        assertThat(outbound.offer(new TextMessage("1"))).isTrue();
+        assertThat(blocking.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(outbound.offer(new TextMessage("2"))).isTrue();
+        assertThat(outbound.offer(new TextMessage("3"))).isFalse();
+        assertThat(outbound.offer(new TextMessage("4"))).isFalse();
+
+        // 진행 중인 전송이 끝나기 전에는 세션을 닫지 않음
+        verify(blocking.session, after(200).never()).close(any());
+        blocking.release.countDown();
+
+        verify(blocking.session, timeout(5_000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(blocking.payloads).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("브로드캐스트는 세션 전송을 기다리지 않고 반환")
+    void testBroadcastDoesNotWaitForSessions() throws Exception {
+        handler = new LogWebSocketHandler(16, OverflowPolicy.DROP_OLDEST, IDLE_TIMEOUT, REPLAY_SIZE);
+        BlockingSession blocking = new BlockingSession();
+        handler.afterConnectionEstablished(blocking.session);
+
+        handler.broadcast("hello");
+        assertThat(blocking.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 첫 전송이 멈춰 있는 동안에도 다음 브로드캐스트는 반환되고, 메시지는 대기열에 남음
+        Future<?> second = sender.submit(() -> handler.broadcast("world"));
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(blocking.payloads).containsExactly("hello");
+
+        blocking.release.countDown();
+        assertThat(blocking.awaitPayloads(2)).containsExactly("hello", "world");
+    }
+
+    @Test
+    @DisplayName("브로드캐스트 메시지는 한 번만 인코딩하여 모든 세션에 같은 프레임으로 전송")
+    void testBroadcastSharesEncodedFrame() throws Exception {
+        handler = new LogWebSocketHandler(16, OverflowPolicy.DROP_OLDEST, IDLE_TIMEOUT, REPLAY_SIZE);
+        int sessionCount = 50;
+        CountDownLatch delivered = new CountDownLatch(sessionCount);
+        List<WebSocketMessage<?>> sent = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < sessionCount; i++) {
+            WebSocketSession session = mock(WebSocketSession.class, withSettings().stubOnly());
+            when(session.getId()).thenReturn("s" + i);
+            when(session.isOpen()).thenReturn(true);
+            doAnswer(invocation -> {
+                sent.add(invocation.getArgument(0));
+                delivered.countDown();
+                return null;
+            }).when(session).sendMessage(any());
+            handler.afterConnectionEstablished(session);
+        }
+
+        handler.broadcast("출입자 3명");
+
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sent).hasSize(sessionCount);
+        assertThat(sent).allSatisfy(message -> assertThat(message).isSameAs(sent.get(0)));
+        assertThat(((TextMessage) sent.get(0)).getPayload()).isEqualTo("출입자 3명");
+    }
+
+    @Test
+    @DisplayName("KeepAlive는 텍스트 대신 Ping 제어 프레임을 전송")
+    void testKeepAliveSendsPingFrame() throws Exception {
+        handler = new LogWebSocketHandler(16, OverflowPolicy.DROP_OLDEST, IDLE_TIMEOUT, REPLAY_SIZE);
+        CountDownLatch delivered = new CountDownLatch(2);
+        List<WebSocketMessage<?>> sent = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            WebSocketSession session = mock(WebSocketSession.class);
+            when(session.getId()).thenReturn("s" + i);
+            when(session.isOpen()).thenReturn(true);
+            doAnswer(invocation -> {
+                sent.add(invocation.getArgument(0));
+                delivered.countDown();
+                return null;
+            }).when(session).sendMessage(any());
+            handler.afterConnectionEstablished(session);
+        }
+
+        handler.keepAlive();
+
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sent).allSatisfy(message -> assertThat(message).isInstanceOf(PingMessage.class));
+        assertThat(sent.get(0)).isSameAs(sent.get(1));
+    }
+
+    @Test
+    @DisplayName("주제를 구독한 세션에게만 전달")
+    void testPublishRoutesByTopic() throws Exception {
+        handler = new LogWebSocketHandler(16, OverflowPolicy.DROP_OLDEST, IDLE_TIMEOUT, REPLAY_SIZE);
+        List<String> entryReceived = new CopyOnWriteArrayList<>();
+        List<String> strangerReceived = new CopyOnWriteArrayList<>();
+        List<String> allReceived = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(4);
+        handler.afterConnectionEstablished(recordingSession("entry", "ws://localhost/ws/logs?topics=entry-realtime", entryReceived, delivered));
+        handler.afterConnectionEstablished(recordingSession("stranger", "ws://localhost/ws/stranger", strangerReceived, delivered));
+        handler.afterConnectionEstablished(recordingSession("all", "ws://localhost/ws/logs", allReceived, delivered));
+
+        handler.publish(LogTopic.ENTRY_REALTIME, "count");
+        handler.publish(LogTopic.INTRUSION_ALERT, "alert");
+
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+        assertThat(entryReceived).containsExactly("count");
+        assertThat(strangerReceived).containsExactly("alert");
+        assertThat(allReceived).containsExactly("count", "alert");
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 주제는 페이로드를 만들지 않음")
+    void testPublishSkipsTopicsWithoutSubscribers() throws Exception {
+        handler = new LogWebSocketHandler(16, OverflowPolicy.DROP_OLDEST, IDLE_TIMEOUT, REPLAY_SIZE);
+        handler.afterConnectionEstablished(recordingSession("entry", "ws://localhost/ws/logs?topics=ENTRY_REALTIME",
+                new CopyOnWriteArrayList<>(), new CountDownLatch(1)));
+        AtomicInteger serialized = new AtomicInteger();
+
+        handler.publish(LogTopic.RAW_LOG, () -> {
+            serialized.incrementAndGet();
+            return "raw";
+        });
+
+        assertThat(handler.hasSubscribers(LogTopic.RAW_LOG)).isFalse();
+        assertThat(serialized).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("응답 없는 세션은 KeepAlive에서 종료하고, Pong을 보낸 세션은 유지")
+    void testKeepAliveEvictsIdleSessions() throws Exception {
+        handler = new LogWebSocketHandler(16, OverflowPolicy.DROP_OLDEST, Duration.ofMillis(50), REPLAY_SIZE);
+        WebSocketSession idle = mock(WebSocketSession.class);
+        WebSocketSession alive = mock(WebSocketSession.class);
+        when(idle.getId()).thenReturn("idle");
+        when(alive.getId()).thenReturn("alive");
+        when(idle.isOpen()).thenReturn(true);
+        when(alive.isOpen()).thenReturn(true);
+        handler.afterConnectionEstablished(idle);
+        handler.afterConnectionEstablished(alive);
+
+        Thread.sleep(100);
+        handler.handleMessage(alive, new PongMessage());
+        handler.keepAlive();
+
+        verify(idle, timeout(5_000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        verify(alive, timeout(5_000)).sendMessage(any(PingMessage.class));
+        verify(alive, never()).close(any());
+        assertThat(handler.sessionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("닫힌 세션은 KeepAlive에서 제거")
+    void testKeepAliveRemovesClosedSessions() throws Exception {
+        handler = new LogWebSocketHandler(16, OverflowPolicy.DROP_OLDEST, IDLE_TIMEOUT, REPLAY_SIZE);
+        WebSocketSession closed = mock(WebSocketSession.class);
+        when(closed.getId()).thenReturn("closed");
+        when(closed.isOpen()).thenReturn(false);
+        handler.afterConnectionEstablished(closed);
+
+        handler.keepAlive();
+
+        assertThat(handler.sessionCount()).isZero();
+        verify(closed, never()).sendMessage(any());
+    }
+
+    /**
+     * 세션이 10,000개 등록된 상태에서도 연결·해제 처리 시간이 세션 수에 비례하지 않는지 확인합니다.
+     * 전역 락으로 순회하는 구조라면 KeepAlive 점검 중 연결·해제가 점검이 끝날 때까지 기다리게 됩니다.
+     * 실행 시간을 재므로 {@value #LOAD_TEST_PROPERTY}를 지정한 경우에만 실행됩니다.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = LOAD_TEST_PROPERTY, matches = "true")
+    @DisplayName("세션 10,000개에서도 연결·해제 시간이 일정")
+    void testConnectDisconnectLatencyWithManySessions() throws Exception {
+        handler = new LogWebSocketHandler(16, OverflowPolicy.DROP_OLDEST, IDLE_TIMEOUT, REPLAY_SIZE);
+        for (int i = 0; i < 10_000; i++) {
+            handler.afterConnectionEstablished(openSession("s" + i));
+        }
+        List<WebSocketSession> extra = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            extra.add(openSession("extra" + i));
+        }
+
+        ExecutorService sweeper = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> sweep = sweeper.submit(() -> handler.keepAlive());
+            long startedAt = System.nanoTime();
+            for (WebSocketSession session : extra) {
+                handler.afterConnectionEstablished(session);
+                handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+            }
+            long perPairMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt) / extra.size();
+            sweep.get(30, TimeUnit.SECONDS);
+
+            assertThat(perPairMicros).isLessThan(1_000);
+            assertThat(handler.sessionCount()).isEqualTo(10_000);
+        } finally {
+            sweeper.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("접속 시 구독 주제의 최근 메시지를 발행 순서대로 재전송")
+    void testReplayOnConnect() throws Exception {
+        handler = new LogWebSocketHandler(16, OverflowPolicy.DROP_OLDEST, IDLE_TIMEOUT, 2);
+        handler.publish(LogTopic.ENTRY_REALTIME, "count-1");
+        handler.publish(LogTopic.INTRUSION_ALERT, "alert-1");
+        handler.publish(LogTopic.ENTRY_REALTIME, "count-2");
+        handler.publish(LogTopic.ENTRY_REALTIME, "count-3");
+
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(3);
+        handler.afterConnectionEstablished(recordingSession("late", "ws://localhost/ws/logs", received, delivered));
+
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        // 주제별 최근 2건만 보관하므로 count-1은 버려짐
+        assertThat(received).containsExactly("alert-1", "count-2", "count-3");
+    }
+
+    @Test
+    @DisplayName("재접속 시 since 이후 메시지만 봉투 형식으로 재전송하고 이어서 실시간 수신")
+    void testReplaySinceSequence() throws Exception {
+        handler = new LogWebSocketHandler(16, OverflowPolicy.DROP_OLDEST, IDLE_TIMEOUT, REPLAY_SIZE);
+        handler.publish(LogTopic.RAW_LOG, "log-1");
+        handler.publish(LogTopic.RAW_LOG, "log-2");
+        handler.publish(LogTopic.RAW_LOG, "log-3");
+        long epoch = receiveEpoch();
+
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(2);
+        handler.afterConnectionEstablished(recordingSession("reconnect",
+                "ws://localhost/ws/logs?topics=raw-log&since=" + epoch + ":2", received, delivered));
+        handler.publish(LogTopic.RAW_LOG, "log-4");
+
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).containsExactly(
+                "{\"epoch\":" + epoch + ",\"seq\":3,\"topic\":\"RAW_LOG\",\"payload\":\"log-3\"}",
+                "{\"epoch\":" + epoch + ",\"seq\":4,\"topic\":\"RAW_LOG\",\"payload\":\"log-4\"}");
+    }
+
+    @Test
+    @DisplayName("서버 재시작 전에 받은 since로 재접속하면 보관 중인 메시지 전체를 재전송")
+    void testReplaySinceSequence_previousBoot() throws Exception {
+        handler = new LogWebSocketHandler(16, OverflowPolicy.DROP_OLDEST, IDLE_TIMEOUT, REPLAY_SIZE);
+        handler.publish(LogTopic.RAW_LOG, "log-1");
+        handler.publish(LogTopic.RAW_LOG, "log-2");
+        long epoch = receiveEpoch();
+
+        // 이전 기동의 식별자
+        List<String> staleEpoch = new CopyOnWriteArrayList<>();
+        CountDownLatch staleEpochDelivered = new CountDownLatch(2);
+        handler.afterConnectionEstablished(recordingSession("stale-epoch",
+                "ws://localhost/ws/logs?topics=raw-log&since=" + (epoch - 1) + ":1", staleEpoch, staleEpochDelivered));
+
+        // 식별자 없이 현재 마지막 번호보다 큰 일련번호
+        List<String> staleSequence = new CopyOnWriteArrayList<>();
+        CountDownLatch staleSequenceDelivered = new CountDownLatch(2);
+        handler.afterConnectionEstablished(recordingSession("stale-seq",
+                "ws://localhost/ws/logs?topics=raw-log&since=500", staleSequence, staleSequenceDelivered));
+
+        assertThat(staleEpochDelivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(staleSequenceDelivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(staleEpoch).hasSize(2);
+        assertThat(staleSequence).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("여러 클라이언트가 동시에 재접속해도 페이로드는 한 번만 생성")
+    void testReplaySharesFramesAcrossReconnects() throws Exception {
+        handler = new LogWebSocketHandler(16, OverflowPolicy.DROP_OLDEST, IDLE_TIMEOUT, REPLAY_SIZE);
+        AtomicInteger serialized = new AtomicInteger();
+        handler.publish(LogTopic.ENTRY_REALTIME, () -> {
+            serialized.incrementAndGet();
+            return "count";
+        });
+
+        int clients = 100;
+        CountDownLatch delivered = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            handler.afterConnectionEstablished(recordingSession("c" + i, "ws://localhost/ws/logs?topics=entry-realtime",
+                    new CopyOnWriteArrayList<>(), delivered));
+        }
+
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(serialized).hasValue(1);
+    }
+
+    /**
+     * 5,000개 세션 중 1%가 메시지마다 200ms씩 걸리는 상황에서,
+     * 나머지 세션은 모든 메시지를 받고 수신 지연이 느린 세션의 전송 시간에 묶이지 않는지 확인합니다.
+     * 실행 시간을 재므로 {@value #LOAD_TEST_PROPERTY}를 지정한 경우에만 실행됩니다.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = LOAD_TEST_PROPERTY, matches = "true")
+    @DisplayName("느린 세션이 섞여 있어도 빠른 세션의 수신 지연은 제한됨")
+    void testFastSessionsUnaffectedBySlowOnes() throws Exception {
+        int sessionCount = 5_000;
+        int slowEvery = 100;
+        int messages = 20;
+        handler = new LogWebSocketHandler(8, OverflowPolicy.DROP_OLDEST, IDLE_TIMEOUT, REPLAY_SIZE);
+
+        int fastCount = sessionCount - sessionCount / slowEvery;
+        CountDownLatch delivered = new CountDownLatch(fastCount * messages);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(fastCount * messages));
+
+        for (int i = 0; i < sessionCount; i++) {
+            WebSocketSession session = mock(WebSocketSession.class, withSettings().stubOnly());
+            when(session.getId()).thenReturn("s" + i);
+            when(session.isOpen()).thenReturn(true);
+            if (i % slowEvery == 0) {
+                doAnswer(invocation -> {
+                    Thread.sleep(200);
+                    return null;
+                }).when(session).sendMessage(any());
+            } else {
+                doAnswer(invocation -> {
+                    long sentAt = Long.parseLong(invocation.<TextMessage>getArgument(0).getPayload());
+                    latencies.add(System.nanoTime() - sentAt);
+                    delivered.countDown();
+                    return null;
+                }).when(session).sendMessage(any());
+            }
+            handler.afterConnectionEstablished(session);
+        }
+
+        for (int i = 0; i < messages; i++) {
+            handler.broadcast(String.valueOf(System.nanoTime()));
+            Thread.sleep(10);
+        }
+
+        assertThat(delivered.await(30, TimeUnit.SECONDS)).isTrue();
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        long p99Millis = TimeUnit.NANOSECONDS.toMillis(sorted.get((int) (sorted.size() * 0.99) - 1));
+        long maxMillis = TimeUnit.NANOSECONDS.toMillis(sorted.get(sorted.size() - 1));
+
+        // 느린 세션이 빠른 세션을 막는다면 메시지당 200ms × 느린 세션 수만큼 밀리게 됨
+        assertThat(p99Millis).isLessThan(1_000);
+        assertThat(maxMillis).isLessThan(5_000);
+    }
+
+    /**
+     * 봉투 형식으로 접속해 받은 첫 메시지에서 기동 식별자를 읽습니다.
+     */
+    private long receiveEpoch() throws Exception {
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(1);
+        handler.afterConnectionEstablished(recordingSession("epoch", "ws://localhost/ws/logs?topics=raw-log&envelope=true",
+                received, delivered));
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        return new ObjectMapper().readTree(received.getFirst()).get("epoch").asLong();
+    }
+
+    private static WebSocketSession openSession(String id) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class, withSettings().stubOnly());
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+
+    private static WebSocketSession recordingSession(String id, String uri, List<String> received, CountDownLatch delivered)
+            throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.getUri()).thenReturn(URI.create(uri));
+        lenient().when(session.isOpen()).thenReturn(true);
+        lenient().doAnswer(invocation -> {
+            received.add(invocation.<TextMessage>getArgument(0).getPayload());
+            delivered.countDown();
+            return null;
+        }).when(session).sendMessage(any());
+        return session;
+    }
+
+    private static void offerAll(SessionOutbound outbound, BlockingSession blocking, String first, String... rest)
+            throws InterruptedException {
+        outbound.offer(new TextMessage(first));
+        // 첫 메시지 전송이 시작되어 송신 작업이 멈춘 상태에서 나머지를 넣음
+        assertThat(blocking.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (String payload : rest) {
+            outbound.offer(new TextMessage(payload));
+        }
+        blocking.release.countDown();
+    }
+
+    /**
+     * 첫 전송에서 {@link #release}가 열릴 때까지 멈추는 세션입니다.
+     */
+    private static final class BlockingSession {
+
+        private final WebSocketSession session = mock(WebSocketSession.class);
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<String> payloads = new CopyOnWriteArrayList<>();
+
+        private BlockingSession() throws Exception {
+            lenient().when(session.getId()).thenReturn("blocking");
+            lenient().when(session.isOpen()).thenReturn(true);
+            lenient().doAnswer(invocation -> {
+                WebSocketMessage<?> message = invocation.getArgument(0);
+                payloads.add(String.valueOf(message.getPayload()));
+                sendStarted.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            }).when(session).sendMessage(any());
+        }
+
+        private List<String> awaitPayloads(int expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (payloads.size() < expected && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(50);
+            return payloads;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.nhnacademy.workentry.notify.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.workentry.notify.config.RabbitMQConfig;
+import com.nhnacademy.workentry.notify.dto.EmailRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.net.ConnectException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link IntrusionAlertServiceImpl} 클래스의 단위 테스트입니다.
+ * 발송 스레드 대신 호출 스레드에서 바로 발행하도록 하여 중복 억제, 발행 확인, 발송함 재시도를 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class IntrusionAlertServiceImplTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(10);
+    private static final Instant START = Instant.parse("2025-04-28T15:01:00Z");
+    private static final LocalDateTime ENTRY_TIME = LocalDateTime.of(2025, 4, 29, 0, 1);
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(clock.instant()).thenReturn(START);
+    }
+
+    @Test
+    @DisplayName("같은 사건 구간의 반복 감지는 메일 한 통과 억제 횟수 요약으로 묶음")
+    void testNotifyIntrusion_coalescesRepeatsWithinWindow() {
+        brokerAcks(true);
+        IntrusionAlertServiceImpl service = newService(100, Runnable::run);
+
+        service.notifyIntrusion(ENTRY_TIME, 1);
+        service.notifyIntrusion(ENTRY_TIME.plusMinutes(1), 2);
+        service.notifyIntrusion(ENTRY_TIME.plusMinutes(2), 1);
+        service.flushOutbox();
+
+        verify(rabbitTemplate, times(1)).convertAndSend(any(String.class), any(String.class), any(Object.class), any(CorrelationData.class));
+
+        when(clock.instant()).thenReturn(START.plus(WINDOW));
+        service.flushOutbox();
+
+        List<EmailRequest> sent = captureSent(2);
+        assertThat(sent.get(0).getSubject()).isEqualTo(IntrusionAlertServiceImpl.ALERT_SUBJECT);
+        assertThat(sent.get(0).getTo()).isEqualTo("admin@test.com");
+        assertThat(sent.get(1).getSubject()).isEqualTo(IntrusionAlertServiceImpl.SUMMARY_SUBJECT);
+        assertThat(sent.get(1).getContent())
+                .contains("2025-04-29 00:01 ~ 2025-04-29 00:03")
+                .contains("2회");
+        assertThat(meterRegistry.counter("notify.alert", "result", "suppressed").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("notify.alert", "result", "sent").count()).isEqualTo(2);
+        assertThat(service.outboxSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("반복 감지가 없으면 구간이 끝나도 요약 메일을 보내지 않음")
+    void testFlushOutbox_withoutRepeats_sendsNoSummary() {
+        brokerAcks(true);
+        IntrusionAlertServiceImpl service = newService(100, Runnable::run);
+
+        service.notifyIntrusion(ENTRY_TIME, 1);
+        when(clock.instant()).thenReturn(START.plus(WINDOW));
+        service.flushOutbox();
+
+        verify(rabbitTemplate, times(1)).convertAndSend(any(String.class), any(String.class), any(Object.class), any(CorrelationData.class));
+    }
+
+    @Test
+    @DisplayName("브로커 장애 시 발송함에 남겼다가 다음 주기에 재발행")
+    void testFlushOutbox_retriesAfterBrokerOutage() {
+        IntrusionAlertServiceImpl service = newService(100, Runnable::run);
+        doThrow(new AmqpConnectException(new ConnectException("Connection refused")))
+                .when(rabbitTemplate).convertAndSend(any(String.class), any(String.class), any(Object.class), any(CorrelationData.class));
+
+        service.notifyIntrusion(ENTRY_TIME, 1);
+
+        assertThat(service.outboxSize()).isEqualTo(1);
+        assertThat(meterRegistry.counter("notify.alert", "result", "retry").count()).isEqualTo(1);
+
+        reset(rabbitTemplate);
+        brokerAcks(true);
+        service.flushOutbox();
+
+        assertThat(service.outboxSize()).isZero();
+        assertThat(captureSent(1).get(0).getSubject()).isEqualTo(IntrusionAlertServiceImpl.ALERT_SUBJECT);
+    }
+
+    @Test
+    @DisplayName("브로커가 발행을 거부하면 발송함에서 제거하지 않음")
+    void testNotifyIntrusion_keepsNackedMail() {
+        brokerAcks(false);
+        IntrusionAlertServiceImpl service = newService(100, Runnable::run);
+
+        service.notifyIntrusion(ENTRY_TIME, 1);
+
+        assertThat(service.outboxSize()).isEqualTo(1);
+        assertThat(meterRegistry.counter("notify.alert", "result", "sent").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("발송함이 가득 차면 가장 오래된 메일부터 버림")
+    void testNotifyIntrusion_dropsOldestWhenOutboxFull() {
+        IntrusionAlertServiceImpl service = newService(2, Runnable::run);
+        doThrow(new AmqpConnectException(new ConnectException("Connection refused")))
+                .when(rabbitTemplate).convertAndSend(any(String.class), any(String.class), any(Object.class), any(CorrelationData.class));
+
+        for (int incident = 0; incident < 3; incident++) {
+            when(clock.instant()).thenReturn(START.plus(WINDOW.multipliedBy(incident)));
+            service.notifyIntrusion(ENTRY_TIME.plusMinutes(10L * incident), 1);
+        }
+
+        assertThat(service.outboxSize()).isEqualTo(2);
+        assertThat(meterRegistry.counter("notify.alert", "result", "dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("알림 요청은 메일 발행을 기다리지 않음")
+    void testNotifyIntrusion_doesNotPublishOnCallerThread() {
+        List<Runnable> scheduled = new ArrayList<>();
+        IntrusionAlertServiceImpl service = newService(100, scheduled::add);
+
+        service.notifyIntrusion(ENTRY_TIME, 1);
+        service.notifyIntrusion(ENTRY_TIME.plusMinutes(1), 1);
+
+        verifyNoInteractions(rabbitTemplate);
+        assertThat(scheduled).hasSize(1);
+        assertThat(service.outboxSize()).isEqualTo(1);
+
+        brokerAcks(true);
+        scheduled.get(0).run();
+
+        assertThat(service.outboxSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("발행하는 메일은 자바 직렬화가 아닌 JSON 본문으로 변환")
+    void testNotifyIntrusion_publishesJsonPayload() throws Exception {
+        brokerAcks(true);
+        IntrusionAlertServiceImpl service = newService(100, Runnable::run);
+        service.notifyIntrusion(ENTRY_TIME, 1);
+        EmailRequest sent = captureSent(1).getFirst();
+
+        RabbitMQConfig config = new RabbitMQConfig();
+        RabbitTemplate template = config.rabbitTemplate(mock(ConnectionFactory.class), config.messageConverter());
+        Message message = template.getMessageConverter().toMessage(sent, new MessageProperties());
+
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        JsonNode body = new ObjectMapper().readTree(message.getBody());
+        assertThat(body.get("to").asText()).isEqualTo("admin@test.com");
+        assertThat(body.get("subject").asText()).isEqualTo(IntrusionAlertServiceImpl.ALERT_SUBJECT);
+        assertThat(body.has("content")).isTrue();
+    }
+
+    private IntrusionAlertServiceImpl newService(int outboxCapacity, Executor sender) {
+        return new IntrusionAlertServiceImpl(rabbitTemplate, meterRegistry, "admin@test.com",
+                WINDOW, outboxCapacity, Duration.ofSeconds(1), sender, clock);
+    }
+
+    private void brokerAcks(boolean ack) {
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(eq(RabbitMQConfig.EXCHANGE_NAME), eq(RabbitMQConfig.ROUTING_KEY),
+                any(Object.class), any(CorrelationData.class));
+    }
+
+    private List<EmailRequest> captureSent(int expected) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(rabbitTemplate, times(expected)).convertAndSend(eq(RabbitMQConfig.EXCHANGE_NAME),
+                eq(RabbitMQConfig.ROUTING_KEY), captor.capture(), any(CorrelationData.class));
+        return captor.getAllValues().stream().map(EmailRequest.class::cast).toList();
+    }
+}
@@ -1,9 +1,12 @@
 package com.nhnacademy.workentry.service;
 
+import com.nhnacademy.workentry.attendance.archive.AttendanceArchivePolicy;
+import com.nhnacademy.workentry.attendance.archive.AttendanceArchiveReader;
 import com.nhnacademy.workentry.attendance.dto.AttendanceDto;
 import com.nhnacademy.workentry.attendance.dto.AttendanceSummaryDto;
 import com.nhnacademy.workentry.attendance.entity.Attendance;
 import com.nhnacademy.workentry.attendance.entity.AttendanceStatus;
+import com.nhnacademy.workentry.attendance.partition.AttendancePartitionPolicy;
 import com.nhnacademy.workentry.attendance.repository.AttendanceRepository;
 import com.nhnacademy.workentry.attendance.service.impl.AttendanceServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +40,15 @@ class AttendanceServiceImplTest {
     @Mock
     private AttendanceRepository attendanceRepository;
 
+    @Mock
+    private AttendancePartitionPolicy attendancePartitionPolicy;
+
+    @Mock
+    private AttendanceArchiveReader attendanceArchiveReader;
+
+    @Mock
+    private AttendanceArchivePolicy attendanceArchivePolicy;
+
     @InjectMocks
     private AttendanceServiceImpl attendanceService;
 
@@ -64,13 +76,13 @@ class AttendanceServiceImplTest {
     @Test
     @DisplayName("1. 회원 전체 출결 조회 성공")
     void testGetAttendanceByNo() {
-        when(attendanceRepository.findAllByMbNo(99L)).thenReturn(List.of(sampleAttendance));
+        when(attendanceRepository.getAttendancesByNo(eq(99L), any(), any())).thenReturn(List.of(AttendanceDto.from(sampleAttendance)));
 
         List<AttendanceDto> results = attendanceService.getAttendanceByNo(99L);
 
         assertThat(results).hasSize(1);
         assertThat(results.getFirst().getMbNo()).isEqualTo(99L);
-        verify(attendanceRepository).findAllByMbNo(99L);
+        verify(attendanceRepository).getAttendancesByNo(eq(99L), any(), any());
     }
 
     /**
@@ -111,8 +123,8 @@ class AttendanceServiceImplTest {
     @DisplayName("3. 최근 30일 전체 출결 요약 조회 성공")
     void testGetRecentAttendanceSummary() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(attendanceRepository.findByWorkDateBetween(any(), any(), any()))
-                .thenReturn(new PageImpl<>(List.of(sampleAttendance), pageable, 1));
+        when(attendanceRepository.getAttendancesByDateRange(any(), any(), any()))
+                .thenReturn(new PageImpl<>(List.of(AttendanceDto.from(sampleAttendance)), pageable, 1));
 
         Page<AttendanceDto> result = attendanceService.getRecentAttendanceSummary(pageable);
 
@@ -122,9 +134,8 @@ class AttendanceServiceImplTest {
     /**
      * 최근 30일 회원 근무 통계 데이터를 성공적으로 반환하는 경우를 테스트합니다.
      * <p>
-     * AttendanceRepository에서 반환된 Attendance 데이터를 기반으로,
-     * AttendanceSummaryDto 객체로 정상 변환되는지 검증합니다.
-     * hoursWorked, inTime, outTime, statusCode 값까지 정확히 일치하는지 확인합니다.
+     * AttendanceRepository가 projection으로 조회한 AttendanceSummaryDto 페이지를 그대로 반환하는지 검증합니다.
+     * 조회 기간이 최근 1년이며 hoursWorked, inTime, outTime, statusCode 값까지 정확히 일치하는지 확인합니다.
      * </p>
      */
     @Test
@@ -132,8 +143,10 @@ class AttendanceServiceImplTest {
     void testGetRecentWorkingHoursByMember_success() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        when(attendanceRepository.findByMbNoAndWorkDateBetween(any(), any(), any(), any()))
-                .thenReturn(new PageImpl<>(List.of(sampleAttendance), pageable, 1));
+        AttendanceSummaryDto summary = new AttendanceSummaryDto(2024, 4, 10, 9,
+                sampleAttendance.getInTime(), sampleAttendance.getOutTime(), 1L);
+        when(attendanceRepository.getAttendanceSummaryByNoAndDateRange(eq(99L), any(), any(), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(summary), pageable, 1));
 
         // when
         Page<AttendanceSummaryDto> result = attendanceService.getRecentWorkingHoursByMember(99L, pageable);
@@ -145,6 +158,8 @@ class AttendanceServiceImplTest {
         assertThat(dto.getInTime()).isEqualTo(sampleAttendance.getInTime());
         assertThat(dto.getOutTime()).isEqualTo(sampleAttendance.getOutTime());
         assertThat(dto.getCode()).isEqualTo(sampleAttendance.getStatus().getCode());
+        verify(attendanceRepository).getAttendanceSummaryByNoAndDateRange(
+                99L, LocalDate.now().minusDays(364), LocalDate.now().plusDays(1), pageable);
     }
 
     /**
@@ -154,7 +169,7 @@ class AttendanceServiceImplTest {
     @DisplayName("5. 최근 30일 근무 통계 없음 - 예외 발생")
     void testGetRecentWorkingHoursByMember_notFound() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(attendanceRepository.findByMbNoAndWorkDateBetween(any(), any(), any(), any()))
+        when(attendanceRepository.getAttendanceSummaryByNoAndDateRange(any(), any(), any(), any()))
                 .thenReturn(Page.empty());
 
         assertThrows(ResponseStatusException.class, () ->